@@ -2,6 +2,7 @@ plugins {
     id("org.springframework.boot") version "3.3.3"
     id("io.spring.dependency-management") version "1.1.6"
     id("java")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 java {
@@ -22,13 +23,17 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.6.0")
     implementation("org.apache.commons:commons-lang3:3.18.0")
     implementation("me.paulschwarz:spring-dotenv:3.0.0")
     implementation("org.redisson:redisson-spring-boot-starter:3.37.0")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("com.github.gavlyukovskiy:p6spy-spring-boot-starter:1.9.0")
     implementation("com.google.cloud:google-cloud-speech:4.55.0")
     implementation("com.google.genai:google-genai:1.38.0")
+    implementation("org.flywaydb:flyway-core")
+    implementation("org.flywaydb:flyway-database-postgresql")
     runtimeOnly("org.postgresql:postgresql")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -36,6 +41,8 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.testcontainers:testcontainers:1.20.4")
     testImplementation("org.testcontainers:junit-jupiter:1.20.4")
+    testImplementation("org.testcontainers:postgresql:1.20.4")
+    testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testRuntimeOnly("com.h2database:h2")
     testCompileOnly("org.projectlombok:lombok")
     testAnnotationProcessor("org.projectlombok:lombok")
@@ -43,4 +50,14 @@ dependencies {
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// 마이크로 벤치마크: ./gradlew jmh (src/jmh/java), 결과는 build/reports/jmh/results.json
+// 특정 벤치마크만 실행: ./gradlew jmh -PjmhIncludes=TeacherCalendar
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
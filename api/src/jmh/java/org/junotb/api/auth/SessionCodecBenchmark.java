@@ -0,0 +1,114 @@
+package org.junotb.api.auth;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junotb.api.common.security.AuthenticatedPrincipal;
+import org.junotb.api.common.security.AuthenticatedPrincipalCodec;
+import org.junotb.api.user.UserRole;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.Kryo5Codec;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 캐시 항목 직렬화 비용 (session:{token}).
+ * - kryoSession: 기존 형식, Redisson 기본 코덱(Kryo5Codec)으로 Session 엔티티 저장
+ * - kryoPrincipal: 인증 주체를 기본 코덱으로 저장
+ * - compactPrincipal: 인증 주체를 AuthenticatedPrincipalCodec으로 저장 (현재 형식)
+ * 항목당 바이트 수는 encode 결과의 보조 지표(encode:encodedBytes)로 보고합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionCodecBenchmark {
+
+    private static final String USER_ID = "a1b2c3d4-e5f6-4789-abcd-ef0123456789";
+
+    @Param({"kryoSession", "kryoPrincipal", "compactPrincipal"})
+    private String format;
+
+    private Codec codec;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        OffsetDateTime now = OffsetDateTime.of(2025, 3, 3, 19, 0, 0, 0, ZoneOffset.UTC);
+        Session session = Session.builder()
+                .id("5f0c7a3e-2b7d-4f6e-9a51-0d2c8b7e1f43")
+                .token("Zx8QmN4vT2pL9rK6sW1yB3cH7jF0dG5a")
+                .userId(USER_ID)
+                .expiresAt(now.plusDays(7))
+                .createdAt(now)
+                .updatedAt(now)
+                .ipAddress("203.0.113.42")
+                .userAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/126.0 Safari/537.36")
+                .build();
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(USER_ID, UserRole.STUDENT, session.getExpiresAt().toInstant());
+
+        switch (format) {
+            case "kryoSession" -> {
+                codec = new Kryo5Codec();
+                value = session;
+            }
+            case "kryoPrincipal" -> {
+                codec = new Kryo5Codec();
+                value = principal;
+            }
+            default -> {
+                codec = AuthenticatedPrincipalCodec.INSTANCE;
+                value = principal;
+            }
+        }
+
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            encoded = ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    /** encode 보조 지표. EVENTS 카운터는 반복마다 초기화되므로 호출마다 마지막 인코딩 크기를 기록 */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long encodedBytes;
+    }
+
+    @Benchmark
+    public int encode(EncodedSize size) throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            int bytes = buf.readableBytes();
+            size.encodedBytes = bytes;
+            return bytes;
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encoded), null);
+    }
+}
@@ -0,0 +1,44 @@
+package org.junotb.api.registration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수강 신청 시 반복 수업 날짜 생성 (RegistrationService.generateClassDates).
+ * 시작일을 고정하여 실행 시점과 무관하게 같은 입력을 사용합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassDatesBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 3, 3);
+    private static final LocalTime START_TIME = LocalTime.of(19, 0);
+    private static final List<DayOfWeek> DAYS = List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+
+    @Param({"1", "6", "12"})
+    private int months;
+
+    @Benchmark
+    public List<LocalDateTime> generateClassDates() {
+        return RegistrationService.generateClassDates(START_DATE, DAYS, START_TIME, months);
+    }
+}
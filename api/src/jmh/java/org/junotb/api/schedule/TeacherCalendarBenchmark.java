@@ -0,0 +1,110 @@
+package org.junotb.api.schedule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findAvailableTeacher의 충돌 판정 루프 (TeacherCalendar.isFree).
+ * 강사별 바쁜 구간 busyIntervals개, 6개월 주 3회 반복 수업 기준.
+ * isFree는 전체 순회, isFreeWithLastClassConflict는 마지막 수업에서 충돌하는 최악의 경우입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeacherCalendarBenchmark {
+
+    private static final int DURATION_MINUTES = 60;
+    private static final OffsetDateTime RANGE_START = OffsetDateTime.of(2025, 3, 3, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Param({"100", "1000"})
+    private int busyIntervals;
+
+    private List<BusyIntervalRow> rows;
+    private List<LocalDateTime> classDates;
+    private TeacherCalendar calendar;
+    private TeacherCalendar conflictingCalendar;
+
+    @Setup
+    public void setUp() {
+        OffsetDateTime rangeEnd = RANGE_START.plusMonths(6);
+
+        // 수업은 매주 월·수·금 19시, 바쁜 구간은 그 외 시간대(9~18시)에 무작위 배치
+        classDates = new ArrayList<>();
+        for (LocalDateTime date = RANGE_START.toLocalDateTime(); date.isBefore(rangeEnd.toLocalDateTime()); date = date.plusDays(1)) {
+            switch (date.getDayOfWeek()) {
+                case MONDAY, WEDNESDAY, FRIDAY -> classDates.add(date.withHour(19));
+                default -> { }
+            }
+        }
+
+        Random random = new Random(42);
+        long days = rangeEnd.toLocalDate().toEpochDay() - RANGE_START.toLocalDate().toEpochDay();
+        rows = new ArrayList<>(busyIntervals);
+        for (int i = 0; i < busyIntervals; i++) {
+            OffsetDateTime startsAt = RANGE_START.plusDays(random.nextLong(days)).plusHours(9 + random.nextInt(9));
+            rows.add(new Row(startsAt, startsAt.plusMinutes(30 + random.nextInt(60))));
+        }
+        calendar = TeacherCalendar.of(RANGE_START, rangeEnd, rows);
+
+        LocalDateTime lastClass = classDates.get(classDates.size() - 1);
+        List<BusyIntervalRow> conflictingRows = new ArrayList<>(rows);
+        conflictingRows.add(new Row(
+                lastClass.atOffset(ZoneOffset.UTC),
+                lastClass.plusMinutes(DURATION_MINUTES).atOffset(ZoneOffset.UTC)
+        ));
+        conflictingCalendar = TeacherCalendar.of(RANGE_START, rangeEnd, conflictingRows);
+    }
+
+    @Benchmark
+    public boolean isFree() {
+        return calendar.isFree(classDates, DURATION_MINUTES);
+    }
+
+    @Benchmark
+    public boolean isFreeWithLastClassConflict() {
+        return conflictingCalendar.isFree(classDates, DURATION_MINUTES);
+    }
+
+    @Benchmark
+    public TeacherCalendar buildCalendar() {
+        return TeacherCalendar.of(RANGE_START, RANGE_START.plusMonths(6), rows);
+    }
+
+    private record Row(OffsetDateTime startsAt, OffsetDateTime endsAt) implements BusyIntervalRow {
+
+        @Override
+        public String getTeacherId() {
+            return "teacher";
+        }
+
+        @Override
+        public OffsetDateTime getStartsAt() {
+            return startsAt;
+        }
+
+        @Override
+        public OffsetDateTime getEndsAt() {
+            return endsAt;
+        }
+    }
+}
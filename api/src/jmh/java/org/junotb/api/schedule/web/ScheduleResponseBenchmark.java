@@ -0,0 +1,71 @@
+package org.junotb.api.schedule.web;
+
+import org.junotb.api.course.Course;
+import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleStatus;
+import org.junotb.api.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 목록 응답 DTO 매핑 (ScheduleResponse.from).
+ * 엔티티는 프록시가 아닌 일반 객체이므로 순수 매핑 비용만 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleResponseBenchmark {
+
+    @Param({"20", "500"})
+    private int scheduleCount;
+
+    private List<Schedule> schedules;
+
+    @Setup
+    public void setUp() {
+        User teacher = User.builder().id("teacher-1").name("Teacher").build();
+        Course course = Course.builder().id(1L).title("Course").build();
+        OffsetDateTime base = OffsetDateTime.of(2025, 3, 3, 19, 0, 0, 0, ZoneOffset.UTC);
+
+        schedules = new ArrayList<>(scheduleCount);
+        for (int i = 0; i < scheduleCount; i++) {
+            OffsetDateTime startsAt = base.plusDays(i);
+            schedules.add(Schedule.builder()
+                    .id((long) i)
+                    .user(teacher)
+                    .course(course)
+                    .startsAt(startsAt)
+                    .endsAt(startsAt.plusHours(1))
+                    .status(ScheduleStatus.SCHEDULED)
+                    .meetLink("https://meet.google.com/abc-defg-hij")
+                    .createdAt(base)
+                    .updatedAt(base)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ScheduleResponse> mapList() {
+        return schedules.stream()
+                .map(ScheduleResponse::from)
+                .toList();
+    }
+}
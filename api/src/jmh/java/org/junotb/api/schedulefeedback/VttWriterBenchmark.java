@@ -0,0 +1,108 @@
+package org.junotb.api.schedulefeedback;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VTT 조립 비교: 기존 String.format 기반 구현 vs VttCueWriter.
+ * 60분 수업 기준 합성 단어 목록 (초당 2.5단어, 평균 8단어마다 화자 교대).
+ * 할당량 비교는 -prof gc (gc.alloc.rate.norm) 참고.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VttWriterBenchmark {
+
+    @Param({"60"})
+    private int lessonMinutes;
+
+    private List<RecognizedWord> words;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int wordCount = lessonMinutes * 60 * 5 / 2;
+        words = new ArrayList<>(wordCount);
+        int speaker = 1;
+        for (int i = 0; i < wordCount; i++) {
+            if (random.nextInt(8) == 0) {
+                speaker = 3 - speaker;
+            }
+            long start = i * 400L;
+            words.add(new RecognizedWord("word" + random.nextInt(2000), speaker, start, start + 300));
+        }
+    }
+
+    @Benchmark
+    public String legacyStringFormat() {
+        return LegacyVttBuilder.build(words);
+    }
+
+    @Benchmark
+    public String vttCueWriter() {
+        return VttCueWriter.toVtt(words);
+    }
+
+    /**
+     * 기존 VideoProcessService.buildVttWithSpeakers 구현 (초 단위 double, cue마다 String.format).
+     */
+    static final class LegacyVttBuilder {
+
+        static String build(List<RecognizedWord> words) {
+            StringBuilder vtt = new StringBuilder("WEBVTT\n\n");
+            int currentSpeaker = words.get(0).speakerTag();
+            double segmentStart = toSeconds(words.get(0).startMillis());
+            StringBuilder segmentWords = new StringBuilder().append(words.get(0).word());
+            double segmentEnd = toSeconds(words.get(0).endMillis());
+
+            for (int i = 1; i < words.size(); i++) {
+                RecognizedWord word = words.get(i);
+                int speaker = word.speakerTag();
+                if (speaker == currentSpeaker) {
+                    segmentWords.append(" ").append(word.word());
+                    segmentEnd = toSeconds(word.endMillis());
+                } else {
+                    vtt.append(formatVttTime(segmentStart)).append(" --> ").append(formatVttTime(segmentEnd))
+                        .append("\n[Speaker ").append(currentSpeaker).append("] ").append(segmentWords)
+                        .append("\n\n");
+                    currentSpeaker = speaker;
+                    segmentStart = toSeconds(word.startMillis());
+                    segmentEnd = toSeconds(word.endMillis());
+                    segmentWords = new StringBuilder().append(word.word());
+                }
+            }
+            vtt.append(formatVttTime(segmentStart)).append(" --> ").append(formatVttTime(segmentEnd))
+                .append("\n[Speaker ").append(currentSpeaker).append("] ").append(segmentWords)
+                .append("\n");
+            return vtt.toString().trim();
+        }
+
+        private static double toSeconds(long millis) {
+            return millis / 1000.0;
+        }
+
+        private static String formatVttTime(double seconds) {
+            int h = (int) (seconds / 3600);
+            int m = (int) ((seconds % 3600) / 60);
+            double s = seconds % 60;
+            return String.format("%02d:%02d:%06.3f", h, m, s).replace(',', '.');
+        }
+    }
+}
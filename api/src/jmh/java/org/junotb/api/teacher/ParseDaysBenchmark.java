@@ -0,0 +1,36 @@
+package org.junotb.api.teacher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 강사 후보 조회 요청의 요일 파라미터 파싱 (TeacherCandidateService.parseDays).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseDaysBenchmark {
+
+    @Param({"MONDAY", "MONDAY,WEDNESDAY,FRIDAY", "MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY, SUNDAY"})
+    private String daysParam;
+
+    @Benchmark
+    public List<DayOfWeek> parseDays() {
+        return TeacherCandidateService.parseDays(daysParam);
+    }
+}
@@ -0,0 +1,7 @@
+package org.junotb.api.auth;
+
+/**
+ * 만료 세션 정리 시 삭제된 세션 (Redis 캐시·역방향 인덱스 정리용).
+ */
+public record ExpiredSession(String token, String userId) {
+}
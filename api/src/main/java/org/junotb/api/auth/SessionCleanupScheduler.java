@@ -1,35 +1,95 @@
 package org.junotb.api.auth;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.junotb.api.common.security.SessionPrincipalStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 만료된 세션을 정리하는 스케줄러
- * 매일 새벽 2시에 실행되어 만료된 세션을 삭제합니다.
+ * 하루 한 번 전체 삭제 대신 주기적으로 batch-size개씩 나눠 삭제하고, 배치 사이에 pause-ms만큼 쉬어
+ * 잠금·WAL 급증과 인증 필터 DB 조회 지연을 피합니다. 삭제된 토큰의 Redis 캐시도 배치마다 파이프라인으로 제거합니다.
+ * 메트릭:
+ * - session.purge.deleted: 삭제된 세션 수 (누적, 초당 삭제 수는 rate로 조회)
+ * - session.purge.rows_per_second: 직전 실행의 초당 삭제 행 수
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SessionCleanupScheduler {
 
-    private final SessionRepository sessionRepository;
+    private final SessionPurgeRepository sessionPurgeRepository;
+    private final SessionPrincipalStore sessionPrincipalStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.session.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.session.cleanup.pause-ms:100}")
+    private long pauseMillis;
+
+    @Value("${app.session.cleanup.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+    private Counter deletedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        deletedCounter = Counter.builder("session.purge.deleted").register(meterRegistry);
+        Gauge.builder("session.purge.rows_per_second", lastRowsPerSecond, AtomicLong::get).register(meterRegistry);
+    }
 
     /**
-     * 만료된 세션을 정리합니다.
-     * 매일 새벽 2시에 실행됩니다.
+     * 만료된 세션을 배치 단위로 정리합니다.
+     * 배치가 가득 차지 않거나 실행당 최대 배치 수에 도달하면 종료하고, 남은 행은 다음 주기에 이어서 삭제합니다.
      */
-    @Scheduled(cron = "0 0 2 * * ?")
+    @Scheduled(fixedDelayString = "${app.session.cleanup.interval-ms:60000}", initialDelayString = "${app.session.cleanup.interval-ms:60000}")
     public void cleanupExpiredSessions() {
+        long startedAt = System.nanoTime();
+        long deletedCount = 0;
         try {
             OffsetDateTime now = OffsetDateTime.now();
-            long deletedCount = sessionRepository.deleteByExpiresAtBefore(now);
-            log.info("만료된 세션 {}개 삭제 완료", deletedCount);
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<ExpiredSession> deleted = sessionPurgeRepository.deleteExpiredBatch(now, batchSize);
+                if (deleted.isEmpty()) {
+                    break;
+                }
+                sessionPrincipalStore.evictExpired(deleted);
+                deletedCount += deleted.size();
+                deletedCounter.increment(deleted.size());
+
+                if (deleted.size() < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("만료된 세션 정리 중단: 삭제 {}개", deletedCount);
         } catch (Exception e) {
             log.error("만료된 세션 정리 중 오류 발생", e);
+        } finally {
+            recordThroughput(deletedCount, System.nanoTime() - startedAt);
+        }
+    }
+
+    private void recordThroughput(long deletedCount, long elapsedNanos) {
+        long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(elapsedNanos), 1);
+        lastRowsPerSecond.set(deletedCount * 1000 / elapsedMillis);
+        if (deletedCount > 0) {
+            log.info("만료된 세션 {}개 삭제 완료 ({}ms, {}행/초)", deletedCount, elapsedMillis, lastRowsPerSecond.get());
         }
     }
 }
@@ -5,9 +5,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.junotb.api.auth.dto.SessionRefreshResponse;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,7 +16,6 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.time.OffsetDateTime;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 세션 관리 컨트롤러
@@ -32,20 +30,16 @@ public class SessionController {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final String SESSION_CACHE_PREFIX = "session:";
     
     private final SessionRepository sessionRepository;
-    private final RedissonClient redissonClient;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Value("${app.session.expires-in-days:7}")
     private int sessionExpiresInDays;
-    
-    @Value("${app.session.cache-ttl-seconds:300}")
-    private long sessionCacheTtlSeconds;
 
     /**
      * 세션을 갱신합니다.
-     * 만료 시간을 연장하고 Redis 캐시도 업데이트합니다.
+     * 만료 시간을 연장하고 세션 캐시(Redis·인스턴스별 near cache)를 무효화합니다.
      * 
      * @param authHeader Authorization 헤더
      * @param userId 인증된 사용자 ID
@@ -72,8 +66,8 @@ public class SessionController {
                 session.setExpiresAt(newExpiresAt);
                 Session updatedSession = sessionRepository.save(session);
                 
-                // Redis 캐시 업데이트
-                updateSessionCache(token, updatedSession);
+                // Redis·near cache에서 이전 만료 시각을 가진 항목 제거 (다음 요청에서 재적재)
+                eventPublisher.publishEvent(SessionInvalidatedEvent.ofToken(token));
                 
                 log.debug("세션 갱신 완료: userId={}, expiresAt={}", userId, newExpiresAt);
                 
@@ -84,19 +78,4 @@ public class SessionController {
             })
             .orElse(ResponseEntity.notFound().build());
     }
-    
-    /**
-     * Redis 캐시의 세션을 업데이트합니다.
-     * 
-     * @param token 세션 토큰
-     * @param session 세션 객체
-     */
-    private void updateSessionCache(String token, Session session) {
-        try {
-            RBucket<Session> bucket = redissonClient.getBucket(SESSION_CACHE_PREFIX + token);
-            bucket.set(session, sessionCacheTtlSeconds, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            log.warn("Redis 캐시 업데이트 중 오류 발생: {}", e.getMessage());
-        }
-    }
 }
@@ -0,0 +1,19 @@
+package org.junotb.api.auth;
+
+/**
+ * 세션 캐시 무효화 이벤트. 토큰 단위(세션 갱신) 또는 사용자 단위(역할·상태 변경, 탈퇴)로 발행합니다.
+ * 커밋 후 Redis pub/sub으로 전파되어 모든 인스턴스의 near cache에서 제거됩니다.
+ *
+ * @param userId 사용자 단위 무효화 대상 (토큰 단위면 null)
+ * @param token  토큰 단위 무효화 대상 (사용자 단위면 null)
+ */
+public record SessionInvalidatedEvent(String userId, String token) {
+
+    public static SessionInvalidatedEvent ofUser(String userId) {
+        return new SessionInvalidatedEvent(userId, null);
+    }
+
+    public static SessionInvalidatedEvent ofToken(String token) {
+        return new SessionInvalidatedEvent(null, token);
+    }
+}
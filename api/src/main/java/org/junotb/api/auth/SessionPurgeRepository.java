@@ -0,0 +1,49 @@
+package org.junotb.api.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 만료 세션 배치 삭제 저장소.
+ * 한 번에 limit개 행만 ctid로 골라 삭제하므로 문장별 잠금 범위와 WAL 증가량이 배치 크기로 제한됩니다.
+ * SKIP LOCKED로 여러 인스턴스가 동시에 실행해도 같은 행을 두고 대기하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SessionPurgeRepository {
+
+    private static final String DELETE_EXPIRED_BATCH_SQL = """
+        DELETE FROM "session"
+        WHERE ctid = ANY (ARRAY(
+            SELECT ctid
+            FROM "session"
+            WHERE "expiresAt" < ?
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ))
+        RETURNING "token", "userId"
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료된 세션을 최대 limit개 삭제합니다 (단일 문장, 자동 커밋).
+     *
+     * @param now   기준 시각
+     * @param limit 최대 삭제 행 수
+     * @return 삭제된 세션의 토큰·사용자 ID
+     */
+    public List<ExpiredSession> deleteExpiredBatch(OffsetDateTime now, int limit) {
+        return jdbcTemplate.query(
+                DELETE_EXPIRED_BATCH_SQL,
+                (rs, rowNum) -> new ExpiredSession(rs.getString("token"), rs.getString("userId")),
+                Timestamp.from(now.toInstant()),
+                limit
+        );
+    }
+}
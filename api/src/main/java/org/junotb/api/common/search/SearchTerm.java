@@ -0,0 +1,50 @@
+package org.junotb.api.common.search;
+
+/**
+ * 이름·제목 검색어.
+ * - 3자 이상: 부분 일치(ILIKE '%q%', pg_trgm GIN 인덱스) 후 접두 일치 우선, 유사도 순으로 정렬
+ * - 3자 미만: 트라이그램이 만들어지지 않으므로 접두 일치(lower(col) LIKE 'q%', text_pattern_ops 인덱스)만 사용
+ *
+ * @param text  공백을 제거한 검색어
+ * @param limit 최대 결과 수
+ */
+public record SearchTerm(String text, int limit) {
+
+    public static final int MIN_TRIGRAM_LENGTH = 3;
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    /**
+     * @param query 검색어
+     * @param limit 최대 결과 수 (기본 20, 최대 100)
+     * @throws IllegalArgumentException 검색어가 비어 있을 때
+     */
+    public static SearchTerm of(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        int safeLimit = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return new SearchTerm(query.strip(), safeLimit);
+    }
+
+    public boolean usesTrigram() {
+        return text.codePointCount(0, text.length()) >= MIN_TRIGRAM_LENGTH;
+    }
+
+    /** LIKE 부분 일치 패턴 ('%q%', 와일드카드 이스케이프) */
+    public String containsPattern() {
+        return "%" + escapeLike(text) + "%";
+    }
+
+    /** LIKE 접두 일치 패턴 ('q%', 와일드카드 이스케이프). 대소문자 무시는 SQL의 lower()로 처리 */
+    public String prefixPattern() {
+        return escapeLike(text) + "%";
+    }
+
+    private static String escapeLike(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+}
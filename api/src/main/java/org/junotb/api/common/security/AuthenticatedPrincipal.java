@@ -0,0 +1,26 @@
+package org.junotb.api.common.security;
+
+import org.junotb.api.auth.Session;
+import org.junotb.api.user.User;
+import org.junotb.api.user.UserRole;
+
+import java.time.Instant;
+
+/**
+ * 인증에 필요한 최소 정보 (사용자 ID, 역할, 세션 만료 시각).
+ * 세션 토큰별로 프로세스 내 캐시에 보관되어 반복 요청의 Redis·DB 조회를 생략합니다.
+ */
+public record AuthenticatedPrincipal(String userId, UserRole role, Instant expiresAt) {
+
+    public static AuthenticatedPrincipal of(User user, Session session) {
+        return new AuthenticatedPrincipal(user.getId(), user.getRole(), session.getExpiresAt().toInstant());
+    }
+
+    public boolean isExpired() {
+        return Instant.now().isAfter(expiresAt);
+    }
+
+    public String authority() {
+        return "ROLE_" + role.name();
+    }
+}
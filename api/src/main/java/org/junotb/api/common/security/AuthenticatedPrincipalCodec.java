@@ -0,0 +1,109 @@
+package org.junotb.api.common.security;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.junotb.api.user.UserRole;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * {@link AuthenticatedPrincipal} 전용 Redis 코덱 (고정 바이너리 레이아웃).
+ * 범용 코덱(Kryo)이 기록하는 클래스명·필드 메타데이터 없이 값만 저장하여 세션 캐시 항목 크기를 줄입니다.
+ *
+ * <pre>
+ * [version:1][idType:1][userId: UUID 16바이트 | 길이(2) + UTF-8][role ordinal:1][expiresAt epoch millis:8]
+ * </pre>
+ *
+ * 형식을 바꾸면 VERSION을 올립니다. 알 수 없는 버전은 디코딩 실패 → 캐시 미스로 처리되어 DB에서 다시 적재합니다.
+ * role은 ordinal로 저장하므로 {@link UserRole}에 값을 추가할 때는 끝에 추가해야 합니다.
+ */
+public final class AuthenticatedPrincipalCodec extends BaseCodec {
+
+    public static final AuthenticatedPrincipalCodec INSTANCE = new AuthenticatedPrincipalCodec();
+
+    private static final byte VERSION = 1;
+    private static final byte ID_STRING = 0;
+    private static final byte ID_UUID = 1;
+    private static final int UUID_LENGTH = 36;
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private final Encoder encoder = in -> {
+        AuthenticatedPrincipal principal = (AuthenticatedPrincipal) in;
+        ByteBuf out = ByteBufAllocator.DEFAULT.buffer(32);
+        try {
+            out.writeByte(VERSION);
+            UUID uuid = toUuid(principal.userId());
+            if (uuid != null) {
+                out.writeByte(ID_UUID);
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            } else {
+                byte[] userId = principal.userId().getBytes(StandardCharsets.UTF_8);
+                out.writeByte(ID_STRING);
+                out.writeShort(userId.length);
+                out.writeBytes(userId);
+            }
+            out.writeByte(principal.role().ordinal());
+            out.writeLong(principal.expiresAt().toEpochMilli());
+            return out;
+        } catch (RuntimeException e) {
+            out.release();
+            throw e;
+        }
+    };
+
+    private final Decoder<Object> decoder = (buf, state) -> {
+        byte version = buf.readByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 세션 캐시 형식입니다: version=" + version);
+        }
+
+        String userId = switch (buf.readByte()) {
+            case ID_UUID -> new UUID(buf.readLong(), buf.readLong()).toString();
+            case ID_STRING -> buf.readCharSequence(buf.readUnsignedShort(), StandardCharsets.UTF_8).toString();
+            default -> throw new IOException("알 수 없는 사용자 ID 형식입니다");
+        };
+
+        int roleOrdinal = buf.readUnsignedByte();
+        if (roleOrdinal >= ROLES.length) {
+            throw new IOException("알 수 없는 역할입니다: ordinal=" + roleOrdinal);
+        }
+
+        return new AuthenticatedPrincipal(userId, ROLES[roleOrdinal], Instant.ofEpochMilli(buf.readLong()));
+    };
+
+    private AuthenticatedPrincipalCodec() {
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    /**
+     * 정규 형식(소문자 36자) UUID 문자열이면 UUID로, 아니면 null을 반환합니다.
+     * UUID.fromString은 비정규 표기도 허용하므로 되돌린 문자열이 같을 때만 UUID로 저장합니다.
+     */
+    private static UUID toUuid(String userId) {
+        if (userId.length() != UUID_LENGTH) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(userId);
+            return uuid.toString().equals(userId) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -7,12 +7,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.junotb.api.auth.Session;
 import org.junotb.api.auth.SessionRepository;
 import org.junotb.api.user.UserRepository;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -26,13 +22,13 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 인증 필터
  * 쿠키 또는 Bearer Token을 추출하여 세션을 검증하고, 사용자 역할 정보를 포함한 Authentication 객체를 생성합니다.
  * 쿠키를 우선적으로 확인하고, 없으면 Bearer Token을 확인합니다 (하위 호환성).
- * Redis 캐싱을 사용하여 DB 부하를 감소시킵니다.
+ * 프로세스 내 near cache({@link SessionNearCache}) → Redis({@link SessionPrincipalStore}) → DB 순으로 조회하여
+ * 자주 쓰이는 세션은 네트워크 왕복 없이, Redis 적중 시에는 DB 조회 없이 인증합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -41,15 +37,12 @@ public class AuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final String SESSION_CACHE_PREFIX = "session:";
     private static final String BETTER_AUTH_SESSION_TOKEN_COOKIE = "better-auth.session_token";
     
     private final SessionRepository sessionRepository;
     private final UserRepository userRepository;
-    private final RedissonClient redissonClient;
-    
-    @Value("${app.session.cache-ttl-seconds:300}")
-    private long sessionCacheTtlSeconds;
+    private final SessionPrincipalStore sessionPrincipalStore;
+    private final SessionNearCache sessionNearCache;
 
     @Override
     protected void doFilterInternal(
@@ -64,24 +57,14 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             if (tokenOpt.isPresent()) {
                 String token = tokenOpt.get();
 
-                // Redis에서 먼저 조회
-                Optional<Session> session = getSessionFromCache(token)
-                    .or(() -> {
-                        // 캐시 미스 시 DB 조회
-                        Optional<Session> dbSession = sessionRepository.findByToken(token)
-                            .filter(s -> !s.isExpired());
-                        
-                        // DB에서 조회한 세션을 캐시에 저장
-                        dbSession.ifPresent(s -> cacheSession(token, s));
-                        return dbSession;
-                    });
-
-                session.flatMap(s -> userRepository.findById(s.getUserId()))
-                    .ifPresent(user -> {
+                // near cache → Redis → DB 순으로 조회
+                sessionNearCache.get(token)
+                    .or(() -> loadPrincipal(token))
+                    .ifPresent(principal -> {
                         // 사용자 역할을 기반으로 권한 생성
-                        String role = "ROLE_" + user.getRole().name();
+                        String role = principal.authority();
                         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                            user.getId(),
+                            principal.userId(),
                             null,
                             Collections.singletonList(new SimpleGrantedAuthority(role))
                         );
@@ -89,7 +72,7 @@ public class AuthenticationFilter extends OncePerRequestFilter {
                         
                         // 인증 소스 확인 (쿠키 또는 Bearer Token)
                         String authSource = extractSessionTokenFromCookies(request).isPresent() ? "cookie" : "bearer";
-                        log.debug("인증 성공: userId={}, role={}, source={}", user.getId(), role, authSource);
+                        log.debug("인증 성공: userId={}, role={}, source={}", principal.userId(), role, authSource);
                     });
             }
 
@@ -100,6 +83,37 @@ public class AuthenticationFilter extends OncePerRequestFilter {
         }
     }
     
+    /**
+     * near cache 미스 시 Redis 세션 캐시에서 인증 주체를 조회하고, 없으면 DB에서 세션과 사용자를 조회하여
+     * Redis·near cache에 적재합니다.
+     * 
+     * @param token 세션 토큰
+     * @return 인증 주체 (세션 또는 사용자가 없으면 empty)
+     */
+    private Optional<AuthenticatedPrincipal> loadPrincipal(String token) {
+        // Redis에서 먼저 조회 (사용자 역할 포함)
+        Optional<AuthenticatedPrincipal> cached = sessionPrincipalStore.get(token);
+        if (cached.isPresent()) {
+            sessionNearCache.put(token, cached.get());
+            return cached;
+        }
+
+        // 캐시 미스 시 DB 조회. 사용자 조회 전에 무효화 세대를 읽어, 조회 도중 역할·상태가 바뀌었으면 캐시하지 않음
+        return sessionRepository.findByToken(token)
+            .filter(s -> !s.isExpired())
+            .flatMap(s -> {
+                long generation = sessionPrincipalStore.generation(s.getUserId());
+                return userRepository.findById(s.getUserId())
+                    .map(user -> AuthenticatedPrincipal.of(user, s))
+                    .map(principal -> {
+                        if (sessionPrincipalStore.put(token, principal, generation)) {
+                            sessionNearCache.put(token, principal);
+                        }
+                        return principal;
+                    });
+            });
+    }
+    
     /**
      * 쿠키에서 Better-Auth 세션 토큰을 추출합니다.
      * 
@@ -160,46 +174,4 @@ public class AuthenticationFilter extends OncePerRequestFilter {
         
         return Optional.empty();
     }
-    
-    /**
-     * Redis에서 세션을 조회합니다.
-     * 
-     * @param token 세션 토큰
-     * @return 세션 (캐시에 없으면 empty)
-     */
-    private Optional<Session> getSessionFromCache(String token) {
-        try {
-            RBucket<Session> bucket = redissonClient.getBucket(SESSION_CACHE_PREFIX + token);
-            Session session = bucket.get();
-            
-            if (session != null && !session.isExpired()) {
-                return Optional.of(session);
-            }
-            
-            // 만료된 세션이면 캐시에서 제거
-            if (session != null) {
-                bucket.delete();
-            }
-            
-            return Optional.empty();
-        } catch (Exception e) {
-            log.warn("Redis 캐시 조회 중 오류 발생: {}", e.getMessage());
-            return Optional.empty();
-        }
-    }
-    
-    /**
-     * 세션을 Redis에 캐싱합니다.
-     * 
-     * @param token 세션 토큰
-     * @param session 세션 객체
-     */
-    private void cacheSession(String token, Session session) {
-        try {
-            RBucket<Session> bucket = redissonClient.getBucket(SESSION_CACHE_PREFIX + token);
-            bucket.set(session, sessionCacheTtlSeconds, TimeUnit.SECONDS);
-        } catch (Exception e) {
-            log.warn("Redis 캐시 저장 중 오류 발생: {}", e.getMessage());
-        }
-    }
 }
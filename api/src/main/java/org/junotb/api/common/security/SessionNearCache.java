@@ -0,0 +1,129 @@
+package org.junotb.api.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junotb.api.auth.SessionInvalidatedEvent;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 세션 토큰 → {@link AuthenticatedPrincipal} 프로세스 내 캐시 (Redis 세션 캐시 앞단).
+ * - 짧은 TTL·최대 크기로 제한하며, 적중 시 인증에 네트워크 왕복이 없음
+ * - 무효화는 커밋 후 Redis 캐시 삭제에 이어 Redis 토픽(session:invalidations)으로 전 인스턴스에 전파
+ *   메시지 형식: "token:{token}" 또는 "user:{userId}"
+ * - 전파가 유실되더라도 TTL 경과 후 Redis·DB에서 다시 적재
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionNearCache {
+
+    static final String INVALIDATION_TOPIC = "session:invalidations";
+    private static final String TOKEN_MESSAGE_PREFIX = "token:";
+    private static final String USER_MESSAGE_PREFIX = "user:";
+
+    private final RedissonClient redissonClient;
+
+    @Value("${app.session.near-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.session.near-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.session.near-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private Cache<String, AuthenticatedPrincipal> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지를 구독합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            topic().addListener(String.class, (channel, message) -> evictLocally(message));
+            log.info("세션 near cache 무효화 구독 시작: topic={}, maxSize={}, ttl={}s", INVALIDATION_TOPIC, maxSize, ttlSeconds);
+        } catch (Exception e) {
+            log.warn("세션 near cache 무효화 구독 실패 (TTL로만 만료됨): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 주체를 조회합니다. 세션이 만료되었으면 제거 후 empty를 반환합니다.
+     */
+    public Optional<AuthenticatedPrincipal> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        AuthenticatedPrincipal principal = cache.getIfPresent(token);
+        if (principal == null) {
+            return Optional.empty();
+        }
+        if (principal.isExpired()) {
+            cache.invalidate(token);
+            return Optional.empty();
+        }
+        return Optional.of(principal);
+    }
+
+    public void put(String token, AuthenticatedPrincipal principal) {
+        if (!enabled) {
+            return;
+        }
+        cache.put(token, principal);
+    }
+
+    /**
+     * 로컬 캐시를 즉시 비우고 다른 인스턴스로 무효화 메시지를 발행합니다.
+     * Redis 캐시 삭제 후 {@link SessionPrincipalStore}에서 호출합니다.
+     */
+    public void invalidate(SessionInvalidatedEvent event) {
+        String message = event.token() != null
+                ? TOKEN_MESSAGE_PREFIX + event.token()
+                : USER_MESSAGE_PREFIX + event.userId();
+        evictLocally(message);
+        if (!enabled) {
+            return;
+        }
+        try {
+            topic().publish(message);
+        } catch (Exception e) {
+            log.warn("세션 무효화 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    void evictLocally(String message) {
+        if (message.startsWith(TOKEN_MESSAGE_PREFIX)) {
+            cache.invalidate(message.substring(TOKEN_MESSAGE_PREFIX.length()));
+        } else if (message.startsWith(USER_MESSAGE_PREFIX)) {
+            String userId = message.substring(USER_MESSAGE_PREFIX.length());
+            cache.asMap().values().removeIf(principal -> principal.userId().equals(userId));
+        }
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+    }
+}
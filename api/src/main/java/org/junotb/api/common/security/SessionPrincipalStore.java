@@ -0,0 +1,222 @@
+package org.junotb.api.common.security;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junotb.api.auth.ExpiredSession;
+import org.junotb.api.auth.SessionInvalidatedEvent;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Redis 세션 캐시. 토큰별로 Session 행 대신 인증 주체({@link AuthenticatedPrincipal})를 보관하여
+ * 캐시 적중 시 사용자 조회(DB)까지 생략합니다.
+ * - session:{token}: 인증 주체 ({@link AuthenticatedPrincipalCodec}, TTL app.session.cache-ttl-seconds)
+ * - session:user:{userId}: 해당 사용자의 캐시된 토큰 집합 (역방향 인덱스, 사용자 단위 무효화용)
+ * - session:user:{userId}:gen: 사용자 단위 무효화 세대. 무효화마다 증가하며, DB 조회 전에 읽은 세대가 바뀌었으면
+ *   저장을 건너뛰어 무효화 이전에 읽은 역할·상태가 무효화 이후에 다시 캐시되지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionPrincipalStore {
+
+    static final String SESSION_CACHE_PREFIX = "session:";
+    static final String USER_INDEX_PREFIX = "session:user:";
+    static final String USER_GENERATION_SUFFIX = ":gen";
+
+    /** 세대를 읽은 요청이 저장할 때까지 충분히 긴 시간. 만료 후 세대는 0부터 다시 시작 */
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    /** 세대가 그대로일 때만 인증 주체 저장 + 역방향 인덱스 추가 (KEYS: 캐시, 인덱스, 세대 / ARGV: 값, TTL, 세대, 토큰) */
+    private static final String PUT_IF_GENERATION_SCRIPT = """
+        if (redis.call('get', KEYS[3]) or '0') ~= ARGV[3] then
+            return 0
+        end
+        redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[2])
+        redis.call('sadd', KEYS[2], ARGV[4])
+        redis.call('expire', KEYS[2], ARGV[2])
+        return 1
+        """;
+
+    private final RedissonClient redissonClient;
+    private final SessionNearCache sessionNearCache;
+
+    @Value("${app.session.cache-ttl-seconds:300}")
+    private long sessionCacheTtlSeconds;
+
+    /**
+     * 캐시된 인증 주체를 조회합니다. 세션이 만료되었으면 캐시에서 제거 후 empty를 반환합니다.
+     *
+     * @param token 세션 토큰
+     * @return 인증 주체 (캐시에 없거나 조회 실패 시 empty)
+     */
+    public Optional<AuthenticatedPrincipal> get(String token) {
+        try {
+            RBucket<AuthenticatedPrincipal> bucket = redissonClient.getBucket(SESSION_CACHE_PREFIX + token, AuthenticatedPrincipalCodec.INSTANCE);
+            AuthenticatedPrincipal principal = bucket.get();
+
+            if (principal != null && !principal.isExpired()) {
+                return Optional.of(principal);
+            }
+
+            // 만료된 세션이면 캐시에서 제거
+            if (principal != null) {
+                bucket.delete();
+            }
+
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("Redis 세션 캐시 조회 중 오류 발생: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사용자 단위 무효화 세대를 조회합니다. 사용자 조회(DB) 전에 읽어 {@link #put}에 넘깁니다.
+     *
+     * @param userId 사용자 ID
+     * @return 현재 세대 (조회 실패 시 -1, 이 값으로는 저장되지 않음)
+     */
+    public long generation(String userId) {
+        try {
+            return redissonClient.getAtomicLong(generationKey(userId)).get();
+        } catch (Exception e) {
+            log.warn("Redis 세션 캐시 세대 조회 중 오류 발생: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 세대가 바뀌지 않았을 때만 인증 주체를 캐싱하고 역방향 인덱스에 토큰을 추가합니다 (스크립트 1회 왕복).
+     *
+     * @param token      세션 토큰
+     * @param principal  인증 주체
+     * @param generation 사용자 조회 전에 {@link #generation}으로 읽은 세대
+     * @return 조회 도중 사용자 세션이 무효화되어 저장하지 않았으면 false (Redis 오류는 true, near cache는 TTL로 보호)
+     */
+    public boolean put(String token, AuthenticatedPrincipal principal, long generation) {
+        if (generation < 0) {
+            return true;
+        }
+        try {
+            String userId = principal.userId();
+            Long stored = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    PUT_IF_GENERATION_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.<Object>of(SESSION_CACHE_PREFIX + token, USER_INDEX_PREFIX + userId, generationKey(userId)),
+                    encode(principal),
+                    bytes(String.valueOf(sessionCacheTtlSeconds)),
+                    bytes(String.valueOf(generation)),
+                    bytes(token)
+            );
+            if (stored == null || stored == 0) {
+                log.debug("조회 중 사용자 세션이 무효화되어 캐시 저장 생략: userId={}", userId);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis 세션 캐시 저장 중 오류 발생: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 만료 세션 정리로 삭제된 토큰의 캐시 항목과 역방향 인덱스 멤버를 한 번의 파이프라인 왕복으로 제거합니다.
+     *
+     * @param expiredSessions 삭제된 세션 목록
+     */
+    public void evictExpired(Collection<ExpiredSession> expiredSessions) {
+        try {
+            RBatch batch = redissonClient.createBatch();
+            for (ExpiredSession expired : expiredSessions) {
+                batch.getBucket(SESSION_CACHE_PREFIX + expired.token(), AuthenticatedPrincipalCodec.INSTANCE).deleteAsync();
+                batch.<String>getSet(USER_INDEX_PREFIX + expired.userId(), StringCodec.INSTANCE).removeAsync(expired.token());
+            }
+            batch.execute();
+        } catch (Exception e) {
+            log.warn("만료 세션 Redis 캐시 삭제 중 오류 발생 (TTL로 만료됨): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 후 Redis 캐시를 먼저 비우고 near cache 무효화를 전파합니다.
+     * (다른 인스턴스가 near cache 미스 후 Redis에서 이전 값을 다시 읽지 않도록 순서 유지)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionInvalidated(SessionInvalidatedEvent event) {
+        if (event.token() != null) {
+            evictToken(event.token());
+        } else {
+            evictUser(event.userId());
+        }
+        sessionNearCache.invalidate(event);
+    }
+
+    private void evictToken(String token) {
+        try {
+            redissonClient.getBucket(SESSION_CACHE_PREFIX + token).delete();
+        } catch (Exception e) {
+            log.warn("Redis 세션 캐시 삭제 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void evictUser(String userId) {
+        try {
+            // 세대를 먼저 올려, 이후 저장하려는 진행 중 조회(이전 역할·상태)를 막음. 그 전에 저장된 항목은 아래에서 삭제
+            RBatch batch = redissonClient.createBatch();
+            batch.getAtomicLong(generationKey(userId)).incrementAndGetAsync();
+            batch.getAtomicLong(generationKey(userId)).expireAsync(GENERATION_TTL);
+            batch.execute();
+
+            String indexKey = USER_INDEX_PREFIX + userId;
+            RSet<String> index = redissonClient.getSet(indexKey, StringCodec.INSTANCE);
+            Set<String> tokens = index.readAll();
+            String[] keys = Stream.concat(
+                    tokens.stream().map(token -> SESSION_CACHE_PREFIX + token),
+                    Stream.of(indexKey)
+            ).toArray(String[]::new);
+            long deleted = redissonClient.getKeys().delete(keys);
+            log.debug("사용자 세션 캐시 무효화: userId={}, tokens={}, deletedKeys={}", userId, tokens.size(), deleted);
+        } catch (Exception e) {
+            log.warn("Redis 사용자 세션 캐시 삭제 중 오류 발생: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private static String generationKey(String userId) {
+        return USER_INDEX_PREFIX + userId + USER_GENERATION_SUFFIX;
+    }
+
+    private static byte[] encode(AuthenticatedPrincipal principal) throws IOException {
+        ByteBuf buf = AuthenticatedPrincipalCodec.INSTANCE.getValueEncoder().encode(principal);
+        try {
+            return ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
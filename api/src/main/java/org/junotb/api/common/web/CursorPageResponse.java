@@ -0,0 +1,31 @@
+package org.junotb.api.common.web;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답. {@link PageResponse}와 달리 OFFSET·count 없이 다음 페이지 커서만 제공합니다.
+ *
+ * @param items      목록
+ * @param size       요청 페이지 크기
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ * @param totalItems 전체 건수 (withTotal=true 요청 시에만, 그 외 null)
+ */
+public record CursorPageResponse<T>(
+    List<T> items,
+    int size,
+    String nextCursor,
+    boolean hasNext,
+    Long totalItems
+) {
+    public <R> CursorPageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPageResponse<>(
+            items.stream().<R>map(mapper).toList(),
+            size,
+            nextCursor,
+            hasNext,
+            totalItems
+        );
+    }
+}
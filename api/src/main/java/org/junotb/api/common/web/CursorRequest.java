@@ -0,0 +1,44 @@
+package org.junotb.api.common.web;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 커서(keyset) 기반 목록 조회 요청.
+ *
+ * @param cursor    이전 응답의 nextCursor (첫 페이지는 생략)
+ * @param size      페이지 크기 (기본 20, 최대 100)
+ * @param direction 정렬 방향 ASC / DESC (기본 DESC)
+ * @param withTotal true면 전체 건수(count 쿼리)를 함께 조회
+ */
+public record CursorRequest(
+    String cursor,
+    Integer size,
+    Sort.Direction direction,
+    Boolean withTotal
+) {
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+
+    public static CursorRequest first(int size) {
+        return new CursorRequest(null, size, null, null);
+    }
+
+    public int limit() {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    public Sort.Direction sortDirection() {
+        return direction != null ? direction : Sort.Direction.DESC;
+    }
+
+    public boolean includeTotal() {
+        return Boolean.TRUE.equals(withTotal);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+}
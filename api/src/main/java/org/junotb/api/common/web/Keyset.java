@@ -0,0 +1,113 @@
+package org.junotb.api.common.web;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * (정렬 키, ID) 기반 keyset 페이지네이션 정의.
+ * OFFSET 대신 마지막 행의 (정렬 키, ID) 이후를 조건으로 조회하므로 페이지 깊이와 무관하게 같은 비용으로 읽고,
+ * 다음 페이지 판단은 size + 1건 조회로 하여 count 쿼리를 생략합니다. (정렬 키, ID) 복합 인덱스를 전제로 합니다.
+ * 커서는 "ID\n정렬 키"를 Base64 URL 인코딩한 불투명 문자열입니다.
+ *
+ * @param sortAttribute 정렬 키 엔티티 속성명 (null 불가 컬럼)
+ * @param sortKey       엔티티에서 정렬 키 추출
+ * @param sortKeyParser 커서 문자열 → 정렬 키
+ * @param idAttribute   ID 엔티티 속성명
+ * @param id            엔티티에서 ID 추출
+ * @param idParser      커서 문자열 → ID
+ */
+public record Keyset<T, K extends Comparable<? super K>, I extends Comparable<? super I>>(
+    String sortAttribute,
+    Function<T, K> sortKey,
+    Function<String, K> sortKeyParser,
+    String idAttribute,
+    Function<T, I> id,
+    Function<String, I> idParser
+) {
+
+    /**
+     * 필터 조건에 커서 이후 조건을 더해 한 페이지를 조회합니다.
+     *
+     * @param repository 대상 저장소
+     * @param filter     목록 필터 조건
+     * @param request    커서 요청
+     * @return 커서 페이지 (withTotal 요청 시에만 count 실행)
+     */
+    public CursorPageResponse<T> fetch(JpaSpecificationExecutor<T> repository, Specification<T> filter, CursorRequest request) {
+        int limit = request.limit();
+        Sort.Direction direction = request.sortDirection();
+        Sort sort = Sort.by(direction, sortAttribute).and(Sort.by(direction, idAttribute));
+        Specification<T> spec = request.hasCursor() ? filter.and(after(request.cursor(), direction)) : filter;
+
+        List<T> rows = repository.findBy(spec, query -> query.sortBy(sort).limit(limit + 1).all());
+
+        boolean hasNext = rows.size() > limit;
+        List<T> items = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? encode(items.get(items.size() - 1)) : null;
+        Long totalItems = request.includeTotal() ? repository.count(filter) : null;
+
+        return new CursorPageResponse<>(List.copyOf(items), limit, nextCursor, hasNext, totalItems);
+    }
+
+    /**
+     * (sortKey, id) 가 커서보다 뒤인 행: sortKey >= k AND (sortKey > k OR (sortKey = k AND id > i)), DESC면 부등호 반대.
+     * OR 조건만으로는 인덱스 시작 위치로 쓰이지 않아 앞선 행을 모두 읽고 버리므로,
+     * 중복이지만 sortKey >= k 범위 조건을 함께 두어 (정렬 키, ID) 인덱스를 커서 위치부터 읽게 합니다.
+     */
+    Specification<T> after(String cursor, Sort.Direction direction) {
+        String[] parts = decode(cursor);
+        I cursorId;
+        K cursorKey;
+        try {
+            cursorId = idParser.apply(parts[0]);
+            cursorKey = sortKeyParser.apply(parts[1]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+
+        return (root, query, cb) -> {
+            var keyPath = root.<K>get(sortAttribute);
+            var idPath = root.<I>get(idAttribute);
+            if (direction.isAscending()) {
+                return cb.and(
+                    cb.greaterThanOrEqualTo(keyPath, cursorKey),
+                    cb.or(
+                        cb.greaterThan(keyPath, cursorKey),
+                        cb.and(cb.equal(keyPath, cursorKey), cb.greaterThan(idPath, cursorId))
+                    )
+                );
+            }
+            return cb.and(
+                cb.lessThanOrEqualTo(keyPath, cursorKey),
+                cb.or(
+                    cb.lessThan(keyPath, cursorKey),
+                    cb.and(cb.equal(keyPath, cursorKey), cb.lessThan(idPath, cursorId))
+                )
+            );
+        };
+    }
+
+    String encode(T last) {
+        String raw = id.apply(last) + "\n" + sortKey.apply(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
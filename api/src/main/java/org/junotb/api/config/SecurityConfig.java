@@ -1,5 +1,6 @@
 package org.junotb.api.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.junotb.api.common.security.AuthenticationFilter;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +33,7 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 비동기 응답(롱 폴링)은 최초 요청에서 인가 완료
                 .requestMatchers("/api/auth/refresh").authenticated() // 세션 갱신은 인증 필요
                 .requestMatchers(
                     "/api/auth/**", // 기타 인증 관련 엔드포인트는 허용
@@ -39,7 +41,8 @@ public class SecurityConfig {
                     "/v3/api-docs/**",
                     "/swagger-ui.html",
                     "/swagger-resources/**",
-                    "/webjars/**"
+                    "/webjars/**",
+                    "/actuator/health"
                 ).permitAll()
                 .anyRequest().authenticated()
             )
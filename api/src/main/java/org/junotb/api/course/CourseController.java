@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.junotb.api.common.web.CursorPageResponse;
+import org.junotb.api.common.web.CursorRequest;
 import org.junotb.api.common.web.PageResponse;
 import org.junotb.api.course.web.CourseCreateRequest;
 import org.junotb.api.course.web.CourseResponse;
@@ -13,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -35,6 +38,33 @@ public class CourseController {
         return ResponseEntity.ok(PageResponse.from(courses));
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "코스 목록 커서 조회", description = "생성 시각 기준 keyset 페이지네이션. 다음 페이지는 nextCursor로 조회합니다.")
+    public ResponseEntity<CursorPageResponse<CourseResponse>> listByCursor(
+        @RequestParam(required = false) String title,
+        @RequestParam(required = false) CourseStatus status,
+        @ModelAttribute CursorRequest cursorRequest
+    ) {
+        var courses = courseService.findCursor(title, status, cursorRequest)
+            .map(CourseResponse::from);
+
+        return ResponseEntity.ok(courses);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "코스 제목 검색", description = "제목 부분 일치 검색 (pg_trgm 인덱스). 접두 일치가 먼저, 이후 유사도 순으로 반환합니다.")
+    public ResponseEntity<List<CourseResponse>> search(
+        @RequestParam String q,
+        @RequestParam(required = false) CourseStatus status,
+        @RequestParam(required = false) Integer limit
+    ) {
+        var courses = courseService.search(q, status, limit).stream()
+            .map(CourseResponse::from)
+            .toList();
+
+        return ResponseEntity.ok(courses);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "코스 조회", description = "ID로 코스를 조회합니다.")
     public ResponseEntity<CourseResponse> get(@PathVariable Long id) {
@@ -0,0 +1,75 @@
+package org.junotb.api.course;
+
+import lombok.RequiredArgsConstructor;
+import org.junotb.api.common.search.SearchTerm;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 코스 제목 검색 저장소 (PostgreSQL pg_trgm).
+ * 부분 일치는 ix_course_title_trgm(GIN), 3자 미만 접두 일치는 ix_course_title_lower_prefix(B-tree)를 사용합니다.
+ * 결과는 접두 일치 우선, 트라이그램 유사도 내림차순, 제목 순으로 정렬합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CourseSearchRepository {
+
+    private static final String COLUMNS = """
+        "id", "title", "description", "status", "createdAt", "updatedAt"
+        """;
+
+    private static final String FILTERS = """
+          AND (CAST(:status AS varchar) IS NULL OR "status" = :status)
+        """;
+
+    private static final String SUBSTRING_SEARCH_SQL = "SELECT " + COLUMNS + """
+        FROM "course"
+        WHERE "title" ILIKE :contains
+        """ + FILTERS + """
+        ORDER BY lower("title") LIKE lower(:prefix) DESC, similarity("title", :text) DESC, "title", "id"
+        LIMIT :limit
+        """;
+
+    private static final String PREFIX_SEARCH_SQL = "SELECT " + COLUMNS + """
+        FROM "course"
+        WHERE lower("title") LIKE lower(:prefix)
+        """ + FILTERS + """
+        ORDER BY lower("title"), "id"
+        LIMIT :limit
+        """;
+
+    private static final RowMapper<Course> COURSE_ROW_MAPPER = (rs, rowNum) -> Course.builder()
+        .id(rs.getLong("id"))
+        .title(rs.getString("title"))
+        .description(rs.getString("description"))
+        .status(CourseStatus.valueOf(rs.getString("status")))
+        .createdAt(rs.getObject("createdAt", OffsetDateTime.class))
+        .updatedAt(rs.getObject("updatedAt", OffsetDateTime.class))
+        .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 제목으로 코스를 검색합니다.
+     *
+     * @param term   검색어
+     * @param status 상태 필터 (null이면 전체)
+     * @return 순위순 코스 목록 (최대 term.limit()건)
+     */
+    public List<Course> search(SearchTerm term, CourseStatus status) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("text", term.text())
+            .addValue("contains", term.containsPattern())
+            .addValue("prefix", term.prefixPattern())
+            .addValue("status", status != null ? status.name() : null)
+            .addValue("limit", term.limit());
+
+        String sql = term.usesTrigram() ? SUBSTRING_SEARCH_SQL : PREFIX_SEARCH_SQL;
+        return jdbcTemplate.query(sql, params, COURSE_ROW_MAPPER);
+    }
+}
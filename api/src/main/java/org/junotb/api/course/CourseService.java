@@ -3,13 +3,19 @@ package org.junotb.api.course;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.junotb.api.common.exception.DuplicateResourceException;
+import org.junotb.api.common.search.SearchTerm;
+import org.junotb.api.common.web.CursorPageResponse;
+import org.junotb.api.common.web.CursorRequest;
+import org.junotb.api.common.web.Keyset;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -17,7 +23,13 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CourseService {
+    private static final Keyset<Course, OffsetDateTime, Long> COURSE_KEYSET = new Keyset<>(
+        "createdAt", Course::getCreatedAt, OffsetDateTime::parse,
+        "id", Course::getId, Long::valueOf
+    );
+
     private final CourseRepository courseRepository;
+    private final CourseSearchRepository courseSearchRepository;
 
     // 코스 조회
     public Optional<Course> findById(Long id) {
@@ -26,7 +38,21 @@ public class CourseService {
 
     // 코스 목록 조회
     public Page<Course> findList(String title, CourseStatus status, Pageable pageable) {
-        Specification<Course> spec = (root, query, cb) -> {
+        return courseRepository.findAll(listSpec(title, status), pageable);
+    }
+
+    // 코스 목록 커서 조회 ((createdAt, id) keyset, OFFSET·count 없음)
+    public CursorPageResponse<Course> findCursor(String title, CourseStatus status, CursorRequest cursorRequest) {
+        return COURSE_KEYSET.fetch(courseRepository, listSpec(title, status), cursorRequest);
+    }
+
+    // 코스 제목 검색 (접두 일치 우선, 유사도 순, pg_trgm 인덱스 사용)
+    public List<Course> search(String query, CourseStatus status, Integer limit) {
+        return courseSearchRepository.search(SearchTerm.of(query, limit), status);
+    }
+
+    private static Specification<Course> listSpec(String title, CourseStatus status) {
+        return (root, query, cb) -> {
             var predicates = cb.conjunction();
 
             if (title != null && !title.isBlank()) {
@@ -45,8 +71,6 @@ public class CourseService {
 
             return predicates;
         };
-
-        return courseRepository.findAll(spec, pageable);
     }
 
     // 코스 생성
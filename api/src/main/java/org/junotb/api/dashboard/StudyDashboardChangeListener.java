@@ -0,0 +1,43 @@
+package org.junotb.api.dashboard;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.junotb.api.registration.Registration;
+import org.junotb.api.schedule.Schedule;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Registration·Schedule 엔티티 리스너.
+ * 등록 저장·수정·삭제, 수업 수정·삭제 시 {@link StudyDashboardChangedEvent}를 발행하여 학생 대시보드 스냅샷을 갱신합니다.
+ * (신규 수업은 등록이 생길 때 반영되므로 제외. JPQL 벌크 삭제는 리스너를 거치지 않으므로 해당 경로는 캐시 TTL에 의존)
+ */
+@RequiredArgsConstructor
+public class StudyDashboardChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    void onPersist(Object entity) {
+        if (entity instanceof Registration registration) {
+            publishForStudent(registration);
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        if (entity instanceof Registration registration) {
+            publishForStudent(registration);
+        } else if (entity instanceof Schedule schedule && schedule.getId() != null) {
+            eventPublisher.publishEvent(StudyDashboardChangedEvent.ofSchedule(schedule.getId()));
+        }
+    }
+
+    private void publishForStudent(Registration registration) {
+        if (registration.getStudent() != null) {
+            eventPublisher.publishEvent(StudyDashboardChangedEvent.ofStudent(registration.getStudent().getId()));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.junotb.api.dashboard;
+
+/**
+ * 학생 대시보드 읽기 모델에 반영할 변경 이벤트. {@link StudyDashboardService}가 커밋 후 해당 학생의 스냅샷을 다시 만듭니다.
+ * - studentId: 해당 학생의 등록이 변경됨
+ * - scheduleId: 수업(상태·시간·링크)이 변경됨 → 수업에 등록된 학생 전체
+ */
+public record StudyDashboardChangedEvent(String studentId, Long scheduleId) {
+
+    public static StudyDashboardChangedEvent ofStudent(String studentId) {
+        return new StudyDashboardChangedEvent(studentId, null);
+    }
+
+    public static StudyDashboardChangedEvent ofSchedule(Long scheduleId) {
+        return new StudyDashboardChangedEvent(null, scheduleId);
+    }
+}
@@ -9,123 +9,123 @@ import org.junotb.api.registration.Registration;
 import org.junotb.api.registration.RegistrationRepository;
 import org.junotb.api.schedule.Schedule;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+/**
+ * 학생 대시보드 서비스.
+ * 학생별 스냅샷({@link StudyDashboardSnapshot})을 Redis에서 1회 조회하여 응답하고,
+ * 등록·수업 변경 시 커밋 후 {@link StudyDashboardChangedEvent}로 해당 학생의 스냅샷만 다시 만듭니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StudyDashboardService {
 
+    static final int UPCOMING_LIMIT = 5;
+    static final int RECENT_LIMIT = 3;
+
     private final RegistrationRepository registrationRepository;
+    private final StudyDashboardStore studyDashboardStore;
 
-    @Transactional(readOnly = true)
     public StudyDashboardResponse getDashboard(String studentId) {
         if (studentId == null || studentId.isBlank()) {
-            return new StudyDashboardResponse(
-                null,
-                new StudyDashboardResponse.StudyDashboardStats(0L, 0L),
-                Collections.emptyList()
-            );
+            return emptyDashboard();
         }
 
         try {
             OffsetDateTime now = OffsetDateTime.now();
-
-            DashboardNextClassResponse nextClass = findNextClass(studentId, now);
-            long activeCourseCount = 0L;
-            long completedClassCount = 0L;
-            try {
-                activeCourseCount = registrationRepository.countActiveCoursesByStudentId(studentId);
-                completedClassCount = registrationRepository.countCompletedClassesByStudentId(studentId);
-            } catch (Exception e) {
-                log.warn("Error fetching stats for studentId={}", studentId, e);
-            }
-
-            StudyDashboardResponse.StudyDashboardStats stats = new StudyDashboardResponse.StudyDashboardStats(
-                activeCourseCount,
-                completedClassCount
-            );
-            List<ScheduleSummaryResponse> recentSchedules = findRecentSchedules(studentId);
-
-            return new StudyDashboardResponse(nextClass, stats, recentSchedules);
+            StudyDashboardSnapshot snapshot = studyDashboardStore.get(studentId)
+                .filter(cached -> !cached.isExhaustedAt(now))
+                .orElseGet(() -> refresh(studentId));
+            return snapshot.toResponse(now);
         } catch (Exception e) {
             log.error("Error in getDashboard for studentId={}", studentId, e);
-            return new StudyDashboardResponse(
-                null,
-                new StudyDashboardResponse.StudyDashboardStats(0L, 0L),
-                Collections.emptyList()
-            );
+            return emptyDashboard();
         }
     }
 
-    private DashboardNextClassResponse findNextClass(String studentId, OffsetDateTime now) {
-        if (studentId == null || studentId.isBlank() || now == null) {
-            log.warn("findNextClass: Invalid parameters - studentId={}, now={}", studentId, now);
-            return null;
-        }
-
+    /**
+     * 커밋 후 변경된 학생의 스냅샷을 다시 만듭니다. 요청 스레드와 커넥션을 점유하지 않도록 비동기로 실행합니다.
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudyDashboardChanged(StudyDashboardChangedEvent event) {
         try {
-            log.info("findNextClass: Searching next class for studentId={}, now={}", studentId, now);
-            List<Registration> list = registrationRepository.findNextRegistrationsForStudent(
-                studentId, now, PageRequest.of(0, 1)
-            );
-            log.info("findNextClass: Query result size={} for studentId={}", list != null ? list.size() : 0, studentId);
-            if (list == null || list.isEmpty()) {
-                log.info("findNextClass: No next class found for studentId={}", studentId);
-                return null;
-            }
-
-            Registration r = list.get(0);
-            if (r == null) return null;
-
-            Schedule s = r.getSchedule();
-            if (s == null || s.getId() == null) return null;
-
-            OffsetDateTime startsAt = s.getStartsAt() != null ? s.getStartsAt() : now;
-            OffsetDateTime endsAt = s.getEndsAt() != null ? s.getEndsAt() : now;
-
-            return new DashboardNextClassResponse(
-                s.getId(),
-                s.getCourse() != null ? s.getCourse().getTitle() : "",
-                startsAt,
-                endsAt,
-                s.getUser() != null ? s.getUser().getName() : null,
-                null,
-                s.getMeetLink()
-            );
+            List<String> studentIds = event.studentId() != null
+                ? List.of(event.studentId())
+                : registrationRepository.findRegisteredStudentIdsByScheduleId(event.scheduleId());
+            studentIds.forEach(this::refresh);
+            log.debug("학생 대시보드 갱신: event={}, students={}", event, studentIds.size());
         } catch (Exception e) {
-            log.error("Error in findNextClass for studentId={}, now={}", studentId, now, e);
-            return null;
+            log.warn("학생 대시보드 갱신 중 오류 발생 (TTL 만료 후 재생성): event={}, error={}", event, e.getMessage());
         }
     }
 
-    private List<ScheduleSummaryResponse> findRecentSchedules(String studentId) {
-        if (studentId == null || studentId.isBlank()) {
-            return Collections.emptyList();
-        }
+    private StudyDashboardSnapshot refresh(String studentId) {
+        StudyDashboardSnapshot snapshot = build(studentId);
+        studyDashboardStore.put(studentId, snapshot);
+        return snapshot;
+    }
 
-        try {
-            List<Registration> list = registrationRepository.findRecentCompletedRegistrationsByStudentId(
-                studentId, PageRequest.of(0, 3)
-            );
-            if (list == null) {
-                return Collections.emptyList();
-            }
-            return list.stream()
-                .filter(r -> r != null)
-                .map(Registration::getSchedule)
-                .filter(schedule -> schedule != null)
-                .map(ScheduleSummaryResponse::from)
-                .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Error in findRecentSchedules for studentId={}", studentId, e);
-            return Collections.emptyList();
+    private StudyDashboardSnapshot build(String studentId) {
+        OffsetDateTime builtAt = OffsetDateTime.now();
+
+        List<DashboardNextClassResponse> upcoming = registrationRepository
+            .findNextRegistrationsForStudent(studentId, builtAt, PageRequest.of(0, UPCOMING_LIMIT + 1))
+            .stream()
+            .map(Registration::getSchedule)
+            .filter(Objects::nonNull)
+            .map(StudyDashboardService::toNextClass)
+            .collect(Collectors.toList());
+        boolean hasMoreUpcoming = upcoming.size() > UPCOMING_LIMIT;
+        if (hasMoreUpcoming) {
+            upcoming = new ArrayList<>(upcoming.subList(0, UPCOMING_LIMIT));
         }
+
+        List<ScheduleSummaryResponse> recentSchedules = registrationRepository
+            .findRecentCompletedRegistrationsByStudentId(studentId, PageRequest.of(0, RECENT_LIMIT))
+            .stream()
+            .map(Registration::getSchedule)
+            .filter(Objects::nonNull)
+            .map(ScheduleSummaryResponse::from)
+            .collect(Collectors.toList());
+
+        return new StudyDashboardSnapshot(
+            upcoming,
+            hasMoreUpcoming,
+            registrationRepository.countActiveCoursesByStudentId(studentId),
+            registrationRepository.countCompletedClassesByStudentId(studentId),
+            recentSchedules,
+            builtAt
+        );
+    }
+
+    private static DashboardNextClassResponse toNextClass(Schedule s) {
+        return new DashboardNextClassResponse(
+            s.getId(),
+            s.getCourse() != null ? s.getCourse().getTitle() : "",
+            s.getStartsAt(),
+            s.getEndsAt(),
+            s.getUser() != null ? s.getUser().getName() : null,
+            null,
+            s.getMeetLink()
+        );
+    }
+
+    private static StudyDashboardResponse emptyDashboard() {
+        return new StudyDashboardResponse(
+            null,
+            new StudyDashboardResponse.StudyDashboardStats(0L, 0L),
+            Collections.emptyList()
+        );
     }
 }
@@ -0,0 +1,54 @@
+package org.junotb.api.dashboard;
+
+import org.junotb.api.dashboard.dto.DashboardNextClassResponse;
+import org.junotb.api.dashboard.dto.ScheduleSummaryResponse;
+import org.junotb.api.dashboard.dto.StudyDashboardResponse;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 학생 대시보드 읽기 모델 (학생당 1건, {@link StudyDashboardStore}에 보관).
+ * 다음 수업은 시간이 지나면 바뀌므로 앞쪽 예정 수업 몇 건을 보관하고 조회 시점 기준으로 고릅니다.
+ *
+ * @param upcomingClasses     예정 수업 (시작 시각 오름차순, 최대 {@link StudyDashboardService#UPCOMING_LIMIT}건)
+ * @param hasMoreUpcoming     보관한 것 외에 예정 수업이 더 있는지 여부
+ * @param activeCourseCount   수강 중인 코스 수
+ * @param completedClassCount 출석 완료 수업 수
+ * @param recentSchedules     최근 종료 수업 (종료 시각 내림차순)
+ * @param builtAt             스냅샷 생성(DB 조회 시작) 시각
+ */
+public record StudyDashboardSnapshot(
+    List<DashboardNextClassResponse> upcomingClasses,
+    boolean hasMoreUpcoming,
+    long activeCourseCount,
+    long completedClassCount,
+    List<ScheduleSummaryResponse> recentSchedules,
+    OffsetDateTime builtAt
+) {
+
+    /** 조회 시점에 종료되지 않은 가장 빠른 예정 수업 */
+    public Optional<DashboardNextClassResponse> nextClassAt(OffsetDateTime now) {
+        return upcomingClasses.stream()
+            .filter(nextClass -> nextClass.endsAt().isAfter(now))
+            .findFirst();
+    }
+
+    /** 보관한 예정 수업이 모두 지났지만 뒤에 수업이 더 남아 있어 다시 만들어야 하는지 여부 */
+    public boolean isExhaustedAt(OffsetDateTime now) {
+        return hasMoreUpcoming && nextClassAt(now).isEmpty();
+    }
+
+    public boolean isNewerThan(StudyDashboardSnapshot other) {
+        return other == null || builtAt.isAfter(other.builtAt());
+    }
+
+    public StudyDashboardResponse toResponse(OffsetDateTime now) {
+        return new StudyDashboardResponse(
+            nextClassAt(now).orElse(null),
+            new StudyDashboardResponse.StudyDashboardStats(activeCourseCount, completedClassCount),
+            recentSchedules
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package org.junotb.api.dashboard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학생 대시보드 스냅샷 저장소 (Redis).
+ * - dashboard:study:v1:{studentId}: 스냅샷 (TTL app.dashboard.study.cache-ttl-seconds)
+ * - 스냅샷 구조가 바뀌면 키 버전(v1)을 올려 이전 형식 항목을 읽지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudyDashboardStore {
+
+    static final String KEY_PREFIX = "dashboard:study:v1:";
+
+    private final RedissonClient redissonClient;
+
+    @Value("${app.dashboard.study.cache-ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    /**
+     * 스냅샷을 조회합니다.
+     *
+     * @param studentId 학생 ID
+     * @return 스냅샷 (없거나 조회 실패 시 empty)
+     */
+    public Optional<StudyDashboardSnapshot> get(String studentId) {
+        try {
+            RBucket<StudyDashboardSnapshot> bucket = redissonClient.getBucket(KEY_PREFIX + studentId);
+            return Optional.ofNullable(bucket.get());
+        } catch (Exception e) {
+            log.warn("학생 대시보드 캐시 조회 중 오류 발생: studentId={}, error={}", studentId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷을 저장합니다. 이미 더 늦게 만든 스냅샷이 있으면 건너뜁니다 (비동기 갱신 순서 역전 방지, 경합 시 TTL로 보정).
+     *
+     * @param studentId 학생 ID
+     * @param snapshot  스냅샷
+     */
+    public void put(String studentId, StudyDashboardSnapshot snapshot) {
+        try {
+            RBucket<StudyDashboardSnapshot> bucket = redissonClient.getBucket(KEY_PREFIX + studentId);
+            if (!snapshot.isNewerThan(bucket.get())) {
+                log.debug("학생 대시보드 캐시 갱신 생략 (더 최신 스냅샷 존재): studentId={}", studentId);
+                return;
+            }
+            bucket.set(snapshot, cacheTtlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("학생 대시보드 캐시 저장 중 오류 발생: studentId={}, error={}", studentId, e.getMessage());
+        }
+    }
+}
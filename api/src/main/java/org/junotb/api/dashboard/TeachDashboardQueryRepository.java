@@ -0,0 +1,158 @@
+package org.junotb.api.dashboard;
+
+import lombok.RequiredArgsConstructor;
+import org.junotb.api.dashboard.dto.DashboardNextClassResponse;
+import org.junotb.api.dashboard.dto.ScheduleSummaryResponse;
+import org.junotb.api.dashboard.dto.TeachDashboardResponse;
+import org.junotb.api.schedule.ScheduleStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 강사 대시보드 읽기 모델 저장소.
+ * 예정 수업 수, 다음 수업, 오늘 수업, 최근 완료 수업과 각 수업의 수강생·수업명·강사명을
+ * 단일 SQL(1회 왕복)로 조회하여 응답 DTO 필드만 그대로 채웁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeachDashboardQueryRepository {
+
+    static final int RECENT_COMPLETED_LIMIT = 10;
+
+    /**
+     * - upcoming: 예정 수업 수 (SCHEDULED, endsAt > now). 선택된 수업이 없어도 1행을 보장
+     * - picked: NEXT(다음 수업 1건) / TODAY(오늘 시작 수업) / RECENT(최근 완료 10건)
+     * - 수강생: 수업별 REGISTERED 등록 중 가장 최근 1건 (LATERAL)
+     */
+    private static final String TEACH_DASHBOARD_SQL = """
+        WITH upcoming AS (
+            SELECT count(*) AS upcoming_count
+            FROM "schedule"
+            WHERE "userId" = :teacherId AND "status" = 'SCHEDULED' AND "endsAt" > :now
+        ),
+        picked AS (
+            (SELECT 'NEXT' AS kind, s."id", s."userId", s."courseId", s."startsAt", s."endsAt",
+                    s."status", s."meetLink", s."createdAt", s."updatedAt"
+             FROM "schedule" s
+             WHERE s."userId" = :teacherId AND s."status" = 'SCHEDULED' AND s."endsAt" > :now
+             ORDER BY s."startsAt"
+             LIMIT 1)
+            UNION ALL
+            (SELECT 'TODAY' AS kind, s."id", s."userId", s."courseId", s."startsAt", s."endsAt",
+                    s."status", s."meetLink", s."createdAt", s."updatedAt"
+             FROM "schedule" s
+             WHERE s."userId" = :teacherId AND s."status" = 'SCHEDULED'
+               AND s."startsAt" >= :dayStart AND s."startsAt" < :dayEnd)
+            UNION ALL
+            (SELECT 'RECENT' AS kind, s."id", s."userId", s."courseId", s."startsAt", s."endsAt",
+                    s."status", s."meetLink", s."createdAt", s."updatedAt"
+             FROM "schedule" s
+             WHERE s."userId" = :teacherId AND s."status" IN ('ATTENDED', 'ABSENT')
+             ORDER BY s."endsAt" DESC
+             LIMIT :recentLimit)
+        )
+        SELECT u.upcoming_count, p.kind, p."id", p."userId", p."courseId", c."title" AS course_title,
+               p."startsAt", p."endsAt", p."status", p."meetLink", p."createdAt", p."updatedAt",
+               t."name" AS instructor_name, st.student_name
+        FROM upcoming u
+        LEFT JOIN picked p ON true
+        LEFT JOIN "course" c ON c."id" = p."courseId"
+        LEFT JOIN "user" t ON t."id" = p."userId"
+        LEFT JOIN LATERAL (
+            SELECT stu."name" AS student_name
+            FROM "registration" r
+            JOIN "user" stu ON stu."id" = r."studentId"
+            WHERE r."scheduleId" = p."id" AND r."status" = 'REGISTERED'
+            ORDER BY r."registeredAt" DESC
+            LIMIT 1
+        ) st ON true
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 강사 대시보드를 조회합니다.
+     *
+     * @param teacherId 강사 ID
+     * @param now       기준 시각 (예정·다음 수업 판정)
+     * @param dayStart  오늘 시작 시각
+     * @param dayEnd    내일 시작 시각
+     */
+    public TeachDashboardResponse findDashboard(String teacherId, OffsetDateTime now, OffsetDateTime dayStart, OffsetDateTime dayEnd) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("teacherId", teacherId)
+                .addValue("now", now)
+                .addValue("dayStart", dayStart)
+                .addValue("dayEnd", dayEnd)
+                .addValue("recentLimit", RECENT_COMPLETED_LIMIT);
+
+        return jdbcTemplate.query(TEACH_DASHBOARD_SQL, params, rs -> {
+            long upcomingCount = 0;
+            DashboardNextClassResponse nextClass = null;
+            List<ScheduleSummaryResponse> todaySchedules = new ArrayList<>();
+            List<ScheduleSummaryResponse> recentCompletedSchedules = new ArrayList<>();
+
+            while (rs.next()) {
+                upcomingCount = rs.getLong("upcoming_count");
+                String kind = rs.getString("kind");
+                if (kind == null) {
+                    continue;
+                }
+                switch (kind) {
+                    case "NEXT" -> nextClass = toNextClass(rs);
+                    case "TODAY" -> todaySchedules.add(toSummary(rs));
+                    case "RECENT" -> recentCompletedSchedules.add(toSummary(rs));
+                    default -> throw new IllegalStateException("Unknown dashboard row kind: " + kind);
+                }
+            }
+
+            // UNION·LATERAL 조인 후에는 하위 쿼리 정렬이 보장되지 않으므로 구간별로 다시 정렬
+            todaySchedules.sort(Comparator.comparing(ScheduleSummaryResponse::startsAt));
+            recentCompletedSchedules.sort(Comparator.comparing(ScheduleSummaryResponse::endsAt).reversed());
+
+            return new TeachDashboardResponse(
+                    nextClass,
+                    new TeachDashboardResponse.TeachDashboardStats(todaySchedules.size(), upcomingCount),
+                    todaySchedules,
+                    recentCompletedSchedules
+            );
+        });
+    }
+
+    private static DashboardNextClassResponse toNextClass(ResultSet rs) throws SQLException {
+        String courseTitle = rs.getString("course_title");
+        return new DashboardNextClassResponse(
+                rs.getLong("id"),
+                courseTitle != null ? courseTitle : "",
+                rs.getObject("startsAt", OffsetDateTime.class),
+                rs.getObject("endsAt", OffsetDateTime.class),
+                null,
+                rs.getString("student_name"),
+                rs.getString("meetLink")
+        );
+    }
+
+    private static ScheduleSummaryResponse toSummary(ResultSet rs) throws SQLException {
+        return new ScheduleSummaryResponse(
+                rs.getLong("id"),
+                rs.getString("userId"),
+                rs.getObject("courseId", Long.class),
+                rs.getString("course_title"),
+                rs.getObject("startsAt", OffsetDateTime.class),
+                rs.getObject("endsAt", OffsetDateTime.class),
+                ScheduleStatus.valueOf(rs.getString("status")),
+                rs.getObject("createdAt", OffsetDateTime.class),
+                rs.getObject("updatedAt", OffsetDateTime.class),
+                rs.getString("instructor_name"),
+                rs.getString("student_name")
+        );
+    }
+}
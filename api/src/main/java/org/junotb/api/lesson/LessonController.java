@@ -2,12 +2,17 @@ package org.junotb.api.lesson;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.junotb.api.lesson.dto.LessonAccessResponse;
 import org.junotb.api.schedulefeedback.ScheduleFeedbackService;
 import org.junotb.api.schedulefeedback.dto.ScheduleFeedbackResponse;
+import org.junotb.api.schedulefeedback.dto.VideoUploadProgressResponse;
 import org.junotb.api.schedulefeedback.dto.VideoUploadResponse;
+import org.junotb.api.schedulefeedback.dto.VideoUploadSessionRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +26,8 @@ import java.io.IOException;
 @Tag(name = "Lesson", description = "수업방(레슨) API")
 public class LessonController {
 
+    static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+
     private final LessonService lessonService;
     private final ScheduleFeedbackService scheduleFeedbackService;
 
@@ -55,6 +62,40 @@ public class LessonController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/{scheduleId}/video/uploads")
+    @Operation(summary = "수업 영상 분할 업로드 시작", description = "강사 전용. 대용량 영상을 청크 단위로 업로드하기 위한 재개 가능한 업로드를 시작합니다.")
+    public ResponseEntity<VideoUploadProgressResponse> startVideoUpload(
+        @PathVariable Long scheduleId,
+        @AuthenticationPrincipal String teacherId,
+        @Valid @RequestBody VideoUploadSessionRequest request
+    ) throws IOException {
+        VideoUploadProgressResponse response = scheduleFeedbackService.startVideoUpload(
+            scheduleId, teacherId, request.fileName(), request.totalBytes());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{scheduleId}/video/uploads")
+    @Operation(summary = "수업 영상 분할 업로드 진행 상태", description = "강사 전용. 수신 완료 바이트(uploadedBytes)를 반환합니다. 중단된 업로드는 이 위치부터 재개합니다.")
+    public ResponseEntity<VideoUploadProgressResponse> getVideoUploadProgress(
+        @PathVariable Long scheduleId,
+        @AuthenticationPrincipal String teacherId
+    ) throws IOException {
+        return ResponseEntity.ok(scheduleFeedbackService.getVideoUploadProgress(scheduleId, teacherId));
+    }
+
+    @PutMapping(value = "/{scheduleId}/video/uploads", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "수업 영상 청크 업로드", description = "강사 전용. 요청 본문(원본 바이트)을 Upload-Offset 위치에 기록합니다. 마지막 청크 수신 시 영상 처리가 시작됩니다.")
+    public ResponseEntity<VideoUploadProgressResponse> appendVideoChunk(
+        @PathVariable Long scheduleId,
+        @AuthenticationPrincipal String teacherId,
+        @RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+        HttpServletRequest request
+    ) throws IOException {
+        VideoUploadProgressResponse response = scheduleFeedbackService.appendVideoChunk(
+            scheduleId, teacherId, offset, request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{scheduleId}/feedback")
     @Operation(summary = "수업 피드백 조회", description = "해당 수업의 강사 또는 수강생이 vttContent, feedbackContent 조회.")
     public ResponseEntity<ScheduleFeedbackResponse> getFeedback(
@@ -0,0 +1,206 @@
+package org.junotb.api.registration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junotb.api.common.exception.LockAcquisitionException;
+import org.junotb.api.common.exception.ResourceNotFoundException;
+import org.junotb.api.registration.dto.CourseRegistrationRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수강 신청 대기열 서비스
+ * 요청 스레드는 티켓만 발급받고 즉시 반환되며, 강좌별 단일 워커(lane)가 FIFO 순서로 registerCourse를 실행합니다.
+ * 강사는 registerCourse 내부에서 매칭되므로 강좌 ID로 lane을 나누며, 같은 강좌 신청은 항상 같은 lane에서 순서대로 처리됩니다.
+ * (다른 강좌·다른 인스턴스와의 충돌은 registerCourse의 분산 락/DB 제약 조건이 계속 보장)
+ * <p>
+ * 제약: 대기 중인 작업은 접수한 인스턴스의 메모리에만 있고 다른 인스턴스로 넘어가지 않습니다.
+ * 정상 종료 시에는 남은 티켓을 FAILED로 마감하고, 비정상 종료 시에는 생존 신호가 끊긴 인스턴스의 미완료 티켓을
+ * 다른 인스턴스가 주기적으로 FAILED로 정리합니다. 클라이언트는 FAILED 티켓을 보고 다시 신청해야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentQueueService {
+
+    /** 롱 폴링 최대 대기 시간(초) */
+    static final int MAX_WAIT_SECONDS = 30;
+
+    static final String SHUTDOWN_MESSAGE = "Enrollment server stopped before processing the ticket";
+
+    /** 정상 종료 시 처리 중인 신청이 끝나기를 기다리는 최대 시간(초) */
+    private static final int DRAIN_TIMEOUT_SECONDS = 10;
+
+    private final RegistrationService registrationService;
+    private final EnrollmentTicketStore enrollmentTicketStore;
+
+    @Value("${app.registration.enrollment-queue.lanes:4}")
+    private int laneCount;
+
+    @Value("${app.registration.enrollment-queue.capacity:1000}")
+    private int laneCapacity;
+
+    @Value("${app.registration.enrollment-queue.heartbeat-interval-ms:10000}")
+    private long heartbeatIntervalMs;
+
+    /** 미완료 티켓 소유자 식별용 인스턴스 ID (재시작하면 새로 발급) */
+    private final String instanceId = UUID.randomUUID().toString();
+    private volatile boolean draining;
+
+    private final List<ExecutorService> lanes = new ArrayList<>();
+    /** 이 인스턴스에서 처리 중인 티켓 (롱 폴링 대기용) */
+    private final Map<String, CompletableFuture<EnrollmentTicket>> pendingTickets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void startLanes() {
+        heartbeat();
+        for (int i = 0; i < laneCount; i++) {
+            final int laneIndex = i;
+            lanes.add(new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(laneCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "enrollment-lane-" + laneIndex);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            ));
+        }
+    }
+
+    /**
+     * 정상 종료: 새 요청을 막고 대기 중인 티켓은 FAILED로 마감한 뒤, 처리 중인 신청이 끝나기를 잠시 기다립니다.
+     */
+    @PreDestroy
+    void stopLanes() {
+        draining = true;
+        lanes.forEach(ExecutorService::shutdown);
+        try {
+            for (ExecutorService lane : lanes) {
+                if (!lane.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("수강 신청 대기열 종료 대기 시간 초과: instanceId={}", instanceId);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 이 인스턴스의 생존 신호 갱신 (간격의 3배 동안 갱신이 없으면 종료된 것으로 간주)
+     */
+    @Scheduled(fixedDelayString = "${app.registration.enrollment-queue.heartbeat-interval-ms:10000}")
+    void heartbeat() {
+        enrollmentTicketStore.heartbeat(instanceId, Duration.ofMillis(heartbeatIntervalMs * 3));
+    }
+
+    /**
+     * 종료된 인스턴스에 남은 QUEUED/PROCESSING 티켓을 FAILED로 정리합니다.
+     * 클라이언트가 TTL이 끝날 때까지 대기 상태를 폴링하지 않도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.registration.enrollment-queue.heartbeat-interval-ms:10000}",
+            initialDelayString = "${app.registration.enrollment-queue.heartbeat-interval-ms:10000}")
+    void failOrphanedTickets() {
+        int failed = enrollmentTicketStore.failOrphanedTickets(SHUTDOWN_MESSAGE);
+        if (failed > 0) {
+            log.warn("종료된 인스턴스의 미완료 수강 신청 티켓 정리: count={}", failed);
+        }
+    }
+
+    /**
+     * 수강 신청을 대기열에 등록하고 티켓을 발급합니다.
+     *
+     * @throws LockAcquisitionException 대기열이 가득 찬 경우
+     */
+    public EnrollmentTicket submit(String studentId, CourseRegistrationRequest request) {
+        EnrollmentTicket ticket = EnrollmentTicket.queued(UUID.randomUUID().toString(), studentId, request.courseId());
+        enrollmentTicketStore.save(ticket);
+        enrollmentTicketStore.track(instanceId, ticket.id());
+        pendingTickets.put(ticket.id(), new CompletableFuture<>());
+
+        try {
+            laneFor(request.courseId()).execute(() -> process(ticket, request));
+        } catch (RejectedExecutionException e) {
+            pendingTickets.remove(ticket.id());
+            enrollmentTicketStore.untrack(instanceId, ticket.id());
+            enrollmentTicketStore.save(ticket.failed("Enrollment queue is full"));
+            throw new LockAcquisitionException("수강 신청 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        log.debug("수강 신청 대기열 등록: ticketId={}, studentId={}, courseId={}", ticket.id(), studentId, request.courseId());
+        return ticket;
+    }
+
+    /**
+     * 티켓 조회 (본인 티켓만)
+     */
+    public EnrollmentTicket getTicket(String ticketId, String studentId) {
+        return enrollmentTicketStore.findById(ticketId)
+                .filter(ticket -> ticket.studentId().equals(studentId))
+                .orElseThrow(() -> new ResourceNotFoundException("EnrollmentTicket", ticketId));
+    }
+
+    /**
+     * 티켓 롱 폴링: 처리가 끝나거나 대기 시간이 지나면 최신 상태로 완료됩니다.
+     * 다른 인스턴스에서 처리 중인 티켓은 대기하지 않고 현재 상태를 즉시 반환합니다.
+     */
+    public CompletableFuture<EnrollmentTicket> awaitTicket(String ticketId, String studentId, int waitSeconds) {
+        EnrollmentTicket ticket = getTicket(ticketId, studentId);
+        CompletableFuture<EnrollmentTicket> pending = pendingTickets.get(ticketId);
+
+        if (ticket.isDone() || pending == null || waitSeconds <= 0) {
+            return CompletableFuture.completedFuture(ticket);
+        }
+
+        return pending.copy()
+                .completeOnTimeout(null, Math.min(waitSeconds, MAX_WAIT_SECONDS), TimeUnit.SECONDS)
+                .thenApply(done -> done != null ? done : getTicket(ticketId, studentId));
+    }
+
+    private void process(EnrollmentTicket ticket, CourseRegistrationRequest request) {
+        EnrollmentTicket result;
+        try {
+            if (draining) {
+                throw new IllegalStateException(SHUTDOWN_MESSAGE);
+            }
+            enrollmentTicketStore.save(ticket.processing());
+            Registration registration = registrationService.registerCourse(ticket.studentId(), request);
+            result = ticket.succeeded(registration.getId());
+        } catch (RuntimeException e) {
+            log.info("대기열 수강 신청 실패: ticketId={}, reason={}", ticket.id(), e.getMessage());
+            result = ticket.failed(e.getMessage());
+        }
+
+        try {
+            enrollmentTicketStore.save(result);
+            enrollmentTicketStore.untrack(instanceId, ticket.id());
+        } catch (RuntimeException e) {
+            log.error("수강 신청 티켓 상태 저장 실패: ticketId={}", ticket.id(), e);
+        } finally {
+            CompletableFuture<EnrollmentTicket> pending = pendingTickets.remove(ticket.id());
+            if (pending != null) {
+                pending.complete(result);
+            }
+        }
+    }
+
+    private ExecutorService laneFor(Long courseId) {
+        return lanes.get(Math.floorMod(courseId.hashCode(), lanes.size()));
+    }
+}
@@ -0,0 +1,45 @@
+package org.junotb.api.registration;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+/**
+ * 대기열 수강 신청 티켓
+ * 요청 접수 즉시 발급되며, 워커가 처리하면서 상태(QUEUED → PROCESSING → SUCCEEDED/FAILED)가 갱신됩니다.
+ */
+public record EnrollmentTicket(
+    String id,
+    String studentId,
+    Long courseId,
+    EnrollmentTicketStatus status,
+    Long registrationId,
+    String errorMessage,
+    OffsetDateTime createdAt,
+    OffsetDateTime updatedAt
+) implements Serializable {
+
+    public static EnrollmentTicket queued(String id, String studentId, Long courseId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new EnrollmentTicket(id, studentId, courseId, EnrollmentTicketStatus.QUEUED, null, null, now, now);
+    }
+
+    public EnrollmentTicket processing() {
+        return withResult(EnrollmentTicketStatus.PROCESSING, null, null);
+    }
+
+    public EnrollmentTicket succeeded(Long registrationId) {
+        return withResult(EnrollmentTicketStatus.SUCCEEDED, registrationId, null);
+    }
+
+    public EnrollmentTicket failed(String errorMessage) {
+        return withResult(EnrollmentTicketStatus.FAILED, null, errorMessage);
+    }
+
+    public boolean isDone() {
+        return status == EnrollmentTicketStatus.SUCCEEDED || status == EnrollmentTicketStatus.FAILED;
+    }
+
+    private EnrollmentTicket withResult(EnrollmentTicketStatus status, Long registrationId, String errorMessage) {
+        return new EnrollmentTicket(id, studentId, courseId, status, registrationId, errorMessage, createdAt, OffsetDateTime.now());
+    }
+}
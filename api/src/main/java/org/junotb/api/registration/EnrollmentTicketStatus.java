@@ -0,0 +1,8 @@
+package org.junotb.api.registration;
+
+public enum EnrollmentTicketStatus {
+  QUEUED,
+  PROCESSING,
+  SUCCEEDED,
+  FAILED
+}
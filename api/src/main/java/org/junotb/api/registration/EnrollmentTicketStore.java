@@ -0,0 +1,106 @@
+package org.junotb.api.registration;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBucket;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수강 신청 티켓 저장소 (Redis)
+ * 티켓을 접수한 인스턴스와 상태를 조회하는 인스턴스가 달라도 동일한 결과를 보도록 Redis에 보관합니다.
+ * 대기열 작업 자체는 접수한 인스턴스의 메모리에만 있으므로, 인스턴스별 미완료 티켓 목록과 생존 신호(heartbeat)도 함께 기록해
+ * 종료·장애로 사라진 인스턴스의 티켓을 다른 인스턴스가 FAILED로 정리할 수 있게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrollmentTicketStore {
+
+    private static final String TICKET_KEY_PREFIX = "enrollment:ticket:";
+    private static final String INSTANCES_KEY = "enrollment:instances";
+    private static final String INSTANCE_KEY_PREFIX = "enrollment:instance:";
+
+    private final RedissonClient redissonClient;
+
+    @Value("${app.registration.enrollment-queue.ticket-ttl-seconds:3600}")
+    private long ticketTtlSeconds;
+
+    public void save(EnrollmentTicket ticket) {
+        RBucket<EnrollmentTicket> bucket = redissonClient.getBucket(TICKET_KEY_PREFIX + ticket.id());
+        bucket.set(ticket, ticketTtlSeconds, TimeUnit.SECONDS);
+    }
+
+    public Optional<EnrollmentTicket> findById(String ticketId) {
+        RBucket<EnrollmentTicket> bucket = redissonClient.getBucket(TICKET_KEY_PREFIX + ticketId);
+        return Optional.ofNullable(bucket.get());
+    }
+
+    /**
+     * 인스턴스 생존 신호 갱신
+     * ttl 안에 다시 갱신되지 않으면 해당 인스턴스는 종료된 것으로 간주됩니다.
+     */
+    public void heartbeat(String instanceId, Duration ttl) {
+        RBucket<String> alive = redissonClient.getBucket(aliveKey(instanceId));
+        alive.set(instanceId, ttl.toMillis(), TimeUnit.MILLISECONDS);
+        RSet<String> instances = redissonClient.getSet(INSTANCES_KEY);
+        instances.add(instanceId);
+    }
+
+    /**
+     * 인스턴스가 처리해야 할 미완료 티켓으로 등록
+     */
+    public void track(String instanceId, String ticketId) {
+        RSet<String> tickets = redissonClient.getSet(ticketsKey(instanceId));
+        tickets.add(ticketId);
+    }
+
+    /**
+     * 처리가 끝난 티켓을 미완료 목록에서 제거
+     */
+    public void untrack(String instanceId, String ticketId) {
+        RSet<String> tickets = redissonClient.getSet(ticketsKey(instanceId));
+        tickets.remove(ticketId);
+    }
+
+    /**
+     * 생존 신호가 만료된 인스턴스의 미완료 티켓(QUEUED/PROCESSING)을 FAILED로 정리합니다.
+     * 여러 인스턴스가 동시에 실행해도 결과는 같습니다.
+     *
+     * @return FAILED로 변경한 티켓 수
+     */
+    public int failOrphanedTickets(String errorMessage) {
+        RSet<String> instances = redissonClient.getSet(INSTANCES_KEY);
+        int failed = 0;
+
+        for (String instanceId : instances.readAll()) {
+            if (redissonClient.getBucket(aliveKey(instanceId)).isExists()) {
+                continue;
+            }
+
+            RSet<String> tickets = redissonClient.getSet(ticketsKey(instanceId));
+            for (String ticketId : tickets.readAll()) {
+                Optional<EnrollmentTicket> ticket = findById(ticketId).filter(found -> !found.isDone());
+                if (ticket.isPresent()) {
+                    save(ticket.get().failed(errorMessage));
+                    failed++;
+                }
+            }
+            tickets.delete();
+            instances.remove(instanceId);
+        }
+        return failed;
+    }
+
+    private static String aliveKey(String instanceId) {
+        return INSTANCE_KEY_PREFIX + instanceId + ":alive";
+    }
+
+    private static String ticketsKey(String instanceId) {
+        return INSTANCE_KEY_PREFIX + instanceId + ":tickets";
+    }
+}
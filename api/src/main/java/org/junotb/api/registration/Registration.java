@@ -2,6 +2,7 @@ package org.junotb.api.registration;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.junotb.api.dashboard.StudyDashboardChangeListener;
 import org.junotb.api.schedule.Schedule;
 import org.junotb.api.user.User;
 
@@ -14,6 +15,7 @@ import java.time.OffsetDateTime;
         @UniqueConstraint(name = "uk_registration_schedule_student", columnNames = {"\"scheduleId\"", "\"studentId\""})
     }
 )
+@EntityListeners(StudyDashboardChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
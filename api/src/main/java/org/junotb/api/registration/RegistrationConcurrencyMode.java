@@ -0,0 +1,11 @@
+package org.junotb.api.registration;
+
+/**
+ * 수강 신청 동시성 제어 방식 (app.registration.concurrency-mode)
+ * - REDISSON: Redisson 분산 락 획득 후 DB 재검증 (기본값)
+ * - DB_CONSTRAINT: 락 없이 낙관적으로 INSERT, PostgreSQL 제약 조건(exclusion/partial unique) 위반을 충돌로 변환
+ */
+public enum RegistrationConcurrencyMode {
+    REDISSON,
+    DB_CONSTRAINT
+}
@@ -0,0 +1,37 @@
+package org.junotb.api.registration;
+
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * db-constraint 동시성 모드에서 사용하는 PostgreSQL 제약 조건 마이그레이션 위치를 Flyway에 추가합니다.
+ * 제약 조건 DDL은 {@value #LOCATION}의 반복 마이그레이션으로 관리됩니다.
+ * - schedule: 강사별 SCHEDULED 수업 시간 범위(tstzrange)가 겹치지 않도록 GiST exclusion constraint
+ * - registration: 스케줄당 REGISTERED 상태 등록은 1건만 허용하는 partial unique index (1:1 정원)
+ */
+@Component
+@ConditionalOnProperty(name = "app.registration.concurrency-mode", havingValue = "db-constraint")
+public class RegistrationConstraintMigration implements FlywayConfigurationCustomizer {
+
+    static final String LOCATION = "classpath:db/constraint";
+
+    /** 강사 수업 시간 중복 방지 exclusion constraint */
+    public static final String SCHEDULE_TEACHER_TIME_EXCLUSION = "ex_schedule_teacher_time";
+    /** 스케줄당 활성 등록 1건 제한 partial unique index */
+    public static final String REGISTRATION_ACTIVE_UNIQUE_INDEX = "ux_registration_schedule_registered";
+
+    @Override
+    public void customize(FluentConfiguration configuration) {
+        Location[] locations = Stream.concat(
+                Arrays.stream(configuration.getLocations()),
+                Stream.of(new Location(LOCATION))
+        ).toArray(Location[]::new);
+        configuration.locations(locations);
+    }
+}
@@ -4,19 +4,37 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.junotb.api.common.web.CursorPageResponse;
+import org.junotb.api.common.web.CursorRequest;
 import org.junotb.api.registration.dto.CourseRegistrationRequest;
+import org.junotb.api.registration.web.EnrollmentTicketResponse;
 import org.junotb.api.registration.web.RegistrationResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/registrations")
 @RequiredArgsConstructor
 @Tag(name = "Registration", description = "수강 신청 관리 API")
 public class RegistrationController {
     private final RegistrationService registrationService;
+    private final EnrollmentQueueService enrollmentQueueService;
+
+    @GetMapping("/cursor")
+    @Operation(summary = "수강 등록 목록 커서 조회", description = "등록 시각 기준 keyset 페이지네이션. 다음 페이지는 nextCursor로 조회합니다.")
+    public CursorPageResponse<RegistrationResponse> listByCursor(
+            @RequestParam(required = false) Long scheduleId,
+            @RequestParam(required = false) String studentId,
+            @RequestParam(required = false) RegistrationStatus status,
+            @ModelAttribute CursorRequest cursorRequest
+    ) {
+        return registrationService.findCursor(scheduleId, studentId, status, cursorRequest)
+                .map(RegistrationResponse::from);
+    }
 
     @PostMapping("/course")
     @Operation(
@@ -30,4 +48,31 @@ public class RegistrationController {
         Registration registration = registrationService.registerCourse(studentId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(RegistrationResponse.from(registration));
     }
+
+    @PostMapping("/course/tickets")
+    @Operation(
+            summary = "강좌 수강 신청 (대기열)",
+            description = "수강 신청을 대기열에 등록하고 티켓을 즉시 발급합니다. 처리 결과는 티켓 조회 API로 확인합니다."
+    )
+    public ResponseEntity<EnrollmentTicketResponse> enqueueCourseRegistration(
+            @AuthenticationPrincipal String studentId,
+            @Valid @RequestBody CourseRegistrationRequest request
+    ) {
+        EnrollmentTicket ticket = enrollmentQueueService.submit(studentId, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(EnrollmentTicketResponse.from(ticket));
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    @Operation(
+            summary = "수강 신청 티켓 조회",
+            description = "티켓 처리 상태를 조회합니다. waitSeconds(최대 30초)를 지정하면 처리 완료 시까지 대기합니다(롱 폴링)."
+    )
+    public CompletableFuture<ResponseEntity<EnrollmentTicketResponse>> getTicket(
+            @AuthenticationPrincipal String studentId,
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") int waitSeconds
+    ) {
+        return enrollmentQueueService.awaitTicket(ticketId, studentId, waitSeconds)
+                .thenApply(ticket -> ResponseEntity.ok(EnrollmentTicketResponse.from(ticket)));
+    }
 }
@@ -112,6 +112,15 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
             Pageable pageable
     );
 
+    /**
+     * 수업에 등록된(REGISTERED) 학생 ID 목록 (학생 대시보드 갱신 대상)
+     */
+    @Query("""
+        SELECT r.student.id FROM Registration r
+        WHERE r.schedule.id = :scheduleId AND r.status = 'REGISTERED'
+        """)
+    List<String> findRegisteredStudentIdsByScheduleId(@Param("scheduleId") Long scheduleId);
+
     /** 학생 탈퇴: 해당 학생의 모든 수강 등록 삭제 */
     @Modifying
     @Query("DELETE FROM Registration r WHERE r.student.id = :userId")
@@ -2,27 +2,36 @@ package org.junotb.api.registration;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.junotb.api.common.exception.DuplicateResourceException;
 import org.junotb.api.common.exception.LockAcquisitionException;
+import org.junotb.api.common.web.CursorPageResponse;
+import org.junotb.api.common.web.CursorRequest;
+import org.junotb.api.common.web.Keyset;
 import org.junotb.api.course.Course;
 import org.junotb.api.course.CourseRepository;
 import org.junotb.api.registration.dto.CourseRegistrationRequest;
 import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleBulkWriter;
 import org.junotb.api.schedule.ScheduleRepository;
 import org.junotb.api.schedule.ScheduleStatus;
-import org.junotb.api.user.TeacherAvailabilityRepository;
-import org.junotb.api.user.TeacherTimeOff;
-import org.junotb.api.user.TeacherTimeOffRepository;
+import org.junotb.api.schedule.TeacherCalendarIndex;
+import org.junotb.api.schedule.TeacherScheduleConflictRepository;
+import org.junotb.api.teacher.TeacherWeeklySlotIndex;
 import org.junotb.api.user.User;
 import org.junotb.api.user.UserRepository;
 import org.junotb.api.user.UserRole;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.DayOfWeek;
@@ -30,29 +39,45 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.sql.SQLException;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
+@Slf4j
 public class RegistrationService {
+    private static final Keyset<Registration, OffsetDateTime, Long> REGISTRATION_KEYSET = new Keyset<>(
+        "registeredAt", Registration::getRegisteredAt, OffsetDateTime::parse,
+        "id", Registration::getId, Long::valueOf
+    );
+
     private final RegistrationRepository registrationRepository;
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
-    private final TeacherAvailabilityRepository teacherAvailabilityRepository;
-    private final TeacherTimeOffRepository teacherTimeOffRepository;
+    private final TeacherWeeklySlotIndex teacherWeeklySlotIndex;
+    private final TeacherCalendarIndex teacherCalendarIndex;
+    private final TeacherScheduleConflictRepository teacherScheduleConflictRepository;
+    private final ScheduleBulkWriter scheduleBulkWriter;
     private final RedissonClient redissonClient;
     private final TransactionTemplate transactionTemplate;
 
+    /** true: (강사, 요일, 시간 구간) 단위 슬롯 락, false: 강사 전체 락 */
+    @Value("${app.registration.slot-locking:true}")
+    private boolean slotLocking;
+
+    /** 동시성 제어 방식 (redisson | db-constraint) */
+    @Value("${app.registration.concurrency-mode:redisson}")
+    private RegistrationConcurrencyMode concurrencyMode;
+
     // 등록 조회
     public Optional<Registration> findById(Long id) {
         return registrationRepository.findById(id);
@@ -60,7 +85,16 @@ public class RegistrationService {
 
     // 등록 목록 조회 (페이징)
     public Page<Registration> findList(Long scheduleId, String studentId, RegistrationStatus status, Pageable pageable) {
-        Specification<Registration> spec = (root, query, cb) -> {
+        return registrationRepository.findAll(listSpec(scheduleId, studentId, status), pageable);
+    }
+
+    // 등록 목록 커서 조회 ((registeredAt, id) keyset, OFFSET·count 없음)
+    public CursorPageResponse<Registration> findCursor(Long scheduleId, String studentId, RegistrationStatus status, CursorRequest cursorRequest) {
+        return REGISTRATION_KEYSET.fetch(registrationRepository, listSpec(scheduleId, studentId, status), cursorRequest);
+    }
+
+    private static Specification<Registration> listSpec(Long scheduleId, String studentId, RegistrationStatus status) {
+        return (root, query, cb) -> {
             var predicates = cb.conjunction();
 
             if (scheduleId != null) {
@@ -86,8 +120,6 @@ public class RegistrationService {
 
             return predicates;
         };
-
-        return registrationRepository.findAll(spec, pageable);
     }
 
     // 학생별 등록 목록 조회
@@ -100,8 +132,12 @@ public class RegistrationService {
         return registrationRepository.findByScheduleIdOrderByRegisteredAtDesc(scheduleId);
     }
 
-    // 수강 신청 (Redisson 분산 락 적용)
+    // 수강 신청 (Redisson 분산 락 또는 DB 제약 조건 적용)
     public Registration register(Long scheduleId, String studentId) {
+        if (isDbConstraintMode()) {
+            return registerWithConstraint(scheduleId, studentId);
+        }
+
         // 1. 분산 락 키 생성
         String lockKey = "lock:schedule:" + scheduleId;
         RLock lock = redissonClient.getLock(lockKey);
@@ -115,36 +151,7 @@ public class RegistrationService {
             }
             
             // 3. 트랜잭션 내에서 검증 및 등록 수행
-            return transactionTemplate.execute(status -> {
-                // 스케줄 존재 여부 확인
-                Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(
-                    () -> new EntityNotFoundException("Schedule not found with id: " + scheduleId)
-                );
-
-                // 스케줄 상태 확인 (SCHEDULED 상태만 신청 가능)
-                if (schedule.getStatus() != org.junotb.api.schedule.ScheduleStatus.SCHEDULED) {
-                    throw new IllegalStateException("Schedule is not available for registration. Current status: " + schedule.getStatus());
-                }
-
-                // 학생 존재 여부 확인
-                User student = userRepository.findById(studentId).orElseThrow(
-                    () -> new EntityNotFoundException("Student not found with id: " + studentId)
-                );
-
-                // 이미 등록된 경우 중복 등록 방지
-                if (registrationRepository.existsByScheduleIdAndStudentIdAndStatus(scheduleId, studentId, RegistrationStatus.REGISTERED)) {
-                    throw new IllegalStateException("Student has already registered for this schedule");
-                }
-
-                // 1:1 수업이므로 정원 체크 (최대 1명)
-                long currentCount = registrationRepository.countByScheduleIdAndStatusRegistered(scheduleId);
-                if (currentCount >= 1) {
-                    throw new IllegalStateException("Schedule is already full");
-                }
-
-                Registration registration = Registration.create(schedule, student, RegistrationStatus.REGISTERED);
-                return registrationRepository.save(registration);
-            });
+            return transactionTemplate.execute(status -> createRegistration(scheduleId, studentId));
             
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -157,6 +164,55 @@ public class RegistrationService {
         }
     }
 
+    /**
+     * db-constraint 모드 수강 신청: 락 없이 INSERT 후 partial unique index 위반을 기존 충돌 예외로 변환
+     * 사전 검증(정원/중복)은 빠른 실패용이며, 동시 요청 간 정합성은 DB 제약 조건이 보장합니다.
+     */
+    private Registration registerWithConstraint(Long scheduleId, String studentId) {
+        try {
+            return transactionTemplate.execute(status -> createRegistration(scheduleId, studentId));
+        } catch (DataIntegrityViolationException e) {
+            if (isViolationOf(e, UNIQUE_VIOLATION, RegistrationConstraintMigration.REGISTRATION_ACTIVE_UNIQUE_INDEX)) {
+                throw new IllegalStateException("Schedule is already full", e);
+            }
+            if (isViolationOf(e, UNIQUE_VIOLATION, REGISTRATION_SCHEDULE_STUDENT_UNIQUE)) {
+                throw new IllegalStateException("Student has already registered for this schedule", e);
+            }
+            throw e;
+        }
+    }
+
+    private Registration createRegistration(Long scheduleId, String studentId) {
+        // 스케줄 존재 여부 확인
+        Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(
+            () -> new EntityNotFoundException("Schedule not found with id: " + scheduleId)
+        );
+
+        // 스케줄 상태 확인 (SCHEDULED 상태만 신청 가능)
+        if (schedule.getStatus() != org.junotb.api.schedule.ScheduleStatus.SCHEDULED) {
+            throw new IllegalStateException("Schedule is not available for registration. Current status: " + schedule.getStatus());
+        }
+
+        // 학생 존재 여부 확인
+        User student = userRepository.findById(studentId).orElseThrow(
+            () -> new EntityNotFoundException("Student not found with id: " + studentId)
+        );
+
+        // 이미 등록된 경우 중복 등록 방지
+        if (registrationRepository.existsByScheduleIdAndStudentIdAndStatus(scheduleId, studentId, RegistrationStatus.REGISTERED)) {
+            throw new IllegalStateException("Student has already registered for this schedule");
+        }
+
+        // 1:1 수업이므로 정원 체크 (최대 1명)
+        long currentCount = registrationRepository.countByScheduleIdAndStatusRegistered(scheduleId);
+        if (currentCount >= 1) {
+            throw new IllegalStateException("Schedule is already full");
+        }
+
+        Registration registration = Registration.create(schedule, student, RegistrationStatus.REGISTERED);
+        return registrationRepository.save(registration);
+    }
+
     // 수강 신청 취소
     @Transactional
     public Registration cancel(Long id) {
@@ -212,7 +268,16 @@ public class RegistrationService {
      * 분산 락을 적용하여 동시성 문제를 방지합니다.
      */
     private static final long LOCK_WAIT_TIME = 5L;
-    private static final long LOCK_LEASE_TIME = 3L;
+    private static final String TEACHER_LOCK_PREFIX = "lock:registration:teacher:";
+    /** 슬롯 락 시간 구간 크기(분). 작을수록 병렬성은 높지만 획득할 락 개수가 늘어남 */
+    private static final int SLOT_LOCK_BUCKET_MINUTES = 30;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    /** PostgreSQL SQLSTATE: unique_violation / exclusion_violation */
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String REGISTRATION_SCHEDULE_STUDENT_UNIQUE = "uk_registration_schedule_student";
+    /** 재검증 충돌 시 다음 가용 강사로 넘어가는 최대 시도 수 (요청당 락·재검증 쿼리 횟수 상한) */
+    private static final int MAX_TEACHER_ATTEMPTS = 3;
 
     @Transactional(readOnly = false)
     public Registration registerCourse(String studentId, CourseRegistrationRequest request) {
@@ -230,222 +295,281 @@ public class RegistrationService {
                 () -> new EntityNotFoundException("Course not found with id: " + request.courseId())
         );
 
-        // 3. 종료 시간 계산
-        LocalTime endTime = request.startTime().plusMinutes(request.durationMinutes());
-
-        // 4. 후보 강사 조회 (모든 요일과 시간 범위를 커버하는 강사)
-        // 휴무/스케줄 체크용 구간: 현재 ~ 수강 기간만큼의 미래
-        OffsetDateTime scheduleStart = OffsetDateTime.now(ZoneOffset.UTC);
-        OffsetDateTime scheduleEnd = scheduleStart.plusMonths(request.months());
-
-        // Native Query 호환: DayOfWeek → String 변환
-        List<String> dayStrList = request.days().stream()
-                .map(DayOfWeek::name)
-                .toList();
-        Set<String> dayStrings = request.days().stream()
-                .map(DayOfWeek::name)
-                .collect(Collectors.toSet());
-
-        List<String> candidateTeacherIds = teacherAvailabilityRepository.findCandidates(
-                dayStrList,
+        // 3. 후보 강사 조회 (모든 요일의 시간 범위가 가용 시간 안에 있고 주간 반복 수업과 겹치지 않는 강사)
+        // 휴무·실제 수업 일자별 충돌은 5단계(가용성 검증)와 락 내부 재검증에서 검사
+        List<String> candidateTeacherIds = teacherWeeklySlotIndex.findCandidates(
+                request.days(),
                 request.startTime(),
-                endTime,
-                (long) request.days().size(),
-                scheduleStart,
-                scheduleEnd,
-                dayStrings
+                request.durationMinutes()
         );
 
         if (candidateTeacherIds.isEmpty()) {
             throw new IllegalStateException("No available teacher found for the requested schedule");
         }
 
-        // 5. 날짜 생성 (향후 N개월간의 모든 수업 날짜)
+        // 4. 날짜 생성 (향후 N개월간의 모든 수업 날짜)
         List<LocalDateTime> classDates = generateClassDates(
+                LocalDate.now(),
                 request.days(),
                 request.startTime(),
-                request.durationMinutes(),
                 request.months()
         );
 
-        // 6. 가용성 검증 및 최종 강사 선택
-        String selectedTeacherId = findAvailableTeacher(
+        // 5. 가용성 검증 (강사 캘린더 인덱스 기준 가용 강사, 후보 순서 유지)
+        List<String> freeTeacherIds = teacherCalendarIndex.findFreeTeachers(
                 candidateTeacherIds,
                 classDates,
                 request.durationMinutes()
         );
 
-        if (selectedTeacherId == null) {
-            throw new IllegalStateException("No available teacher found after availability check");
+        // 6. 가용 강사를 순서대로 시도. 재검증에서 인덱스가 낡은 것으로 확인되면 해당 강사 항목을 비우고 다음 강사로 진행
+        for (String teacherId : freeTeacherIds.subList(0, Math.min(freeTeacherIds.size(), MAX_TEACHER_ATTEMPTS))) {
+            Registration registration = isDbConstraintMode()
+                    ? registerWithExclusionConstraint(student, course, teacherId, classDates, request)
+                    : registerWithTeacherLock(student, course, teacherId, classDates, request);
+            if (registration != null) {
+                return registration;
+            }
         }
 
-        // 7. 분산 락 적용 (매칭된 강사 ID 기준)
-        String lockKey = "lock:registration:teacher:" + selectedTeacherId;
-        RLock lock = redissonClient.getLock(lockKey);
+        throw new IllegalStateException("No available teacher found after availability check");
+    }
 
+    /**
+     * db-constraint 모드: 락 없이 생성, 강사 시간 중복은 exclusion constraint가 차단
+     *
+     * @return 생성된 등록 (재검증에서 강사가 이미 차 있으면 null)
+     */
+    private Registration registerWithExclusionConstraint(
+            User student,
+            Course course,
+            String teacherId,
+            List<LocalDateTime> classDates,
+            CourseRegistrationRequest request
+    ) {
+        if (!isStillAvailable(teacherId, classDates, request.durationMinutes())) {
+            return null;
+        }
         try {
-            // 락 획득 시도 (waitTime 5초, leaseTime 3초)
-            boolean isLocked = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
-
-            if (!isLocked) {
-                throw new LockAcquisitionException("현재 수강 신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return createCourseSchedules(student, course, teacherId, classDates, request.durationMinutes());
+        } catch (DataIntegrityViolationException e) {
+            if (isViolationOf(e, EXCLUSION_VIOLATION, RegistrationConstraintMigration.SCHEDULE_TEACHER_TIME_EXCLUSION)) {
+                throw new IllegalStateException("No available teacher found after availability check", e);
             }
+            throw e;
+        }
+    }
 
-            // 가용성 재검증 (락 획득 후 다시 확인)
-            String verifiedTeacherId = findAvailableTeacher(
-                    List.of(selectedTeacherId),
-                    classDates,
-                    request.durationMinutes()
-            );
-
-            if (verifiedTeacherId == null) {
-                throw new IllegalStateException("No available teacher found after availability check");
-            }
+    /**
+     * 분산 락 적용 (매칭된 강사의 요청 슬롯 또는 강사 전체 기준)
+     *
+     * @return 생성된 등록 (락 내부 재검증에서 강사가 이미 차 있으면 null, 이때 락은 즉시 해제)
+     */
+    private Registration registerWithTeacherLock(
+            User student,
+            Course course,
+            String teacherId,
+            List<LocalDateTime> classDates,
+            CourseRegistrationRequest request
+    ) {
+        RLock lock = slotLocking
+                ? getSlotLock(teacherId, request.days(), request.startTime(), request.durationMinutes())
+                : redissonClient.getLock(teacherLockKey(teacherId));
+        boolean isLocked = false;
+        boolean releaseOnCompletion = false;
 
-            User teacher = userRepository.findById(verifiedTeacherId).orElseThrow(
-                    () -> new EntityNotFoundException("Teacher not found with id: " + verifiedTeacherId)
-            );
+        try {
+            // 락 획득 시도 (waitTime 5초, leaseTime 미지정: watchdog이 작업 종료까지 연장)
+            isLocked = lock.tryLock(LOCK_WAIT_TIME, TimeUnit.SECONDS);
 
-            // 스케줄 대량 생성 및 저장
-            List<Schedule> schedules = new ArrayList<>();
-            for (LocalDateTime classDateTime : classDates) {
-                OffsetDateTime startsAt = classDateTime.atOffset(ZoneOffset.UTC);
-                OffsetDateTime endsAt = classDateTime.plusMinutes(request.durationMinutes()).atOffset(ZoneOffset.UTC);
-
-                Schedule schedule = Schedule.create(
-                        teacher,
-                        course,
-                        startsAt,
-                        endsAt,
-                        ScheduleStatus.SCHEDULED
-                );
-                schedules.add(schedule);
+            if (!isLocked) {
+                throw new LockAcquisitionException("현재 수강 신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
             }
 
-            List<Schedule> savedSchedules = scheduleRepository.saveAll(schedules);
+            if (!isStillAvailable(teacherId, classDates, request.durationMinutes())) {
+                return null;
+            }
 
-            // 첫 번째 스케줄에 대한 Registration 생성
-            Schedule firstSchedule = savedSchedules.get(0);
-            Registration registration = Registration.create(
-                    firstSchedule,
-                    student,
-                    RegistrationStatus.REGISTERED
-            );
+            // 커밋 전에 풀면 다른 요청이 미커밋 상태를 기준으로 재검증해 중복 배정될 수 있으므로 트랜잭션 종료 후 해제
+            releaseOnCompletion = unlockAfterCompletion(lock);
 
-            return registrationRepository.save(registration);
+            return createCourseSchedules(student, course, teacherId, classDates, request.durationMinutes());
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new LockAcquisitionException("수강 신청 처리 중 오류가 발생했습니다.", e);
         } finally {
-            // 락 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
+            // 트랜잭션 밖에서 호출됐거나 재검증에 실패한 경우 즉시 해제 (MultiLock은 isHeldByCurrentThread를 지원하지 않으므로 획득 여부로 판단)
+            if (isLocked && !releaseOnCompletion) {
+                unlockQuietly(lock);
             }
         }
     }
 
     /**
-     * 수업 날짜 목록 생성
+     * 가용성 재검증 (DB 기준으로 다시 확인, 수업 수와 무관하게 단일 쿼리).
+     * 충돌이 있으면 인덱스의 해당 강사 항목이 낡은 것이므로 비워 다음 요청이 다시 적재하도록 합니다.
      */
-    private List<LocalDateTime> generateClassDates(
-            List<DayOfWeek> days,
-            LocalTime startTime,
-            int durationMinutes,
-            int months
-    ) {
-        List<LocalDateTime> classDates = new ArrayList<>();
-        LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.plusMonths(months);
-
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            DayOfWeek dayOfWeek = currentDate.getDayOfWeek();
-            if (days.contains(dayOfWeek)) {
-                LocalDateTime classDateTime = currentDate.atTime(startTime);
-                classDates.add(classDateTime);
-            }
-            currentDate = currentDate.plusDays(1);
+    private boolean isStillAvailable(String teacherId, List<LocalDateTime> classDates, int durationMinutes) {
+        List<String> verifiedTeacherIds = teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                List.of(teacherId),
+                classDates,
+                durationMinutes
+        );
+        if (verifiedTeacherIds.isEmpty()) {
+            log.debug("재검증에서 강사 일정 충돌 발견, 캘린더 인덱스 항목 제거 후 다음 강사 시도: teacherId={}", teacherId);
+            teacherCalendarIndex.evict(teacherId);
+            return false;
         }
+        return true;
+    }
 
-        return classDates;
+    /**
+     * 현재 트랜잭션 종료(커밋·롤백) 후 락을 해제하도록 등록. 트랜잭션 동기화가 비활성이면 false를 반환합니다.
+     * afterCompletion은 커밋한 스레드에서 실행되므로 Redisson 락 소유 스레드와 같습니다.
+     */
+    private static boolean unlockAfterCompletion(RLock lock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlockQuietly(lock);
+            }
+        });
+        return true;
     }
 
     /**
-     * 가용성 검증 후 사용 가능한 강사 찾기
+     * 수업 스케줄 일괄 생성 및 첫 수업 등록 (호출 전 {@link #isStillAvailable} 재검증 필요)
      */
-    private String findAvailableTeacher(
-            List<String> candidateTeacherIds,
+    private Registration createCourseSchedules(
+            User student,
+            Course course,
+            String selectedTeacherId,
             List<LocalDateTime> classDates,
             int durationMinutes
     ) {
-        for (String teacherId : candidateTeacherIds) {
-            // 해당 강사의 기간 내 전체 스케줄 조회
-            LocalDateTime firstDate = classDates.get(0);
-            LocalDateTime lastDate = classDates.get(classDates.size() - 1).plusMinutes(durationMinutes);
-
-            List<Schedule> existingSchedules = scheduleRepository.findAll((root, query, cb) -> {
-                return cb.and(
-                        cb.equal(root.get("user").get("id"), teacherId),
-                        cb.equal(root.get("status"), ScheduleStatus.SCHEDULED),
-                        cb.greaterThanOrEqualTo(root.get("startsAt"), firstDate.atOffset(ZoneOffset.UTC)),
-                        cb.lessThanOrEqualTo(root.get("endsAt"), lastDate.atOffset(ZoneOffset.UTC))
-                );
-            });
-
-            // 해당 강사의 기간 내 전체 휴무 조회 (기간과 겹치는 휴무만)
-            OffsetDateTime rangeStart = firstDate.atOffset(ZoneOffset.UTC);
-            OffsetDateTime rangeEnd = lastDate.atOffset(ZoneOffset.UTC);
-            List<TeacherTimeOff> timeOffs = teacherTimeOffRepository.findOverlappingByTeacherAndRange(
-                    teacherId,
-                    rangeStart,
-                    rangeEnd
+        User teacher = userRepository.findById(selectedTeacherId).orElseThrow(
+                () -> new EntityNotFoundException("Teacher not found with id: " + selectedTeacherId)
+        );
+
+        // 스케줄 대량 생성 및 저장 (단일 INSERT로 락 보유 시간 단축)
+        List<Schedule> schedules = new ArrayList<>();
+        for (LocalDateTime classDateTime : classDates) {
+            OffsetDateTime startsAt = classDateTime.atOffset(ZoneOffset.UTC);
+            OffsetDateTime endsAt = classDateTime.plusMinutes(durationMinutes).atOffset(ZoneOffset.UTC);
+
+            Schedule schedule = Schedule.create(
+                    teacher,
+                    course,
+                    startsAt,
+                    endsAt,
+                    ScheduleStatus.SCHEDULED
             );
+            schedules.add(schedule);
+        }
+
+        List<Long> scheduleIds = scheduleBulkWriter.insertAll(schedules);
+
+        // 첫 번째 스케줄에 대한 Registration 생성 (네이티브 INSERT 결과이므로 영속성 컨텍스트의 참조로 연결)
+        Schedule firstSchedule = scheduleRepository.getReferenceById(scheduleIds.get(0));
+        Registration registration = Registration.create(
+                firstSchedule,
+                student,
+                RegistrationStatus.REGISTERED
+        );
+
+        return registrationRepository.save(registration);
+    }
 
-            // 충돌 검사
-            boolean hasConflict = false;
-            for (LocalDateTime classDateTime : classDates) {
-                OffsetDateTime classStart = classDateTime.atOffset(ZoneOffset.UTC);
-                OffsetDateTime classEnd = classDateTime.plusMinutes(durationMinutes).atOffset(ZoneOffset.UTC);
-
-                // Schedule 충돌 확인
-                for (Schedule schedule : existingSchedules) {
-                    if (isOverlapping(classStart, classEnd, schedule.getStartsAt(), schedule.getEndsAt())) {
-                        hasConflict = true;
-                        break;
-                    }
-                }
-
-                if (hasConflict) break;
-
-                // TimeOff 충돌 확인
-                for (TeacherTimeOff timeOff : timeOffs) {
-                    if (isOverlapping(classStart, classEnd, timeOff.getStartDateTime(), timeOff.getEndDateTime())) {
-                        hasConflict = true;
-                        break;
-                    }
-                }
-
-                if (hasConflict) break;
+    private boolean isDbConstraintMode() {
+        return concurrencyMode == RegistrationConcurrencyMode.DB_CONSTRAINT;
+    }
+
+    /**
+     * 예외 원인 체인에서 지정한 SQLSTATE와 제약 조건 이름을 가진 SQLException이 있는지 확인
+     */
+    static boolean isViolationOf(Throwable e, String sqlState, String constraintName) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && sqlState.equals(sqlException.getSQLState())
+                    && sqlException.getMessage() != null
+                    && sqlException.getMessage().contains(constraintName)) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            if (!hasConflict) {
-                return teacherId;
+    /**
+     * 요청이 점유하는 (강사, 요일, 시간 구간) 슬롯 락을 결정적 순서로 묶은 MultiLock 생성.
+     * 서로 겹치지 않는 요일·시간대 신청은 같은 강사라도 병렬로 처리됩니다.
+     */
+    private RLock getSlotLock(String teacherId, List<DayOfWeek> days, LocalTime startTime, int durationMinutes) {
+        RLock[] locks = slotLockKeys(teacherId, days, startTime, durationMinutes).stream()
+                .map(redissonClient::getLock)
+                .toArray(RLock[]::new);
+        return redissonClient.getMultiLock(locks);
+    }
+
+    static String teacherLockKey(String teacherId) {
+        return TEACHER_LOCK_PREFIX + teacherId;
+    }
+
+    /**
+     * 슬롯 락 키 목록 (정렬됨). 자정을 넘기는 수업은 다음 요일 구간까지 포함합니다.
+     * 키 형식: lock:registration:teacher:{teacherId}:slot:{요일 1~7}:{구간 번호 4자리}
+     * 같은 요일에 시간이 겹치는 두 신청은 반드시 하나 이상의 키를 공유합니다.
+     */
+    static List<String> slotLockKeys(String teacherId, List<DayOfWeek> days, LocalTime startTime, int durationMinutes) {
+        TreeSet<String> keys = new TreeSet<>();
+        int startMinute = startTime.getHour() * 60 + startTime.getMinute();
+        int endMinute = startMinute + durationMinutes;
+        int firstBucketMinute = startMinute - startMinute % SLOT_LOCK_BUCKET_MINUTES;
+
+        for (DayOfWeek day : days) {
+            for (int minute = firstBucketMinute; minute < endMinute; minute += SLOT_LOCK_BUCKET_MINUTES) {
+                DayOfWeek slotDay = day.plus(minute / MINUTES_PER_DAY);
+                int bucket = (minute % MINUTES_PER_DAY) / SLOT_LOCK_BUCKET_MINUTES;
+                keys.add(String.format("%s%s:slot:%d:%04d", TEACHER_LOCK_PREFIX, teacherId, slotDay.getValue(), bucket));
             }
         }
+        return List.copyOf(keys);
+    }
 
-        return null;
+    private static void unlockQuietly(RLock lock) {
+        try {
+            lock.unlock();
+        } catch (IllegalMonitorStateException e) {
+            // leaseTime 만료로 이미 해제된 경우
+            log.warn("수강 신청 락이 이미 만료되어 해제를 건너뜁니다: {}", e.getMessage());
+        }
     }
 
     /**
-     * 두 시간 범위가 겹치는지 확인
+     * 수업 날짜 목록 생성 (startDate부터 months개월간, 오름차순)
      */
-    private boolean isOverlapping(
-            OffsetDateTime start1,
-            OffsetDateTime end1,
-            OffsetDateTime start2,
-            OffsetDateTime end2
+    static List<LocalDateTime> generateClassDates(
+            LocalDate startDate,
+            List<DayOfWeek> days,
+            LocalTime startTime,
+            int months
     ) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
+        List<LocalDateTime> classDates = new ArrayList<>();
+        LocalDate endDate = startDate.plusMonths(months);
+
+        LocalDate currentDate = startDate;
+        while (!currentDate.isAfter(endDate)) {
+            DayOfWeek dayOfWeek = currentDate.getDayOfWeek();
+            if (days.contains(dayOfWeek)) {
+                LocalDateTime classDateTime = currentDate.atTime(startTime);
+                classDates.add(classDateTime);
+            }
+            currentDate = currentDate.plusDays(1);
+        }
+
+        return classDates;
     }
 }
@@ -0,0 +1,28 @@
+package org.junotb.api.registration.web;
+
+import org.junotb.api.registration.EnrollmentTicket;
+import org.junotb.api.registration.EnrollmentTicketStatus;
+
+import java.time.OffsetDateTime;
+
+public record EnrollmentTicketResponse(
+    String ticketId,
+    Long courseId,
+    EnrollmentTicketStatus status,
+    Long registrationId,
+    String errorMessage,
+    OffsetDateTime createdAt,
+    OffsetDateTime updatedAt
+) {
+    public static EnrollmentTicketResponse from(EnrollmentTicket ticket) {
+        return new EnrollmentTicketResponse(
+            ticket.id(),
+            ticket.courseId(),
+            ticket.status(),
+            ticket.registrationId(),
+            ticket.errorMessage(),
+            ticket.createdAt(),
+            ticket.updatedAt()
+        );
+    }
+}
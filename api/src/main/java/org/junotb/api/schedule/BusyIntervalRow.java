@@ -0,0 +1,12 @@
+package org.junotb.api.schedule;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 강사의 바쁜 구간 프로젝션 (수업·휴무 공통).
+ */
+public interface BusyIntervalRow {
+    String getTeacherId();
+    OffsetDateTime getStartsAt();
+    OffsetDateTime getEndsAt();
+}
@@ -3,12 +3,14 @@ package org.junotb.api.schedule;
 import jakarta.persistence.*;
 import lombok.*;
 import org.junotb.api.course.Course;
+import org.junotb.api.dashboard.StudyDashboardChangeListener;
 import org.junotb.api.user.User;
 
 import java.time.OffsetDateTime;
 
 @Entity
 @Table(name = "\"schedule\"")
+@EntityListeners({TeacherCalendarChangeListener.class, StudyDashboardChangeListener.class})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,120 @@
+package org.junotb.api.schedule;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수업 스케줄 일괄 INSERT 저장소.
+ * Schedule은 IDENTITY 전략이라 saveAll 시 행마다 INSERT가 1회씩 나가므로,
+ * 컬럼별 배열을 unnest하여 단일 INSERT ... RETURNING으로 생성 ID와 시작 일시를 한 번에 받아옵니다.
+ *
+ * <p>네이티브 INSERT이므로 Schedule의 JPA 엔티티 리스너(@PostPersist 등)가 하나도 호출되지 않습니다.
+ * 리스너가 발행하는 도메인 이벤트는 {@link #publishInsertedEvents}에서 직접 발행해야 하며,
+ * Schedule에 엔티티 리스너를 추가할 때는 신규 수업에 반응하는지 확인하고 이 메서드도 함께 수정합니다.
+ * (현재 신규 수업에 반응하는 리스너는 {@link TeacherCalendarChangeListener}뿐이며,
+ * StudyDashboardChangeListener는 신규 수업을 등록 저장 시점에 반영하므로 대상이 아님)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleBulkWriter {
+
+    /**
+     * - 수업 구간은 epoch seconds 배열로 전달 (분 단위 수업이므로 초 정밀도로 충분)
+     * - RETURNING 행 순서와 IDENTITY 부여 순서는 보장되지 않으므로 시작 일시를 함께 반환받아 입력 행과 대응
+     */
+    private static final String BULK_INSERT_SQL = """
+        INSERT INTO "schedule" ("userId", "courseId", "version", "startsAt", "endsAt", "status", "createdAt", "updatedAt")
+        SELECT t.user_id, t.course_id, 0, to_timestamp(t.starts_at), to_timestamp(t.ends_at), t.status, ?, ?
+        FROM unnest(?::varchar[], ?::bigint[], ?::bigint[], ?::bigint[], ?::varchar[])
+            AS t(user_id, course_id, starts_at, ends_at, status)
+        RETURNING "id", "startsAt"
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 스케줄 목록을 단일 SQL로 저장하고 생성된 ID를 입력 순서대로 반환합니다.
+     * 입력 엔티티는 수정하지 않으며 영속성 컨텍스트에도 포함되지 않습니다.
+     * 저장한 수업을 연관 관계로 참조하려면 반환된 ID로 {@code ScheduleRepository#getReferenceById}를 사용합니다.
+     *
+     * @param schedules 저장할 스케줄 (user·course 필수)
+     * @return 생성된 스케줄 ID (입력 순서 유지)
+     */
+    public List<Long> insertAll(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return List.of();
+        }
+
+        int size = schedules.size();
+        String[] userIds = new String[size];
+        Long[] courseIds = new Long[size];
+        Long[] startsAts = new Long[size];
+        Long[] endsAts = new Long[size];
+        String[] statuses = new String[size];
+        for (int i = 0; i < size; i++) {
+            Schedule schedule = schedules.get(i);
+            userIds[i] = schedule.getUser().getId();
+            courseIds[i] = schedule.getCourse().getId();
+            startsAts[i] = schedule.getStartsAt().toEpochSecond();
+            endsAts[i] = schedule.getEndsAt().toEpochSecond();
+            statuses[i] = schedule.getStatus().name();
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // 시작 일시(epoch seconds)별 생성 ID. 같은 시작 일시의 행끼리는 구분하지 않음 (한 강사의 수업은 시작 일시가 모두 다름)
+        Map<Long, Deque<Long>> idsByStartsAt = new HashMap<>();
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(BULK_INSERT_SQL);
+                    Array userIdArray = con.createArrayOf("varchar", userIds);
+                    Array courseIdArray = con.createArrayOf("bigint", courseIds);
+                    Array startsAtArray = con.createArrayOf("bigint", startsAts);
+                    Array endsAtArray = con.createArrayOf("bigint", endsAts);
+                    Array statusArray = con.createArrayOf("varchar", statuses);
+                    ps.setObject(1, now);
+                    ps.setObject(2, now);
+                    ps.setArray(3, userIdArray);
+                    ps.setArray(4, courseIdArray);
+                    ps.setArray(5, startsAtArray);
+                    ps.setArray(6, endsAtArray);
+                    ps.setArray(7, statusArray);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> idsByStartsAt
+                        .computeIfAbsent(rs.getObject("startsAt", OffsetDateTime.class).toEpochSecond(), k -> new ArrayDeque<>())
+                        .add(rs.getLong("id"))
+        );
+
+        List<Long> ids = new ArrayList<>(size);
+        for (Long startsAt : startsAts) {
+            ids.add(idsByStartsAt.get(startsAt).poll());
+        }
+
+        publishInsertedEvents(schedules);
+        return List.copyOf(ids);
+    }
+
+    /**
+     * 엔티티 리스너 대신 신규 수업 도메인 이벤트 발행 (리스너를 거치지 않는 모든 쓰기 경로의 단일 지점)
+     */
+    private void publishInsertedEvents(List<Schedule> schedules) {
+        schedules.stream()
+                .map(schedule -> schedule.getUser().getId())
+                .distinct()
+                .forEach(teacherId -> eventPublisher.publishEvent(new TeacherCalendarChangedEvent(teacherId)));
+    }
+}
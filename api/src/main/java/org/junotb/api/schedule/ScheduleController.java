@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.junotb.api.common.web.CursorPageResponse;
+import org.junotb.api.common.web.CursorRequest;
 import org.junotb.api.common.web.PageResponse;
 import org.junotb.api.schedule.web.ScheduleCreateRequest;
 import org.junotb.api.schedule.web.ScheduleListRequest;
@@ -45,6 +47,24 @@ public class ScheduleController {
         );
     }
 
+    /**
+     * 스케줄 목록을 커서 기반으로 조회. 시작 시각(startsAt, id) 순으로 OFFSET·count 없이 조회합니다.
+     *
+     * @param request       필터 조건 (userId, courseId, status)
+     * @param cursorRequest 커서·크기·정렬 방향·전체 건수 포함 여부
+     * @return 커서 페이지 (nextCursor로 다음 페이지 조회)
+     */
+    @Operation(summary = "스케줄 목록 커서 조회", description = "시작 시각 기준 keyset 페이지네이션. 깊은 페이지도 첫 페이지와 같은 비용으로 조회합니다.")
+    @GetMapping("/cursor")
+    public CursorPageResponse<ScheduleResponse> listByCursor(
+        @ModelAttribute ScheduleListRequest request,
+        @ModelAttribute CursorRequest cursorRequest
+    ) {
+        ScheduleListRequest safeRequest = Objects.requireNonNullElse(request, ScheduleListRequest.empty());
+
+        return scheduleService.findCursor(safeRequest, cursorRequest).map(ScheduleResponse::from);
+    }
+
     /**
      * ID로 스케줄 조회.
      *
@@ -1,7 +1,6 @@
 package org.junotb.api.schedule;
 
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -72,67 +72,21 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long>, JpaSp
     );
 
     /**
-     * 강사용: 다음 수업 1건 (SCHEDULED, 종료되지 않은 수업, 가장 빠른 것)
-     * - endsAt > now: 진행 중이거나 아직 시작하지 않은 수업 포함
-     * - LEFT JOIN FETCH: 연관 데이터(User, Course) 참조 무결성 문제로 인한 누락 방지
-     * - DISTINCT 사용: LEFT JOIN FETCH로 인한 중복 방지
-     */
-    @Query(value = """
-        SELECT DISTINCT s FROM Schedule s
-        LEFT JOIN FETCH s.user
-        LEFT JOIN FETCH s.course
-        WHERE s.user.id = :teacherId AND s.status = :status AND s.endsAt > :now
-        ORDER BY s.startsAt ASC
-        """)
-    List<Schedule> findNextSchedulesForTeacher(
-            @Param("teacherId") String teacherId,
-            @Param("status") ScheduleStatus status,
-            @Param("now") OffsetDateTime now,
-            Pageable pageable
-    );
-
-    /**
-     * 강사용: 오늘 예정된 수업 (startsAt이 dayStart 이상 dayEnd 미만)
-     * - LEFT JOIN FETCH: 연관 데이터 참조 무결성 문제 방지
-     */
-    @Query("""
-        SELECT s FROM Schedule s
-        LEFT JOIN FETCH s.user
-        LEFT JOIN FETCH s.course
-        WHERE s.user.id = :teacherId AND s.status = 'SCHEDULED'
-        AND s.startsAt >= :dayStart AND s.startsAt < :dayEnd
-        ORDER BY s.startsAt ASC
-        """)
-    List<Schedule> findTodaySchedulesForTeacher(
-            @Param("teacherId") String teacherId,
-            @Param("dayStart") OffsetDateTime dayStart,
-            @Param("dayEnd") OffsetDateTime dayEnd
-    );
-
-    /**
-     * 강사용: 예정된 수업 수 (SCHEDULED, endsAt > now)
-     * - endsAt > now: 진행 중이거나 아직 시작하지 않은 수업 포함
-     * - findNextSchedulesForTeacher와 동일한 조건 사용
+     * 여러 강사의 기간과 겹치는 SCHEDULED 수업 구간을 한 번에 조회 (강사 캘린더 인덱스 적재용)
+     * Overlap 조건: s.startsAt < :rangeEnd AND s.endsAt > :rangeStart
      */
     @Query("""
-        SELECT COUNT(s) FROM Schedule s
-        WHERE s.user.id = :teacherId AND s.status = 'SCHEDULED' AND s.endsAt > :now
-        """)
-    long countUpcomingByTeacherId(@Param("teacherId") String teacherId, @Param("now") OffsetDateTime now);
-
-    /**
-     * 강사용: 최근 완료 수업 (ATTENDED 또는 ABSENT, endsAt 기준 내림차순)
-     */
-    @Query("""
-        SELECT s FROM Schedule s
-        LEFT JOIN FETCH s.user
-        LEFT JOIN FETCH s.course
-        WHERE s.user.id = :teacherId AND (s.status = 'ATTENDED' OR s.status = 'ABSENT')
-        ORDER BY s.endsAt DESC
+        SELECT s.user.id AS teacherId, s.startsAt AS startsAt, s.endsAt AS endsAt
+        FROM Schedule s
+        WHERE s.user.id IN :teacherIds
+          AND s.status = 'SCHEDULED'
+          AND s.startsAt < :rangeEnd
+          AND s.endsAt > :rangeStart
         """)
-    List<Schedule> findRecentCompletedSchedulesForTeacher(
-        @Param("teacherId") String teacherId,
-        Pageable pageable
+    List<BusyIntervalRow> findBusyIntervalsByTeacherIds(
+            @Param("teacherIds") Collection<String> teacherIds,
+            @Param("rangeStart") OffsetDateTime rangeStart,
+            @Param("rangeEnd") OffsetDateTime rangeEnd
     );
 
     /** 강사 탈퇴: 해당 강사의 모든 스케줄 삭제 */
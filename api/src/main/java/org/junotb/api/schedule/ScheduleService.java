@@ -3,6 +3,9 @@ package org.junotb.api.schedule;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.junotb.api.common.exception.ResourceNotFoundException;
+import org.junotb.api.common.web.CursorPageResponse;
+import org.junotb.api.common.web.CursorRequest;
+import org.junotb.api.common.web.Keyset;
 import org.junotb.api.course.Course;
 import org.junotb.api.course.CourseRepository;
 import org.junotb.api.schedule.web.ScheduleCreateRequest;
@@ -17,6 +20,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.*;
 
 /**
@@ -26,6 +30,11 @@ import java.util.*;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ScheduleService {
+    private static final Keyset<Schedule, OffsetDateTime, Long> SCHEDULE_KEYSET = new Keyset<>(
+        "startsAt", Schedule::getStartsAt, OffsetDateTime::parse,
+        "id", Schedule::getId, Long::valueOf
+    );
+
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
@@ -48,7 +57,22 @@ public class ScheduleService {
      * @return 페이징된 목록
      */
     public Page<Schedule> findList(ScheduleListRequest request, Pageable pageable) {
-        Specification<Schedule> spec = (root, query, cb) -> {
+        return scheduleRepository.findAll(listSpec(request), pageable);
+    }
+
+    /**
+     * 스케줄 목록 커서 조회. (startsAt, id) keyset으로 OFFSET·count 없이 조회.
+     *
+     * @param request       필터 (userId, courseId, status)
+     * @param cursorRequest 커서·크기·정렬 방향
+     * @return 커서 페이지
+     */
+    public CursorPageResponse<Schedule> findCursor(ScheduleListRequest request, CursorRequest cursorRequest) {
+        return SCHEDULE_KEYSET.fetch(scheduleRepository, listSpec(request), cursorRequest);
+    }
+
+    private static Specification<Schedule> listSpec(ScheduleListRequest request) {
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (request.userId() != null) {
@@ -71,8 +95,6 @@ public class ScheduleService {
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-
-        return scheduleRepository.findAll(spec, pageable);
     }
 
     /**
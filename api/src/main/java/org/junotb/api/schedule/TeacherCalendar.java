@@ -0,0 +1,109 @@
+package org.junotb.api.schedule;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 강사 1명의 바쁜 구간(수업 + 휴무) 스냅샷.
+ * 구간을 시작 시각 기준으로 정렬·병합하여 epoch seconds 배열로 보관하며,
+ * 반복 수업 패턴 전체의 가용 여부를 O(수업 수 + 구간 수) 한 번의 순회로 판정합니다.
+ */
+public final class TeacherCalendar {
+
+    private final OffsetDateTime rangeStart;
+    private final OffsetDateTime rangeEnd;
+    private final long loadedAtMillis;
+    private final long[] starts;
+    private final long[] ends;
+
+    private TeacherCalendar(OffsetDateTime rangeStart, OffsetDateTime rangeEnd, long loadedAtMillis, long[] starts, long[] ends) {
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.loadedAtMillis = loadedAtMillis;
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * 바쁜 구간 목록으로 캘린더를 생성합니다. 겹치거나 맞닿은 구간은 하나로 병합합니다.
+     *
+     * @param rangeStart 적재 구간 시작
+     * @param rangeEnd   적재 구간 종료
+     * @param rows       해당 강사의 수업·휴무 구간
+     */
+    public static TeacherCalendar of(OffsetDateTime rangeStart, OffsetDateTime rangeEnd, List<BusyIntervalRow> rows) {
+        BusyIntervalRow[] sorted = rows.toArray(new BusyIntervalRow[0]);
+        Arrays.sort(sorted, Comparator.comparing(BusyIntervalRow::getStartsAt));
+
+        long[] starts = new long[sorted.length];
+        long[] ends = new long[sorted.length];
+        int size = 0;
+        for (BusyIntervalRow row : sorted) {
+            long start = row.getStartsAt().toEpochSecond();
+            long end = row.getEndsAt().toEpochSecond();
+            if (size > 0 && start <= ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], end);
+            } else {
+                starts[size] = start;
+                ends[size] = end;
+                size++;
+            }
+        }
+
+        return new TeacherCalendar(
+                rangeStart,
+                rangeEnd,
+                System.currentTimeMillis(),
+                Arrays.copyOf(starts, size),
+                Arrays.copyOf(ends, size)
+        );
+    }
+
+    /**
+     * 수업 일시 목록 전체가 바쁜 구간과 겹치지 않는지 확인합니다.
+     * 수업 일시는 UTC 기준이며 오름차순으로 정렬되어 있어야 합니다.
+     *
+     * @param classDates      수업 시작 일시 목록 (오름차순)
+     * @param durationMinutes 수업 시간(분)
+     * @return 모든 수업이 가능하면 true
+     */
+    public boolean isFree(List<LocalDateTime> classDates, int durationMinutes) {
+        long durationSeconds = durationMinutes * 60L;
+        int idx = 0;
+        for (LocalDateTime classDateTime : classDates) {
+            long classStart = classDateTime.toEpochSecond(ZoneOffset.UTC);
+            long classEnd = classStart + durationSeconds;
+
+            // 수업 시작 이전에 끝나는 구간은 이후 수업과도 겹칠 수 없으므로 건너뜀
+            while (idx < starts.length && ends[idx] <= classStart) {
+                idx++;
+            }
+            if (idx < starts.length && starts[idx] < classEnd) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 요청 구간을 이 캘린더가 모두 포함하는지 확인합니다.
+     */
+    public boolean covers(OffsetDateTime from, OffsetDateTime to) {
+        return !rangeStart.isAfter(from) && !rangeEnd.isBefore(to);
+    }
+
+    /**
+     * 적재 후 경과 시간이 maxAgeMillis를 넘었는지 확인합니다.
+     */
+    public boolean isOlderThan(long maxAgeMillis) {
+        return System.currentTimeMillis() - loadedAtMillis > maxAgeMillis;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+}
@@ -0,0 +1,43 @@
+package org.junotb.api.schedule;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.junotb.api.user.TeacherAvailability;
+import org.junotb.api.user.TeacherTimeOff;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Schedule·TeacherTimeOff·TeacherAvailability 엔티티 리스너.
+ * 저장·수정·삭제 시 {@link TeacherCalendarChangedEvent}를 발행하여 강사 캘린더 인덱스·주간 시간표 인덱스를 최신으로 유지합니다.
+ * (JPQL 벌크 삭제는 리스너를 거치지 않으므로 해당 경로는 캐시 TTL에 의존)
+ */
+@RequiredArgsConstructor
+public class TeacherCalendarChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        String teacherId = resolveTeacherId(entity);
+        if (teacherId != null) {
+            eventPublisher.publishEvent(new TeacherCalendarChangedEvent(teacherId));
+        }
+    }
+
+    private static String resolveTeacherId(Object entity) {
+        if (entity instanceof Schedule schedule && schedule.getUser() != null) {
+            return schedule.getUser().getId();
+        }
+        if (entity instanceof TeacherTimeOff timeOff && timeOff.getTeacher() != null) {
+            return timeOff.getTeacher().getId();
+        }
+        if (entity instanceof TeacherAvailability availability && availability.getTeacher() != null) {
+            return availability.getTeacher().getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,8 @@
+package org.junotb.api.schedule;
+
+/**
+ * 강사의 수업·휴무·가용 시간이 변경되었음을 알리는 이벤트.
+ * {@link TeacherCalendarIndex} 무효화, {@link org.junotb.api.teacher.TeacherWeeklySlotIndex} 재적재용.
+ */
+public record TeacherCalendarChangedEvent(String teacherId) {
+}
@@ -0,0 +1,132 @@
+package org.junotb.api.schedule;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junotb.api.user.TeacherTimeOffRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 강사별 바쁜 구간(수업 + 휴무) 인메모리 인덱스.
+ * - 캐시에 없는 강사들은 수업 1회 + 휴무 1회, 총 2번의 쿼리로 일괄 적재
+ * - 수업·휴무 변경 시 커밋 후 {@link TeacherCalendarChangedEvent}로 해당 강사 항목 무효화
+ * - 무효화마다 강사별 버전을 올리고, 적재 시작 후 버전이 바뀐 강사의 적재 결과는 캐시하지 않음 (무효화 이전 조회 결과 재등록 방지)
+ * - 다른 인스턴스의 변경은 TTL로 반영. 최종 확정은 락 내부의 {@link TeacherScheduleConflictRepository} 재검증에 의존
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeacherCalendarIndex {
+
+    private static final long CACHE_TTL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final ScheduleRepository scheduleRepository;
+    private final TeacherTimeOffRepository teacherTimeOffRepository;
+
+    private final Map<String, TeacherCalendar> calendars = new ConcurrentHashMap<>();
+    /** 강사별 무효화 버전. 캐시 등록·무효화는 이 맵의 강사 키 단위 compute 안에서 수행되어 서로 원자적 */
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 후보 강사 중 수업 일시 전체가 비어 있는 강사를 후보 순서대로 반환합니다.
+     *
+     * @param teacherIds      후보 강사 ID 목록 (우선순위 순)
+     * @param classDates      수업 시작 일시 목록 (UTC, 오름차순)
+     * @param durationMinutes 수업 시간(분)
+     * @return 가용 강사 ID 목록
+     */
+    public List<String> findFreeTeachers(List<String> teacherIds, List<LocalDateTime> classDates, int durationMinutes) {
+        if (teacherIds.isEmpty() || classDates.isEmpty()) {
+            return List.of();
+        }
+
+        OffsetDateTime rangeStart = classDates.get(0).atOffset(ZoneOffset.UTC);
+        OffsetDateTime rangeEnd = classDates.get(classDates.size() - 1).plusMinutes(durationMinutes).atOffset(ZoneOffset.UTC);
+
+        Map<String, TeacherCalendar> resolved = new HashMap<>();
+        Map<String, Long> missVersions = new HashMap<>();
+        for (String teacherId : teacherIds) {
+            TeacherCalendar calendar = calendars.get(teacherId);
+            if (calendar == null || !calendar.covers(rangeStart, rangeEnd) || calendar.isOlderThan(CACHE_TTL_MILLIS)) {
+                // 조회 전에 버전을 읽어 두어야 조회 도중의 무효화를 감지할 수 있음
+                missVersions.put(teacherId, versions.getOrDefault(teacherId, 0L));
+            } else {
+                resolved.put(teacherId, calendar);
+            }
+        }
+        if (!missVersions.isEmpty()) {
+            Map<String, TeacherCalendar> loaded = load(List.copyOf(missVersions.keySet()), rangeStart, rangeEnd);
+            loaded.forEach((teacherId, calendar) -> cacheIfUnchanged(teacherId, calendar, missVersions.get(teacherId)));
+            resolved.putAll(loaded);
+        }
+
+        List<String> free = new ArrayList<>();
+        for (String teacherId : teacherIds) {
+            TeacherCalendar calendar = resolved.get(teacherId);
+            if (calendar != null && calendar.isFree(classDates, durationMinutes)) {
+                free.add(teacherId);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * 강사 캘린더 캐시 항목을 제거합니다.
+     */
+    public void evict(String teacherId) {
+        versions.compute(teacherId, (id, version) -> {
+            calendars.remove(id);
+            return version == null ? 1L : version + 1;
+        });
+    }
+
+    /**
+     * 수업·휴무 변경 커밋 후 해당 강사 캐시 무효화. 트랜잭션 밖의 변경은 즉시 처리.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeacherCalendarChanged(TeacherCalendarChangedEvent event) {
+        evict(event.teacherId());
+    }
+
+    /**
+     * 적재 시작 시점의 버전이 그대로일 때만 캐시에 등록합니다. 그 사이 무효화되었으면 이번 요청에서만 사용합니다.
+     */
+    private void cacheIfUnchanged(String teacherId, TeacherCalendar calendar, long loadedVersion) {
+        versions.compute(teacherId, (id, version) -> {
+            if ((version == null ? 0L : version) == loadedVersion) {
+                calendars.put(id, calendar);
+            } else {
+                log.debug("적재 중 무효화된 강사 캘린더는 캐시하지 않음: teacherId={}", id);
+            }
+            return version;
+        });
+    }
+
+    private Map<String, TeacherCalendar> load(List<String> teacherIds, OffsetDateTime rangeStart, OffsetDateTime rangeEnd) {
+        Map<String, List<BusyIntervalRow>> rowsByTeacher = new HashMap<>();
+        scheduleRepository.findBusyIntervalsByTeacherIds(teacherIds, rangeStart, rangeEnd)
+                .forEach(row -> rowsByTeacher.computeIfAbsent(row.getTeacherId(), k -> new ArrayList<>()).add(row));
+        teacherTimeOffRepository.findBusyIntervalsByTeacherIds(teacherIds, rangeStart, rangeEnd)
+                .forEach(row -> rowsByTeacher.computeIfAbsent(row.getTeacherId(), k -> new ArrayList<>()).add(row));
+
+        Map<String, TeacherCalendar> loaded = teacherIds.stream()
+                .distinct()
+                .collect(Collectors.toMap(
+                        teacherId -> teacherId,
+                        teacherId -> TeacherCalendar.of(rangeStart, rangeEnd, rowsByTeacher.getOrDefault(teacherId, List.of()))
+                ));
+        log.debug("강사 캘린더 적재: teachers={}, range={}~{}", loaded.size(), rangeStart, rangeEnd);
+        return loaded;
+    }
+}
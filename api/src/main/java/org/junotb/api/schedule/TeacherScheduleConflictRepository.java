@@ -0,0 +1,97 @@
+package org.junotb.api.schedule;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 후보 강사 × 수업 일시 전체의 충돌 여부를 단일 SQL로 판정하는 저장소.
+ * 수업 일시 목록과 후보 강사 목록을 PostgreSQL 배열로 전달(unnest)하여
+ * schedule·teacherTimeOff와 집합 연산으로 비교하므로 후보 수와 무관하게 1회 왕복으로 끝납니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeacherScheduleConflictRepository {
+
+    /**
+     * - slot: 수업 구간 (epoch seconds 배열 2개를 unnest)
+     * - candidate: 후보 강사 (입력 순서를 ord로 보존)
+     * - 수업(SCHEDULED) 또는 휴무와 하나라도 겹치는 후보 제외, 입력 순서대로 반환
+     */
+    private static final String CONFLICT_FREE_TEACHERS_SQL = """
+        WITH slot AS (
+            SELECT to_timestamp(t.starts_at) AS starts_at, to_timestamp(t.ends_at) AS ends_at
+            FROM unnest(?::bigint[], ?::bigint[]) AS t(starts_at, ends_at)
+        ),
+        candidate AS (
+            SELECT c.teacher_id, c.ord
+            FROM unnest(?::varchar[]) WITH ORDINALITY AS c(teacher_id, ord)
+        )
+        SELECT c.teacher_id
+        FROM candidate c
+        WHERE NOT EXISTS (
+            SELECT 1
+            FROM slot sl
+            JOIN "schedule" s ON s."userId" = c.teacher_id
+            WHERE s."status" = 'SCHEDULED'
+              AND s."startsAt" < sl.ends_at
+              AND s."endsAt" > sl.starts_at
+        )
+        AND NOT EXISTS (
+            SELECT 1
+            FROM slot sl
+            JOIN "teacherTimeOff" t ON t."teacherId" = c.teacher_id
+            WHERE t."startDateTime" < sl.ends_at
+              AND t."endDateTime" > sl.starts_at
+        )
+        ORDER BY c.ord
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수업 일시 전체와 충돌하지 않는 강사 ID를 후보 순서대로 조회합니다.
+     *
+     * @param teacherIds      후보 강사 ID 목록 (우선순위 순)
+     * @param classDates      수업 시작 일시 목록 (UTC)
+     * @param durationMinutes 수업 시간(분)
+     * @return 충돌 없는 강사 ID 목록
+     */
+    public List<String> findConflictFreeTeacherIds(
+            List<String> teacherIds,
+            List<LocalDateTime> classDates,
+            int durationMinutes
+    ) {
+        if (teacherIds.isEmpty()) {
+            return List.of();
+        }
+
+        Long[] starts = new Long[classDates.size()];
+        Long[] ends = new Long[classDates.size()];
+        long durationSeconds = durationMinutes * 60L;
+        for (int i = 0; i < classDates.size(); i++) {
+            starts[i] = classDates.get(i).toEpochSecond(ZoneOffset.UTC);
+            ends[i] = starts[i] + durationSeconds;
+        }
+
+        return jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(CONFLICT_FREE_TEACHERS_SQL);
+                    Array startArray = con.createArrayOf("bigint", starts);
+                    Array endArray = con.createArrayOf("bigint", ends);
+                    Array teacherArray = con.createArrayOf("varchar", teacherIds.toArray(new String[0]));
+                    ps.setArray(1, startArray);
+                    ps.setArray(2, endArray);
+                    ps.setArray(3, teacherArray);
+                    return ps;
+                },
+                (rs, rowNum) -> rs.getString(1)
+        );
+    }
+}
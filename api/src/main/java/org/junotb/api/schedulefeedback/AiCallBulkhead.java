@@ -0,0 +1,92 @@
+package org.junotb.api.schedulefeedback;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 AI 호출(제공자별) 동시 실행 상한. 상한을 넘는 호출은 공정(FIFO) 세마포어에서 대기합니다.
+ * 메트릭 (tag provider):
+ * - ai.calls.waiting: 대기 중인 호출 수 (큐 깊이)
+ * - ai.calls.in_flight: 실행 중인 호출 수
+ * - ai.calls: 호출 지연 시간 (tag outcome=success|error)
+ * - ai.calls.rejected: 대기 시간 초과로 거절된 호출 수
+ */
+public class AiCallBulkhead {
+
+    @FunctionalInterface
+    public interface AiCall<T> {
+        T call() throws IOException;
+    }
+
+    private final String provider;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer successTimer;
+    private final Timer errorTimer;
+    private final Counter rejectedCounter;
+
+    public AiCallBulkhead(String provider, int maxConcurrentCalls, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.acquireTimeout = acquireTimeout;
+
+        Gauge.builder("ai.calls.waiting", waiting, AtomicInteger::get)
+            .tag("provider", provider)
+            .register(meterRegistry);
+        Gauge.builder("ai.calls.in_flight", inFlight, AtomicInteger::get)
+            .tag("provider", provider)
+            .register(meterRegistry);
+        this.successTimer = Timer.builder("ai.calls").tags("provider", provider, "outcome", "success").register(meterRegistry);
+        this.errorTimer = Timer.builder("ai.calls").tags("provider", provider, "outcome", "error").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ai.calls.rejected").tag("provider", provider).register(meterRegistry);
+    }
+
+    public <T> T execute(AiCall<T> call) throws IOException {
+        acquire();
+        inFlight.incrementAndGet();
+        long startedAt = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T result = call.call();
+            succeeded = true;
+            return result;
+        } finally {
+            (succeeded ? successTimer : errorTimer).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    private void acquire() throws IOException {
+        waiting.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                throw new IOException(provider + " 호출 대기 시간이 초과되었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(provider + " 호출 대기 중단", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public int waitingCalls() {
+        return waiting.get();
+    }
+
+    public int inFlightCalls() {
+        return inFlight.get();
+    }
+}
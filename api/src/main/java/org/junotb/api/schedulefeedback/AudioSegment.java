@@ -0,0 +1,27 @@
+package org.junotb.api.schedulefeedback;
+
+import java.nio.file.Path;
+
+/**
+ * STT 병렬 처리를 위한 오디오 구간 (밀리초).
+ * [offsetMillis, offsetMillis + durationMillis)를 잘라 인식하되, 결과 단어는 중간 시점이
+ * [ownedStartMillis, ownedEndMillis)에 속할 때만 채택합니다. 앞뒤 겹침 구간은 경계 단어 보존과 화자 매칭에 사용됩니다.
+ */
+public record AudioSegment(
+    int index,
+    Path path,
+    long offsetMillis,
+    long durationMillis,
+    long ownedStartMillis,
+    long ownedEndMillis
+) {
+
+    public boolean owns(RecognizedWord word) {
+        long midpoint = word.midpointMillis();
+        return midpoint >= ownedStartMillis && midpoint < ownedEndMillis;
+    }
+
+    public long endMillis() {
+        return offsetMillis + durationMillis;
+    }
+}
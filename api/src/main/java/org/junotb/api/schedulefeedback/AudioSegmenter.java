@@ -0,0 +1,105 @@
+package org.junotb.api.schedulefeedback;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * STT 병렬 처리를 위한 오디오 분할. 구간 길이(segment-seconds) 단위로 나누고 앞뒤로 overlap-seconds만큼 겹쳐 자릅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AudioSegmenter {
+
+    private static final int FLAC_STREAMINFO_END = 26;
+
+    private final FfmpegRunner ffmpegRunner;
+
+    @Value("${app.video.stt.segment-seconds:240}")
+    private long segmentSeconds;
+
+    @Value("${app.video.stt.overlap-seconds:2}")
+    private long overlapSeconds;
+
+    /**
+     * 구간 분할 설정 식별자 (구간 경계가 달라지면 인식 결과도 달라지므로 자막 캐시 키에 포함)
+     */
+    public String cacheKey() {
+        return "segment=%ds,overlap=%ds".formatted(segmentSeconds, overlapSeconds);
+    }
+
+    /**
+     * 전체 길이에 대한 구간 계획. 마지막 구간이 짧으면 앞 구간에 합칩니다.
+     */
+    public List<AudioSegment> plan(Path segmentDir, long totalMillis) {
+        long segmentMillis = segmentSeconds * 1000;
+        long overlapMillis = overlapSeconds * 1000;
+        int count = (int) Math.max(1, (totalMillis + segmentMillis / 2) / segmentMillis);
+        List<AudioSegment> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long ownedStart = i * segmentMillis;
+            long ownedEnd = i == count - 1 ? Long.MAX_VALUE : (i + 1) * segmentMillis;
+            long offset = Math.max(0, ownedStart - overlapMillis);
+            long end = i == count - 1 ? totalMillis : Math.min(totalMillis, ownedEnd + overlapMillis);
+            segments.add(new AudioSegment(
+                i,
+                segmentDir.resolve("segment-%04d.flac".formatted(i)),
+                offset,
+                end - offset,
+                ownedStart,
+                ownedEnd
+            ));
+        }
+        return segments;
+    }
+
+    /**
+     * 구간 오디오 추출 (FLAC, 16kHz mono)
+     */
+    public void cut(Path audioPath, AudioSegment segment) throws IOException {
+        ffmpegRunner.run(
+            "-ss", formatSeconds(segment.offsetMillis()),
+            "-t", formatSeconds(segment.durationMillis()),
+            "-i", audioPath.toAbsolutePath().toString(),
+            "-acodec", "flac", "-ar", "16000", "-ac", "1",
+            segment.path().toAbsolutePath().toString()
+        );
+    }
+
+    /**
+     * FLAC STREAMINFO 헤더(샘플레이트, 전체 샘플 수)로 재생 길이를 계산합니다.
+     */
+    public long durationMillis(Path flacPath) throws IOException {
+        byte[] header;
+        try (InputStream in = Files.newInputStream(flacPath)) {
+            header = in.readNBytes(FLAC_STREAMINFO_END);
+        }
+        if (header.length < FLAC_STREAMINFO_END
+            || header[0] != 'f' || header[1] != 'L' || header[2] != 'a' || header[3] != 'C') {
+            throw new IOException("FLAC 헤더를 읽을 수 없습니다: " + flacPath);
+        }
+        // STREAMINFO(34바이트)는 8번째 바이트부터: 샘플레이트 20bit, 채널 3bit, 비트 깊이 5bit, 전체 샘플 수 36bit
+        int sampleRate = ((header[18] & 0xFF) << 12) | ((header[19] & 0xFF) << 4) | ((header[20] & 0xFF) >>> 4);
+        long totalSamples = ((long) (header[21] & 0x0F) << 32)
+            | ((long) (header[22] & 0xFF) << 24)
+            | ((header[23] & 0xFF) << 16)
+            | ((header[24] & 0xFF) << 8)
+            | (header[25] & 0xFF);
+        if (sampleRate == 0 || totalSamples == 0) {
+            throw new IOException("FLAC 재생 길이를 알 수 없습니다: " + flacPath);
+        }
+        return totalSamples * 1000 / sampleRate;
+    }
+
+    private static String formatSeconds(long millis) {
+        return String.format(Locale.ROOT, "%d.%03d", millis / 1000, millis % 1000);
+    }
+}
@@ -0,0 +1,194 @@
+package org.junotb.api.schedulefeedback;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구간 분할 병렬 STT. 오디오를 겹치는 구간으로 잘라 제한된 워커 풀에서 동시에 인식하고,
+ * 완료된 구간부터 순서대로 화자 번호를 맞춰 VTT에 이어 붙입니다.
+ * - 구간 경계: 단어 중간 시점이 속한 구간의 결과만 채택하여 겹침 구간 중복 제거
+ * - 화자 번호: 구간마다 독립적으로 매겨지므로, 겹침 구간에서 같은 단어의 화자 번호를 비교해 이전 구간 번호로 변환
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ChunkedTranscriber {
+
+    private static final long WORD_MATCH_TOLERANCE_MILLIS = 500;
+
+    /** 구간 병합·VTT 출력 방식이 바뀌면 올려서 기존 자막 캐시를 무효화 */
+    static final String TRANSCRIPT_CACHE_VERSION = "v1";
+
+    private final AudioSegmenter audioSegmenter;
+    private final SpeechRecognizer speechRecognizer;
+
+    @Value("${app.video.stt.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.video.stt.queue-capacity:256}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startWorkers() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+            parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "stt-segment-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            // 큐가 가득 차면 호출 스레드(파이프라인 STT 워커)에서 직접 처리하여 자연스럽게 속도 조절
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    void stopWorkers() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 자막 캐시 키: 버전 접두사 + SHA-256(오디오 해시, 인식기 설정, 구간 분할 설정).
+     * 같은 오디오라도 인식기·언어·구간 설정이 다르면 다른 키가 됩니다.
+     */
+    public String transcriptCacheKey(String audioSha256) {
+        return TRANSCRIPT_CACHE_VERSION + ":" + ContentHash.sha256(audioSha256, speechRecognizer.cacheKey(), audioSegmenter.cacheKey());
+    }
+
+    /**
+     * 오디오를 VTT로 변환합니다. 구간 파일은 audioPath 옆 segments 디렉터리에 만들고 완료 후 삭제합니다.
+     */
+    public String transcribe(Path audioPath) throws IOException {
+        Path segmentDir = Files.createDirectories(audioPath.resolveSibling("segments"));
+        List<AudioSegment> segments = audioSegmenter.plan(segmentDir, audioSegmenter.durationMillis(audioPath));
+
+        List<Future<List<RecognizedWord>>> futures = new ArrayList<>(segments.size());
+        try {
+            for (AudioSegment segment : segments) {
+                futures.add(executor.submit(() -> recognizeSegment(audioPath, segment)));
+            }
+
+            StringWriter vtt = new StringWriter();
+            VttCueWriter writer = new VttCueWriter(vtt);
+            List<RecognizedWord> previous = List.of();
+            for (int i = 0; i < segments.size(); i++) {
+                AudioSegment segment = segments.get(i);
+                List<RecognizedWord> current = alignSpeakers(previous, await(futures.get(i)));
+                for (RecognizedWord word : current) {
+                    if (segment.owns(word)) {
+                        writer.append(word);
+                    }
+                }
+                previous = current;
+            }
+            writer.finish();
+            return vtt.toString();
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+            FileSystemUtils.deleteRecursively(segmentDir);
+        }
+    }
+
+    private List<RecognizedWord> recognizeSegment(Path audioPath, AudioSegment segment) throws IOException {
+        long startedAt = System.nanoTime();
+        audioSegmenter.cut(audioPath, segment);
+        try {
+            List<RecognizedWord> words = speechRecognizer.recognize(segment).stream()
+                .map(word -> word.shift(segment.offsetMillis()))
+                .toList();
+            log.debug("STT segment done. index={}, offsetMs={}, words={}, elapsedMs={}",
+                segment.index(), segment.offsetMillis(), words.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return words;
+        } finally {
+            Files.deleteIfExists(segment.path());
+        }
+    }
+
+    /**
+     * 겹침 구간에서 같은 단어(텍스트, 시작 시점 근접)의 화자 번호를 비교하여 현재 구간의 화자 번호를 이전 구간 기준으로 변환합니다.
+     * 겹치는 단어가 없으면 번호를 그대로 사용합니다.
+     */
+    static List<RecognizedWord> alignSpeakers(List<RecognizedWord> previous, List<RecognizedWord> current) {
+        if (previous.isEmpty() || current.isEmpty()) {
+            return current;
+        }
+        long previousEnd = previous.get(previous.size() - 1).endMillis();
+
+        Map<Integer, Map<Integer, Integer>> votes = new HashMap<>();
+        int p = 0;
+        for (RecognizedWord word : current) {
+            if (word.startMillis() > previousEnd) {
+                break;
+            }
+            while (p < previous.size() && previous.get(p).startMillis() < word.startMillis() - WORD_MATCH_TOLERANCE_MILLIS) {
+                p++;
+            }
+            for (int j = p; j < previous.size()
+                && previous.get(j).startMillis() <= word.startMillis() + WORD_MATCH_TOLERANCE_MILLIS; j++) {
+                RecognizedWord candidate = previous.get(j);
+                if (normalize(candidate.word()).equals(normalize(word.word()))) {
+                    votes.computeIfAbsent(word.speakerTag(), tag -> new HashMap<>())
+                        .merge(candidate.speakerTag(), 1, Integer::sum);
+                    break;
+                }
+            }
+        }
+        if (votes.isEmpty()) {
+            return current;
+        }
+
+        Map<Integer, Integer> mapping = new HashMap<>();
+        votes.forEach((tag, counts) -> counts.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .ifPresent(best -> mapping.put(tag, best.getKey())));
+
+        return current.stream()
+            .map(word -> word.withSpeakerTag(mapping.getOrDefault(word.speakerTag(), word.speakerTag())))
+            .toList();
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT).replaceAll("\\p{Punct}", "");
+    }
+
+    private static List<RecognizedWord> await(Future<List<RecognizedWord>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Speech-to-Text 중단", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Speech-to-Text 실패", cause != null ? cause : e);
+        }
+    }
+}
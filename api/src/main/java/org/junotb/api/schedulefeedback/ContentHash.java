@@ -0,0 +1,59 @@
+package org.junotb.api.schedulefeedback;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 처리 결과 캐시 키용 SHA-256 (hex).
+ */
+final class ContentHash {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte PART_SEPARATOR = 0;
+
+    private ContentHash() {
+    }
+
+    /**
+     * 파일 내용 해시. 고정 크기 direct 버퍼로 읽어 파일 크기와 무관하게 메모리 사용이 일정합니다.
+     */
+    static String sha256(Path path) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 여러 문자열 조합 해시. 구분자를 넣어 ("ab", "c")와 ("a", "bc")가 다른 키가 되도록 합니다.
+     */
+    static String sha256(String... parts) {
+        MessageDigest digest = newDigest();
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update(PART_SEPARATOR);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.junotb.api.schedulefeedback;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FFmpeg 프로세스 실행. 실패·타임아웃 시 IOException.
+ */
+@Component
+public class FfmpegRunner {
+
+    private static final long TIMEOUT_MINUTES = 30;
+
+    @Value("${app.video.ffmpeg-path:ffmpeg}")
+    private String ffmpegPath;
+
+    public void run(String... arguments) throws IOException {
+        List<String> command = new ArrayList<>(arguments.length + 5);
+        command.add(ffmpegPath);
+        // 출력 파이프가 가득 차 대기하지 않도록 오류 로그만 출력
+        command.addAll(List.of("-hide_banner", "-loglevel", "error"));
+        command.addAll(List.of(arguments));
+        command.add("-y");
+
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectErrorStream(true);
+        Process p = pb.start();
+        try {
+            if (!p.waitFor(TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                p.destroyForcibly();
+                throw new IOException("FFmpeg 타임아웃");
+            }
+            if (p.exitValue() != 0) {
+                String err = new String(p.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                throw new IOException("FFmpeg 실패: " + err);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            p.destroyForcibly();
+            throw new IOException("FFmpeg 중단", e);
+        }
+    }
+}
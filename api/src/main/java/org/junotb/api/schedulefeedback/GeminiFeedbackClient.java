@@ -0,0 +1,129 @@
+package org.junotb.api.schedulefeedback;
+
+import com.google.genai.Client;
+import com.google.genai.types.GenerateContentResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gemini 피드백 생성 클라이언트.
+ * - Client(HTTP 커넥션 풀)는 최초 호출 시 한 번 생성하여 재사용
+ * - 프롬프트 템플릿은 기동 시 한 번 읽어 VTT 삽입 위치 기준으로 앞/뒤를 나눠 보관
+ * - 동시 호출 수는 AiCallBulkhead로 제한 (provider=gemini)
+ */
+@Component
+@Slf4j
+public class GeminiFeedbackClient {
+
+    private static final String PROMPT_RESOURCE_PATH = "prompts/feedback.txt";
+    private static final String VTT_PLACEHOLDER = "{{vttContent}}";
+    static final String FEEDBACK_FALLBACK = "(피드백 생성 실패)";
+    private static final String DEFAULT_PROMPT = "다음 수업 자막을 분석하여 수업 피드백을 작성해주세요.\n\n" + VTT_PLACEHOLDER;
+
+    private final String apiKey;
+    private final String model;
+    private final AiCallBulkhead bulkhead;
+    private final String promptPrefix;
+    private final String promptSuffix;
+    private final String promptVersion;
+
+    private final ReentrantLock clientLock = new ReentrantLock();
+    private volatile Client client;
+
+    public GeminiFeedbackClient(
+        @Value("${app.gemini.api-key:${GOOGLE_GEMINI_API_KEY:}}") String apiKey,
+        @Value("${app.gemini.model:gemini-2.5-flash}") String model,
+        @Value("${app.gemini.max-concurrent-calls:4}") int maxConcurrentCalls,
+        @Value("${app.ai.acquire-timeout-seconds:600}") long acquireTimeoutSeconds,
+        MeterRegistry meterRegistry
+    ) {
+        this.apiKey = apiKey;
+        this.model = model;
+        this.bulkhead = new AiCallBulkhead("gemini", maxConcurrentCalls, Duration.ofSeconds(acquireTimeoutSeconds), meterRegistry);
+
+        String template = loadPromptTemplate();
+        this.promptVersion = ContentHash.sha256(template);
+        int placeholder = template.indexOf(VTT_PLACEHOLDER);
+        if (placeholder < 0) {
+            log.warn("프롬프트에 {}가 없어 자막을 끝에 덧붙입니다: {}", VTT_PLACEHOLDER, PROMPT_RESOURCE_PATH);
+            this.promptPrefix = template + "\n\n";
+            this.promptSuffix = "";
+        } else {
+            this.promptPrefix = template.substring(0, placeholder);
+            this.promptSuffix = template.substring(placeholder + VTT_PLACEHOLDER.length());
+        }
+    }
+
+    /**
+     * VTT 내용으로 Gemini 피드백 생성.
+     */
+    public String generateFeedback(String vttContent) throws IOException {
+        String prompt = renderPrompt(vttContent);
+        Client geminiClient = client();
+        GenerateContentResponse response = bulkhead.execute(() -> geminiClient.models.generateContent(model, prompt, null));
+        String text = response.text();
+        return text != null && !text.isBlank() ? text : FEEDBACK_FALLBACK;
+    }
+
+    /**
+     * 피드백 캐시 키. 프롬프트 내용이나 모델이 바뀌면 다른 키가 됩니다.
+     */
+    public String feedbackCacheKey(String vttContent) {
+        return ContentHash.sha256(vttContent, promptVersion, model);
+    }
+
+    String renderPrompt(String vttContent) {
+        return new StringBuilder(promptPrefix.length() + vttContent.length() + promptSuffix.length())
+            .append(promptPrefix)
+            .append(vttContent)
+            .append(promptSuffix)
+            .toString();
+    }
+
+    @PreDestroy
+    void close() {
+        Client current = client;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private Client client() {
+        Client current = client;
+        if (current == null) {
+            if (apiKey == null || apiKey.isBlank()) {
+                throw new IllegalStateException("GOOGLE_GEMINI_API_KEY 또는 app.gemini.api-key가 필요합니다.");
+            }
+            // synchronized 대신 ReentrantLock: 가상 스레드 pinning 방지 (README 가상 스레드 모드 참고)
+            clientLock.lock();
+            try {
+                current = client;
+                if (current == null) {
+                    current = Client.builder().apiKey(apiKey).build();
+                    client = current;
+                }
+            } finally {
+                clientLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static String loadPromptTemplate() {
+        try {
+            return new ClassPathResource(PROMPT_RESOURCE_PATH).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("프롬프트 파일 로드 실패: {}", PROMPT_RESOURCE_PATH, e);
+            return DEFAULT_PROMPT;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.junotb.api.schedulefeedback;
+
+import com.google.cloud.speech.v1.LongRunningRecognizeResponse;
+import com.google.cloud.speech.v1.RecognitionAudio;
+import com.google.cloud.speech.v1.RecognitionConfig;
+import com.google.cloud.speech.v1.SpeakerDiarizationConfig;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.speech.v1.SpeechRecognitionResult;
+import com.google.cloud.speech.v1.WordInfo;
+import com.google.protobuf.ByteString;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GCP Speech-to-Text 구간 인식 (화자 분리 포함).
+ * SpeechClient는 공유하고, 동시 인식 요청 수는 AiCallBulkhead로 제한합니다 (provider=speech).
+ */
+@Component
+@ConditionalOnProperty(name = "app.video.stt.provider", havingValue = "google", matchIfMissing = true)
+public class GoogleSpeechRecognizer implements SpeechRecognizer {
+
+    private static final RecognitionConfig RECOGNITION_CONFIG = RecognitionConfig.newBuilder()
+        .setEncoding(RecognitionConfig.AudioEncoding.FLAC)
+        .setSampleRateHertz(16000)
+        .setLanguageCode("en-US")
+        .setEnableWordTimeOffsets(true)
+        .setDiarizationConfig(SpeakerDiarizationConfig.newBuilder()
+            .setEnableSpeakerDiarization(true)
+            .setMinSpeakerCount(1)
+            .setMaxSpeakerCount(2)
+            .build())
+        .build();
+
+    private static final String CACHE_KEY = "google:%s:%s:%d:speakers=%d-%d".formatted(
+        RECOGNITION_CONFIG.getLanguageCode(),
+        RECOGNITION_CONFIG.getEncoding(),
+        RECOGNITION_CONFIG.getSampleRateHertz(),
+        RECOGNITION_CONFIG.getDiarizationConfig().getMinSpeakerCount(),
+        RECOGNITION_CONFIG.getDiarizationConfig().getMaxSpeakerCount()
+    );
+
+    private final AiCallBulkhead bulkhead;
+    private final ReentrantLock clientLock = new ReentrantLock();
+    private volatile SpeechClient client;
+
+    public GoogleSpeechRecognizer(
+        @Value("${app.video.stt.max-concurrent-calls:8}") int maxConcurrentCalls,
+        @Value("${app.ai.acquire-timeout-seconds:600}") long acquireTimeoutSeconds,
+        MeterRegistry meterRegistry
+    ) {
+        this.bulkhead = new AiCallBulkhead("speech", maxConcurrentCalls, Duration.ofSeconds(acquireTimeoutSeconds), meterRegistry);
+    }
+
+    @Override
+    public List<RecognizedWord> recognize(AudioSegment segment) throws IOException {
+        RecognitionAudio audio;
+        try (InputStream in = Files.newInputStream(segment.path())) {
+            audio = RecognitionAudio.newBuilder()
+                .setContent(ByteString.readFrom(in))
+                .build();
+        }
+
+        SpeechClient speechClient = speechClient();
+        LongRunningRecognizeResponse response = bulkhead.execute(() -> awaitRecognition(speechClient, audio));
+        List<SpeechRecognitionResult> results = response.getResultsList();
+        if (results.isEmpty()) {
+            return List.of();
+        }
+
+        // 화자 분리 사용 시 마지막 결과에 구간 전체 단어와 speakerTag가 담김
+        return results.get(results.size() - 1).getAlternatives(0).getWordsList().stream()
+            .map(GoogleSpeechRecognizer::toRecognizedWord)
+            .toList();
+    }
+
+    @Override
+    public String cacheKey() {
+        return CACHE_KEY;
+    }
+
+    @PreDestroy
+    void close() {
+        SpeechClient current = client;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private static LongRunningRecognizeResponse awaitRecognition(SpeechClient speechClient, RecognitionAudio audio) throws IOException {
+        try {
+            return speechClient.longRunningRecognizeAsync(RECOGNITION_CONFIG, audio).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Speech-to-Text 중단", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Speech-to-Text 실패", cause != null ? cause : e);
+        }
+    }
+
+    /**
+     * gRPC 채널을 재사용하도록 SpeechClient는 최초 호출 시 한 번 생성합니다 (스레드 안전).
+     */
+    private SpeechClient speechClient() throws IOException {
+        SpeechClient current = client;
+        if (current == null) {
+            clientLock.lock();
+            try {
+                current = client;
+                if (current == null) {
+                    current = SpeechClient.create();
+                    client = current;
+                }
+            } finally {
+                clientLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static RecognizedWord toRecognizedWord(WordInfo word) {
+        return new RecognizedWord(
+            word.getWord(),
+            word.getSpeakerTag(),
+            toMillis(word.getStartTime()),
+            toMillis(word.getEndTime())
+        );
+    }
+
+    private static long toMillis(com.google.protobuf.Duration d) {
+        return d.getSeconds() * 1000 + d.getNanos() / 1_000_000;
+    }
+}
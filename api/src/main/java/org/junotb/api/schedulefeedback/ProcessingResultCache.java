@@ -0,0 +1,93 @@
+package org.junotb.api.schedulefeedback;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비디오 처리 결과 캐시 (Redis, 내용 주소 기반).
+ * - 자막: 버전 + SHA-256(추출 오디오 해시, 인식기 설정, 구간 분할 설정) → VTT (ChunkedTranscriber.transcriptCacheKey)
+ * - 피드백: SHA-256(VTT, 프롬프트 버전, 모델) → 피드백
+ * 각 맵은 최대 항목 수를 넘으면 LRU로 제거되며 항목별 TTL이 있습니다.
+ * 캐시는 최적화일 뿐이므로 Redis 오류는 경고 로그 후 캐시 미스로 처리합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProcessingResultCache {
+
+    private static final String TRANSCRIPT_CACHE_KEY = "video:cache:transcript";
+    private static final String FEEDBACK_CACHE_KEY = "video:cache:feedback";
+
+    private final RedissonClient redissonClient;
+
+    @Value("${app.video.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.video.cache.max-transcripts:1000}")
+    private int maxTranscripts;
+
+    @Value("${app.video.cache.max-feedbacks:5000}")
+    private int maxFeedbacks;
+
+    @Value("${app.video.cache.ttl-days:30}")
+    private long ttlDays;
+
+    /** 최대 크기(LRU) 설정은 맵별로 한 번만 */
+    private volatile boolean boundsConfigured;
+
+    public Optional<String> findTranscript(String transcriptKey) {
+        return get(TRANSCRIPT_CACHE_KEY, transcriptKey);
+    }
+
+    public void putTranscript(String transcriptKey, String vttContent) {
+        put(TRANSCRIPT_CACHE_KEY, transcriptKey, vttContent);
+    }
+
+    public Optional<String> findFeedback(String feedbackKey) {
+        return get(FEEDBACK_CACHE_KEY, feedbackKey);
+    }
+
+    public void putFeedback(String feedbackKey, String feedbackContent) {
+        put(FEEDBACK_CACHE_KEY, feedbackKey, feedbackContent);
+    }
+
+    private Optional<String> get(String cacheKey, String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(cache(cacheKey).get(key));
+        } catch (RuntimeException e) {
+            log.warn("Processing result cache read failed. cache={}, key={}", cacheKey, key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void put(String cacheKey, String key, String value) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            cache(cacheKey).fastPut(key, value, ttlDays, TimeUnit.DAYS);
+        } catch (RuntimeException e) {
+            log.warn("Processing result cache write failed. cache={}, key={}", cacheKey, key, e);
+        }
+    }
+
+    private RMapCache<String, String> cache(String cacheKey) {
+        if (!boundsConfigured) {
+            redissonClient.<String, String>getMapCache(TRANSCRIPT_CACHE_KEY, StringCodec.INSTANCE).setMaxSize(maxTranscripts);
+            redissonClient.<String, String>getMapCache(FEEDBACK_CACHE_KEY, StringCodec.INSTANCE).setMaxSize(maxFeedbacks);
+            boundsConfigured = true;
+        }
+        return redissonClient.getMapCache(cacheKey, StringCodec.INSTANCE);
+    }
+}
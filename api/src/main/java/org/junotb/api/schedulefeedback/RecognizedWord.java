@@ -0,0 +1,24 @@
+package org.junotb.api.schedulefeedback;
+
+/**
+ * 음성 인식 단어. 시간은 원본 오디오 기준 밀리초이며, speakerTag는 화자 분리(diarization) 결과입니다.
+ */
+public record RecognizedWord(
+    String word,
+    int speakerTag,
+    long startMillis,
+    long endMillis
+) {
+
+    public long midpointMillis() {
+        return (startMillis + endMillis) / 2;
+    }
+
+    public RecognizedWord shift(long offsetMillis) {
+        return new RecognizedWord(word, speakerTag, startMillis + offsetMillis, endMillis + offsetMillis);
+    }
+
+    public RecognizedWord withSpeakerTag(int speakerTag) {
+        return new RecognizedWord(word, speakerTag, startMillis, endMillis);
+    }
+}
@@ -9,6 +9,7 @@ import java.time.OffsetDateTime;
 /**
  * 수업 녹화본의 VTT 자막 및 AI 피드백.
  * Schedule 1:1. 비디오 업로드 후 STT로 vttContent 저장, Gemini로 feedbackContent 생성.
+ * feedbackStatus가 비디오 처리 파이프라인의 단계별 작업 상태를 겸합니다.
  */
 @Entity
 @Table(
@@ -41,6 +42,14 @@ public class ScheduleFeedback {
     @Column(name = "\"feedbackStatus\"", nullable = false)
     private ScheduleFeedbackStatus feedbackStatus;
 
+    /** 파이프라인 단계를 실행 중인 노드 (작업 파일 위치) */
+    @Column(name = "\"workerId\"")
+    private String workerId;
+
+    /** workerId의 작업 점유 만료 시각. 지나면 다른 노드가 작업을 가져갈 수 있음 */
+    @Column(name = "\"leaseExpiresAt\"")
+    private OffsetDateTime leaseExpiresAt;
+
     @Column(name = "\"createdAt\"", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
@@ -55,6 +64,16 @@ public class ScheduleFeedback {
             .build();
     }
 
+    /**
+     * 영상 업로드 시작 시 파이프라인 작업으로 생성 (UPLOADED: 단일 업로드 완료, UPLOADING: 분할 업로드 시작)
+     */
+    public static ScheduleFeedback createUploaded(Schedule schedule, ScheduleFeedbackStatus status) {
+        return ScheduleFeedback.builder()
+            .schedule(schedule)
+            .feedbackStatus(status)
+            .build();
+    }
+
     public static ScheduleFeedback create(Schedule schedule, String vttContent) {
         return ScheduleFeedback.builder()
             .schedule(schedule)
@@ -63,6 +82,17 @@ public class ScheduleFeedback {
             .build();
     }
 
+    /**
+     * 실패했거나 중단된 작업을 재업로드로 다시 시작
+     */
+    public void restartUpload(ScheduleFeedbackStatus status) {
+        this.vttContent = null;
+        this.feedbackContent = null;
+        this.feedbackStatus = status;
+        this.workerId = null;
+        this.leaseExpiresAt = null;
+    }
+
     @PrePersist
     void onCreate() {
         var now = OffsetDateTime.now();
@@ -4,7 +4,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleFeedbackRepository extends JpaRepository<ScheduleFeedback, Long> {
@@ -14,4 +18,89 @@ public interface ScheduleFeedbackRepository extends JpaRepository<ScheduleFeedba
     @Modifying
     @Query("DELETE FROM ScheduleFeedback sf WHERE sf.schedule.user.id = :userId")
     int deleteBySchedule_UserId(@Param("userId") String userId);
+
+    /**
+     * 이 노드가 이어서 처리할 수 있는 미완료 작업: 점유자가 없거나, 이 노드가 점유했거나, 점유가 만료된 작업
+     */
+    @Query("""
+        SELECT sf FROM ScheduleFeedback sf
+        WHERE sf.feedbackStatus IN :statuses
+          AND (sf.workerId IS NULL OR sf.workerId = :workerId OR sf.leaseExpiresAt < :now)
+        """)
+    List<ScheduleFeedback> findRecoverable(
+        @Param("statuses") Collection<ScheduleFeedbackStatus> statuses,
+        @Param("workerId") String workerId,
+        @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * 작업 점유 (조건부). 상태가 status이고 다른 노드의 점유가 유효하지 않을 때만 workerId로 점유합니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE ScheduleFeedback sf
+        SET sf.workerId = :workerId, sf.leaseExpiresAt = :leaseExpiresAt
+        WHERE sf.id = :id AND sf.feedbackStatus = :status
+          AND (sf.workerId IS NULL OR sf.workerId = :workerId OR sf.leaseExpiresAt < :now)
+        """)
+    int claim(
+        @Param("id") Long id,
+        @Param("status") ScheduleFeedbackStatus status,
+        @Param("workerId") String workerId,
+        @Param("now") OffsetDateTime now,
+        @Param("leaseExpiresAt") OffsetDateTime leaseExpiresAt
+    );
+
+    /**
+     * 처리 중인 작업의 점유 연장 (heartbeat)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScheduleFeedback sf SET sf.leaseExpiresAt = :leaseExpiresAt WHERE sf.workerId = :workerId AND sf.id IN :ids")
+    int renewLeases(
+        @Param("workerId") String workerId,
+        @Param("ids") Collection<Long> ids,
+        @Param("leaseExpiresAt") OffsetDateTime leaseExpiresAt
+    );
+
+    /**
+     * 파이프라인 단계 전이 (조건부). 현재 상태가 from일 때만 to로 변경하여 중복 처리를 방지합니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScheduleFeedback sf SET sf.feedbackStatus = :to, sf.updatedAt = :now WHERE sf.id = :id AND sf.feedbackStatus = :from")
+    int transition(
+        @Param("id") Long id,
+        @Param("from") ScheduleFeedbackStatus from,
+        @Param("to") ScheduleFeedbackStatus to,
+        @Param("now") OffsetDateTime now
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE ScheduleFeedback sf
+        SET sf.vttContent = :vttContent, sf.feedbackStatus = org.junotb.api.schedulefeedback.ScheduleFeedbackStatus.PENDING, sf.updatedAt = :now
+        WHERE sf.id = :id AND sf.feedbackStatus = org.junotb.api.schedulefeedback.ScheduleFeedbackStatus.AUDIO_EXTRACTED
+        """)
+    int completeTranscription(@Param("id") Long id, @Param("vttContent") String vttContent, @Param("now") OffsetDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE ScheduleFeedback sf
+        SET sf.feedbackContent = :feedbackContent, sf.feedbackStatus = org.junotb.api.schedulefeedback.ScheduleFeedbackStatus.COMPLETED, sf.updatedAt = :now
+        WHERE sf.id = :id AND sf.feedbackStatus = org.junotb.api.schedulefeedback.ScheduleFeedbackStatus.PROCESSING
+        """)
+    int completeFeedback(@Param("id") Long id, @Param("feedbackContent") String feedbackContent, @Param("now") OffsetDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE ScheduleFeedback sf
+        SET sf.feedbackStatus = org.junotb.api.schedulefeedback.ScheduleFeedbackStatus.FAILED, sf.updatedAt = :now
+        WHERE sf.id = :id AND sf.feedbackStatus <> org.junotb.api.schedulefeedback.ScheduleFeedbackStatus.COMPLETED
+        """)
+    int markFailed(@Param("id") Long id, @Param("now") OffsetDateTime now);
 }
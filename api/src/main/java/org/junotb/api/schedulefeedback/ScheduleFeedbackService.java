@@ -4,20 +4,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.junotb.api.common.exception.ResourceNotFoundException;
 import org.junotb.api.schedulefeedback.dto.ScheduleFeedbackResponse;
+import org.junotb.api.schedulefeedback.dto.VideoUploadProgressResponse;
 import org.junotb.api.schedulefeedback.dto.VideoUploadResponse;
 import org.junotb.api.registration.RegistrationRepository;
 import org.junotb.api.registration.RegistrationStatus;
 import org.junotb.api.schedule.Schedule;
 import org.junotb.api.schedule.ScheduleRepository;
 import org.junotb.api.schedule.ScheduleStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.UUID;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -28,13 +30,91 @@ public class ScheduleFeedbackService {
     private final ScheduleRepository scheduleRepository;
     private final RegistrationRepository registrationRepository;
     private final VideoProcessor videoProcessor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.video.upload.max-bytes:2147483648}")
+    private long maxUploadBytes;
 
     /**
      * 비디오 업로드 수락. 강사 전용, ATTENDED 수업만.
-     * VTT 추출 성공 시에만 ScheduleFeedback 저장. 실패 시 DB 미저장, 예외 발생.
+     * 짧은 트랜잭션으로 UPLOADED 작업만 기록하고, 파일 저장 후 파이프라인에 투입합니다.
+     * 오디오 추출·STT·피드백 생성은 VideoProcessor가 백그라운드에서 처리합니다. 실패한 작업은 재업로드 가능.
      */
-    @Transactional
     public VideoUploadResponse uploadVideo(Long scheduleId, String teacherId, MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("비디오 파일이 비어 있습니다.");
+        }
+        if (!videoProcessor.isEnabled()) {
+            throw new IllegalStateException("비디오 프로세서가 비활성화되어 있습니다.");
+        }
+
+        Long feedbackId = transactionTemplate.execute(status ->
+            acceptUpload(scheduleId, teacherId, ScheduleFeedbackStatus.UPLOADED));
+
+        try {
+            videoProcessor.storeUpload(feedbackId, file);
+        } catch (IOException | RuntimeException e) {
+            videoProcessor.markFailed(feedbackId);
+            throw e;
+        }
+        videoProcessor.submit(feedbackId, ScheduleFeedbackStatus.UPLOADED);
+
+        return new VideoUploadResponse(feedbackId, ScheduleFeedbackStatus.UPLOADED.toPublic().name());
+    }
+
+    /**
+     * 분할(재개 가능) 업로드 시작. UPLOADING 작업을 기록하고 빈 part 파일을 준비합니다.
+     * 진행 중이던 분할 업로드가 있으면 처음부터 다시 시작합니다.
+     */
+    public VideoUploadProgressResponse startVideoUpload(Long scheduleId, String teacherId, String fileName, long totalBytes) throws IOException {
+        if (totalBytes > maxUploadBytes) {
+            throw new IllegalArgumentException("비디오 파일은 최대 " + maxUploadBytes + " 바이트까지 업로드할 수 있습니다.");
+        }
+        if (!videoProcessor.isEnabled()) {
+            throw new IllegalStateException("비디오 프로세서가 비활성화되어 있습니다.");
+        }
+
+        Long feedbackId = transactionTemplate.execute(status ->
+            acceptUpload(scheduleId, teacherId, ScheduleFeedbackStatus.UPLOADING));
+
+        try {
+            return VideoUploadProgressResponse.of(feedbackId, videoProcessor.startUpload(feedbackId, fileName, totalBytes));
+        } catch (IOException | RuntimeException e) {
+            videoProcessor.markFailed(feedbackId);
+            throw e;
+        }
+    }
+
+    /**
+     * 분할 업로드 진행 상태 조회 (재개 위치 확인용)
+     */
+    public VideoUploadProgressResponse getVideoUploadProgress(Long scheduleId, String teacherId) throws IOException {
+        Long feedbackId = findUploadingFeedbackId(scheduleId, teacherId);
+        return VideoUploadProgressResponse.of(feedbackId, videoProcessor.getUploadProgress(feedbackId));
+    }
+
+    /**
+     * 분할 업로드 청크 수신. 요청 본문 스트림을 그대로 파일에 기록하며, 마지막 청크 수신 시 파이프라인에 투입합니다.
+     */
+    public VideoUploadProgressResponse appendVideoChunk(
+        Long scheduleId,
+        String teacherId,
+        long offset,
+        InputStream body,
+        long length
+    ) throws IOException {
+        Long feedbackId = findUploadingFeedbackId(scheduleId, teacherId);
+        VideoUploadProgress progress = videoProcessor.appendChunk(feedbackId, offset, body, length);
+
+        // 재전송된 마지막 청크 등으로 이미 상태가 바뀐 작업은 다시 투입하지 않음
+        if (progress.isComplete() && scheduleFeedbackRepository.transition(
+                feedbackId, ScheduleFeedbackStatus.UPLOADING, ScheduleFeedbackStatus.UPLOADED, OffsetDateTime.now()) == 1) {
+            videoProcessor.submit(feedbackId, ScheduleFeedbackStatus.UPLOADED);
+        }
+        return VideoUploadProgressResponse.of(feedbackId, progress);
+    }
+
+    private Long acceptUpload(Long scheduleId, String teacherId, ScheduleFeedbackStatus initialStatus) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
             .orElseThrow(() -> new ResourceNotFoundException("Schedule", scheduleId.toString()));
 
@@ -44,32 +124,34 @@ public class ScheduleFeedbackService {
         if (schedule.getStatus() != ScheduleStatus.ATTENDED) {
             throw new IllegalStateException("수업 종료(출석) 처리된 수업만 영상을 업로드할 수 있습니다.");
         }
-        if (scheduleFeedbackRepository.findByScheduleId(scheduleId).isPresent()) {
-            throw new IllegalStateException("이미 피드백이 등록된 수업입니다.");
-        }
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("비디오 파일이 비어 있습니다.");
-        }
-
-        Path tempFile = Files.createTempFile("lesson-video-", "-" + UUID.randomUUID() + getExtension(file));
-        try {
-            file.transferTo(tempFile.toFile());
-
-            String vttContent = videoProcessor.extractVttSync(scheduleId, tempFile.toString());
 
-            ScheduleFeedback feedback = ScheduleFeedback.create(schedule, vttContent);
-            feedback = scheduleFeedbackRepository.save(feedback);
+        ScheduleFeedback feedback = scheduleFeedbackRepository.findByScheduleId(scheduleId)
+            .map(existing -> {
+                if (existing.getFeedbackStatus() != ScheduleFeedbackStatus.FAILED
+                    && existing.getFeedbackStatus() != ScheduleFeedbackStatus.UPLOADING) {
+                    throw new IllegalStateException("이미 피드백이 등록된 수업입니다.");
+                }
+                existing.restartUpload(initialStatus);
+                return existing;
+            })
+            .orElseGet(() -> ScheduleFeedback.createUploaded(schedule, initialStatus));
+
+        return scheduleFeedbackRepository.saveAndFlush(feedback).getId();
+    }
 
-            videoProcessor.processFeedbackAsync(feedback.getId());
+    private Long findUploadingFeedbackId(Long scheduleId, String teacherId) {
+        return transactionTemplate.execute(status -> {
+            ScheduleFeedback feedback = scheduleFeedbackRepository.findByScheduleId(scheduleId)
+                .orElseThrow(() -> new ResourceNotFoundException("ScheduleFeedback", scheduleId.toString()));
 
-            return new VideoUploadResponse(feedback.getId(), ScheduleFeedbackStatus.PENDING.name());
-        } finally {
-            try {
-                Files.deleteIfExists(tempFile);
-            } catch (IOException e) {
-                log.warn("Failed to delete temp file: {}", tempFile, e);
+            if (!feedback.getSchedule().getUser().getId().equals(teacherId)) {
+                throw new IllegalStateException("수업 영상 업로드는 해당 수업의 강사만 가능합니다.");
             }
-        }
+            if (feedback.getFeedbackStatus() != ScheduleFeedbackStatus.UPLOADING) {
+                throw new IllegalStateException("진행 중인 업로드가 없습니다. 업로드를 다시 시작해 주세요.");
+            }
+            return feedback.getId();
+        });
     }
 
     /**
@@ -92,10 +174,4 @@ public class ScheduleFeedbackService {
 
         return ScheduleFeedbackResponse.from(feedback);
     }
-
-    private static String getExtension(MultipartFile file) {
-        String name = file.getOriginalFilename();
-        if (name == null || !name.contains(".")) return "";
-        return name.substring(name.lastIndexOf('.'));
-    }
 }
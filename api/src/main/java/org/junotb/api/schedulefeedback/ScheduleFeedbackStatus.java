@@ -1,15 +1,32 @@
 package org.junotb.api.schedulefeedback;
 
 /**
- * 수업 피드백 처리 상태.
+ * 수업 피드백 처리 상태. 비디오 처리 파이프라인(업로드 → 오디오 추출 → STT → 피드백)의 단계별 진행 상태를 겸합니다.
+ * - UPLOADING: 분할(재개 가능) 업로드 진행 중
+ * - UPLOADED: 영상 저장 완료, 오디오 추출 대기
+ * - AUDIO_EXTRACTED: 오디오 추출 완료, STT 대기
  * - PENDING: vttContent만 저장됨, Gemini 미호출
  * - PROCESSING: Gemini 호출 중
  * - COMPLETED: feedbackContent 저장 완료
- * - FAILED: Gemini 처리 실패
+ * - FAILED: 처리 실패 (재업로드 가능)
  */
 public enum ScheduleFeedbackStatus {
+    UPLOADING,
+    UPLOADED,
+    AUDIO_EXTRACTED,
     PENDING,
     PROCESSING,
     COMPLETED,
-    FAILED
+    FAILED;
+
+    /**
+     * 클라이언트에 노출하는 상태. 미디어 처리 단계는 PROCESSING으로 묶어 기존 응답 계약을 유지합니다.
+     */
+    public ScheduleFeedbackStatus toPublic() {
+        return this == UPLOADING || this == UPLOADED || this == AUDIO_EXTRACTED ? PROCESSING : this;
+    }
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
 }
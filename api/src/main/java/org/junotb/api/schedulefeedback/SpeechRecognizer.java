@@ -0,0 +1,20 @@
+package org.junotb.api.schedulefeedback;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 오디오 구간 음성 인식. app.video.stt.provider로 구현체를 선택합니다 (google, stub).
+ */
+public interface SpeechRecognizer {
+
+    /**
+     * 구간 오디오를 인식하여 단어 목록을 반환합니다. 시간은 구간 시작(offsetSeconds) 기준입니다.
+     */
+    List<RecognizedWord> recognize(AudioSegment segment) throws IOException;
+
+    /**
+     * 인식 결과에 영향을 주는 설정(구현체, 언어, 인코딩, 화자 분리 등) 식별자. 자막 캐시 키에 포함됩니다.
+     */
+    String cacheKey();
+}
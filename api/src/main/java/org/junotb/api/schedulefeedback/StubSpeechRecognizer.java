@@ -0,0 +1,62 @@
+package org.junotb.api.schedulefeedback;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오프라인 개발·테스트용 음성 인식기 (app.video.stt.provider=stub).
+ * 원본 오디오 기준 매 초마다 "word{초}" 단어를 만들고, 화자는 15초마다 교대합니다.
+ * 실제 화자 분리처럼 구간마다 화자 번호가 달라질 수 있도록 홀수 구간은 번호를 뒤바꿔 반환합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.video.stt.provider", havingValue = "stub")
+public class StubSpeechRecognizer implements SpeechRecognizer {
+
+    private static final int SPEAKER_TURN_SECONDS = 15;
+    private static final long WORD_MILLIS = 500;
+
+    private final long latencyMillis;
+
+    public StubSpeechRecognizer(@Value("${app.video.stt.stub-latency-ms:0}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public List<RecognizedWord> recognize(AudioSegment segment) throws IOException {
+        simulateLatency();
+
+        List<RecognizedWord> words = new ArrayList<>();
+        long first = (segment.offsetMillis() + 999) / 1000;
+        for (long second = first; second * 1000 + WORD_MILLIS <= segment.endMillis(); second++) {
+            int speaker = (int) (second / SPEAKER_TURN_SECONDS % 2) + 1;
+            if (segment.index() % 2 == 1) {
+                speaker = 3 - speaker;
+            }
+            long start = second * 1000 - segment.offsetMillis();
+            words.add(new RecognizedWord("word" + second, speaker, start, start + WORD_MILLIS));
+        }
+        return words;
+    }
+
+    @Override
+    public String cacheKey() {
+        return "stub";
+    }
+
+    private void simulateLatency() throws IOException {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Speech-to-Text 중단", e);
+        }
+    }
+}
@@ -1,206 +1,71 @@
 package org.junotb.api.schedulefeedback;
 
-import com.google.cloud.speech.v1.LongRunningRecognizeResponse;
-import com.google.cloud.speech.v1.RecognitionAudio;
-import com.google.cloud.speech.v1.RecognitionConfig;
-import com.google.cloud.speech.v1.SpeakerDiarizationConfig;
-import com.google.cloud.speech.v1.SpeechClient;
-import com.google.cloud.speech.v1.SpeechRecognitionAlternative;
-import com.google.cloud.speech.v1.SpeechRecognitionResult;
-import com.google.cloud.speech.v1.WordInfo;
-import com.google.genai.Client;
-import com.google.genai.types.GenerateContentResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Optional;
 
 /**
- * 비디오 → VTT 추출, VTT → Gemini 피드백 생성.
- * FFmpeg, GCP Speech-to-Text, Gemini API 사용.
+ * 비디오 → 오디오 추출, 오디오 → VTT 변환, VTT → Gemini 피드백 생성.
+ * 각 단계는 VideoProcessor 파이프라인이 단계별 워커에서 호출합니다.
+ * FFmpeg, GCP Speech-to-Text, Gemini API 사용. STT·Gemini 결과는 내용 해시 기준으로 캐시(ProcessingResultCache).
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class VideoProcessService {
 
-    @Value("${app.video.ffmpeg-path:ffmpeg}")
-    private String ffmpegPath;
-
-    @Value("${app.gemini.api-key:${GOOGLE_GEMINI_API_KEY:}}")
-    private String geminiApiKey;
-
-    @Value("${app.gemini.model:gemini-2.5-flash}")
-    private String geminiModel;
-
-    private static final String PROMPT_RESOURCE_PATH = "prompts/feedback.txt";
+    private final FfmpegRunner ffmpegRunner;
+    private final ChunkedTranscriber chunkedTranscriber;
+    private final GeminiFeedbackClient geminiFeedbackClient;
+    private final ProcessingResultCache processingResultCache;
 
     /**
-     * 비디오에서 VTT 문자열 추출. FFmpeg → GCP Speech-to-Text.
+     * VTT 내용으로 Gemini 피드백 생성. 같은 VTT·프롬프트·모델이면 캐시된 피드백 사용.
      */
-    public String extractVtt(String videoFilePath) throws IOException {
-        Path videoPath = Path.of(videoFilePath);
-        Path tempDir = videoPath.getParent();
-        Path audioPath = tempDir.resolve("audio-" + System.currentTimeMillis() + ".flac");
+    public String generateFeedback(String vttContent) throws IOException {
+        String cacheKey = geminiFeedbackClient.feedbackCacheKey(vttContent);
+        Optional<String> cached = processingResultCache.findFeedback(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Feedback cache hit. key={}", cacheKey);
+            return cached.get();
+        }
 
-        try {
-            extractAudio(videoPath, audioPath);
-            return transcribeToVtt(audioPath);
-        } finally {
-            Files.deleteIfExists(audioPath);
+        String feedbackContent = geminiFeedbackClient.generateFeedback(vttContent);
+        if (!GeminiFeedbackClient.FEEDBACK_FALLBACK.equals(feedbackContent)) {
+            processingResultCache.putFeedback(cacheKey, feedbackContent);
         }
+        return feedbackContent;
     }
 
     /**
-     * VTT 내용으로 Gemini 피드백 생성.
+     * 비디오에서 STT용 오디오(FLAC, 16kHz mono) 추출. FFmpeg.
      */
-    public String generateFeedback(String vttContent) {
-        if (geminiApiKey == null || geminiApiKey.isBlank()) {
-            throw new IllegalStateException("GOOGLE_GEMINI_API_KEY 또는 app.gemini.api-key가 필요합니다.");
-        }
-
-        String promptTemplate = loadPromptTemplate();
-        String prompt = promptTemplate.replace("{{vttContent}}", vttContent);
-
-        Client client = Client.builder().apiKey(geminiApiKey).build();
-        GenerateContentResponse response = client.models.generateContent(geminiModel, prompt, null);
-        String text = response.text();
-        return text != null && !text.isBlank() ? text : "(피드백 생성 실패)";
-    }
-
-    private void extractAudio(Path videoPath, Path audioPath) throws IOException {
-        ProcessBuilder pb = new ProcessBuilder(
-            ffmpegPath,
+    public void extractAudio(Path videoPath, Path audioPath) throws IOException {
+        ffmpegRunner.run(
             "-i", videoPath.toAbsolutePath().toString(),
             "-vn", "-acodec", "flac", "-ar", "16000", "-ac", "1",
-            audioPath.toAbsolutePath().toString(),
-            "-y"
+            audioPath.toAbsolutePath().toString()
         );
-        pb.redirectErrorStream(true);
-        Process p = pb.start();
-        try {
-            if (!p.waitFor(30, java.util.concurrent.TimeUnit.MINUTES)) {
-                p.destroyForcibly();
-                throw new IOException("FFmpeg 타임아웃");
-            }
-            if (p.exitValue() != 0) {
-                String err = new String(p.getInputStream().readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
-                throw new IOException("FFmpeg 실패: " + err);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            p.destroyForcibly();
-            throw new IOException("FFmpeg 중단", e);
-        }
     }
 
-    private String transcribeToVtt(Path audioPath) throws IOException {
-        byte[] audioBytes = Files.readAllBytes(audioPath);
-
-        SpeakerDiarizationConfig diarizationConfig = SpeakerDiarizationConfig.newBuilder()
-            .setEnableSpeakerDiarization(true)
-            .setMinSpeakerCount(1)
-            .setMaxSpeakerCount(2)
-            .build();
-
-        RecognitionConfig config = RecognitionConfig.newBuilder()
-            .setEncoding(RecognitionConfig.AudioEncoding.FLAC)
-            .setSampleRateHertz(16000)
-            .setLanguageCode("en-US")
-            .setEnableWordTimeOffsets(true)
-            .setDiarizationConfig(diarizationConfig)
-            .build();
-
-        RecognitionAudio audio = RecognitionAudio.newBuilder()
-            .setContent(com.google.protobuf.ByteString.copyFrom(audioBytes))
-            .build();
-
-        try (SpeechClient speechClient = createSpeechClient()) {
-            LongRunningRecognizeResponse response = speechClient
-                .longRunningRecognizeAsync(config, audio)
-                .get();
-            List<SpeechRecognitionResult> results = response.getResultsList();
-
-            if (results.isEmpty()) {
-                return "WEBVTT\n\n00:00:00.000 --> 00:00:00.001\n(음성 인식 결과 없음)";
-            }
-
-            SpeechRecognitionAlternative lastAlt = results.get(results.size() - 1).getAlternatives(0);
-            List<WordInfo> words = lastAlt.getWordsList();
-            if (words.isEmpty()) {
-                return "WEBVTT\n\n00:00:00.000 --> 00:00:00.001\n(음성 인식 결과 없음)";
-            }
-
-            return buildVttWithSpeakers(words);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Speech-to-Text 중단", e);
-        } catch (ExecutionException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof IOException io) {
-                throw io;
-            }
-            throw new IOException("Speech-to-Text 실패", cause != null ? cause : e);
-        }
-    }
-
-    private String buildVttWithSpeakers(List<WordInfo> words) {
-        StringBuilder vtt = new StringBuilder("WEBVTT\n\n");
-        int currentSpeaker = words.get(0).getSpeakerTag();
-        double segmentStart = toSeconds(words.get(0).getStartTime());
-        StringBuilder segmentWords = new StringBuilder().append(words.get(0).getWord());
-        double segmentEnd = toSeconds(words.get(0).getEndTime());
-
-        for (int i = 1; i < words.size(); i++) {
-            WordInfo word = words.get(i);
-            int speaker = word.getSpeakerTag();
-            if (speaker == currentSpeaker) {
-                segmentWords.append(" ").append(word.getWord());
-                segmentEnd = toSeconds(word.getEndTime());
-            } else {
-                vtt.append(formatVttTime(segmentStart)).append(" --> ").append(formatVttTime(segmentEnd))
-                    .append("\n[Speaker ").append(currentSpeaker).append("] ").append(segmentWords)
-                    .append("\n\n");
-                currentSpeaker = speaker;
-                segmentStart = toSeconds(word.getStartTime());
-                segmentEnd = toSeconds(word.getEndTime());
-                segmentWords = new StringBuilder().append(word.getWord());
-            }
+    /**
+     * 오디오를 VTT 문자열로 변환. 구간 분할 병렬 STT (ChunkedTranscriber).
+     * 같은 오디오(SHA-256)를 같은 인식기·구간 설정으로 이미 변환했다면 캐시된 VTT 사용.
+     */
+    public String transcribeToVtt(Path audioPath) throws IOException {
+        String cacheKey = chunkedTranscriber.transcriptCacheKey(ContentHash.sha256(audioPath));
+        Optional<String> cached = processingResultCache.findTranscript(cacheKey);
+        if (cached.isPresent()) {
+            log.info("Transcript cache hit. key={}", cacheKey);
+            return cached.get();
         }
-        vtt.append(formatVttTime(segmentStart)).append(" --> ").append(formatVttTime(segmentEnd))
-            .append("\n[Speaker ").append(currentSpeaker).append("] ").append(segmentWords)
-            .append("\n");
-        return vtt.toString().trim();
-    }
 
-    private static double toSeconds(com.google.protobuf.Duration d) {
-        return d.getSeconds() + d.getNanos() / 1_000_000_000.0;
-    }
-
-    private SpeechClient createSpeechClient() throws IOException {
-        return SpeechClient.create();
-    }
-
-    private static String formatVttTime(double seconds) {
-        int h = (int) (seconds / 3600);
-        int m = (int) ((seconds % 3600) / 60);
-        double s = seconds % 60;
-        return String.format("%02d:%02d:%06.3f", h, m, s).replace(',', '.');
-    }
-
-    private String loadPromptTemplate() {
-        String defaultPrompt = "다음 수업 자막을 분석하여 수업 피드백을 작성해주세요.\n\n{{vttContent}}";
-        try {
-            return new ClassPathResource(PROMPT_RESOURCE_PATH).getContentAsString(StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            log.warn("프롬프트 파일 로드 실패: {}", PROMPT_RESOURCE_PATH, e);
-            return defaultPrompt;
-        }
+        String vttContent = chunkedTranscriber.transcribe(audioPath);
+        processingResultCache.putTranscript(cacheKey, vttContent);
+        return vttContent;
     }
 }
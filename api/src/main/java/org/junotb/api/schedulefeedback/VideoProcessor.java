@@ -1,75 +1,537 @@
 package org.junotb.api.schedulefeedback;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 /**
- * 비디오 처리 트리거. VideoProcessService를 호출하여 VTT 추출 및 피드백 생성.
+ * 비디오 처리 파이프라인. 업로드 → 오디오 추출 → STT → 피드백 단계를 단계별 전용 워커 풀에서 실행합니다.
+ * - 단계 상태는 ScheduleFeedback.feedbackStatus에 저장되며, 각 단계 완료 시 짧은 UPDATE 한 번으로 다음 단계로 전이
+ * - FFmpeg·STT·Gemini 호출 중에는 트랜잭션/DB 커넥션을 잡지 않음
+ * - 워커 큐가 가득 차거나 서버가 재시작되어도 미완료 작업은 주기적 복구 스윕에서 다시 투입
+ * - 단계 투입 전 workerId·leaseExpiresAt 조건부 UPDATE로 작업을 점유하고 처리 중에는 점유를 연장하므로, 여러 노드가 같은 작업을 동시에 실행하지 않음
+ * 영상·오디오 파일은 app.video.storage-dir/{scheduleFeedbackId}/ 아래에 보관되므로 재시작 후에도 유지되는 경로여야 합니다.
+ * 이 경로는 노드 로컬이므로 파일이 필요한 단계(UPLOADED, AUDIO_EXTRACTED)는 파일이 있는 노드만 재개합니다.
+ * 분할 업로드(UPLOADING)는 같은 디렉터리의 upload.part에 이어 쓰며, 완료되면 영상 파일로 이동합니다.
+ * 일정 시간 청크가 오지 않은 분할 업로드는 주기적으로 FAILED 처리하고 part 파일을 삭제합니다.
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class VideoProcessor {
 
+    private static final String VIDEO_FILE_PREFIX = "video";
+    private static final String AUDIO_FILE_NAME = "audio.flac";
+    private static final String UPLOAD_PART_FILE_NAME = "upload.part";
+    private static final String UPLOAD_META_FILE_NAME = "upload.properties";
+    private static final String META_TOTAL_BYTES = "totalBytes";
+    private static final String META_EXTENSION = "extension";
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("\\.[A-Za-z0-9]{1,10}");
+    private static final Set<ScheduleFeedbackStatus> IN_PROGRESS_STATUSES = EnumSet.of(
+        ScheduleFeedbackStatus.UPLOADED,
+        ScheduleFeedbackStatus.AUDIO_EXTRACTED,
+        ScheduleFeedbackStatus.PENDING,
+        ScheduleFeedbackStatus.PROCESSING
+    );
+
     private final VideoProcessService videoProcessService;
     private final ScheduleFeedbackRepository scheduleFeedbackRepository;
 
     @Value("${app.video-processor.enabled:true}")
     private boolean enabled;
 
+    @Value("${app.video.storage-dir:${java.io.tmpdir}/lesson-videos}")
+    private Path storageDir;
+
+    @Value("${app.video.pipeline.audio-workers:2}")
+    private int audioWorkers;
+
+    @Value("${app.video.pipeline.stt-workers:2}")
+    private int sttWorkers;
+
+    @Value("${app.video.pipeline.feedback-workers:4}")
+    private int feedbackWorkers;
+
+    @Value("${app.video.pipeline.queue-capacity:100}")
+    private int queueCapacity;
+
+    /** 작업 점유자 식별자. 재시작 후 자신의 작업을 바로 재개하도록 노드마다 고정 (미설정 시 호스트명) */
+    @Value("${app.video.pipeline.worker-id:}")
+    private String workerId;
+
+    @Value("${app.video.pipeline.lease-seconds:180}")
+    private long leaseSeconds;
+
+    @Value("${app.video.upload.idle-ttl-seconds:86400}")
+    private long uploadIdleTtlSeconds;
+
+    private ThreadPoolExecutor audioExecutor;
+    private ThreadPoolExecutor sttExecutor;
+    private ThreadPoolExecutor feedbackExecutor;
+
+    /** 큐에 투입되었거나 실행 중인 작업 ID (중복 투입 방지) */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    /** 청크를 수신 중인 업로드 ID (같은 업로드에 대한 동시 쓰기 방지) */
+    private final Set<Long> receivingUploads = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void startWorkers() throws IOException {
+        Files.createDirectories(storageDir);
+        if (!StringUtils.hasText(workerId)) {
+            workerId = InetAddress.getLocalHost().getHostName();
+        }
+        audioExecutor = newStageExecutor("video-audio", audioWorkers);
+        sttExecutor = newStageExecutor("video-stt", sttWorkers);
+        feedbackExecutor = newStageExecutor("video-feedback", feedbackWorkers);
+    }
+
+    @PreDestroy
+    void stopWorkers() {
+        audioExecutor.shutdownNow();
+        sttExecutor.shutdownNow();
+        feedbackExecutor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 업로드된 영상을 작업 디렉터리에 저장합니다.
+     */
+    public void storeUpload(Long scheduleFeedbackId, MultipartFile file) throws IOException {
+        Path jobDir = jobDir(scheduleFeedbackId);
+        FileSystemUtils.deleteRecursively(jobDir);
+        Files.createDirectories(jobDir);
+        Path tempFile = Files.createTempFile(jobDir, "upload-", ".part");
+        try {
+            file.transferTo(tempFile);
+            Files.move(tempFile, jobDir.resolve(VIDEO_FILE_PREFIX + getExtension(file.getOriginalFilename())),
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 분할 업로드 시작. 기존 작업 파일을 지우고 빈 part 파일과 메타데이터(전체 크기, 확장자)를 기록합니다.
+     */
+    public VideoUploadProgress startUpload(Long scheduleFeedbackId, String fileName, long totalBytes) throws IOException {
+        Path jobDir = jobDir(scheduleFeedbackId);
+        FileSystemUtils.deleteRecursively(jobDir);
+        Files.createDirectories(jobDir);
+
+        Properties meta = new Properties();
+        meta.setProperty(META_TOTAL_BYTES, Long.toString(totalBytes));
+        meta.setProperty(META_EXTENSION, getExtension(fileName));
+        try (OutputStream out = Files.newOutputStream(jobDir.resolve(UPLOAD_META_FILE_NAME))) {
+            meta.store(out, null);
+        }
+        Files.createFile(jobDir.resolve(UPLOAD_PART_FILE_NAME));
+        return new VideoUploadProgress(0, totalBytes);
+    }
+
+    /**
+     * 분할 업로드 진행 상태 (part 파일 크기 = 수신 완료 바이트)
+     */
+    public VideoUploadProgress getUploadProgress(Long scheduleFeedbackId) throws IOException {
+        Path partPath = jobDir(scheduleFeedbackId).resolve(UPLOAD_PART_FILE_NAME);
+        if (!Files.exists(partPath)) {
+            throw new IllegalStateException("진행 중인 업로드가 없습니다. 업로드를 다시 시작해 주세요.");
+        }
+        return new VideoUploadProgress(Files.size(partPath), readUploadMeta(scheduleFeedbackId).totalBytes());
+    }
+
+    /**
+     * 요청 본문을 힙 버퍼링 없이 part 파일의 offset 위치에 바로 기록합니다 (FileChannel.transferFrom).
+     * 연결이 끊기면 기록된 바이트까지 유지되며, 클라이언트는 진행 상태의 uploadedBytes부터 재개합니다.
+     * 마지막 청크를 받으면 part 파일을 영상 파일로 이동합니다.
+     */
+    public VideoUploadProgress appendChunk(Long scheduleFeedbackId, long offset, InputStream body, long length) throws IOException {
+        if (!receivingUploads.add(scheduleFeedbackId)) {
+            throw new IllegalStateException("이미 수신 중인 청크가 있습니다. 완료 후 다시 시도해 주세요.");
+        }
+        try {
+            return writeChunk(scheduleFeedbackId, offset, body, length);
+        } finally {
+            receivingUploads.remove(scheduleFeedbackId);
+        }
+    }
+
+    private VideoUploadProgress writeChunk(Long scheduleFeedbackId, long offset, InputStream body, long length) throws IOException {
+        UploadMeta meta = readUploadMeta(scheduleFeedbackId);
+        Path jobDir = jobDir(scheduleFeedbackId);
+        Path partPath = jobDir.resolve(UPLOAD_PART_FILE_NAME);
+
+        long current = Files.size(partPath);
+        if (offset != current) {
+            throw new IllegalStateException("업로드 위치가 일치하지 않습니다. 현재 위치: " + current);
+        }
+        if (length < 0 || offset + length > meta.totalBytes()) {
+            throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 남은 크기: " + (meta.totalBytes() - offset));
+        }
+
+        long allocatedBefore = currentThreadAllocatedBytes();
+        long copied = 0;
+        try (FileChannel channel = FileChannel.open(partPath, StandardOpenOption.WRITE)) {
+            ReadableByteChannel source = Channels.newChannel(body);
+            while (copied < length) {
+                long transferred = channel.transferFrom(source, offset + copied, length - copied);
+                if (transferred <= 0) {
+                    break;
+                }
+                copied += transferred;
+            }
+        }
+        long uploadedBytes = offset + copied;
+        log.info("Video chunk stored. scheduleFeedbackId={}, bytesCopied={}, uploaded={}/{}, allocatedBytes={}, heapUsed={}",
+            scheduleFeedbackId, copied, uploadedBytes, meta.totalBytes(),
+            currentThreadAllocatedBytes() - allocatedBefore, heapUsedBytes());
+
+        if (copied < length) {
+            throw new IOException("업로드가 중단되었습니다. " + uploadedBytes + " 바이트부터 재개해 주세요.");
+        }
+        if (uploadedBytes == meta.totalBytes()) {
+            Files.move(partPath, jobDir.resolve(VIDEO_FILE_PREFIX + meta.extension()), StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(jobDir.resolve(UPLOAD_META_FILE_NAME));
+        }
+        return new VideoUploadProgress(uploadedBytes, meta.totalBytes());
+    }
+
+    /**
+     * 작업을 점유한 뒤 현재 단계에 맞는 워커에 투입합니다.
+     * 이미 처리 중이거나 다른 노드가 점유 중이면 건너뛰고, 큐가 가득 차면 복구 스윕에 맡깁니다.
+     */
+    public void submit(Long scheduleFeedbackId, ScheduleFeedbackStatus status) {
+        if (!enabled || status.isTerminal() || !inFlight.add(scheduleFeedbackId)) {
+            return;
+        }
+        if (!claim(scheduleFeedbackId, status)) {
+            inFlight.remove(scheduleFeedbackId);
+            log.debug("Video pipeline job claimed by another worker. scheduleFeedbackId={}, stage={}", scheduleFeedbackId, status);
+            return;
+        }
+        try {
+            executorFor(status).execute(() -> runStage(scheduleFeedbackId, status));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(scheduleFeedbackId);
+            log.warn("Video pipeline queue full, deferred to recovery. scheduleFeedbackId={}, stage={}", scheduleFeedbackId, status);
+        }
+    }
+
+    /**
+     * 작업 실패 처리 및 작업 파일 정리
+     */
+    public void markFailed(Long scheduleFeedbackId) {
+        try {
+            scheduleFeedbackRepository.markFailed(scheduleFeedbackId, OffsetDateTime.now());
+        } catch (Exception ex) {
+            log.warn("Failed to mark scheduleFeedback as FAILED. id={}", scheduleFeedbackId, ex);
+        }
+        deleteJobDir(scheduleFeedbackId);
+    }
+
+    /**
+     * 재시작 복구: 미완료 작업을 단계에 맞게 다시 투입합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recoverInProgressJobs();
+    }
+
     /**
-     * VTT만 동기 추출. 성공 시 VTT 문자열 반환. 실패 시 예외.
+     * 큐 포화로 밀려났거나 점유가 만료된 작업 재투입 (이 노드에서 처리 중인 작업은 inFlight로 건너뜀)
+     * 파일이 필요한 단계는 이 노드에 작업 파일이 있을 때만 재개하며, 이 노드가 점유했던 작업의 파일이 없으면 실패 처리합니다.
+     * 다른 노드가 점유했던 작업의 파일이 없으면 해당 노드에 파일이 있을 수 있으므로 건너뜁니다.
      */
-    public String extractVttSync(Long scheduleId, String videoFilePath) {
+    @Scheduled(fixedDelayString = "${app.video.pipeline.recovery-interval-ms:300000}", initialDelayString = "${app.video.pipeline.recovery-interval-ms:300000}")
+    public void recoverInProgressJobs() {
         if (!enabled) {
-            throw new IllegalStateException("비디오 프로세서가 비활성화되어 있습니다.");
+            return;
         }
         try {
-            return videoProcessService.extractVtt(videoFilePath);
+            for (ScheduleFeedback feedback : scheduleFeedbackRepository.findRecoverable(IN_PROGRESS_STATUSES, workerId, OffsetDateTime.now())) {
+                if (hasLocalFiles(feedback.getId(), feedback.getFeedbackStatus())) {
+                    submit(feedback.getId(), feedback.getFeedbackStatus());
+                } else if (workerId.equals(feedback.getWorkerId()) && !inFlight.contains(feedback.getId())) {
+                    failMissingFiles(feedback.getId(), feedback.getFeedbackStatus());
+                }
+            }
         } catch (Exception e) {
-            log.warn("VTT extraction failed. scheduleId={}", scheduleId, e);
-            throw new IllegalStateException("VTT 추출에 실패했습니다. 비디오 형식 및 음성을 확인해 주세요.");
+            log.error("Video pipeline recovery failed", e);
         }
     }
 
     /**
-     * 피드백 생성만 비동기 실행 (vttContent는 DB에 이미 존재해야 함).
+     * 방치된 분할 업로드 정리: part 파일이 idle-ttl 동안 갱신되지 않으면 UPLOADING 작업을 FAILED로 바꾸고 작업 디렉터리를 삭제합니다.
+     * part 파일은 업로드를 받은 노드에만 있으므로 각 노드가 자신의 저장 경로만 정리합니다. 실패한 작업은 재업로드 가능.
      */
-    @Async
-    public void processFeedbackAsync(Long scheduleFeedbackId) {
+    @Scheduled(fixedDelayString = "${app.video.upload.cleanup-interval-ms:600000}", initialDelayString = "${app.video.upload.cleanup-interval-ms:600000}")
+    public void cleanupStaleUploads() {
         if (!enabled) {
-            log.warn("Video processor disabled. scheduleFeedbackId={}", scheduleFeedbackId);
             return;
         }
-        try {
-            ScheduleFeedback feedback = scheduleFeedbackRepository.findById(scheduleFeedbackId).orElse(null);
-            if (feedback == null || feedback.getVttContent() == null || feedback.getVttContent().isBlank()) {
-                log.warn("vttContent not found for scheduleFeedbackId={}", scheduleFeedbackId);
-                markFailed(scheduleFeedbackId);
-                return;
+        Instant cutoff = Instant.now().minusSeconds(uploadIdleTtlSeconds);
+        try (DirectoryStream<Path> jobDirs = Files.newDirectoryStream(storageDir, Files::isDirectory)) {
+            for (Path jobDir : jobDirs) {
+                Path partPath = jobDir.resolve(UPLOAD_PART_FILE_NAME);
+                Long scheduleFeedbackId = parseJobId(jobDir);
+                if (scheduleFeedbackId == null
+                    || receivingUploads.contains(scheduleFeedbackId)
+                    || !Files.exists(partPath)
+                    || Files.getLastModifiedTime(partPath).toInstant().isAfter(cutoff)) {
+                    continue;
+                }
+                scheduleFeedbackRepository.transition(
+                    scheduleFeedbackId, ScheduleFeedbackStatus.UPLOADING, ScheduleFeedbackStatus.FAILED, OffsetDateTime.now());
+                deleteJobDir(scheduleFeedbackId);
+                log.info("Stale chunked upload removed. scheduleFeedbackId={}", scheduleFeedbackId);
             }
-            String feedbackContent = videoProcessService.generateFeedback(feedback.getVttContent());
-            feedback.setFeedbackContent(feedbackContent);
-            feedback.setFeedbackStatus(ScheduleFeedbackStatus.COMPLETED);
-            scheduleFeedbackRepository.save(feedback);
-            log.info("Feedback generated. scheduleFeedbackId={}", scheduleFeedbackId);
         } catch (Exception e) {
-            log.error("Feedback generation failed. scheduleFeedbackId={}", scheduleFeedbackId, e);
+            log.error("Stale upload cleanup failed", e);
+        }
+    }
+
+    /**
+     * 이 노드에서 처리 중인 작업의 점유 연장
+     */
+    @Scheduled(fixedDelayString = "${app.video.pipeline.lease-renew-interval-ms:60000}")
+    public void renewLeases() {
+        if (!enabled || inFlight.isEmpty()) {
+            return;
+        }
+        try {
+            scheduleFeedbackRepository.renewLeases(workerId, Set.copyOf(inFlight), OffsetDateTime.now().plusSeconds(leaseSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to renew video pipeline leases. workerId={}", workerId, e);
+        }
+    }
+
+    private void runStage(Long scheduleFeedbackId, ScheduleFeedbackStatus status) {
+        ScheduleFeedbackStatus next = null;
+        try {
+            next = switch (status) {
+                case UPLOADED -> extractAudio(scheduleFeedbackId);
+                case AUDIO_EXTRACTED -> transcribe(scheduleFeedbackId);
+                case PENDING, PROCESSING -> generateFeedback(scheduleFeedbackId, status);
+                default -> null;
+            };
+        } catch (Exception e) {
+            log.error("Video pipeline stage failed. scheduleFeedbackId={}, stage={}", scheduleFeedbackId, status, e);
+            markFailed(scheduleFeedbackId);
+        } finally {
+            inFlight.remove(scheduleFeedbackId);
+        }
+
+        if (next != null) {
+            submit(scheduleFeedbackId, next);
+        }
+    }
+
+    /**
+     * 1단계: 영상 → 오디오. 완료 후 영상 파일은 삭제
+     */
+    private ScheduleFeedbackStatus extractAudio(Long scheduleFeedbackId) throws IOException {
+        Path videoPath = findVideo(scheduleFeedbackId)
+            .orElseThrow(() -> new IOException("Uploaded video not found. scheduleFeedbackId=" + scheduleFeedbackId));
+        Path audioPath = jobDir(scheduleFeedbackId).resolve(AUDIO_FILE_NAME);
+
+        videoProcessService.extractAudio(videoPath, audioPath);
+        if (!transition(scheduleFeedbackId, ScheduleFeedbackStatus.UPLOADED, ScheduleFeedbackStatus.AUDIO_EXTRACTED)) {
+            return null;
+        }
+        Files.deleteIfExists(videoPath);
+        log.info("Audio extracted. scheduleFeedbackId={}", scheduleFeedbackId);
+        return ScheduleFeedbackStatus.AUDIO_EXTRACTED;
+    }
+
+    /**
+     * 2단계: 오디오 → VTT. 완료 후 작업 디렉터리 삭제
+     */
+    private ScheduleFeedbackStatus transcribe(Long scheduleFeedbackId) throws IOException {
+        Path audioPath = jobDir(scheduleFeedbackId).resolve(AUDIO_FILE_NAME);
+        if (!Files.exists(audioPath)) {
+            throw new IOException("Extracted audio not found. scheduleFeedbackId=" + scheduleFeedbackId);
+        }
+
+        String vttContent = videoProcessService.transcribeToVtt(audioPath);
+        if (scheduleFeedbackRepository.completeTranscription(scheduleFeedbackId, vttContent, OffsetDateTime.now()) == 0) {
+            return null;
+        }
+        deleteJobDir(scheduleFeedbackId);
+        log.info("Transcription completed. scheduleFeedbackId={}", scheduleFeedbackId);
+        return ScheduleFeedbackStatus.PENDING;
+    }
+
+    /**
+     * 3단계: VTT → Gemini 피드백. 재시작 시 PROCESSING 상태에서 다시 실행될 수 있음
+     */
+    private ScheduleFeedbackStatus generateFeedback(Long scheduleFeedbackId, ScheduleFeedbackStatus status) throws IOException {
+        if (status == ScheduleFeedbackStatus.PENDING
+            && !transition(scheduleFeedbackId, ScheduleFeedbackStatus.PENDING, ScheduleFeedbackStatus.PROCESSING)) {
+            return null;
+        }
+
+        ScheduleFeedback feedback = scheduleFeedbackRepository.findById(scheduleFeedbackId).orElse(null);
+        if (feedback == null || feedback.getVttContent() == null || feedback.getVttContent().isBlank()) {
+            log.warn("vttContent not found for scheduleFeedbackId={}", scheduleFeedbackId);
             markFailed(scheduleFeedbackId);
+            return null;
         }
+
+        String feedbackContent = videoProcessService.generateFeedback(feedback.getVttContent());
+        scheduleFeedbackRepository.completeFeedback(scheduleFeedbackId, feedbackContent, OffsetDateTime.now());
+        log.info("Feedback generated. scheduleFeedbackId={}", scheduleFeedbackId);
+        return null;
+    }
+
+    private boolean claim(Long scheduleFeedbackId, ScheduleFeedbackStatus status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return scheduleFeedbackRepository.claim(scheduleFeedbackId, status, workerId, now, now.plusSeconds(leaseSeconds)) > 0;
     }
 
-    private void markFailed(Long scheduleFeedbackId) {
+    /**
+     * 점유했던 작업의 파일 유실 처리. 스윕 도중 단계가 진행되었으면 상태 조건으로 건너뜁니다.
+     */
+    private void failMissingFiles(Long scheduleFeedbackId, ScheduleFeedbackStatus status) {
+        if (transition(scheduleFeedbackId, status, ScheduleFeedbackStatus.FAILED)) {
+            log.warn("Video job files missing on owning worker. scheduleFeedbackId={}, stage={}", scheduleFeedbackId, status);
+            deleteJobDir(scheduleFeedbackId);
+        }
+    }
+
+    private boolean hasLocalFiles(Long scheduleFeedbackId, ScheduleFeedbackStatus status) throws IOException {
+        return switch (status) {
+            case UPLOADED -> findVideo(scheduleFeedbackId).isPresent();
+            case AUDIO_EXTRACTED -> Files.exists(jobDir(scheduleFeedbackId).resolve(AUDIO_FILE_NAME));
+            default -> true;
+        };
+    }
+
+    private boolean transition(Long scheduleFeedbackId, ScheduleFeedbackStatus from, ScheduleFeedbackStatus to) {
+        return scheduleFeedbackRepository.transition(scheduleFeedbackId, from, to, OffsetDateTime.now()) > 0;
+    }
+
+    private ThreadPoolExecutor executorFor(ScheduleFeedbackStatus status) {
+        return switch (status) {
+            case UPLOADED -> audioExecutor;
+            case AUDIO_EXTRACTED -> sttExecutor;
+            default -> feedbackExecutor;
+        };
+    }
+
+    private ThreadPoolExecutor newStageExecutor(String name, int workers) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    private UploadMeta readUploadMeta(Long scheduleFeedbackId) throws IOException {
+        Path metaPath = jobDir(scheduleFeedbackId).resolve(UPLOAD_META_FILE_NAME);
+        if (!Files.exists(metaPath)) {
+            throw new IllegalStateException("진행 중인 업로드가 없습니다. 업로드를 다시 시작해 주세요.");
+        }
+        Properties meta = new Properties();
+        try (InputStream in = Files.newInputStream(metaPath)) {
+            meta.load(in);
+        }
+        return new UploadMeta(Long.parseLong(meta.getProperty(META_TOTAL_BYTES)), meta.getProperty(META_EXTENSION, ""));
+    }
+
+    private record UploadMeta(long totalBytes, String extension) {
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+            ? threadMXBean.getCurrentThreadAllocatedBytes()
+            : -1;
+    }
+
+    /** 현재 힙 사용량 (읽기만 하며 JVM 통계를 변경하지 않음) */
+    private static long heapUsedBytes() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static Long parseJobId(Path jobDir) {
         try {
-            scheduleFeedbackRepository.findById(scheduleFeedbackId).ifPresent(f -> {
-                f.setFeedbackStatus(ScheduleFeedbackStatus.FAILED);
-                scheduleFeedbackRepository.save(f);
-            });
-        } catch (Exception ex) {
-            log.warn("Failed to mark scheduleFeedback as FAILED. id={}", scheduleFeedbackId, ex);
+            return Long.valueOf(jobDir.getFileName().toString());
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
+
+    private Path jobDir(Long scheduleFeedbackId) {
+        return storageDir.resolve(scheduleFeedbackId.toString());
+    }
+
+    private Optional<Path> findVideo(Long scheduleFeedbackId) throws IOException {
+        Path jobDir = jobDir(scheduleFeedbackId);
+        if (!Files.isDirectory(jobDir)) {
+            return Optional.empty();
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(jobDir, VIDEO_FILE_PREFIX + "*")) {
+            for (Path path : stream) {
+                return Optional.of(path);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void deleteJobDir(Long scheduleFeedbackId) {
+        try {
+            FileSystemUtils.deleteRecursively(jobDir(scheduleFeedbackId));
+        } catch (IOException e) {
+            log.warn("Failed to delete video job directory. scheduleFeedbackId={}", scheduleFeedbackId, e);
+        }
+    }
+
+    private static String getExtension(String fileName) {
+        if (fileName == null || !fileName.contains(".")) return "";
+        String extension = fileName.substring(fileName.lastIndexOf('.'));
+        return SAFE_EXTENSION.matcher(extension).matches() ? extension : "";
+    }
 }
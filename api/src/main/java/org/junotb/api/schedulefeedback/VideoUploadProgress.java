@@ -0,0 +1,14 @@
+package org.junotb.api.schedulefeedback;
+
+/**
+ * 분할 업로드 진행 상태. uploadedBytes가 다음 청크의 시작 위치(Upload-Offset)입니다.
+ */
+public record VideoUploadProgress(
+    long uploadedBytes,
+    long totalBytes
+) {
+
+    public boolean isComplete() {
+        return uploadedBytes == totalBytes;
+    }
+}
@@ -0,0 +1,149 @@
+package org.junotb.api.schedulefeedback;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * 단어 단위로 VTT를 점진적으로 조립하여 Writer로 내보냅니다. 같은 화자의 연속 단어를 하나의 cue로 묶습니다.
+ * 구간별 인식 결과를 도착 순서대로 append하면 구간 경계를 넘어 이어지는 화자 발화도 하나의 cue가 됩니다.
+ * 단어당 할당을 없애기 위해 시간은 정수 밀리초에서 직접 문자로 변환하고, cue 본문은 재사용 char 버퍼에 모읍니다.
+ */
+public class VttCueWriter {
+
+    static final String EMPTY_VTT = "WEBVTT\n\n00:00:00.000 --> 00:00:00.001\n(음성 인식 결과 없음)";
+
+    private static final String HEADER = "WEBVTT";
+    private static final char[] CUE_SEPARATOR = "\n\n".toCharArray();
+    private static final char[] TIME_ARROW = " --> ".toCharArray();
+    private static final char[] SPEAKER_PREFIX = "\n[Speaker ".toCharArray();
+    private static final int MINUTES_TO_MILLIS_LENGTH = 10;
+
+    private final Writer out;
+    private final char[] timestamp = new char[MINUTES_TO_MILLIS_LENGTH];
+    private char[] cueText = new char[256];
+    private int cueLength;
+    private int cueSpeaker;
+    private long cueStartMillis;
+    private long cueEndMillis;
+    private boolean empty = true;
+
+    public VttCueWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void append(RecognizedWord word) throws IOException {
+        if (cueLength > 0 && word.speakerTag() == cueSpeaker) {
+            appendCueChar(' ');
+            appendCueText(word.word());
+            cueEndMillis = word.endMillis();
+            return;
+        }
+        flushCue();
+        cueSpeaker = word.speakerTag();
+        cueStartMillis = word.startMillis();
+        cueEndMillis = word.endMillis();
+        appendCueText(word.word());
+    }
+
+    /**
+     * 마지막 cue를 내보냅니다. 단어가 하나도 없었다면 "음성 인식 결과 없음" cue를 씁니다.
+     */
+    public void finish() throws IOException {
+        flushCue();
+        if (empty) {
+            out.write(EMPTY_VTT);
+        }
+        out.flush();
+    }
+
+    private void flushCue() throws IOException {
+        if (cueLength == 0) {
+            return;
+        }
+        if (empty) {
+            out.write(HEADER);
+            empty = false;
+        }
+        out.write(CUE_SEPARATOR);
+        writeTimestamp(cueStartMillis);
+        out.write(TIME_ARROW);
+        writeTimestamp(cueEndMillis);
+        out.write(SPEAKER_PREFIX);
+        writeInt(cueSpeaker);
+        out.write(']');
+        out.write(' ');
+        out.write(cueText, 0, cueLength);
+        cueLength = 0;
+    }
+
+    /**
+     * HH:MM:SS.mmm (시간이 99를 넘으면 자릿수 확장)
+     */
+    private void writeTimestamp(long millis) throws IOException {
+        long hours = millis / 3_600_000;
+        if (hours > 99) {
+            out.write(Long.toString(hours));
+        } else {
+            out.write((char) ('0' + hours / 10));
+            out.write((char) ('0' + hours % 10));
+        }
+        int minutes = (int) (millis / 60_000 % 60);
+        int seconds = (int) (millis / 1000 % 60);
+        int fraction = (int) (millis % 1000);
+        timestamp[0] = ':';
+        timestamp[1] = (char) ('0' + minutes / 10);
+        timestamp[2] = (char) ('0' + minutes % 10);
+        timestamp[3] = ':';
+        timestamp[4] = (char) ('0' + seconds / 10);
+        timestamp[5] = (char) ('0' + seconds % 10);
+        timestamp[6] = '.';
+        timestamp[7] = (char) ('0' + fraction / 100);
+        timestamp[8] = (char) ('0' + fraction / 10 % 10);
+        timestamp[9] = (char) ('0' + fraction % 10);
+        out.write(timestamp, 0, MINUTES_TO_MILLIS_LENGTH);
+    }
+
+    private void writeInt(int value) throws IOException {
+        if (value >= 0 && value < 10) {
+            out.write((char) ('0' + value));
+        } else {
+            out.write(Integer.toString(value));
+        }
+    }
+
+    private void appendCueText(String text) {
+        ensureCueCapacity(text.length());
+        text.getChars(0, text.length(), cueText, cueLength);
+        cueLength += text.length();
+    }
+
+    private void appendCueChar(char c) {
+        ensureCueCapacity(1);
+        cueText[cueLength++] = c;
+    }
+
+    private void ensureCueCapacity(int additional) {
+        if (cueLength + additional > cueText.length) {
+            cueText = Arrays.copyOf(cueText, Math.max(cueText.length * 2, cueLength + additional));
+        }
+    }
+
+    /**
+     * 단어 목록을 VTT 문자열로 변환합니다.
+     */
+    public static String toVtt(Iterable<RecognizedWord> words) {
+        StringWriter out = new StringWriter();
+        VttCueWriter writer = new VttCueWriter(out);
+        try {
+            for (RecognizedWord word : words) {
+                writer.append(word);
+            }
+            writer.finish();
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory VTT write failed", e);
+        }
+        return out.toString();
+    }
+}
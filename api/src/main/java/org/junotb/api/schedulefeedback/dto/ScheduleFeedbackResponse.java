@@ -28,7 +28,7 @@ public record ScheduleFeedbackResponse(
             s.getEndsAt(),
             sf.getVttContent(),
             sf.getFeedbackContent(),
-            sf.getFeedbackStatus(),
+            sf.getFeedbackStatus().toPublic(),
             sf.getCreatedAt(),
             sf.getUpdatedAt()
         );
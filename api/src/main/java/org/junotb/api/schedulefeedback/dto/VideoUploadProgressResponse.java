@@ -0,0 +1,23 @@
+package org.junotb.api.schedulefeedback.dto;
+
+import org.junotb.api.schedulefeedback.VideoUploadProgress;
+
+/**
+ * 분할 업로드 진행 상태 응답. uploadedBytes부터 다음 청크를 전송합니다.
+ */
+public record VideoUploadProgressResponse(
+    Long scheduleFeedbackId,
+    long uploadedBytes,
+    long totalBytes,
+    boolean completed
+) {
+
+    public static VideoUploadProgressResponse of(Long scheduleFeedbackId, VideoUploadProgress progress) {
+        return new VideoUploadProgressResponse(
+            scheduleFeedbackId,
+            progress.uploadedBytes(),
+            progress.totalBytes(),
+            progress.isComplete()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package org.junotb.api.schedulefeedback.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 분할(재개 가능) 비디오 업로드 시작 요청.
+ */
+public record VideoUploadSessionRequest(
+    @NotBlank(message = "파일명은 필수입니다.")
+    String fileName,
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 양수여야 합니다.")
+    Long totalBytes
+) {
+}
@@ -1,21 +1,25 @@
 package org.junotb.api.teacher;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import org.junotb.api.schedule.TeacherCalendarChangedEvent;
 import org.junotb.api.teacher.dto.TeacherCandidateResponse;
-import org.junotb.api.user.TeacherAvailabilityRepository;
 import org.junotb.api.user.User;
 import org.junotb.api.user.UserRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalTime;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,47 +28,52 @@ public class TeacherCandidateService {
 
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
 
-    /** 휴무 NOT EXISTS 검사용 기본 구간: 현재 ~ 12개월 후 */
-    private static final int DEFAULT_SCHEDULE_WINDOW_MONTHS = 12;
+    /** 같은 (요일, 시작 시간, 수업 분) 검색 결과 재사용. 다른 인스턴스의 변경·이름 변경은 TTL로 반영 */
+    private static final Duration CANDIDATE_CACHE_TTL = Duration.ofSeconds(30);
+    private static final int CANDIDATE_CACHE_MAX_SIZE = 1000;
 
-    private final TeacherAvailabilityRepository teacherAvailabilityRepository;
+    private final TeacherWeeklySlotIndex teacherWeeklySlotIndex;
     private final UserRepository userRepository;
 
-    @Transactional(readOnly = true)
+    private final Cache<CandidateQuery, List<TeacherCandidateResponse>> candidateCache = Caffeine.newBuilder()
+            .maximumSize(CANDIDATE_CACHE_MAX_SIZE)
+            .expireAfterWrite(CANDIDATE_CACHE_TTL)
+            .build();
+
+    /**
+     * 가용 강사 후보를 조회합니다. 후보 수와 무관하게 사용자 조회는 IN 쿼리 1회이며, 후보 순서를 유지합니다.
+     */
     public List<TeacherCandidateResponse> findCandidates(
             List<DayOfWeek> days,
             String startTimeStr,
             int durationMinutes
     ) {
         LocalTime startTime = LocalTime.parse(startTimeStr, TIME_FORMAT);
-        LocalTime endTime = startTime.plusMinutes(durationMinutes);
-        long dayCount = days.size();
-
-        OffsetDateTime scheduleStart = OffsetDateTime.now(ZoneOffset.UTC);
-        OffsetDateTime scheduleEnd = scheduleStart.plusMonths(DEFAULT_SCHEDULE_WINDOW_MONTHS);
+        return candidateCache.get(
+                new CandidateQuery(Set.copyOf(days), startTime, durationMinutes),
+                query -> loadCandidates(query.days(), query.startTime(), query.durationMinutes())
+        );
+    }
 
-        // Native Query 호환: DayOfWeek → String 변환
-        List<String> dayStrList = days.stream()
-                .map(DayOfWeek::name)
-                .toList();
-        Set<String> dayStrings = days.stream()
-                .map(DayOfWeek::name)
-                .collect(Collectors.toSet());
+    /**
+     * 수업·휴무·가용 시간 변경 커밋 후 캐시된 검색 결과 전체 무효화. 트랜잭션 밖의 변경은 즉시 처리.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeacherCalendarChanged(TeacherCalendarChangedEvent event) {
+        candidateCache.invalidateAll();
+    }
 
-        List<String> teacherIds = teacherAvailabilityRepository.findCandidates(
-                dayStrList,
-                startTime,
-                endTime,
-                dayCount,
-                scheduleStart,
-                scheduleEnd,
-                dayStrings
-        );
+    private List<TeacherCandidateResponse> loadCandidates(Set<DayOfWeek> days, LocalTime startTime, int durationMinutes) {
+        List<String> teacherIds = teacherWeeklySlotIndex.findCandidates(days, startTime, durationMinutes);
+        if (teacherIds.isEmpty()) {
+            return List.of();
+        }
 
+        Map<String, User> usersById = userRepository.findAllById(teacherIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
         return teacherIds.stream()
-                .map(userRepository::findById)
-                .filter(java.util.Optional::isPresent)
-                .map(java.util.Optional::get)
+                .map(usersById::get)
+                .filter(Objects::nonNull)
                 .map(this::toResponse)
                 .toList();
     }
@@ -83,4 +92,8 @@ public class TeacherCandidateService {
                 .map(DayOfWeek::valueOf)
                 .toList();
     }
+
+    /** 후보 검색 캐시 키 (요일 순서·중복 무관) */
+    private record CandidateQuery(Set<DayOfWeek> days, LocalTime startTime, int durationMinutes) {
+    }
 }
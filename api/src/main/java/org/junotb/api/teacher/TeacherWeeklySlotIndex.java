@@ -0,0 +1,143 @@
+package org.junotb.api.teacher;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junotb.api.schedule.TeacherCalendarChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 강사별 주간 빈 시간 비트맵(가용 시간 AND NOT 향후 12개월 예약 수업) 인메모리 인덱스.
+ * - 후보 강사 검색은 요청 비트맵과의 비트 연산만으로 처리 (DB 조회 없음)
+ * - 전체 적재는 가용 시간 1회 + 수업 1회, 총 2번의 쿼리. 다른 인스턴스의 변경·강사 상태 변경은 TTL로 반영
+ * - 수업·휴무·가용 시간 변경 시 커밋 후 {@link TeacherCalendarChangedEvent}로 해당 강사만 표시해 두었다가 다음 조회 때 일괄 재적재
+ * - 휴무는 반영하지 않음. 휴무는 특정 날짜 예외이므로 수강 신청 시 수업 일자별 DB 검사에서 제외
+ * - 재적재는 한 스레드만 수행하고 (ReentrantLock: JDBC 대기 중 가상 스레드가 캐리어를 점유하지 않음),
+ *   그동안 다른 조회는 이전 인덱스로 응답. 최초 적재만 완료될 때까지 대기
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeacherWeeklySlotIndex {
+
+    private static final long CACHE_TTL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    /** 예약 수업 반영 구간: 현재 ~ 12개월 후 */
+    private static final int BOOKING_WINDOW_MONTHS = 12;
+
+    private final TeacherWeeklySlotRepository teacherWeeklySlotRepository;
+
+    private final Set<String> staleTeacherIds = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<String, WeeklySlots> freeSlots;
+    private volatile long loadedAtMillis;
+
+    /**
+     * 요청한 모든 요일의 [시작 시간, 시작 시간 + 수업 분) 구간이 비어 있는 활성 강사 ID를 ID 순으로 반환합니다.
+     *
+     * @param days            요청 요일 목록
+     * @param startTime       수업 시작 시간 (UTC)
+     * @param durationMinutes 수업 시간(분)
+     * @return 후보 강사 ID 목록 (요청 요일이 없으면 빈 목록)
+     */
+    public List<String> findCandidates(Collection<DayOfWeek> days, LocalTime startTime, int durationMinutes) {
+        if (days.isEmpty()) {
+            // 빈 요청 비트맵은 모든 강사에 포함되므로 전체 강사가 후보가 되지 않도록 제외
+            return List.of();
+        }
+        WeeklySlots request = WeeklySlots.ofRequest(days, startTime, durationMinutes);
+        return currentSlots().entrySet().stream()
+                .filter(entry -> entry.getValue().containsAll(request))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 수업·휴무·가용 시간 변경 커밋 후 해당 강사를 재적재 대상으로 표시. 트랜잭션 밖의 변경은 즉시 처리.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeacherCalendarChanged(TeacherCalendarChangedEvent event) {
+        staleTeacherIds.add(event.teacherId());
+    }
+
+    private Map<String, WeeklySlots> currentSlots() {
+        Map<String, WeeklySlots> slots = freeSlots;
+        if (slots != null && !isExpired() && staleTeacherIds.isEmpty()) {
+            return slots;
+        }
+        if (slots == null) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            // 다른 스레드가 재적재 중: 이전 인덱스로 응답
+            return slots;
+        }
+        try {
+            return refresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /** refreshLock을 잡은 스레드만 호출. 대기 중 다른 스레드가 이미 갱신했으면 그대로 반환 */
+    private Map<String, WeeklySlots> refresh() {
+        OffsetDateTime from = OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime to = from.plusMonths(BOOKING_WINDOW_MONTHS);
+
+        if (freeSlots == null || isExpired()) {
+            // 적재 중 발생한 변경은 다시 표시되도록 먼저 비움
+            staleTeacherIds.clear();
+            freeSlots = build(
+                    teacherWeeklySlotRepository.findAllAvailability(),
+                    teacherWeeklySlotRepository.findAllBookings(from, to)
+            );
+            loadedAtMillis = System.currentTimeMillis();
+            log.debug("강사 주간 시간표 적재: teachers={}", freeSlots.size());
+        } else if (!staleTeacherIds.isEmpty()) {
+            List<String> teacherIds = List.copyOf(staleTeacherIds);
+            staleTeacherIds.removeAll(teacherIds);
+
+            Map<String, WeeklySlots> next = new HashMap<>(freeSlots);
+            teacherIds.forEach(next::remove);
+            next.putAll(build(
+                    teacherWeeklySlotRepository.findAvailabilityByTeacherIds(teacherIds),
+                    teacherWeeklySlotRepository.findBookingsByTeacherIds(teacherIds, from, to)
+            ));
+            freeSlots = Map.copyOf(next);
+            log.debug("강사 주간 시간표 갱신: teachers={}", teacherIds.size());
+        }
+        return freeSlots;
+    }
+
+    private boolean isExpired() {
+        return System.currentTimeMillis() - loadedAtMillis > CACHE_TTL_MILLIS;
+    }
+
+    /** 가용 시간이 있는 강사별로 (가용 시간 AND NOT 예약 수업) 비트맵 생성 */
+    private static Map<String, WeeklySlots> build(List<WeeklySlotRow> availability, List<WeeklySlotRow> bookings) {
+        Map<String, List<WeeklySlotRow>> bookingsByTeacher = bookings.stream()
+                .collect(Collectors.groupingBy(WeeklySlotRow::teacherId));
+        return availability.stream()
+                .collect(Collectors.groupingBy(WeeklySlotRow::teacherId))
+                .entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        entry -> WeeklySlots.ofAvailability(entry.getValue())
+                                .andNot(WeeklySlots.ofBookings(bookingsByTeacher.getOrDefault(entry.getKey(), List.of())))
+                ));
+    }
+}
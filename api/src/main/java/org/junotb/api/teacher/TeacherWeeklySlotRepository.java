@@ -0,0 +1,114 @@
+package org.junotb.api.teacher;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 주간 시간표 비트맵({@link WeeklySlots}) 적재용 저장소.
+ * 가용 시간은 행 그대로, 예약된 수업은 (요일, 시작 시각, 길이)로 중복 제거하여 반복 수업을 주간 패턴 1건으로 줄여 조회합니다.
+ * 요일·시각은 수업 일시 생성과 같은 UTC 기준입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeacherWeeklySlotRepository {
+
+    /** 활성 강사의 가용 시간 (%s: 강사 ID 조건) */
+    private static final String AVAILABILITY_SQL = """
+        SELECT ta."teacherId" AS teacher_id,
+               ta."dayOfWeek" AS day_of_week,
+               ta."startTime" AS start_time,
+               (EXTRACT(EPOCH FROM ta."endTime" - ta."startTime") / 60)::int AS duration_minutes
+        FROM "teacherAvailability" ta
+        JOIN "user" u ON u."id" = ta."teacherId"
+        WHERE u."status" = 'ACTIVE'
+          AND u."role" = 'TEACHER'
+          %s
+        """;
+
+    /** 기간 내 취소되지 않은 수업의 주간 패턴 (%s: 강사 ID 조건) */
+    private static final String BOOKING_SQL = """
+        SELECT DISTINCT s."userId" AS teacher_id,
+               EXTRACT(ISODOW FROM s."startsAt" AT TIME ZONE 'UTC')::int AS iso_day_of_week,
+               (s."startsAt" AT TIME ZONE 'UTC')::time AS start_time,
+               (EXTRACT(EPOCH FROM s."endsAt" - s."startsAt") / 60)::int AS duration_minutes
+        FROM "schedule" s
+        WHERE s."status" <> 'CANCELED'
+          AND s."startsAt" >= ?
+          AND s."endsAt" <= ?
+          %s
+        """;
+
+    private static final RowMapper<WeeklySlotRow> AVAILABILITY_ROW_MAPPER = (rs, rowNum) -> new WeeklySlotRow(
+            rs.getString("teacher_id"),
+            DayOfWeek.valueOf(rs.getString("day_of_week")),
+            rs.getObject("start_time", LocalTime.class),
+            rs.getInt("duration_minutes")
+    );
+
+    private static final RowMapper<WeeklySlotRow> BOOKING_ROW_MAPPER = (rs, rowNum) -> new WeeklySlotRow(
+            rs.getString("teacher_id"),
+            DayOfWeek.of(rs.getInt("iso_day_of_week")),
+            rs.getObject("start_time", LocalTime.class),
+            rs.getInt("duration_minutes")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 활성 강사의 가용 시간을 조회합니다.
+     */
+    public List<WeeklySlotRow> findAllAvailability() {
+        return jdbcTemplate.query(AVAILABILITY_SQL.formatted(""), AVAILABILITY_ROW_MAPPER);
+    }
+
+    /**
+     * 지정한 강사 중 활성 강사의 가용 시간을 조회합니다.
+     */
+    public List<WeeklySlotRow> findAvailabilityByTeacherIds(List<String> teacherIds) {
+        return jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(AVAILABILITY_SQL.formatted("AND ta.\"teacherId\" = ANY (?)"));
+                    ps.setArray(1, con.createArrayOf("varchar", teacherIds.toArray(new String[0])));
+                    return ps;
+                },
+                AVAILABILITY_ROW_MAPPER
+        );
+    }
+
+    /**
+     * 기간 [from, to] 안의 모든 강사 수업을 주간 패턴으로 조회합니다.
+     */
+    public List<WeeklySlotRow> findAllBookings(OffsetDateTime from, OffsetDateTime to) {
+        return jdbcTemplate.query(
+                BOOKING_SQL.formatted(""),
+                BOOKING_ROW_MAPPER,
+                Timestamp.from(from.toInstant()),
+                Timestamp.from(to.toInstant())
+        );
+    }
+
+    /**
+     * 기간 [from, to] 안의 지정한 강사 수업을 주간 패턴으로 조회합니다.
+     */
+    public List<WeeklySlotRow> findBookingsByTeacherIds(List<String> teacherIds, OffsetDateTime from, OffsetDateTime to) {
+        return jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(BOOKING_SQL.formatted("AND s.\"userId\" = ANY (?)"));
+                    ps.setTimestamp(1, Timestamp.from(from.toInstant()));
+                    ps.setTimestamp(2, Timestamp.from(to.toInstant()));
+                    ps.setArray(3, con.createArrayOf("varchar", teacherIds.toArray(new String[0])));
+                    return ps;
+                },
+                BOOKING_ROW_MAPPER
+        );
+    }
+}
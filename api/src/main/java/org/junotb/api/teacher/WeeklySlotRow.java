@@ -0,0 +1,10 @@
+package org.junotb.api.teacher;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 강사의 주간 반복 구간 1건 (가용 시간 또는 예약된 수업, UTC 기준 요일·시작 시각·길이).
+ */
+public record WeeklySlotRow(String teacherId, DayOfWeek dayOfWeek, LocalTime startTime, int durationMinutes) {
+}
@@ -0,0 +1,117 @@
+package org.junotb.api.teacher;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 주간 시간표 비트맵 (7일 × 15분 단위 96칸 = 672비트, long 11개).
+ * 칸 번호는 (월요일=0 기준 요일) × 96 + (자정 이후 분 / 15)이며, 자정을 넘는 구간은 다음 요일로 이어집니다.
+ *
+ * 15분 경계에 맞지 않는 시각은 보수적으로 반올림합니다.
+ * - 가용 시간: 구간 안에 완전히 포함되는 칸만 (안쪽)
+ * - 수업·요청: 구간이 조금이라도 걸치는 칸 전체 (바깥쪽)
+ */
+public final class WeeklySlots {
+
+    public static final int SLOT_MINUTES = 15;
+    static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+    private static final int WORDS = (SLOTS_PER_WEEK + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] words;
+
+    private WeeklySlots(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * 가용 시간 행으로 비트맵을 생성합니다. (구간에 완전히 포함되는 칸만)
+     */
+    public static WeeklySlots ofAvailability(List<WeeklySlotRow> rows) {
+        long[] words = new long[WORDS];
+        for (WeeklySlotRow row : rows) {
+            int start = startMinuteOfWeek(row);
+            set(words, Math.ceilDiv(start, SLOT_MINUTES), Math.floorDiv(start + row.durationMinutes(), SLOT_MINUTES));
+        }
+        return new WeeklySlots(words);
+    }
+
+    /**
+     * 예약된 수업 행으로 비트맵을 생성합니다. (구간이 걸치는 칸 전체)
+     */
+    public static WeeklySlots ofBookings(List<WeeklySlotRow> rows) {
+        long[] words = new long[WORDS];
+        for (WeeklySlotRow row : rows) {
+            int start = startMinuteOfWeek(row);
+            set(words, Math.floorDiv(start, SLOT_MINUTES), Math.ceilDiv(start + row.durationMinutes(), SLOT_MINUTES));
+        }
+        return new WeeklySlots(words);
+    }
+
+    /**
+     * 수강 신청 요청(요일 목록 × 시작 시간 × 수업 분)의 비트맵을 생성합니다. (구간이 걸치는 칸 전체)
+     */
+    public static WeeklySlots ofRequest(Collection<DayOfWeek> days, LocalTime startTime, int durationMinutes) {
+        return ofBookings(days.stream()
+                .map(day -> new WeeklySlotRow(null, day, startTime, durationMinutes))
+                .toList());
+    }
+
+    /**
+     * 이 비트맵에서 other의 칸을 뺀 새 비트맵 (this AND NOT other)
+     */
+    public WeeklySlots andNot(WeeklySlots other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & ~other.words[i];
+        }
+        return new WeeklySlots(result);
+    }
+
+    /**
+     * mask의 모든 칸이 이 비트맵에 포함되는지 확인합니다. (mask AND NOT this == 0)
+     */
+    public boolean containsAll(WeeklySlots mask) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((mask.words[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WeeklySlots other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    private static int startMinuteOfWeek(WeeklySlotRow row) {
+        return (row.dayOfWeek().getValue() - 1) * 24 * 60 + row.startTime().toSecondOfDay() / 60;
+    }
+
+    /** [fromSlot, toSlot) 칸을 설정합니다. 한 주를 넘는 칸 번호는 주 시작으로 이어지며, 최대 한 주 분량만 설정합니다. */
+    private static void set(long[] words, int fromSlot, int toSlot) {
+        int end = Math.min(toSlot, fromSlot + SLOTS_PER_WEEK);
+        for (int slot = fromSlot; slot < end; slot++) {
+            int index = slot % SLOTS_PER_WEEK;
+            words[index >>> 6] |= 1L << index;
+        }
+    }
+}
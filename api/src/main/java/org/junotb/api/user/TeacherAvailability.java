@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.junotb.api.schedule.TeacherCalendarChangeListener;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -15,6 +16,7 @@ import java.time.LocalTime;
         @Index(name = "idx_teacher_availability_teacher_day", columnList = "\"teacherId\", \"dayOfWeek\"")
     }
 )
+@EntityListeners(TeacherCalendarChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
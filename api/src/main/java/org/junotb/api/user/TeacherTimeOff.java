@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import org.junotb.api.schedule.TeacherCalendarChangeListener;
 
 import java.time.OffsetDateTime;
 
@@ -14,6 +15,7 @@ import java.time.OffsetDateTime;
         @Index(name = "idx_teacher_timeoff_teacher_datetime", columnList = "\"teacherId\", \"startDateTime\", \"endDateTime\"")
     }
 )
+@EntityListeners(TeacherCalendarChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
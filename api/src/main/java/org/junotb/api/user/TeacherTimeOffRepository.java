@@ -1,11 +1,13 @@
 package org.junotb.api.user;
 
+import org.junotb.api.schedule.BusyIntervalRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface TeacherTimeOffRepository extends JpaRepository<TeacherTimeOff, Long> {
@@ -32,6 +34,22 @@ public interface TeacherTimeOffRepository extends JpaRepository<TeacherTimeOff,
             @Param("rangeEnd") OffsetDateTime rangeEnd
     );
 
+    /**
+     * 여러 강사의 휴무 중 주어진 기간과 겹치는 구간을 한 번에 조회 (강사 캘린더 인덱스 적재용)
+     */
+    @Query("""
+        SELECT t.teacher.id AS teacherId, t.startDateTime AS startsAt, t.endDateTime AS endsAt
+        FROM TeacherTimeOff t
+        WHERE t.teacher.id IN :teacherIds
+          AND t.startDateTime < :rangeEnd
+          AND t.endDateTime > :rangeStart
+        """)
+    List<BusyIntervalRow> findBusyIntervalsByTeacherIds(
+            @Param("teacherIds") Collection<String> teacherIds,
+            @Param("rangeStart") OffsetDateTime rangeStart,
+            @Param("rangeEnd") OffsetDateTime rangeEnd
+    );
+
     /**
      * 강사 탈퇴: 해당 강사의 모든 휴무 삭제
      * @param teacherId 강사 ID
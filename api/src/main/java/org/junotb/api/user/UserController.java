@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.junotb.api.common.web.CursorPageResponse;
+import org.junotb.api.common.web.CursorRequest;
 import org.junotb.api.common.web.PageResponse;
 import org.junotb.api.user.web.UserCreateRequest;
 import org.junotb.api.user.web.UserListRequest;
@@ -14,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -58,6 +61,46 @@ public class UserController {
         );
     }
 
+    /**
+     * 사용자 목록을 커서 기반으로 조회. 가입 시각(createdAt, id) 순으로 OFFSET·count 없이 조회합니다.
+     *
+     * @param request       필터 조건 (name, role, status)
+     * @param cursorRequest 커서·크기·정렬 방향·전체 건수 포함 여부
+     * @return 커서 페이지 (nextCursor로 다음 페이지 조회)
+     */
+    @Operation(summary = "사용자 목록 커서 조회", description = "가입 시각 기준 keyset 페이지네이션. 깊은 페이지도 첫 페이지와 같은 비용으로 조회합니다.")
+    @GetMapping("/cursor")
+    public CursorPageResponse<UserResponse> listByCursor(
+        @ModelAttribute UserListRequest request,
+        @ModelAttribute CursorRequest cursorRequest
+    ) {
+        UserListRequest safeRequest = Objects.requireNonNullElse(request, UserListRequest.empty());
+
+        return userService.findCursor(safeRequest, cursorRequest).map(UserResponse::from);
+    }
+
+    /**
+     * 이름으로 사용자 검색. 접두 일치 우선, 유사도 순으로 정렬합니다.
+     *
+     * @param q      검색어 (3자 미만이면 접두 일치만)
+     * @param role   역할 필터
+     * @param status 상태 필터
+     * @param limit  최대 결과 수 (기본 20, 최대 100)
+     * @return 순위순 사용자 목록
+     */
+    @Operation(summary = "사용자 이름 검색", description = "이름 부분 일치 검색 (pg_trgm 인덱스). 접두 일치가 먼저, 이후 유사도 순으로 반환합니다.")
+    @GetMapping("/search")
+    public List<UserResponse> search(
+        @RequestParam String q,
+        @RequestParam(required = false) UserRole role,
+        @RequestParam(required = false) UserStatus status,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return userService.search(q, role, status, limit).stream()
+            .map(UserResponse::from)
+            .toList();
+    }
+
     /**
      * ID로 사용자 조회.
      *
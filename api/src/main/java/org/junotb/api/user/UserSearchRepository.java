@@ -0,0 +1,81 @@
+package org.junotb.api.user;
+
+import lombok.RequiredArgsConstructor;
+import org.junotb.api.common.search.SearchTerm;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 사용자 이름 검색 저장소 (PostgreSQL pg_trgm).
+ * 부분 일치는 ix_user_name_trgm(GIN), 3자 미만 접두 일치는 ix_user_name_lower_prefix(B-tree)를 사용합니다.
+ * 결과는 접두 일치 우선, 트라이그램 유사도 내림차순, 이름 순으로 정렬합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+    private static final String COLUMNS = """
+        "id", "name", "email", "emailVerified", "image", "createdAt", "updatedAt", "role", "status"
+        """;
+
+    private static final String FILTERS = """
+          AND (CAST(:role AS varchar) IS NULL OR "role" = :role)
+          AND (CAST(:status AS varchar) IS NULL OR "status" = :status)
+        """;
+
+    private static final String SUBSTRING_SEARCH_SQL = "SELECT " + COLUMNS + """
+        FROM "user"
+        WHERE "name" ILIKE :contains
+        """ + FILTERS + """
+        ORDER BY lower("name") LIKE lower(:prefix) DESC, similarity("name", :text) DESC, "name", "id"
+        LIMIT :limit
+        """;
+
+    private static final String PREFIX_SEARCH_SQL = "SELECT " + COLUMNS + """
+        FROM "user"
+        WHERE lower("name") LIKE lower(:prefix)
+        """ + FILTERS + """
+        ORDER BY lower("name"), "id"
+        LIMIT :limit
+        """;
+
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> User.builder()
+        .id(rs.getString("id"))
+        .name(rs.getString("name"))
+        .email(rs.getString("email"))
+        .emailVerified(rs.getBoolean("emailVerified"))
+        .image(rs.getString("image"))
+        .createdAt(rs.getObject("createdAt", OffsetDateTime.class))
+        .updatedAt(rs.getObject("updatedAt", OffsetDateTime.class))
+        .role(UserRole.valueOf(rs.getString("role")))
+        .status(UserStatus.valueOf(rs.getString("status")))
+        .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이름으로 사용자를 검색합니다.
+     *
+     * @param term   검색어
+     * @param role   역할 필터 (null이면 전체)
+     * @param status 상태 필터 (null이면 전체)
+     * @return 순위순 사용자 목록 (최대 term.limit()건)
+     */
+    public List<User> search(SearchTerm term, UserRole role, UserStatus status) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("text", term.text())
+            .addValue("contains", term.containsPattern())
+            .addValue("prefix", term.prefixPattern())
+            .addValue("role", role != null ? role.name() : null)
+            .addValue("status", status != null ? status.name() : null)
+            .addValue("limit", term.limit());
+
+        String sql = term.usesTrigram() ? SUBSTRING_SEARCH_SQL : PREFIX_SEARCH_SQL;
+        return jdbcTemplate.query(sql, params, USER_ROW_MAPPER);
+    }
+}
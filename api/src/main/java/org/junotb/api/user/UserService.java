@@ -1,20 +1,29 @@
 package org.junotb.api.user;
 
 import lombok.RequiredArgsConstructor;
+import org.junotb.api.auth.SessionInvalidatedEvent;
 import org.junotb.api.common.exception.DuplicateResourceException;
 import org.junotb.api.common.exception.ResourceNotFoundException;
+import org.junotb.api.common.search.SearchTerm;
+import org.junotb.api.common.web.CursorPageResponse;
+import org.junotb.api.common.web.CursorRequest;
+import org.junotb.api.common.web.Keyset;
 import org.junotb.api.user.web.UserCreateRequest;
 import org.junotb.api.user.web.UserListRequest;
 import org.junotb.api.user.web.UserUpdateRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * 사용자(강사·학생) CRUD 및 통계 서비스.
@@ -23,7 +32,14 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class UserService {
+    private static final Keyset<User, OffsetDateTime, String> USER_KEYSET = new Keyset<>(
+        "createdAt", User::getCreatedAt, OffsetDateTime::parse,
+        "id", User::getId, Function.identity()
+    );
+
     private final UserRepository userRepository;
+    private final UserSearchRepository userSearchRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * ID로 사용자 조회.
@@ -44,7 +60,36 @@ public class UserService {
      * @return 페이징된 목록
      */
     public Page<User> findList(UserListRequest request, Pageable pageable) {
-        Specification<User> spec = (root, query, cb) -> {
+        return userRepository.findAll(listSpec(request), pageable);
+    }
+
+    /**
+     * 사용자 목록 커서 조회. (createdAt, id) keyset으로 OFFSET·count 없이 조회.
+     *
+     * @param request       필터 (name, role, status)
+     * @param cursorRequest 커서·크기·정렬 방향
+     * @return 커서 페이지
+     */
+    public CursorPageResponse<User> findCursor(UserListRequest request, CursorRequest cursorRequest) {
+        return USER_KEYSET.fetch(userRepository, listSpec(request), cursorRequest);
+    }
+
+    /**
+     * 이름 검색. 접두 일치 우선, 유사도 순 (pg_trgm 인덱스 사용).
+     *
+     * @param query  검색어 (3자 미만이면 접두 일치만)
+     * @param role   역할 필터
+     * @param status 상태 필터
+     * @param limit  최대 결과 수 (기본 20, 최대 100)
+     * @return 순위순 사용자 목록
+     * @throws IllegalArgumentException 검색어가 비어 있을 때
+     */
+    public List<User> search(String query, UserRole role, UserStatus status, Integer limit) {
+        return userSearchRepository.search(SearchTerm.of(query, limit), role, status);
+    }
+
+    private static Specification<User> listSpec(UserListRequest request) {
+        return (root, query, cb) -> {
             var predicates = cb.conjunction();
 
             if (request.name() != null && !request.name().isBlank()) {
@@ -70,8 +115,6 @@ public class UserService {
 
             return predicates;
         };
-
-        return userRepository.findAll(spec, pageable);
     }
 
     /**
@@ -101,6 +144,7 @@ public class UserService {
 
     /**
      * 사용자 수정. null이 아닌 필드만 업데이트.
+     * 역할·상태가 바뀌면 해당 사용자의 세션 캐시를 무효화합니다.
      *
      * @param id      사용자 ID
      * @param request 수정 요청
@@ -115,9 +159,15 @@ public class UserService {
 
         if (request.name() != null) user.setName(request.name());
         if (request.email() != null) user.setEmail(request.email());
+        UserRole previousRole = user.getRole();
+        UserStatus previousStatus = user.getStatus();
         if (request.role() != null) user.setRole(request.role());
         if (request.status() != null) user.setStatus(request.status());
 
+        if (user.getRole() != previousRole || user.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(SessionInvalidatedEvent.ofUser(id));
+        }
+
         return user;
     }
 
@@ -135,6 +185,7 @@ public class UserService {
 
         if (user.getStatus() == UserStatus.INACTIVE) return;
         user.setStatus(UserStatus.INACTIVE);
+        eventPublisher.publishEvent(SessionInvalidatedEvent.ofUser(id));
     }
 
     /**
@@ -3,10 +3,13 @@ package org.junotb.api.user;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.junotb.api.common.exception.ResourceNotFoundException;
+import org.junotb.api.dashboard.StudyDashboardChangedEvent;
 import org.junotb.api.schedule.ScheduleRepository;
 import org.junotb.api.schedulefeedback.ScheduleFeedbackRepository;
+import org.junotb.api.auth.SessionInvalidatedEvent;
 import org.junotb.api.auth.SessionRepository;
 import org.junotb.api.registration.RegistrationRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +32,7 @@ public class WithdrawalService {
     private final TeacherAvailabilityRepository teacherAvailabilityRepository;
     private final SessionRepository sessionRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원 탈퇴 처리. FK 제약 순서에 맞춰 연관 데이터를 모두 삭제합니다.
@@ -50,6 +54,7 @@ public class WithdrawalService {
         // 2. 수강 등록 (학생으로 등록한 것 + 강사 스케줄에 등록된 것)
         int regByStudent = registrationRepository.deleteByStudentId(userId);
         int regBySchedule = registrationRepository.deleteBySchedule_UserId(userId);
+        eventPublisher.publishEvent(StudyDashboardChangedEvent.ofStudent(userId));
         log.debug("registration 삭제: student={}, schedule={}", regByStudent, regBySchedule);
 
         // 3. 스케줄 (강사 소유)
@@ -65,6 +70,7 @@ public class WithdrawalService {
 
         // 6. 세션 (Better-Auth + Backend 공통 테이블)
         int sessionDeleted = sessionRepository.deleteByUserId(userId);
+        eventPublisher.publishEvent(SessionInvalidatedEvent.ofUser(userId));
         log.debug("session 삭제: {}건", sessionDeleted);
 
         // 7. 계정 (Better-Auth, password 등 - entity 없음)
@@ -0,0 +1,24 @@
+-- db-constraint 동시성 모드 전용 제약 조건 (app.registration.concurrency-mode=db-constraint일 때만 Flyway 위치에 추가)
+-- 반복 마이그레이션: 모드를 처음 켠 기동과 이 파일이 바뀐 기동에서 다시 실행되므로 모든 문을 멱등으로 작성합니다.
+-- 기존 데이터가 제약 조건을 위반하면 마이그레이션이 실패하여 기동이 중단되므로, 충돌 데이터를 먼저 정리해야 합니다.
+-- 모드를 다시 끄더라도 제약 조건은 남습니다. (제거가 필요하면 별도 버전 마이그레이션으로 DROP)
+
+-- varchar("userId")에 = 연산자를 GiST로 쓰기 위해 필요
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE "schedule"
+    ADD COLUMN IF NOT EXISTS "timeRange" tstzrange
+    GENERATED ALWAYS AS (tstzrange("startsAt", "endsAt", '[)')) STORED;
+
+-- 강사별 수업 시간 범위가 겹치지 않도록 제한. 배정 가용성 검사와 같이 SCHEDULED 수업만 시간을 점유합니다.
+-- (이전 버전의 status <> 'CANCELED' 조건으로 만들어진 제약 조건도 교체)
+ALTER TABLE "schedule" DROP CONSTRAINT IF EXISTS ex_schedule_teacher_time;
+ALTER TABLE "schedule"
+    ADD CONSTRAINT ex_schedule_teacher_time
+    EXCLUDE USING gist ("userId" WITH =, "timeRange" WITH &&)
+    WHERE ("status" = 'SCHEDULED');
+
+-- 스케줄당 REGISTERED 등록 1건 (1:1 정원)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_registration_schedule_registered
+    ON "registration" ("scheduleId")
+    WHERE "status" = 'REGISTERED';
@@ -0,0 +1,118 @@
+-- 기준 스키마 (빈 DB용)
+-- 이미 테이블이 있는 DB는 spring.flyway.baseline-on-migrate로 V1을 기준선으로 기록하고 건너뜁니다.
+-- "user", "session", "account", "verification"은 Better-Auth(web) 스키마와 동일하게 생성합니다.
+
+CREATE TABLE IF NOT EXISTS "user" (
+    "id"            text PRIMARY KEY,
+    "name"          text NOT NULL,
+    "email"         text NOT NULL UNIQUE,
+    "emailVerified" boolean NOT NULL,
+    "image"         text,
+    "createdAt"     timestamptz NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "updatedAt"     timestamptz NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "role"          text,
+    "status"        text
+);
+
+CREATE TABLE IF NOT EXISTS "session" (
+    "id"        text PRIMARY KEY,
+    "expiresAt" timestamptz NOT NULL,
+    "token"     text NOT NULL UNIQUE,
+    "createdAt" timestamptz NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "updatedAt" timestamptz NOT NULL,
+    "ipAddress" text,
+    "userAgent" text,
+    "userId"    text NOT NULL REFERENCES "user" ("id") ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS "account" (
+    "id"                    text PRIMARY KEY,
+    "accountId"             text NOT NULL,
+    "providerId"            text NOT NULL,
+    "userId"                text NOT NULL REFERENCES "user" ("id") ON DELETE CASCADE,
+    "accessToken"           text,
+    "refreshToken"          text,
+    "idToken"               text,
+    "accessTokenExpiresAt"  timestamptz,
+    "refreshTokenExpiresAt" timestamptz,
+    "scope"                 text,
+    "password"              text,
+    "createdAt"             timestamptz NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "updatedAt"             timestamptz NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "verification" (
+    "id"         text PRIMARY KEY,
+    "identifier" text NOT NULL,
+    "value"      text NOT NULL,
+    "expiresAt"  timestamptz NOT NULL,
+    "createdAt"  timestamptz NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    "updatedAt"  timestamptz NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS "course" (
+    "id"          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    "title"       varchar(255) NOT NULL,
+    "description" varchar(255),
+    "status"      varchar(255) NOT NULL,
+    "createdAt"   timestamptz NOT NULL,
+    "updatedAt"   timestamptz NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "schedule" (
+    "id"        bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    "userId"    text NOT NULL REFERENCES "user" ("id"),
+    "courseId"  bigint NOT NULL REFERENCES "course" ("id"),
+    "version"   bigint,
+    "startsAt"  timestamptz NOT NULL,
+    "endsAt"    timestamptz NOT NULL,
+    "status"    varchar(255) NOT NULL,
+    "meetLink"  varchar(2048),
+    "createdAt" timestamptz NOT NULL,
+    "updatedAt" timestamptz NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS "registration" (
+    "id"           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    "scheduleId"   bigint NOT NULL REFERENCES "schedule" ("id"),
+    "studentId"    text NOT NULL REFERENCES "user" ("id"),
+    "status"       varchar(255) NOT NULL,
+    "registeredAt" timestamptz NOT NULL,
+    CONSTRAINT uk_registration_schedule_student UNIQUE ("scheduleId", "studentId")
+);
+
+CREATE TABLE IF NOT EXISTS "schedule_feedback" (
+    "id"              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    "scheduleId"      bigint NOT NULL REFERENCES "schedule" ("id"),
+    "vttContent"      text,
+    "feedbackContent" text,
+    "feedbackStatus"  varchar(255) NOT NULL,
+    "createdAt"       timestamptz NOT NULL,
+    "updatedAt"       timestamptz NOT NULL,
+    CONSTRAINT uk_schedule_feedback_schedule UNIQUE ("scheduleId")
+);
+
+CREATE TABLE IF NOT EXISTS "teacherAvailability" (
+    "id"        bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    "teacherId" text NOT NULL,
+    "dayOfWeek" varchar(255) NOT NULL,
+    "startTime" time NOT NULL,
+    "endTime"   time NOT NULL,
+    CONSTRAINT fk_teacher_availability_teacher FOREIGN KEY ("teacherId") REFERENCES "user" ("id") ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_teacher_availability_teacher_day
+    ON "teacherAvailability" ("teacherId", "dayOfWeek");
+
+CREATE TABLE IF NOT EXISTS "teacherTimeOff" (
+    "id"            bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    "teacherId"     text NOT NULL,
+    "startDateTime" timestamptz NOT NULL,
+    "endDateTime"   timestamptz NOT NULL,
+    "type"          varchar(255) NOT NULL,
+    "reason"        varchar(255),
+    CONSTRAINT fk_teacher_timeoff_teacher FOREIGN KEY ("teacherId") REFERENCES "user" ("id") ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_teacher_timeoff_teacher_datetime
+    ON "teacherTimeOff" ("teacherId", "startDateTime", "endDateTime");
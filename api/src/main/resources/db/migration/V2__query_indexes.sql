@@ -0,0 +1,42 @@
+-- 조회 경로별 복합·부분·커버링 인덱스
+-- 운영 중 쓰기를 막지 않도록 CONCURRENTLY로 생성합니다. (Flyway가 트랜잭션 밖에서 실행, 이 파일에는 CONCURRENTLY 문만 둘 것)
+-- 생성이 중단되어 INVALID 인덱스가 남으면 해당 인덱스를 삭제하고 flyway repair 후 다시 실행해야 합니다.
+
+-- 강사 대시보드(다음·오늘 수업), 강사 캘린더 적재, 배정 충돌 검사: 강사의 SCHEDULED 수업을 시작 시각 순으로
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_schedule_teacher_scheduled_starts
+    ON "schedule" ("userId", "startsAt") INCLUDE ("endsAt")
+    WHERE "status" = 'SCHEDULED';
+
+-- 강사 대시보드(최근 완료 수업): 출석·결석 수업을 종료 시각 역순으로
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_schedule_teacher_completed_ends
+    ON "schedule" ("userId", "endsAt" DESC)
+    WHERE "status" IN ('ATTENDED', 'ABSENT');
+
+-- 학생 대시보드·탈퇴: 학생의 REGISTERED 등록 (수업 ID까지 인덱스만으로 조회)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_registration_student_registered
+    ON "registration" ("studentId") INCLUDE ("scheduleId")
+    WHERE "status" = 'REGISTERED';
+
+-- 휴무 겹침 조회 (엔티티 선언 인덱스, V1 이전에 만들어진 DB에 없을 수 있음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_teacher_timeoff_teacher_datetime
+    ON "teacherTimeOff" ("teacherId", "startDateTime", "endDateTime");
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_teacher_availability_teacher_day
+    ON "teacherAvailability" ("teacherId", "dayOfWeek");
+
+-- 만료 세션 배치 삭제 (SessionPurgeRepository)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_session_expires_at
+    ON "session" ("expiresAt");
+
+-- 커서 목록 (정렬 키, id) 키셋 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_schedule_starts_at_id
+    ON "schedule" ("startsAt", "id");
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_registration_registered_at_id
+    ON "registration" ("registeredAt", "id");
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_user_created_at_id
+    ON "user" ("createdAt", "id");
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_course_created_at_id
+    ON "course" ("createdAt", "id");
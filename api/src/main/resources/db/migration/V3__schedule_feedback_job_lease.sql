@@ -0,0 +1,5 @@
+-- 비디오 파이프라인 작업 점유(lease): 작업 파일은 처리한 노드의 로컬 디스크에 있으므로,
+-- 단계를 실행하는 노드를 기록하고 주기적으로 만료 시각을 연장합니다.
+-- 다른 노드는 만료된 작업만 가져가며, 파일이 필요한 단계(UPLOADED, AUDIO_EXTRACTED)는 파일이 있는 노드만 재개합니다.
+ALTER TABLE "schedule_feedback" ADD COLUMN IF NOT EXISTS "workerId" varchar(255);
+ALTER TABLE "schedule_feedback" ADD COLUMN IF NOT EXISTS "leaseExpiresAt" timestamptz;
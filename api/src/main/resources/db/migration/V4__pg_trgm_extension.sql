@@ -0,0 +1,3 @@
+-- 이름·제목 부분 일치 검색용 확장 (V5 인덱스가 사용)
+-- 확장 생성 권한(데이터베이스 소유자 또는 superuser)이 필요합니다. 권한이 없으면 DBA가 미리 설치해 두어야 합니다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,17 @@
+-- 이름·제목 검색 인덱스 (UserSearchRepository, CourseSearchRepository)
+-- 운영 중 쓰기를 막지 않도록 CONCURRENTLY로 생성합니다. (Flyway가 트랜잭션 밖에서 실행, 이 파일에는 CONCURRENTLY 문만 둘 것)
+-- 생성이 중단되어 INVALID 인덱스가 남으면 해당 인덱스를 삭제하고 flyway repair 후 다시 실행해야 합니다.
+
+-- 부분 일치 (ILIKE '%q%')
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_user_name_trgm
+    ON "user" USING gin ("name" gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_course_title_trgm
+    ON "course" USING gin ("title" gin_trgm_ops);
+
+-- 3자 미만 접두 일치 (lower(col) LIKE 'q%')
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_user_name_lower_prefix
+    ON "user" (lower("name") text_pattern_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_course_title_lower_prefix
+    ON "course" (lower("title") text_pattern_ops);
@@ -0,0 +1,140 @@
+package org.junotb.api;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 중인 서버 대상 부하 측정 (대시보드·수강 신청 API 처리량, p50/p99 지연)
+ * LOADTEST_BASE_URL이 지정된 경우에만 실행됩니다. 서버를 VIRTUAL_THREADS_ENABLED=false/true로 각각 띄워 결과를 비교합니다.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "LOADTEST_BASE_URL", matches = ".+")
+@DisplayName("API Load Test")
+class ApiLoadTest {
+
+    private static final String REGISTRATION_BODY = """
+        {"courseId":%s,"months":1,"days":["MONDAY","WEDNESDAY"],"startTime":"14:00","durationMinutes":60}
+        """;
+
+    private static String baseUrl;
+    private static String sessionToken;
+    private static int concurrency;
+    private static int requests;
+    private static HttpClient httpClient;
+
+    @BeforeAll
+    static void setUp() {
+        baseUrl = System.getenv("LOADTEST_BASE_URL");
+        sessionToken = System.getenv().getOrDefault("LOADTEST_SESSION_TOKEN", "");
+        concurrency = Integer.parseInt(System.getenv().getOrDefault("LOADTEST_CONCURRENCY", "200"));
+        requests = Integer.parseInt(System.getenv().getOrDefault("LOADTEST_REQUESTS", "5000"));
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/study/dashboard")
+    void studyDashboard() throws InterruptedException {
+        run("study-dashboard", () -> authorized(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/study/dashboard")))
+                .GET()
+                .build());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/teach/dashboard")
+    void teachDashboard() throws InterruptedException {
+        run("teach-dashboard", () -> authorized(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/teach/dashboard")))
+                .GET()
+                .build());
+    }
+
+    @Test
+    @DisplayName("POST /api/registrations/course")
+    void registerCourse() throws InterruptedException {
+        String courseId = System.getenv().getOrDefault("LOADTEST_COURSE_ID", "1");
+        run("register-course", () -> authorized(HttpRequest.newBuilder(URI.create(baseUrl + "/api/registrations/course")))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(REGISTRATION_BODY.formatted(courseId)))
+                .build());
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+        return builder
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + sessionToken);
+    }
+
+    /**
+     * concurrency개 요청을 동시에 유지하며 총 requests건 전송. 409/429 등 비즈니스 실패도 응답 시간에 포함합니다.
+     */
+    private void run(String name, Supplier<HttpRequest> requestFactory) throws InterruptedException {
+        AtomicLongArray latencies = new AtomicLongArray(requests);
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger serverErrors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                final int index = i;
+                inFlight.acquire();
+                executor.submit(() -> {
+                    long requestStartedAt = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(requestFactory.get(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 500) {
+                            serverErrors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies.set(index, System.nanoTime() - requestStartedAt);
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        long[] sorted = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        double throughput = requests / (elapsedNanos / 1_000_000_000.0);
+
+        log.info("load {}: concurrency={}, requests={}, throughput={} req/s, p50={}ms, p99={}ms, 5xx={}, errors={}",
+                name, concurrency, requests, Math.round(throughput),
+                TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.50)),
+                TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.99)),
+                serverErrors.get(), errors.get());
+
+        assertThat(errors.get()).isLessThan(requests);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,294 @@
+package org.junotb.api;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junotb.api.auth.SessionPurgeRepository;
+import org.junotb.api.common.web.CursorRequest;
+import org.junotb.api.config.PostgresTestcontainersConfig;
+import org.junotb.api.dashboard.TeachDashboardQueryRepository;
+import org.junotb.api.registration.RegistrationRepository;
+import org.junotb.api.registration.RegistrationService;
+import org.junotb.api.schedule.ScheduleService;
+import org.junotb.api.schedule.web.ScheduleListRequest;
+import org.junotb.api.user.UserService;
+import org.junotb.api.user.web.UserListRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 인덱스 마이그레이션 검증 (PostgreSQL Testcontainers)
+ * V1 기준 스키마에 데이터를 적재한 뒤 저장소·서비스를 실제로 호출해 실행된 SQL(p6spy로 캡처)의 실행 계획(EXPLAIN)을 기록하고,
+ * 최신 버전까지 마이그레이션한 뒤 같은 SQL의 순차 스캔이 새 인덱스 스캔으로 바뀌는지 확인합니다.
+ * 스키마는 테스트가 버전별로 직접 마이그레이션하므로 기동 시 Flyway·스키마 검증은 끕니다.
+ */
+@EnabledIfDockerAvailable
+@Import(PostgresTestcontainersConfig.class)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "app.video-processor.enabled=false"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("QueryIndexMigration Integration Test")
+class QueryIndexMigrationTest {
+
+    private static final int TEACHERS = 2000;
+    private static final int STUDENTS = 5000;
+    private static final int SCHEDULES = 100_000;
+    private static final int SESSIONS = 20_000;
+
+    private static final String TEACHER_ID = "teacher-7";
+    private static final String STUDENT_ID = "student-7";
+    private static final int PURGE_BATCH_SIZE = 1000;
+    private static final CursorRequest FIRST_PAGE = new CursorRequest(null, 20, Sort.Direction.DESC, false);
+
+    private static final String TEACH_DASHBOARD = "teachDashboard";
+    private static final String STUDENT_NEXT_REGISTRATIONS = "studentNextRegistrations";
+    private static final String SESSION_PURGE = "sessionPurge";
+    private static final String SCHEDULE_CURSOR = "scheduleCursor";
+    private static final String REGISTRATION_CURSOR = "registrationCursor";
+    private static final String USER_CURSOR = "userCursor";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private TeachDashboardQueryRepository teachDashboardQueryRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private SessionPurgeRepository sessionPurgeRepository;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private UserService userService;
+
+    private final Map<String, String> capturedSql = new HashMap<>();
+    private final Map<String, String> plansBefore = new HashMap<>();
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+    }
+
+    /** 측정 대상 스레드에서 처음 실행된 SQL (바인딩 값 포함) */
+    static class SqlCapture extends SimpleJdbcEventListener {
+
+        private volatile Thread target;
+        private volatile String firstSql;
+
+        String capture(Runnable call) {
+            firstSql = null;
+            target = Thread.currentThread();
+            try {
+                call.run();
+            } finally {
+                target = null;
+            }
+            return firstSql;
+        }
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            if (Thread.currentThread() == target && firstSql == null) {
+                firstSql = statementInformation.getSqlWithValues();
+            }
+        }
+    }
+
+    @BeforeAll
+    void setUp() {
+        // V1 기준 스키마 + 데이터 적재 후 실제 조회 SQL 캡처, 인덱스 추가 전 실행 계획 기록
+        flyway(dataSource, "1").migrate();
+        seed();
+        jdbcTemplate.execute("ANALYZE");
+        captureQueries();
+        capturedSql.forEach((name, sql) -> plansBefore.put(name, explain(sql)));
+
+        flyway(dataSource, "latest").migrate();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("explain_teachDashboard_thenUsesScheduledAndCompletedPartialIndexes")
+    void explain_teachDashboard_thenUsesScheduledAndCompletedPartialIndexes() {
+        assertIndexReplacesSeqScan(TEACH_DASHBOARD, "schedule",
+                "ix_schedule_teacher_scheduled_starts", "ix_schedule_teacher_completed_ends");
+    }
+
+    @Test
+    @DisplayName("explain_studentNextRegistrations_thenUsesRegisteredPartialIndex")
+    void explain_studentNextRegistrations_thenUsesRegisteredPartialIndex() {
+        assertIndexReplacesSeqScan(STUDENT_NEXT_REGISTRATIONS, "registration", "ix_registration_student_registered");
+    }
+
+    @Test
+    @DisplayName("explain_sessionPurge_thenUsesExpiresAtIndex")
+    void explain_sessionPurge_thenUsesExpiresAtIndex() {
+        assertIndexReplacesSeqScan(SESSION_PURGE, "session", "ix_session_expires_at");
+    }
+
+    @Test
+    @DisplayName("explain_keysetFirstPage_thenUsesSortKeyIdIndexes")
+    void explain_keysetFirstPage_thenUsesSortKeyIdIndexes() {
+        assertIndexReplacesSeqScan(SCHEDULE_CURSOR, "schedule", "ix_schedule_starts_at_id");
+        assertIndexReplacesSeqScan(REGISTRATION_CURSOR, "registration", "ix_registration_registered_at_id");
+        assertIndexReplacesSeqScan(USER_CURSOR, "\"user\"", "ix_user_created_at_id");
+    }
+
+    @Test
+    @DisplayName("migrate_thenNoIndexesForRemovedCandidateSearch")
+    void migrate_thenNoIndexesForRemovedCandidateSearch() {
+        // 후보 강사 검색은 메모리 주간 슬롯 인덱스가 처리하므로 요일·시간, 강사별 상태 인덱스를 만들지 않음
+        assertThat(jdbcTemplate.queryForObject("""
+            SELECT count(*) FROM pg_indexes
+            WHERE indexname IN ('ix_teacher_availability_day_time', 'ix_schedule_user_status_starts')
+            """, Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("migrate_whenAlreadyMigrated_thenNothingToApplyAndIndexesValid")
+    void migrate_whenAlreadyMigrated_thenNothingToApplyAndIndexesValid() {
+        // when
+        int executed = flyway(dataSource, "latest").migrate().migrationsExecuted;
+
+        // then: CONCURRENTLY 생성이 중단되어 남은 INVALID 인덱스 없음
+        assertThat(executed).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_index WHERE NOT indisvalid", Long.class)).isZero();
+    }
+
+    /** 인덱스를 쓰는 저장소·서비스 호출이 실행한 SQL을 캡처 */
+    private void captureQueries() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime dayStart = LocalDate.now(ZoneOffset.UTC).atStartOfDay().atOffset(ZoneOffset.UTC);
+
+        capturedSql.put(TEACH_DASHBOARD, sqlCapture.capture(() ->
+                teachDashboardQueryRepository.findDashboard(TEACHER_ID, now, dayStart, dayStart.plusDays(1))));
+        capturedSql.put(STUDENT_NEXT_REGISTRATIONS, sqlCapture.capture(() ->
+                registrationRepository.findNextRegistrationsForStudent(STUDENT_ID, now, PageRequest.of(0, 4))));
+        // 삭제 문장도 실제로 실행해 캡처하되 적재 데이터는 유지
+        capturedSql.put(SESSION_PURGE, sqlCapture.capture(() -> transactionTemplate.executeWithoutResult(status -> {
+            sessionPurgeRepository.deleteExpiredBatch(now, PURGE_BATCH_SIZE);
+            status.setRollbackOnly();
+        })));
+        capturedSql.put(SCHEDULE_CURSOR, sqlCapture.capture(() ->
+                scheduleService.findCursor(ScheduleListRequest.empty(), FIRST_PAGE)));
+        capturedSql.put(REGISTRATION_CURSOR, sqlCapture.capture(() ->
+                registrationService.findCursor(null, null, null, FIRST_PAGE)));
+        capturedSql.put(USER_CURSOR, sqlCapture.capture(() ->
+                userService.findCursor(UserListRequest.empty(), FIRST_PAGE)));
+
+        capturedSql.forEach((name, sql) -> assertThat(sql).as("captured %s", name).isNotBlank());
+    }
+
+    /** 조인 상대 테이블의 작은 순차 스캔은 허용하고, 대상 테이블의 순차 스캔만 인덱스로 바뀌었는지 확인 */
+    private void assertIndexReplacesSeqScan(String query, String table, String... indexNames) {
+        String seqScan = "Seq Scan on " + table + " ";
+        String before = plansBefore.get(query);
+        String after = explain(capturedSql.get(query));
+        assertThat(before).as("plan before %s", query).contains(seqScan).doesNotContain(indexNames);
+        assertThat(after).as("plan after %s", query).contains(indexNames).doesNotContain(seqScan);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private static Flyway flyway(DataSource dataSource, String target) {
+        return Flyway.configure()
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .dataSource(dataSource)
+                .target(target)
+                .load();
+    }
+
+    private void seed() {
+        jdbcTemplate.update("""
+            INSERT INTO "user" ("id", "name", "email", "emailVerified", "image", "createdAt", "updatedAt", "role", "status")
+            SELECT 'teacher-' || g, 'Teacher ' || g, 'teacher' || g || '@test.com', true, '',
+                   now() - g * interval '1 second', now(), 'TEACHER', 'ACTIVE'
+            FROM generate_series(1, ?) AS g
+            """, TEACHERS);
+        jdbcTemplate.update("""
+            INSERT INTO "user" ("id", "name", "email", "emailVerified", "image", "createdAt", "updatedAt", "role", "status")
+            SELECT 'student-' || g, 'Student ' || g, 'student' || g || '@test.com', true, '',
+                   now() - g * interval '1 minute', now(), 'STUDENT', 'ACTIVE'
+            FROM generate_series(1, ?) AS g
+            """, STUDENTS);
+        jdbcTemplate.update("""
+            INSERT INTO "course" ("title", "status", "createdAt", "updatedAt")
+            SELECT 'Course ' || g, 'ACTIVE', now(), now()
+            FROM generate_series(1, 100) AS g
+            """);
+        // 강사별 50개 수업 (오늘 기준 ±25일), 상태는 SCHEDULED·ATTENDED·ABSENT·CANCELED 순환
+        jdbcTemplate.update("""
+            INSERT INTO "schedule" ("userId", "courseId", "version", "startsAt", "endsAt", "status", "createdAt", "updatedAt")
+            SELECT 'teacher-' || (1 + g % ?), 1 + g % 100, 0, s.starts_at, s.starts_at + interval '1 hour',
+                   (ARRAY['SCHEDULED', 'ATTENDED', 'ABSENT', 'CANCELED'])[1 + (g / ?) % 4], now(), now()
+            FROM generate_series(1, ?) AS g,
+                 LATERAL (SELECT date_trunc('hour', now())
+                                 + ((g / ?) % 50 - 25) * interval '1 day'
+                                 + (g % 24) * interval '1 hour' AS starts_at) AS s
+            """, TEACHERS, TEACHERS, SCHEDULES, TEACHERS);
+        jdbcTemplate.update("""
+            INSERT INTO "registration" ("scheduleId", "studentId", "status", "registeredAt")
+            SELECT g, 'student-' || (1 + g % ?), CASE WHEN g % 5 = 0 THEN 'CANCELED' ELSE 'REGISTERED' END,
+                   now() - g * interval '1 minute'
+            FROM generate_series(1, ?) AS g
+            """, STUDENTS, SCHEDULES);
+        // 1%만 만료
+        jdbcTemplate.update("""
+            INSERT INTO "session" ("id", "token", "userId", "expiresAt", "createdAt", "updatedAt")
+            SELECT 'session-' || g, 'token-' || g, 'student-' || (1 + g % ?),
+                   CASE WHEN g % 100 = 0 THEN now() - interval '1 hour' ELSE now() + interval '7 days' END,
+                   now(), now()
+            FROM generate_series(1, ?) AS g
+            """, STUDENTS, SESSIONS);
+    }
+}
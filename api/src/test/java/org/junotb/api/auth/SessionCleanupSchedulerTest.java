@@ -0,0 +1,109 @@
+package org.junotb.api.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junotb.api.common.security.SessionPrincipalStore;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionCleanupScheduler Unit Test")
+class SessionCleanupSchedulerTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private SessionPurgeRepository sessionPurgeRepository;
+
+    @Mock
+    private SessionPrincipalStore sessionPrincipalStore;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SessionCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new SessionCleanupScheduler(sessionPurgeRepository, sessionPrincipalStore, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(scheduler, "pauseMillis", 0L);
+        ReflectionTestUtils.setField(scheduler, "maxBatchesPerRun", 10);
+        scheduler.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("cleanupExpiredSessions_whenLastBatchPartial_thenStopsAndEvictsEachBatch")
+    void cleanupExpiredSessions_whenLastBatchPartial_thenStopsAndEvictsEachBatch() {
+        // given: 3 + 3 + 1행
+        List<ExpiredSession> first = expiredSessions(0, 3);
+        List<ExpiredSession> second = expiredSessions(3, 3);
+        List<ExpiredSession> last = expiredSessions(6, 1);
+        given(sessionPurgeRepository.deleteExpiredBatch(any(OffsetDateTime.class), eq(BATCH_SIZE)))
+                .willReturn(first, second, last);
+
+        // when
+        scheduler.cleanupExpiredSessions();
+
+        // then
+        verify(sessionPurgeRepository, times(3)).deleteExpiredBatch(any(OffsetDateTime.class), eq(BATCH_SIZE));
+        verify(sessionPrincipalStore).evictExpired(first);
+        verify(sessionPrincipalStore).evictExpired(second);
+        verify(sessionPrincipalStore).evictExpired(last);
+        assertThat(meterRegistry.get("session.purge.deleted").counter().count()).isEqualTo(7);
+        assertThat(meterRegistry.get("session.purge.rows_per_second").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("cleanupExpiredSessions_whenMaxBatchesReached_thenLeavesRestForNextRun")
+    void cleanupExpiredSessions_whenMaxBatchesReached_thenLeavesRestForNextRun() {
+        // given: 항상 가득 찬 배치
+        ReflectionTestUtils.setField(scheduler, "maxBatchesPerRun", 2);
+        given(sessionPurgeRepository.deleteExpiredBatch(any(OffsetDateTime.class), eq(BATCH_SIZE)))
+                .willReturn(expiredSessions(0, 3));
+
+        // when
+        scheduler.cleanupExpiredSessions();
+
+        // then
+        verify(sessionPurgeRepository, times(2)).deleteExpiredBatch(any(OffsetDateTime.class), eq(BATCH_SIZE));
+        assertThat(meterRegistry.get("session.purge.deleted").counter().count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("cleanupExpiredSessions_whenNothingExpired_thenNoRedisEviction")
+    void cleanupExpiredSessions_whenNothingExpired_thenNoRedisEviction() {
+        // given
+        given(sessionPurgeRepository.deleteExpiredBatch(any(OffsetDateTime.class), eq(BATCH_SIZE))).willReturn(List.of());
+
+        // when
+        scheduler.cleanupExpiredSessions();
+
+        // then
+        verify(sessionPrincipalStore, never()).evictExpired(anyList());
+        assertThat(meterRegistry.get("session.purge.deleted").counter().count()).isZero();
+    }
+
+    private static List<ExpiredSession> expiredSessions(int from, int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(i -> new ExpiredSession("token-" + i, "user-" + (i % 2)))
+                .toList();
+    }
+}
@@ -0,0 +1,169 @@
+package org.junotb.api.common.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junotb.api.config.PostgresTestcontainersConfig;
+import org.junotb.api.user.User;
+import org.junotb.api.user.UserSearchRepository;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 이름 검색 벤치마크 (PostgreSQL Testcontainers, 기본 100만 행)
+ * 기존 부분 일치 LIKE('%q%', 인덱스 없음 → 순차 스캔)와 pg_trgm GIN 인덱스 기반 {@link UserSearchRepository}의 지연을 비교합니다.
+ * SEARCH_BENCHMARK=true일 때만 실행됩니다. 행 수는 SEARCH_BENCHMARK_ROWS로 조정합니다.
+ */
+@Slf4j
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "SEARCH_BENCHMARK", matches = "true")
+@DisplayName("Trigram Search Benchmark")
+class TrigramSearchBenchmarkTest {
+
+    private static final int RUNS = 15;
+    private static final String USER_NAME_TRGM_INDEX = "ix_user_name_trgm";
+
+    /** 운영과 같은 검색 인덱스 마이그레이션 (확장 → CONCURRENTLY 인덱스) */
+    private static final ResourceDatabasePopulator SEARCH_INDEX_MIGRATIONS = new ResourceDatabasePopulator(
+            new ClassPathResource("db/migration/V4__pg_trgm_extension.sql"),
+            new ClassPathResource("db/migration/V5__search_indexes.sql")
+    );
+
+    /** 기존 UserService.findList의 이름 필터와 같은 형태 (선행 와일드카드 LIKE) */
+    private static final String LEGACY_LIKE_SQL = """
+        SELECT "id", "name", "email", "emailVerified", "image", "createdAt", "updatedAt", "role", "status"
+        FROM "user"
+        WHERE "name" LIKE ?
+        ORDER BY "id"
+        LIMIT 20
+        """;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = PostgresTestcontainersConfig.newContainer();
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static UserSearchRepository userSearchRepository;
+    private static int rows;
+
+    @BeforeAll
+    static void setUp() {
+        rows = Integer.parseInt(System.getenv().getOrDefault("SEARCH_BENCHMARK_ROWS", "1000000"));
+        dataSource = new SingleConnectionDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        userSearchRepository = new UserSearchRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+
+        jdbcTemplate.execute("""
+            CREATE TABLE "user" (
+                "id" varchar(255) PRIMARY KEY,
+                "name" varchar(255) NOT NULL,
+                "email" varchar(255) NOT NULL,
+                "emailVerified" boolean NOT NULL,
+                "image" varchar(255) NOT NULL,
+                "createdAt" timestamptz NOT NULL,
+                "updatedAt" timestamptz NOT NULL,
+                "role" varchar(255) NOT NULL,
+                "status" varchar(255) NOT NULL
+            )
+            """);
+        // 검색 인덱스 마이그레이션이 course 인덱스도 만들므로 빈 테이블만 준비
+        jdbcTemplate.execute("""
+            CREATE TABLE "course" (
+                "id" bigserial PRIMARY KEY,
+                "title" varchar(255) NOT NULL
+            )
+            """);
+        // 성·이름 조합 + 행별 고유 접미사로 이름 생성
+        jdbcTemplate.update("""
+            INSERT INTO "user"
+            SELECT md5(g::text),
+                   (ARRAY['Kim','Lee','Park','Choi','Jung','Kang','Cho','Yoon','Jang','Lim','Han','Oh','Seo','Shin','Kwon','Hwang','Ahn','Song','Ryu','Hong'])[1 + g % 20]
+                       || ' ' ||
+                   (ARRAY['Minjun','Seoyeon','Doyun','Jiwoo','Hajun','Seoah','Eunwoo','Hayoon','Siwoo','Jiho','Yejun','Sua','Juwon','Jian','Gunwoo','Chaewon','Woojin','Dahyun','Hyunwoo','Yuna'])[1 + (g / 20) % 20]
+                       || ' ' || substr(md5('n' || g), 1, 6),
+                   'user' || g || '@bench.test', true, '', now(), now(),
+                   CASE WHEN g % 10 = 0 THEN 'TEACHER' ELSE 'STUDENT' END, 'ACTIVE'
+            FROM generate_series(1, ?) AS g
+            """, rows);
+        jdbcTemplate.execute("ANALYZE \"user\"");
+    }
+
+    @Test
+    @DisplayName("search_whenMillionUsers_thenTrigramIndexBeatsSequentialLike")
+    void search_whenMillionUsers_thenTrigramIndexBeatsSequentialLike() {
+        // given: 행별 접미사 일부(선택적), 이름 일부(덜 선택적), 2자 접두어
+        String selective = jdbcTemplate.queryForObject("SELECT substr(md5('n' || 4242), 2, 4)", String.class);
+        List<String> queries = List.of(selective, "Park Seoy", "wooj", "Ki");
+
+        Map<String, double[]> legacy = new LinkedHashMap<>();
+        for (String query : queries) {
+            legacy.put(query, measure(() -> jdbcTemplate.queryForList(LEGACY_LIKE_SQL, "%" + query + "%")));
+        }
+
+        // when: 검색 인덱스 생성
+        long indexStartedAt = System.nanoTime();
+        SEARCH_INDEX_MIGRATIONS.execute(dataSource);
+        jdbcTemplate.execute("ANALYZE \"user\"");
+        long indexMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - indexStartedAt);
+
+        Map<String, double[]> trigram = new LinkedHashMap<>();
+        Map<String, List<User>> results = new LinkedHashMap<>();
+        for (String query : queries) {
+            SearchTerm term = SearchTerm.of(query, 20);
+            trigram.put(query, measure(() -> results.put(query, userSearchRepository.search(term, null, null))));
+        }
+
+        // then
+        log.info("search benchmark: rows={}, index build={}ms", rows, indexMillis);
+        for (String query : queries) {
+            log.info("search benchmark: q='{}' legacy p50={}ms p95={}ms | trigram p50={}ms p95={}ms, hits={}",
+                    query, legacy.get(query)[0], legacy.get(query)[1],
+                    trigram.get(query)[0], trigram.get(query)[1], results.get(query).size());
+        }
+
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT \"id\" FROM \"user\" WHERE \"name\" ILIKE ?", String.class, "%" + selective + "%"));
+        log.info("search benchmark plan:\n{}", plan);
+
+        assertThat(plan).contains(USER_NAME_TRGM_INDEX);
+        assertThat(results.get(selective)).isNotEmpty()
+                .allSatisfy(user -> assertThat(user.getName()).containsIgnoringCase(selective));
+        assertThat(results.get("Ki")).isNotEmpty()
+                .allSatisfy(user -> assertThat(user.getName()).startsWithIgnoringCase("Ki"));
+        assertThat(trigram.get(selective)[0]).isLessThan(legacy.get(selective)[0]);
+    }
+
+    /** 워밍업 2회 후 RUNS회 실행하여 [p50, p95] (ms) 반환 */
+    private static double[] measure(Supplier<?> query) {
+        query.get();
+        query.get();
+        List<Long> nanos = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            long startedAt = System.nanoTime();
+            query.get();
+            nanos.add(System.nanoTime() - startedAt);
+        }
+        nanos.sort(null);
+        return new double[] {
+                nanos.get(RUNS / 2) / 1_000_000.0,
+                nanos.get((int) Math.ceil(RUNS * 0.95) - 1) / 1_000_000.0
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package org.junotb.api.common.security;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junotb.api.user.UserRole;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuthenticatedPrincipalCodec Unit Test")
+class AuthenticatedPrincipalCodecTest {
+
+    private static final Instant EXPIRES_AT = Instant.parse("2025-03-10T19:00:00.123Z");
+
+    @Test
+    @DisplayName("encode_whenUuidUserId_thenStoresIn27BytesAndRoundTrips")
+    void encode_whenUuidUserId_thenStoresIn27BytesAndRoundTrips() throws IOException {
+        // given
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(UUID.randomUUID().toString(), UserRole.TEACHER, EXPIRES_AT);
+
+        // when
+        ByteBuf encoded = AuthenticatedPrincipalCodec.INSTANCE.getValueEncoder().encode(principal);
+        try {
+            int size = encoded.readableBytes();
+            Object decoded = AuthenticatedPrincipalCodec.INSTANCE.getValueDecoder().decode(encoded, null);
+
+            // then
+            assertThat(size).isEqualTo(27);
+            assertThat(decoded).isEqualTo(principal);
+        } finally {
+            encoded.release();
+        }
+    }
+
+    @Test
+    @DisplayName("encode_whenNonUuidUserId_thenStoresUtf8AndRoundTrips")
+    void encode_whenNonUuidUserId_thenStoresUtf8AndRoundTrips() throws IOException {
+        // given: Better-Auth 기본 ID(32자 영숫자)와 비정규 UUID 표기
+        AuthenticatedPrincipal randomId = new AuthenticatedPrincipal("Zx8QmN4vT2pL9rK6sW1yB3cH7jF0dG5a", UserRole.STUDENT, EXPIRES_AT);
+        AuthenticatedPrincipal upperCaseUuid = new AuthenticatedPrincipal(
+                UUID.randomUUID().toString().toUpperCase(), UserRole.ADMIN, EXPIRES_AT);
+
+        // when & then
+        assertThat(roundTrip(randomId)).isEqualTo(randomId);
+        assertThat(roundTrip(upperCaseUuid)).isEqualTo(upperCaseUuid);
+    }
+
+    @Test
+    @DisplayName("decode_whenUnknownVersion_thenThrowIOException")
+    void decode_whenUnknownVersion_thenThrowIOException() {
+        // given
+        ByteBuf encoded = Unpooled.wrappedBuffer(new byte[]{99, 0});
+
+        // when & then
+        assertThatThrownBy(() -> AuthenticatedPrincipalCodec.INSTANCE.getValueDecoder().decode(encoded, null))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("version=99");
+    }
+
+    private static Object roundTrip(AuthenticatedPrincipal principal) throws IOException {
+        ByteBuf encoded = AuthenticatedPrincipalCodec.INSTANCE.getValueEncoder().encode(principal);
+        try {
+            return AuthenticatedPrincipalCodec.INSTANCE.getValueDecoder().decode(encoded, null);
+        } finally {
+            encoded.release();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.context.ActiveProfiles;
 import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 
 import static org.mockito.Mockito.mock;
 
@@ -99,7 +100,7 @@ class AuthenticationFilterIntegrationTest {
         
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null); // 캐시 미스
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
@@ -124,7 +125,7 @@ class AuthenticationFilterIntegrationTest {
         // given
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
@@ -173,7 +174,7 @@ class AuthenticationFilterIntegrationTest {
         
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(expiredSession));
 
@@ -206,7 +207,7 @@ class AuthenticationFilterIntegrationTest {
         
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(cookieToken)).thenReturn(Optional.of(cookieSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
@@ -226,16 +227,15 @@ class AuthenticationFilterIntegrationTest {
     }
 
     @Test
-    @DisplayName("Redis 캐시 히트 시 DB 조회 없음")
+    @DisplayName("Redis 캐시 히트 시 세션·사용자 DB 조회 없음")
     void apiCall_withCacheHit_thenNoDbQuery() throws Exception {
         // given
         Cookie cookie = new Cookie("better-auth.session_token", validToken + ".signature");
         
         @SuppressWarnings("unchecked")
-        RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
-        when(bucket.get()).thenReturn(validSession); // 캐시 히트
-        when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
+        RBucket<AuthenticatedPrincipal> bucket = mock(RBucket.class);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
+        when(bucket.get()).thenReturn(AuthenticatedPrincipal.of(validUser, validSession)); // 캐시 히트
         
         Page<User> userPage = new PageImpl<>(List.of(validUser), PageRequest.of(0, 10), 1);
         when(userRepository.findAll(any(Specification.class), any(org.springframework.data.domain.Pageable.class)))
@@ -248,7 +248,7 @@ class AuthenticationFilterIntegrationTest {
 
         verify(bucket).get();
         verify(sessionRepository, never()).findByToken(anyString()); // DB 조회 안 함
-        verify(userRepository).findById(userId);
+        verify(userRepository, never()).findById(anyString()); // 역할은 캐시된 인증 주체에서 사용
     }
 
     @Test
@@ -260,7 +260,7 @@ class AuthenticationFilterIntegrationTest {
         
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(invalidToken)).thenReturn(Optional.empty());
 
@@ -281,7 +281,7 @@ class AuthenticationFilterIntegrationTest {
         
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.empty()); // 사용자 없음
@@ -4,6 +4,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junotb.api.auth.Session;
+import org.junotb.api.auth.SessionInvalidatedEvent;
 import org.junotb.api.auth.SessionRepository;
 import org.junotb.api.user.User;
 import org.junotb.api.user.UserRepository;
@@ -16,9 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
@@ -57,6 +61,10 @@ class AuthenticationFilterTest {
     @Mock
     private RedissonClient redissonClient;
 
+    private SessionNearCache sessionNearCache;
+
+    private SessionPrincipalStore sessionPrincipalStore;
+
     private AuthenticationFilter filter;
 
     private String validToken;
@@ -66,7 +74,14 @@ class AuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        filter = new AuthenticationFilter(sessionRepository, userRepository, redissonClient);
+        sessionNearCache = new SessionNearCache(redissonClient);
+        ReflectionTestUtils.setField(sessionNearCache, "enabled", true);
+        ReflectionTestUtils.setField(sessionNearCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(sessionNearCache, "ttlSeconds", 30L);
+        sessionNearCache.init();
+        sessionPrincipalStore = new SessionPrincipalStore(redissonClient, sessionNearCache);
+        ReflectionTestUtils.setField(sessionPrincipalStore, "sessionCacheTtlSeconds", 300L);
+        filter = new AuthenticationFilter(sessionRepository, userRepository, sessionPrincipalStore, sessionNearCache);
         
         validToken = "valid-session-token";
         userId = UUID.randomUUID().toString();
@@ -100,7 +115,7 @@ class AuthenticationFilterTest {
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null); // 캐시 미스
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
@@ -130,7 +145,7 @@ class AuthenticationFilterTest {
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
@@ -153,7 +168,7 @@ class AuthenticationFilterTest {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
@@ -193,7 +208,7 @@ class AuthenticationFilterTest {
         
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(cookieToken)).thenReturn(Optional.of(cookieSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
@@ -245,7 +260,7 @@ class AuthenticationFilterTest {
         
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(expiredSession));
 
@@ -268,7 +283,7 @@ class AuthenticationFilterTest {
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
@@ -291,18 +306,21 @@ class AuthenticationFilterTest {
         Cookie cookie = new Cookie("better-auth.session_token", validToken + ".signature");
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
         @SuppressWarnings("unchecked")
-        RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
-        when(bucket.get()).thenReturn(validSession); // 캐시 히트
-        when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
+        RBucket<AuthenticatedPrincipal> bucket = mock(RBucket.class);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
+        when(bucket.get()).thenReturn(AuthenticatedPrincipal.of(validUser, validSession)); // 캐시 히트
 
         // when
         filter.doFilterInternal(request, response, filterChain);
 
-        // then
+        // then: 캐시된 인증 주체에 역할이 포함되어 세션·사용자 DB 조회 모두 생략
         verify(bucket).get();
         verify(sessionRepository, never()).findByToken(anyString()); // DB 조회 안 함
-        verify(userRepository).findById(userId);
+        verify(userRepository, never()).findById(anyString());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities().iterator().next().getAuthority()).isEqualTo("ROLE_STUDENT");
         
         SecurityContextHolder.clearContext();
     }
@@ -316,7 +334,7 @@ class AuthenticationFilterTest {
         when(request.getCookies()).thenReturn(new Cookie[]{otherCookie, sessionCookie});
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
@@ -364,7 +382,7 @@ class AuthenticationFilterTest {
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
         @SuppressWarnings("unchecked")
         RBucket<Session> bucket = mock(RBucket.class);
-        when(redissonClient.getBucket(anyString())).thenAnswer(invocation -> bucket);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
         when(bucket.get()).thenReturn(null);
         when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
         when(userRepository.findById(userId)).thenReturn(Optional.of(teacher));
@@ -380,4 +398,68 @@ class AuthenticationFilterTest {
         
         SecurityContextHolder.clearContext();
     }
+
+    @Test
+    @DisplayName("near cache 히트 시 Redis·DB 조회 없음")
+    void doFilterInternal_whenNearCacheHit_thenNoRedisOrDbLookup() throws Exception {
+        // given
+        Cookie cookie = new Cookie("better-auth.session_token", validToken + ".signature");
+        when(request.getCookies()).thenReturn(new Cookie[]{cookie});
+        @SuppressWarnings("unchecked")
+        RBucket<Session> bucket = mock(RBucket.class);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
+        when(bucket.get()).thenReturn(null);
+        when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(validUser));
+
+        // when: 같은 토큰으로 두 번 요청
+        filter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then: 두 번째 요청은 near cache에서 인증
+        verify(redissonClient, times(1)).getBucket(anyString(), any(Codec.class));
+        verify(sessionRepository, times(1)).findByToken(validToken);
+        verify(userRepository, times(1)).findById(userId);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo(userId);
+        assertThat(authentication.getAuthorities().iterator().next().getAuthority()).isEqualTo("ROLE_STUDENT");
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("near cache 사용자 단위 무효화 후 역할을 다시 조회하고 무효화 메시지를 발행")
+    void doFilterInternal_whenUserInvalidated_thenReloadRole() throws Exception {
+        // given
+        User teacher = validUser.toBuilder().role(UserRole.TEACHER).build();
+        Cookie cookie = new Cookie("better-auth.session_token", validToken + ".signature");
+        when(request.getCookies()).thenReturn(new Cookie[]{cookie});
+        @SuppressWarnings("unchecked")
+        RBucket<Session> bucket = mock(RBucket.class);
+        when(redissonClient.getBucket(anyString(), any(Codec.class))).thenAnswer(invocation -> bucket);
+        when(bucket.get()).thenReturn(null);
+        when(sessionRepository.findByToken(validToken)).thenReturn(Optional.of(validSession));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(validUser), Optional.of(teacher));
+        RTopic topic = mock(RTopic.class);
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+
+        // when: 역할 변경으로 사용자 단위 무효화
+        filter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        sessionNearCache.invalidate(SessionInvalidatedEvent.ofUser(userId));
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(topic).publish("user:" + userId);
+        verify(sessionRepository, times(2)).findByToken(validToken);
+        verify(userRepository, times(2)).findById(userId);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities().iterator().next().getAuthority()).isEqualTo("ROLE_TEACHER");
+
+        SecurityContextHolder.clearContext();
+    }
 }
@@ -0,0 +1,143 @@
+package org.junotb.api.common.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junotb.api.auth.SessionInvalidatedEvent;
+import org.junotb.api.user.UserRole;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLongAsync;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RKeys;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionPrincipalStore Unit Test")
+class SessionPrincipalStoreTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private SessionNearCache sessionNearCache;
+
+    private SessionPrincipalStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SessionPrincipalStore(redissonClient, sessionNearCache);
+        ReflectionTestUtils.setField(store, "sessionCacheTtlSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("put_whenGenerationUnchanged_thenCachesPrincipalAndIndexesTokenInOneScript")
+    @SuppressWarnings("unchecked")
+    void put_whenGenerationUnchanged_thenCachesPrincipalAndIndexesTokenInOneScript() {
+        // given
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(USER_ID, UserRole.STUDENT, Instant.now().plusSeconds(3600));
+        RScript script = mock(RScript.class);
+        given(redissonClient.getScript(any(Codec.class))).willReturn(script);
+        given(script.eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(), any(Object[].class)))
+                .willReturn(1L);
+
+        // when
+        boolean stored = store.put("token-1", principal, 3L);
+
+        // then
+        ArgumentCaptor<List<Object>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(script).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), keys.capture(), args.capture());
+        assertThat(stored).isTrue();
+        assertThat(keys.getValue())
+                .containsExactly("session:token-1", "session:user:" + USER_ID, "session:user:" + USER_ID + ":gen");
+        Object[] values = args.getValue();
+        assertThat(values).hasSize(4);
+        assertThat(new String((byte[]) values[1], StandardCharsets.UTF_8)).isEqualTo("300");
+        assertThat(new String((byte[]) values[2], StandardCharsets.UTF_8)).isEqualTo("3");
+        assertThat(new String((byte[]) values[3], StandardCharsets.UTF_8)).isEqualTo("token-1");
+    }
+
+    @Test
+    @DisplayName("put_whenGenerationChangedDuringLookup_thenReturnsFalse")
+    void put_whenGenerationChangedDuringLookup_thenReturnsFalse() {
+        // given: 조회 도중 사용자 단위 무효화로 세대가 올라가 스크립트가 저장을 거부
+        AuthenticatedPrincipal principal = new AuthenticatedPrincipal(USER_ID, UserRole.STUDENT, Instant.now().plusSeconds(3600));
+        RScript script = mock(RScript.class);
+        given(redissonClient.getScript(any(Codec.class))).willReturn(script);
+        given(script.eval(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class), anyList(), any(Object[].class)))
+                .willReturn(0L);
+
+        // when & then
+        assertThat(store.put("token-1", principal, 3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("onSessionInvalidated_whenUserEvent_thenDeletesAllIndexedTokensBeforeNearCache")
+    @SuppressWarnings("unchecked")
+    void onSessionInvalidated_whenUserEvent_thenDeletesAllIndexedTokensBeforeNearCache() {
+        // given
+        RBatch batch = mock(RBatch.class);
+        RAtomicLongAsync generation = mock(RAtomicLongAsync.class);
+        given(redissonClient.createBatch()).willReturn(batch);
+        given(batch.getAtomicLong("session:user:" + USER_ID + ":gen")).willReturn(generation);
+        RSet<Object> index = mock(RSet.class);
+        RKeys keys = mock(RKeys.class);
+        given(redissonClient.getSet(eq("session:user:" + USER_ID), any(Codec.class))).willReturn(index);
+        given(index.readAll()).willReturn(Set.of("token-1", "token-2"));
+        given(redissonClient.getKeys()).willReturn(keys);
+        SessionInvalidatedEvent event = SessionInvalidatedEvent.ofUser(USER_ID);
+
+        // when
+        store.onSessionInvalidated(event);
+
+        // then
+        ArgumentCaptor<String[]> deletedKeys = ArgumentCaptor.forClass(String[].class);
+        InOrder inOrder = inOrder(generation, batch, keys, sessionNearCache);
+        inOrder.verify(generation).incrementAndGetAsync();
+        inOrder.verify(batch).execute();
+        inOrder.verify(keys).delete(deletedKeys.capture());
+        inOrder.verify(sessionNearCache).invalidate(event);
+        assertThat(deletedKeys.getValue())
+                .containsExactlyInAnyOrder("session:token-1", "session:token-2", "session:user:" + USER_ID);
+    }
+
+    @Test
+    @DisplayName("get_whenCachedPrincipalExpired_thenDeleteAndReturnEmpty")
+    @SuppressWarnings("unchecked")
+    void get_whenCachedPrincipalExpired_thenDeleteAndReturnEmpty() {
+        // given
+        RBucket<Object> bucket = mock(RBucket.class);
+        given(redissonClient.getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(bucket.get()).willReturn(new AuthenticatedPrincipal(USER_ID, UserRole.STUDENT, Instant.now().minusSeconds(1)));
+
+        // when & then
+        assertThat(store.get("token-1")).isEmpty();
+        verify(bucket).delete();
+    }
+}
@@ -0,0 +1,175 @@
+package org.junotb.api.common.web;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junotb.api.config.PostgresTestcontainersConfig;
+import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
+
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 깊은 커서의 keyset 조회 실행 계획 검증 (PostgreSQL Testcontainers)
+ * Keyset이 실제로 만든 SQL(p6spy로 캡처)을 EXPLAIN ANALYZE하여, 커서 앞의 행을 읽고 버리지 않고
+ * (정렬 키, ID) 인덱스를 커서 위치부터 읽는지 확인합니다. (KeysetTest는 H2에서 결과만 검증)
+ */
+@Slf4j
+@EnabledIfDockerAvailable
+@Import(PostgresTestcontainersConfig.class)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+@DisplayName("Keyset PostgreSQL Integration Test")
+class KeysetPostgresTest {
+
+    private static final String SORT_KEY_INDEX = "ix_schedule_starts_at_id";
+    private static final int SCHEDULES = 100_000;
+    private static final int CURSOR_DEPTH = 90_000;
+    private static final int PAGE_SIZE = 20;
+    private static final Pattern ROWS_REMOVED = Pattern.compile("Rows Removed by Filter: (\\d+)");
+
+    private static final Keyset<Schedule, OffsetDateTime, Long> KEYSET = new Keyset<>(
+            "startsAt", Schedule::getStartsAt, OffsetDateTime::parse,
+            "id", Schedule::getId, Long::valueOf
+    );
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+    }
+
+    /** 측정 대상 스레드에서 마지막으로 실행된 schedule 조회 SQL (바인딩 값 포함) */
+    static class SqlCapture extends SimpleJdbcEventListener {
+
+        private volatile Thread target;
+        private volatile String lastSql;
+
+        void start() {
+            lastSql = null;
+            target = Thread.currentThread();
+        }
+
+        String stop() {
+            target = null;
+            return lastSql;
+        }
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            if (Thread.currentThread() == target && statementInformation.getSql().contains("schedule")) {
+                lastSql = statementInformation.getSqlWithValues();
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        if (jdbcTemplate.queryForObject("SELECT count(*) FROM \"schedule\"", Long.class) >= SCHEDULES) {
+            return;
+        }
+        jdbcTemplate.update("""
+            INSERT INTO "user" ("id", "name", "email", "emailVerified", "image", "createdAt", "updatedAt", "role", "status")
+            VALUES ('keyset-teacher', 'Keyset Teacher', 'keyset@test.com', true, '', now(), now(), 'TEACHER', 'ACTIVE')
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO "course" ("title", "status", "createdAt", "updatedAt")
+            VALUES ('Keyset Course', 'ACTIVE', now(), now())
+            """);
+        // 4건씩 같은 시작 시각 (정렬 키 동률은 ID로 구분)
+        jdbcTemplate.update("""
+            INSERT INTO "schedule" ("userId", "courseId", "version", "startsAt", "endsAt", "status", "createdAt", "updatedAt")
+            SELECT 'keyset-teacher', (SELECT min("id") FROM "course"), 0,
+                   timestamptz '2026-01-01 00:00:00+00' + (g / 4) * interval '1 minute',
+                   timestamptz '2026-01-01 01:00:00+00' + (g / 4) * interval '1 minute',
+                   'SCHEDULED', now(), now()
+            FROM generate_series(1, ?) AS g
+            """, SCHEDULES);
+        jdbcTemplate.execute("ANALYZE \"schedule\"");
+    }
+
+    @Test
+    @DisplayName("fetch_whenDeepCursorDesc_thenIndexScanStartsAtCursor")
+    void fetch_whenDeepCursorDesc_thenIndexScanStartsAtCursor() {
+        assertDeepCursorPlan(Sort.Direction.DESC, """
+            SELECT "id", "startsAt" FROM "schedule" ORDER BY "startsAt" DESC, "id" DESC OFFSET ? LIMIT 1
+            """);
+    }
+
+    @Test
+    @DisplayName("fetch_whenDeepCursorAsc_thenIndexScanStartsAtCursor")
+    void fetch_whenDeepCursorAsc_thenIndexScanStartsAtCursor() {
+        assertDeepCursorPlan(Sort.Direction.ASC, """
+            SELECT "id", "startsAt" FROM "schedule" ORDER BY "startsAt", "id" OFFSET ? LIMIT 1
+            """);
+    }
+
+    private void assertDeepCursorPlan(Sort.Direction direction, String cursorRowSql) {
+        // given: 앞에서 CURSOR_DEPTH번째 행을 마지막으로 받은 커서
+        Schedule cursorRow = jdbcTemplate.queryForObject(cursorRowSql, (rs, rowNum) -> Schedule.builder()
+                .id(rs.getLong("id"))
+                .startsAt(rs.getObject("startsAt", OffsetDateTime.class))
+                .build(), CURSOR_DEPTH - 1);
+        CursorRequest request = new CursorRequest(KEYSET.encode(cursorRow), PAGE_SIZE, direction, false);
+        Specification<Schedule> all = (root, query, cb) -> cb.conjunction();
+
+        // when
+        sqlCapture.start();
+        CursorPageResponse<Schedule> page = KEYSET.fetch(scheduleRepository, all, request);
+        String sql = sqlCapture.stop();
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class));
+        log.info("Deep cursor keyset plan ({}):\n{}", direction, plan);
+
+        // then: 결과가 커서 바로 다음 행부터 이어짐
+        Long expectedFirstId = jdbcTemplate.queryForObject(
+                cursorRowSql.replace("\"id\", \"startsAt\"", "\"id\""), Long.class, CURSOR_DEPTH);
+        assertThat(page.items()).hasSize(PAGE_SIZE);
+        assertThat(page.items().get(0).getId()).isEqualTo(expectedFirstId);
+
+        // then: 정렬 키 범위 조건이 인덱스 조건으로 쓰이고, 커서 앞의 행을 읽고 버리지 않음 (동률 행만 필터)
+        assertThat(plan).contains(SORT_KEY_INDEX).contains("Index Cond").doesNotContain("Seq Scan");
+        assertThat(rowsRemovedByFilter(plan)).isLessThan(PAGE_SIZE);
+    }
+
+    private static long rowsRemovedByFilter(String plan) {
+        Matcher matcher = ROWS_REMOVED.matcher(plan);
+        long removed = 0;
+        while (matcher.find()) {
+            removed += Long.parseLong(matcher.group(1));
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,166 @@
+package org.junotb.api.common.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junotb.api.course.Course;
+import org.junotb.api.course.CourseRepository;
+import org.junotb.api.course.CourseStatus;
+import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleRepository;
+import org.junotb.api.schedule.ScheduleStatus;
+import org.junotb.api.user.User;
+import org.junotb.api.user.UserRepository;
+import org.junotb.api.user.UserRole;
+import org.junotb.api.user.UserStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("Keyset Integration Test")
+class KeysetTest {
+
+    private static final Keyset<Schedule, OffsetDateTime, Long> KEYSET = new Keyset<>(
+        "startsAt", Schedule::getStartsAt, OffsetDateTime::parse,
+        "id", Schedule::getId, Long::valueOf
+    );
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private User teacher;
+    private List<Schedule> teacherSchedules;
+
+    @BeforeEach
+    void setUp() {
+        teacher = saveTeacher("teacher@test.com");
+        User otherTeacher = saveTeacher("other@test.com");
+        Course course = courseRepository.save(Course.builder()
+            .title("Keyset Course")
+            .description("cursor")
+            .status(CourseStatus.ACTIVE)
+            .build());
+
+        // 같은 시작 시각이 3건씩 겹치도록 생성하여 (startsAt, id) 동률 처리 검증
+        OffsetDateTime base = OffsetDateTime.of(2024, 1, 15, 10, 0, 0, 0, ZoneOffset.UTC);
+        teacherSchedules = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            teacherSchedules.add(saveSchedule(teacher, course, base.plusHours(i / 3)));
+        }
+        for (int i = 0; i < 3; i++) {
+            saveSchedule(otherTeacher, course, base.plusHours(i));
+        }
+    }
+
+    @Test
+    @DisplayName("fetch_whenWalkingAllPagesDesc_thenEveryRowOnceInKeyOrder")
+    void fetch_whenWalkingAllPagesDesc_thenEveryRowOnceInKeyOrder() {
+        // given
+        Specification<Schedule> filter = (root, query, cb) -> cb.equal(root.get("user").get("id"), teacher.getId());
+        List<Long> expected = teacherSchedules.stream()
+            .sorted(Comparator.comparing(Schedule::getStartsAt).thenComparing(Schedule::getId).reversed())
+            .map(Schedule::getId)
+            .toList();
+
+        // when
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        CursorPageResponse<Schedule> page;
+        int pages = 0;
+        do {
+            page = KEYSET.fetch(scheduleRepository, filter, new CursorRequest(cursor, 4, Sort.Direction.DESC, null));
+            page.items().forEach(schedule -> walked.add(schedule.getId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (page.hasNext());
+
+        // then
+        assertThat(walked).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(7);
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.totalItems()).isNull();
+    }
+
+    @Test
+    @DisplayName("fetch_whenAscWithTotal_thenCountOnlyFilteredRows")
+    void fetch_whenAscWithTotal_thenCountOnlyFilteredRows() {
+        // given
+        Specification<Schedule> filter = (root, query, cb) -> cb.equal(root.get("user").get("id"), teacher.getId());
+
+        // when
+        CursorPageResponse<Schedule> first = KEYSET.fetch(scheduleRepository, filter,
+            new CursorRequest(null, 10, Sort.Direction.ASC, true));
+        CursorPageResponse<Schedule> second = KEYSET.fetch(scheduleRepository, filter,
+            new CursorRequest(first.nextCursor(), 10, Sort.Direction.ASC, false));
+
+        // then
+        assertThat(first.totalItems()).isEqualTo(25L);
+        assertThat(first.items()).hasSize(10);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.totalItems()).isNull();
+        assertThat(second.items().get(0).getStartsAt())
+            .isAfterOrEqualTo(first.items().get(first.items().size() - 1).getStartsAt());
+        assertThat(second.items()).extracting(Schedule::getId)
+            .doesNotContainAnyElementsOf(first.items().stream().map(Schedule::getId).toList());
+    }
+
+    @Test
+    @DisplayName("fetch_whenCursorMalformed_thenThrowIllegalArgumentException")
+    void fetch_whenCursorMalformed_thenThrowIllegalArgumentException() {
+        // given
+        Specification<Schedule> filter = (root, query, cb) -> cb.conjunction();
+
+        // when & then
+        assertThatThrownBy(() -> KEYSET.fetch(scheduleRepository, filter, new CursorRequest("not-a-cursor", 10, null, null)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("잘못된 커서");
+    }
+
+    @Test
+    @DisplayName("limit_whenSizeOutOfRange_thenClampToDefaults")
+    void limit_whenSizeOutOfRange_thenClampToDefaults() {
+        assertThat(new CursorRequest(null, null, null, null).limit()).isEqualTo(CursorRequest.DEFAULT_SIZE);
+        assertThat(new CursorRequest(null, 0, null, null).limit()).isEqualTo(CursorRequest.DEFAULT_SIZE);
+        assertThat(new CursorRequest(null, 10_000, null, null).limit()).isEqualTo(CursorRequest.MAX_SIZE);
+    }
+
+    private User saveTeacher(String email) {
+        return userRepository.save(User.builder()
+            .id(UUID.randomUUID().toString())
+            .name("Teacher")
+            .email(email)
+            .emailVerified(true)
+            .image("")
+            .role(UserRole.TEACHER)
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+
+    private Schedule saveSchedule(User owner, Course course, OffsetDateTime startsAt) {
+        return scheduleRepository.save(Schedule.builder()
+            .user(owner)
+            .course(course)
+            .startsAt(startsAt)
+            .endsAt(startsAt.plusMinutes(30))
+            .status(ScheduleStatus.SCHEDULED)
+            .build());
+    }
+}
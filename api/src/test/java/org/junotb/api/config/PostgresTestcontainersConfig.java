@@ -0,0 +1,32 @@
+package org.junotb.api.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * PostgreSQL Testcontainers 공통 설정
+ * 컨테이너를 빈으로 등록하고 {@link ServiceConnection}으로 데이터소스 접속 정보를 연결합니다.
+ * 같은 설정을 쓰는 테스트끼리는 캐시된 컨텍스트와 함께 컨테이너도 재사용됩니다.
+ * 사용: {@code @Import(PostgresTestcontainersConfig.class)} (Docker가 없으면 {@code @EnabledIfDockerAvailable}로 건너뜀)
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestcontainersConfig {
+
+    private static final DockerImageName POSTGRES_IMAGE = DockerImageName.parse("postgres:16-alpine");
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return newContainer();
+    }
+
+    /**
+     * 스프링 컨텍스트 없이 JDBC로 직접 접속하는 테스트용 컨테이너 (시작은 호출 측에서 관리)
+     */
+    public static PostgreSQLContainer<?> newContainer() {
+        return new PostgreSQLContainer<>(POSTGRES_IMAGE);
+    }
+}
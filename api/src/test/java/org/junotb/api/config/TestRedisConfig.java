@@ -1,7 +1,11 @@
 package org.junotb.api.config;
 
+import org.redisson.api.RBucket;
 import org.redisson.api.RLock;
+import org.redisson.api.RSet;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -9,6 +13,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -35,6 +40,9 @@ public class TestRedisConfig {
         
         // 기본 동작 설정
         when(redissonClient.getLock(anyString())).thenReturn(lock);
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(mock(RTopic.class));
+        when(redissonClient.getBucket(anyString())).thenReturn(mock(RBucket.class));
+        when(redissonClient.getSet(anyString())).thenReturn(mock(RSet.class));
         
         return redissonClient;
     }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junotb.api.common.exception.DuplicateResourceException;
+import org.junotb.api.common.search.SearchTerm;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -31,6 +32,9 @@ class CourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private CourseSearchRepository courseSearchRepository;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -217,4 +221,27 @@ class CourseServiceTest {
         assertThat(result.get(CourseStatus.ACTIVE)).isEqualTo(10L);
         assertThat(result.get(CourseStatus.INACTIVE)).isEqualTo(5L);
     }
+
+    @Test
+    @DisplayName("search_whenLimitMissing_thenUseDefaultLimit")
+    void search_whenLimitMissing_thenUseDefaultLimit() {
+        // given
+        Course course = Course.builder().id(1L).title("Java Basics").status(CourseStatus.ACTIVE).build();
+        given(courseSearchRepository.search(new SearchTerm("Java", 20), CourseStatus.ACTIVE)).willReturn(List.of(course));
+
+        // when
+        List<Course> result = courseService.search("Java", CourseStatus.ACTIVE, null);
+
+        // then
+        assertThat(result).containsExactly(course);
+    }
+
+    @Test
+    @DisplayName("search_whenQueryBlank_thenThrowException")
+    void search_whenQueryBlank_thenThrowException() {
+        // when & then
+        assertThatThrownBy(() -> courseService.search("", null, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        then(courseSearchRepository).should(never()).search(any(), any());
+    }
 }
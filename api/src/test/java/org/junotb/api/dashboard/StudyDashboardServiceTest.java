@@ -0,0 +1,171 @@
+package org.junotb.api.dashboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junotb.api.course.Course;
+import org.junotb.api.dashboard.dto.DashboardNextClassResponse;
+import org.junotb.api.dashboard.dto.StudyDashboardResponse;
+import org.junotb.api.registration.Registration;
+import org.junotb.api.registration.RegistrationRepository;
+import org.junotb.api.registration.RegistrationStatus;
+import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleStatus;
+import org.junotb.api.user.User;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyDashboardService Unit Test")
+class StudyDashboardServiceTest {
+
+    private static final String STUDENT_ID = "student-1";
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    @Mock
+    private StudyDashboardStore studyDashboardStore;
+
+    @InjectMocks
+    private StudyDashboardService studyDashboardService;
+
+    @Test
+    @DisplayName("getDashboard_whenSnapshotCached_thenServeWithoutDatabase")
+    void getDashboard_whenSnapshotCached_thenServeWithoutDatabase() {
+        // given: 첫 예정 수업은 이미 종료, 두 번째 수업이 다음 수업
+        OffsetDateTime now = OffsetDateTime.now();
+        DashboardNextClassResponse finished = nextClass(1L, now.minusHours(2));
+        DashboardNextClassResponse upcoming = nextClass(2L, now.plusDays(1));
+        StudyDashboardSnapshot snapshot = new StudyDashboardSnapshot(
+            List.of(finished, upcoming), true, 2L, 7L, List.of(), now.minusMinutes(5));
+        given(studyDashboardStore.get(STUDENT_ID)).willReturn(Optional.of(snapshot));
+
+        // when
+        StudyDashboardResponse response = studyDashboardService.getDashboard(STUDENT_ID);
+
+        // then
+        assertThat(response.nextClass()).isEqualTo(upcoming);
+        assertThat(response.stats().activeCourseCount()).isEqualTo(2L);
+        assertThat(response.stats().completedClassCount()).isEqualTo(7L);
+        verifyNoInteractions(registrationRepository);
+    }
+
+    @Test
+    @DisplayName("getDashboard_whenSnapshotMissing_thenBuildAndStore")
+    void getDashboard_whenSnapshotMissing_thenBuildAndStore() {
+        // given: 예정 수업 7건 (보관 한도 5건 초과), 최근 종료 수업 1건
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Registration> upcoming = IntStream.rangeClosed(1, StudyDashboardService.UPCOMING_LIMIT + 1)
+            .mapToObj(i -> registration(schedule((long) i, now.plusDays(i), ScheduleStatus.SCHEDULED)))
+            .toList();
+        given(studyDashboardStore.get(STUDENT_ID)).willReturn(Optional.empty());
+        given(registrationRepository.findNextRegistrationsForStudent(eq(STUDENT_ID), any(OffsetDateTime.class), any(Pageable.class)))
+            .willReturn(upcoming);
+        given(registrationRepository.findRecentCompletedRegistrationsByStudentId(eq(STUDENT_ID), any(Pageable.class)))
+            .willReturn(List.of(registration(schedule(100L, now.minusDays(1), ScheduleStatus.ATTENDED))));
+        given(registrationRepository.countActiveCoursesByStudentId(STUDENT_ID)).willReturn(1L);
+        given(registrationRepository.countCompletedClassesByStudentId(STUDENT_ID)).willReturn(3L);
+
+        // when
+        StudyDashboardResponse response = studyDashboardService.getDashboard(STUDENT_ID);
+
+        // then
+        ArgumentCaptor<StudyDashboardSnapshot> captor = ArgumentCaptor.forClass(StudyDashboardSnapshot.class);
+        then(studyDashboardStore).should().put(eq(STUDENT_ID), captor.capture());
+        StudyDashboardSnapshot stored = captor.getValue();
+        assertThat(stored.upcomingClasses()).hasSize(StudyDashboardService.UPCOMING_LIMIT);
+        assertThat(stored.hasMoreUpcoming()).isTrue();
+
+        assertThat(response.nextClass().scheduleId()).isEqualTo(1L);
+        assertThat(response.nextClass().instructorName()).isEqualTo("Teacher");
+        assertThat(response.stats().activeCourseCount()).isEqualTo(1L);
+        assertThat(response.stats().completedClassCount()).isEqualTo(3L);
+        assertThat(response.recentSchedules()).extracting(summary -> summary.id()).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("getDashboard_whenCachedUpcomingExhausted_thenRebuild")
+    void getDashboard_whenCachedUpcomingExhausted_thenRebuild() {
+        // given: 보관한 예정 수업이 모두 지났고 뒤에 수업이 더 있음
+        OffsetDateTime now = OffsetDateTime.now();
+        StudyDashboardSnapshot exhausted = new StudyDashboardSnapshot(
+            List.of(nextClass(1L, now.minusHours(2))), true, 1L, 0L, List.of(), now.minusDays(1));
+        given(studyDashboardStore.get(STUDENT_ID)).willReturn(Optional.of(exhausted));
+        given(registrationRepository.findNextRegistrationsForStudent(eq(STUDENT_ID), any(OffsetDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(registration(schedule(2L, now.plusDays(1), ScheduleStatus.SCHEDULED))));
+
+        // when
+        StudyDashboardResponse response = studyDashboardService.getDashboard(STUDENT_ID);
+
+        // then
+        assertThat(response.nextClass().scheduleId()).isEqualTo(2L);
+        then(studyDashboardStore).should().put(eq(STUDENT_ID), any(StudyDashboardSnapshot.class));
+    }
+
+    @Test
+    @DisplayName("onStudyDashboardChanged_whenScheduleChanged_thenRefreshRegisteredStudents")
+    void onStudyDashboardChanged_whenScheduleChanged_thenRefreshRegisteredStudents() {
+        // given
+        given(registrationRepository.findRegisteredStudentIdsByScheduleId(10L)).willReturn(List.of("s1", "s2"));
+
+        // when
+        studyDashboardService.onStudyDashboardChanged(StudyDashboardChangedEvent.ofSchedule(10L));
+
+        // then
+        then(studyDashboardStore).should().put(eq("s1"), any(StudyDashboardSnapshot.class));
+        then(studyDashboardStore).should().put(eq("s2"), any(StudyDashboardSnapshot.class));
+        then(studyDashboardStore).should(never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("onStudyDashboardChanged_whenStudentChanged_thenRefreshOnlyThatStudent")
+    void onStudyDashboardChanged_whenStudentChanged_thenRefreshOnlyThatStudent() {
+        // when
+        studyDashboardService.onStudyDashboardChanged(StudyDashboardChangedEvent.ofStudent(STUDENT_ID));
+
+        // then
+        then(studyDashboardStore).should().put(eq(STUDENT_ID), any(StudyDashboardSnapshot.class));
+        then(registrationRepository).should(never()).findRegisteredStudentIdsByScheduleId(any());
+    }
+
+    private static DashboardNextClassResponse nextClass(Long scheduleId, OffsetDateTime startsAt) {
+        return new DashboardNextClassResponse(scheduleId, "Course", startsAt, startsAt.plusHours(1), "Teacher", null, null);
+    }
+
+    private static Schedule schedule(Long id, OffsetDateTime startsAt, ScheduleStatus status) {
+        return Schedule.builder()
+            .id(id)
+            .user(User.builder().id("teacher-1").name("Teacher").build())
+            .course(Course.builder().id(1L).title("Course").build())
+            .startsAt(startsAt)
+            .endsAt(startsAt.plusHours(1))
+            .status(status)
+            .build();
+    }
+
+    private static Registration registration(Schedule schedule) {
+        return Registration.builder()
+            .schedule(schedule)
+            .student(User.builder().id(STUDENT_ID).name("Student").build())
+            .status(RegistrationStatus.REGISTERED)
+            .build();
+    }
+}
@@ -0,0 +1,235 @@
+package org.junotb.api.dashboard;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junotb.api.config.PostgresTestcontainersConfig;
+import org.junotb.api.course.Course;
+import org.junotb.api.course.CourseRepository;
+import org.junotb.api.course.CourseStatus;
+import org.junotb.api.dashboard.dto.ScheduleSummaryResponse;
+import org.junotb.api.dashboard.dto.TeachDashboardResponse;
+import org.junotb.api.registration.Registration;
+import org.junotb.api.registration.RegistrationRepository;
+import org.junotb.api.registration.RegistrationStatus;
+import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleRepository;
+import org.junotb.api.schedule.ScheduleStatus;
+import org.junotb.api.user.User;
+import org.junotb.api.user.UserRepository;
+import org.junotb.api.user.UserRole;
+import org.junotb.api.user.UserStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 강사 대시보드 쿼리 수 통합 테스트 (PostgreSQL Testcontainers)
+ * p6spy 리스너로 테스트 스레드에서 실행된 SQL 문 수를 세어 대시보드 조회가 1회 왕복인지 검증합니다.
+ */
+@EnabledIfDockerAvailable
+@Import(PostgresTestcontainersConfig.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("TeachDashboardQueryCountTest Integration Test")
+class TeachDashboardQueryCountTest {
+
+    private static final int RECENT_SEEDED = 12;
+
+    @TestConfiguration
+    static class QueryCounterConfig {
+
+        @Bean
+        QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+    }
+
+    /** 측정 대상 스레드에서 실행된 SQL 문 수를 센다 (스케줄러 등 백그라운드 쿼리 제외) */
+    static class QueryCounter extends SimpleJdbcEventListener {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile Thread target;
+
+        void start() {
+            count.set(0);
+            target = Thread.currentThread();
+        }
+
+        int stop() {
+            target = null;
+            return count.get();
+        }
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            if (Thread.currentThread() == target) {
+                count.incrementAndGet();
+            }
+        }
+    }
+
+    @Autowired
+    private TeachDashboardService teachDashboardService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private User teacher;
+    private User student;
+    private User otherStudent;
+    private Course course;
+    private OffsetDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = OffsetDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        teacher = saveUser("Teacher", UserRole.TEACHER);
+        student = saveUser("Student A", UserRole.STUDENT);
+        otherStudent = saveUser("Student B", UserRole.STUDENT);
+        course = courseRepository.save(Course.builder()
+            .title("Dashboard Course")
+            .description("query count")
+            .status(CourseStatus.ACTIVE)
+            .build());
+    }
+
+    @Test
+    @DisplayName("getDashboard_whenTeacherHasSchedules_thenSingleQueryFillsAllSections")
+    void getDashboard_whenTeacherHasSchedules_thenSingleQueryFillsAllSections() {
+        // given: 오늘 수업 1건, 이후 수업 2건, 완료 수업 12건 (각 수업마다 수강생 등록)
+        ZoneId zone = ZoneId.systemDefault();
+        OffsetDateTime dayStart = LocalDate.now(zone).atStartOfDay(zone).toOffsetDateTime();
+        Schedule today = saveSchedule(dayStart.plusMinutes(1), ScheduleStatus.SCHEDULED);
+        Schedule tomorrow = saveSchedule(now.plusDays(1), ScheduleStatus.SCHEDULED);
+        Schedule dayAfter = saveSchedule(now.plusDays(2), ScheduleStatus.SCHEDULED);
+        register(today, student, RegistrationStatus.REGISTERED);
+        register(tomorrow, student, RegistrationStatus.REGISTERED);
+        // 취소된 최신 등록은 수강생 이름에 반영되지 않아야 함
+        register(tomorrow, otherStudent, RegistrationStatus.CANCELED);
+        register(dayAfter, otherStudent, RegistrationStatus.REGISTERED);
+
+        List<Schedule> completed = new ArrayList<>();
+        for (int i = 1; i <= RECENT_SEEDED; i++) {
+            Schedule schedule = saveSchedule(now.minusDays(i + 1L),
+                i % 2 == 0 ? ScheduleStatus.ATTENDED : ScheduleStatus.ABSENT);
+            register(schedule, student, RegistrationStatus.REGISTERED);
+            completed.add(schedule);
+        }
+
+        List<Schedule> upcoming = new ArrayList<>(List.of(tomorrow, dayAfter));
+        if (today.getEndsAt().isAfter(now)) {
+            upcoming.add(today);
+        }
+        Schedule expectedNext = upcoming.stream().min(Comparator.comparing(Schedule::getStartsAt)).orElseThrow();
+
+        // when
+        queryCounter.start();
+        TeachDashboardResponse response = teachDashboardService.getDashboard(teacher.getId());
+        int statements = queryCounter.stop();
+
+        // then
+        assertThat(statements).isEqualTo(1);
+
+        assertThat(response.nextClass()).isNotNull();
+        assertThat(response.nextClass().scheduleId()).isEqualTo(expectedNext.getId());
+        assertThat(response.nextClass().courseTitle()).isEqualTo("Dashboard Course");
+        assertThat(response.nextClass().studentName())
+            .isEqualTo(expectedNext == dayAfter ? "Student B" : "Student A");
+
+        assertThat(response.stats().upcomingClassCount()).isEqualTo(upcoming.size());
+        assertThat(response.stats().todayClassCount()).isEqualTo(response.todaySchedules().size());
+        assertThat(response.todaySchedules())
+            .extracting(ScheduleSummaryResponse::id)
+            .contains(today.getId());
+
+        assertThat(response.recentCompletedSchedules())
+            .hasSize(TeachDashboardQueryRepository.RECENT_COMPLETED_LIMIT)
+            .extracting(ScheduleSummaryResponse::id)
+            .containsExactlyElementsOf(completed.stream()
+                .limit(TeachDashboardQueryRepository.RECENT_COMPLETED_LIMIT)
+                .map(Schedule::getId)
+                .toList());
+        assertThat(response.recentCompletedSchedules())
+            .allSatisfy(summary -> {
+                assertThat(summary.studentName()).isEqualTo("Student A");
+                assertThat(summary.instructorName()).isEqualTo("Teacher");
+                assertThat(summary.courseTitle()).isEqualTo("Dashboard Course");
+            });
+    }
+
+    @Test
+    @DisplayName("getDashboard_whenTeacherHasNoSchedules_thenEmptySectionsWithSingleQuery")
+    void getDashboard_whenTeacherHasNoSchedules_thenEmptySectionsWithSingleQuery() {
+        // when
+        queryCounter.start();
+        TeachDashboardResponse response = teachDashboardService.getDashboard(teacher.getId());
+        int statements = queryCounter.stop();
+
+        // then
+        assertThat(statements).isEqualTo(1);
+        assertThat(response.nextClass()).isNull();
+        assertThat(response.stats().upcomingClassCount()).isZero();
+        assertThat(response.stats().todayClassCount()).isZero();
+        assertThat(response.todaySchedules()).isEmpty();
+        assertThat(response.recentCompletedSchedules()).isEmpty();
+    }
+
+    private User saveUser(String name, UserRole role) {
+        String id = UUID.randomUUID().toString();
+        return userRepository.save(User.builder()
+            .id(id)
+            .name(name)
+            .email(id + "@test.com")
+            .emailVerified(true)
+            .image("")
+            .role(role)
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+
+    private Schedule saveSchedule(OffsetDateTime startsAt, ScheduleStatus status) {
+        return scheduleRepository.save(Schedule.builder()
+            .user(teacher)
+            .course(course)
+            .startsAt(startsAt)
+            .endsAt(startsAt.plusHours(1))
+            .status(status)
+            .build());
+    }
+
+    private void register(Schedule schedule, User registrant, RegistrationStatus status) {
+        registrationRepository.save(Registration.create(schedule, registrant, status));
+    }
+}
@@ -7,6 +7,7 @@ import org.junotb.api.common.security.AuthenticationFilter;
 import org.junotb.api.schedulefeedback.ScheduleFeedbackService;
 import org.junotb.api.schedulefeedback.ScheduleFeedbackStatus;
 import org.junotb.api.schedulefeedback.dto.ScheduleFeedbackResponse;
+import org.junotb.api.schedulefeedback.dto.VideoUploadProgressResponse;
 import org.junotb.api.schedulefeedback.dto.VideoUploadResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -19,6 +20,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.time.OffsetDateTime;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -95,6 +97,35 @@ class LessonControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("appendVideoChunk_whenValidRequest_thenReturn200")
+    void appendVideoChunk_whenValidRequest_thenReturn200() throws Exception {
+        Long scheduleId = 1L;
+        String teacherId = "teacher-123";
+        byte[] chunk = "test-video.mp4".getBytes();
+        VideoUploadProgressResponse response = new VideoUploadProgressResponse(100L, 1024L + chunk.length, 4096L, false);
+
+        given(scheduleFeedbackService.appendVideoChunk(eq(scheduleId), eq(teacherId), eq(1024L), any(InputStream.class), eq((long) chunk.length)))
+            .willReturn(response);
+
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(new UsernamePasswordAuthenticationToken(teacherId, null, null));
+        SecurityContextHolder.setContext(securityContext);
+
+        try {
+            mockMvc.perform(put("/api/v1/lessons/{scheduleId}/video/uploads", scheduleId)
+                    .header("Upload-Offset", 1024)
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .content(chunk))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scheduleFeedbackId").value(100))
+                .andExpect(jsonPath("$.uploadedBytes").value(1024 + chunk.length))
+                .andExpect(jsonPath("$.completed").value(false));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
     @Test
     @DisplayName("getFeedback_whenAuthorized_thenReturn200")
     void getFeedback_whenAuthorized_thenReturn200() throws Exception {
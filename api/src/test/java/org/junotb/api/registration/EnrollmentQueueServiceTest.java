@@ -0,0 +1,206 @@
+package org.junotb.api.registration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junotb.api.common.exception.LockAcquisitionException;
+import org.junotb.api.common.exception.ResourceNotFoundException;
+import org.junotb.api.registration.dto.CourseRegistrationRequest;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrollmentQueueService Unit Test")
+class EnrollmentQueueServiceTest {
+
+    @Mock
+    private RegistrationService registrationService;
+
+    @Mock
+    private EnrollmentTicketStore enrollmentTicketStore;
+
+    private EnrollmentQueueService enrollmentQueueService;
+
+    /** Redis 대신 메모리에 티켓 보관 */
+    private final Map<String, EnrollmentTicket> tickets = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        enrollmentQueueService = new EnrollmentQueueService(registrationService, enrollmentTicketStore);
+        ReflectionTestUtils.setField(enrollmentQueueService, "laneCount", 1);
+        ReflectionTestUtils.setField(enrollmentQueueService, "laneCapacity", 1);
+        enrollmentQueueService.startLanes();
+
+        lenient().doAnswer(invocation -> {
+            EnrollmentTicket ticket = invocation.getArgument(0);
+            tickets.put(ticket.id(), ticket);
+            return null;
+        }).when(enrollmentTicketStore).save(any(EnrollmentTicket.class));
+        lenient().when(enrollmentTicketStore.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(tickets.get(invocation.<String>getArgument(0))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrollmentQueueService.stopLanes();
+    }
+
+    private CourseRegistrationRequest request(Long courseId) {
+        return new CourseRegistrationRequest(courseId, 1, List.of(DayOfWeek.MONDAY), LocalTime.of(14, 0), 60);
+    }
+
+    @Test
+    @DisplayName("submit - 티켓 즉시 발급 후 워커가 FIFO 순서로 처리, 롱 폴링으로 결과 수신")
+    void submit_thenProcessedInFifoOrderAndAwaitable() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> processedStudents = new CopyOnWriteArrayList<>();
+        given(registrationService.registerCourse(anyString(), any(CourseRegistrationRequest.class))).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            String studentId = invocation.getArgument(0);
+            processedStudents.add(studentId);
+            return Registration.builder().id((long) processedStudents.size()).status(RegistrationStatus.REGISTERED).build();
+        });
+
+        // when: 첫 요청이 처리 중인 동안 두 번째 요청이 대기열에 쌓임
+        EnrollmentTicket first = enrollmentQueueService.submit("student-1", request(1L));
+        EnrollmentTicket second = enrollmentQueueService.submit("student-2", request(1L));
+
+        // then: 요청 스레드는 블로킹 없이 티켓을 받음
+        assertThat(first.status()).isEqualTo(EnrollmentTicketStatus.QUEUED);
+        assertThat(second.status()).isEqualTo(EnrollmentTicketStatus.QUEUED);
+
+        release.countDown();
+        EnrollmentTicket secondResult = enrollmentQueueService.awaitTicket(second.id(), "student-2", 5).get(10, TimeUnit.SECONDS);
+
+        assertThat(secondResult.status()).isEqualTo(EnrollmentTicketStatus.SUCCEEDED);
+        assertThat(secondResult.registrationId()).isEqualTo(2L);
+        assertThat(processedStudents).containsExactly("student-1", "student-2");
+        assertThat(enrollmentQueueService.getTicket(first.id(), "student-1").status()).isEqualTo(EnrollmentTicketStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("submit - registerCourse 실패 시 티켓은 FAILED 상태와 사유를 가짐")
+    void submit_whenRegisterCourseFails_thenTicketFailed() throws Exception {
+        // given
+        given(registrationService.registerCourse(anyString(), any(CourseRegistrationRequest.class)))
+                .willThrow(new IllegalStateException("No available teacher found for the requested schedule"));
+
+        // when
+        EnrollmentTicket ticket = enrollmentQueueService.submit("student-1", request(1L));
+        EnrollmentTicket result = enrollmentQueueService.awaitTicket(ticket.id(), "student-1", 5).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.status()).isEqualTo(EnrollmentTicketStatus.FAILED);
+        assertThat(result.errorMessage()).contains("No available teacher");
+    }
+
+    @Test
+    @DisplayName("submit - lane 대기열이 가득 차면 LockAcquisitionException(429)")
+    void submit_whenLaneFull_thenThrowLockAcquisitionException() throws Exception {
+        // given: 워커 1개가 처리 중 + 대기 1건으로 용량(1) 소진
+        CountDownLatch release = new CountDownLatch(1);
+        given(registrationService.registerCourse(anyString(), any(CourseRegistrationRequest.class))).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Registration.builder().id(1L).status(RegistrationStatus.REGISTERED).build();
+        });
+        EnrollmentTicket processing = enrollmentQueueService.submit("student-1", request(1L));
+        awaitStatus(processing.id(), EnrollmentTicketStatus.PROCESSING);
+        enrollmentQueueService.submit("student-2", request(1L));
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> enrollmentQueueService.submit("student-3", request(1L)))
+                    .isInstanceOf(LockAcquisitionException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("submit - 처리 완료된 티켓은 인스턴스 미완료 목록에서 제거")
+    void submit_whenProcessed_thenUntracked() throws Exception {
+        // given
+        given(registrationService.registerCourse(anyString(), any(CourseRegistrationRequest.class)))
+                .willReturn(Registration.builder().id(1L).status(RegistrationStatus.REGISTERED).build());
+
+        // when
+        EnrollmentTicket ticket = enrollmentQueueService.submit("student-1", request(1L));
+        enrollmentQueueService.awaitTicket(ticket.id(), "student-1", 5).get(10, TimeUnit.SECONDS);
+
+        // then
+        then(enrollmentTicketStore).should().track(anyString(), eq(ticket.id()));
+        then(enrollmentTicketStore).should().untrack(anyString(), eq(ticket.id()));
+    }
+
+    @Test
+    @DisplayName("stopLanes - 처리 중인 신청은 마치고, 대기 중인 티켓은 QUEUED로 남기지 않고 FAILED 처리")
+    void stopLanes_thenInFlightCompletedAndQueuedTicketsFailed() throws Exception {
+        // given: 첫 요청 처리 중 + 두 번째 요청 대기
+        CountDownLatch release = new CountDownLatch(1);
+        given(registrationService.registerCourse(anyString(), any(CourseRegistrationRequest.class))).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Registration.builder().id(1L).status(RegistrationStatus.REGISTERED).build();
+        });
+        EnrollmentTicket processing = enrollmentQueueService.submit("student-1", request(1L));
+        awaitStatus(processing.id(), EnrollmentTicketStatus.PROCESSING);
+        EnrollmentTicket queued = enrollmentQueueService.submit("student-2", request(1L));
+
+        // when: 종료 시작 후 처리 중인 신청 완료
+        CompletableFuture<Void> stopping = CompletableFuture.runAsync(enrollmentQueueService::stopLanes);
+        for (int i = 0; i < 100 && !Boolean.TRUE.equals(ReflectionTestUtils.getField(enrollmentQueueService, "draining")); i++) {
+            Thread.sleep(20);
+        }
+        release.countDown();
+        stopping.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(tickets.get(processing.id()).status()).isEqualTo(EnrollmentTicketStatus.SUCCEEDED);
+        assertThat(tickets.get(queued.id()).status()).isEqualTo(EnrollmentTicketStatus.FAILED);
+        assertThat(tickets.get(queued.id()).errorMessage()).isEqualTo(EnrollmentQueueService.SHUTDOWN_MESSAGE);
+        then(registrationService).should(times(1)).registerCourse(anyString(), any(CourseRegistrationRequest.class));
+    }
+
+    @Test
+    @DisplayName("getTicket - 다른 학생의 티켓은 조회 불가")
+    void getTicket_whenOtherStudent_thenNotFound() {
+        // given
+        EnrollmentTicket ticket = EnrollmentTicket.queued("ticket-1", "student-1", 1L);
+        tickets.put(ticket.id(), ticket);
+
+        // when & then
+        assertThatThrownBy(() -> enrollmentQueueService.getTicket("ticket-1", "student-2"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private void awaitStatus(String ticketId, EnrollmentTicketStatus status) throws InterruptedException {
+        for (int i = 0; i < 100 && tickets.get(ticketId).status() != status; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(tickets.get(ticketId).status()).isEqualTo(status);
+    }
+}
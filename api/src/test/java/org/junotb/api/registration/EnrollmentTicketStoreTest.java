@@ -0,0 +1,85 @@
+package org.junotb.api.registration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종료된 인스턴스의 미완료 티켓 정리 검증 (실제 Redis)
+ */
+@Testcontainers
+@EnabledIfDockerAvailable
+@SpringBootTest(properties = "app.registration.enrollment-queue.heartbeat-interval-ms=3600000")
+@ActiveProfiles({"test", "concurrency"})
+@DisplayName("EnrollmentTicketStore Integration Test")
+class EnrollmentTicketStoreTest {
+
+    private static final String REDIS_IMAGE = "redis:7-alpine";
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse(REDIS_IMAGE))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.url", () ->
+                "redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private EnrollmentTicketStore enrollmentTicketStore;
+
+    private EnrollmentTicket trackedTicket(String instanceId, String studentId) {
+        EnrollmentTicket ticket = EnrollmentTicket.queued(UUID.randomUUID().toString(), studentId, 1L);
+        enrollmentTicketStore.save(ticket);
+        enrollmentTicketStore.track(instanceId, ticket.id());
+        return ticket;
+    }
+
+    @Test
+    @DisplayName("failOrphanedTickets - 생존 신호가 끊긴 인스턴스의 미완료 티켓만 FAILED, 살아있는 인스턴스·완료 티켓은 유지")
+    void failOrphanedTickets_whenInstanceHeartbeatExpired_thenOnlyItsPendingTicketsFailed() throws Exception {
+        // given
+        String deadInstance = "dead-" + UUID.randomUUID();
+        String liveInstance = "live-" + UUID.randomUUID();
+        enrollmentTicketStore.heartbeat(deadInstance, Duration.ofMillis(1));
+        enrollmentTicketStore.heartbeat(liveInstance, Duration.ofMinutes(1));
+
+        EnrollmentTicket orphaned = trackedTicket(deadInstance, "student-1");
+        EnrollmentTicket processing = trackedTicket(deadInstance, "student-2");
+        enrollmentTicketStore.save(processing.processing());
+        EnrollmentTicket succeeded = trackedTicket(deadInstance, "student-3");
+        enrollmentTicketStore.save(succeeded.succeeded(10L));
+        EnrollmentTicket live = trackedTicket(liveInstance, "student-4");
+        Thread.sleep(50);
+
+        // when
+        int failed = enrollmentTicketStore.failOrphanedTickets(EnrollmentQueueService.SHUTDOWN_MESSAGE);
+
+        // then
+        assertThat(failed).isEqualTo(2);
+        assertThat(enrollmentTicketStore.findById(orphaned.id())).get()
+                .extracting(EnrollmentTicket::status).isEqualTo(EnrollmentTicketStatus.FAILED);
+        assertThat(enrollmentTicketStore.findById(processing.id())).get()
+                .extracting(EnrollmentTicket::errorMessage).isEqualTo(EnrollmentQueueService.SHUTDOWN_MESSAGE);
+        assertThat(enrollmentTicketStore.findById(succeeded.id())).get()
+                .extracting(EnrollmentTicket::status).isEqualTo(EnrollmentTicketStatus.SUCCEEDED);
+        assertThat(enrollmentTicketStore.findById(live.id())).get()
+                .extracting(EnrollmentTicket::status).isEqualTo(EnrollmentTicketStatus.QUEUED);
+        assertThat(enrollmentTicketStore.failOrphanedTickets(EnrollmentQueueService.SHUTDOWN_MESSAGE)).isZero();
+    }
+}
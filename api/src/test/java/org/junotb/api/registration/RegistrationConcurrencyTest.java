@@ -3,40 +3,52 @@ package org.junotb.api.registration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junotb.api.config.PostgresTestcontainersConfig;
 import org.junotb.api.course.Course;
 import org.junotb.api.course.CourseRepository;
 import org.junotb.api.course.CourseStatus;
+import org.junotb.api.registration.dto.CourseRegistrationRequest;
 import org.junotb.api.schedule.Schedule;
 import org.junotb.api.schedule.ScheduleRepository;
 import org.junotb.api.schedule.ScheduleStatus;
+import org.junotb.api.user.TeacherAvailability;
+import org.junotb.api.user.TeacherAvailabilityRepository;
 import org.junotb.api.user.User;
 import org.junotb.api.user.UserRepository;
 import org.junotb.api.user.UserRole;
 import org.junotb.api.user.UserStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Testcontainers
 @EnabledIfDockerAvailable
+@Import(PostgresTestcontainersConfig.class)
 @SpringBootTest
 @ActiveProfiles({"test", "concurrency"})
 @DisplayName("RegistrationConcurrencyTest Integration Test")
@@ -69,6 +81,12 @@ class RegistrationConcurrencyTest {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private TeacherAvailabilityRepository teacherAvailabilityRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private Schedule testSchedule;
     private List<User> testStudents;
     private static final int CONCURRENT_REQUESTS = 100;
@@ -78,6 +96,7 @@ class RegistrationConcurrencyTest {
         // 기존 데이터 정리
         registrationRepository.deleteAll();
         scheduleRepository.deleteAll();
+        teacherAvailabilityRepository.deleteAll();
         userRepository.deleteAll();
         courseRepository.deleteAll();
 
@@ -235,4 +254,57 @@ class RegistrationConcurrencyTest {
         assertThat(schedule1Count).isEqualTo(1);
         assertThat(schedule2Count).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("registerCourse_whenDisjointSlotsOfSameTeacher_thenBothSucceedWithoutWaiting")
+    void registerCourse_whenDisjointSlotsOfSameTeacher_thenBothSucceedWithoutWaiting() throws Exception {
+        // given: 월·화 가용 강사 1명, 같은 강사의 서로 겹치지 않는 (요일, 시간) 슬롯 신청 2건
+        scheduleRepository.deleteAll();
+        User instructor = userRepository.findAll().stream()
+            .filter(user -> user.getRole() == UserRole.TEACHER)
+            .findFirst()
+            .orElseThrow();
+        teacherAvailabilityRepository.save(TeacherAvailability.create(instructor, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        teacherAvailabilityRepository.save(TeacherAvailability.create(instructor, DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        Long courseId = courseRepository.findAll().get(0).getId();
+        CourseRegistrationRequest mondayRequest = new CourseRegistrationRequest(courseId, 1, List.of(DayOfWeek.MONDAY), LocalTime.of(10, 0), 60);
+        CourseRegistrationRequest tuesdayRequest = new CourseRegistrationRequest(courseId, 1, List.of(DayOfWeek.TUESDAY), LocalTime.of(10, 0), 60);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch mondayRegistered = new CountDownLatch(1);
+        CountDownLatch commitMonday = new CountDownLatch(1);
+
+        // when: 월요일 신청은 바깥 트랜잭션 안에서 완료 후 커밋을 미뤄 슬롯 락을 계속 보유
+        // (락은 트랜잭션 종료 후 해제되므로, 강사 전체 락이라면 화요일 신청은 대기 끝에 LockAcquisitionException)
+        Future<Registration> monday = executorService.submit(() -> transactionTemplate.execute(status -> {
+            Registration registration = registrationService.registerCourse(testStudents.get(0).getId(), mondayRequest);
+            mondayRegistered.countDown();
+            try {
+                commitMonday.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return registration;
+        }));
+        assertThat(mondayRegistered.await(30, TimeUnit.SECONDS)).isTrue();
+
+        Registration tuesday;
+        try {
+            tuesday = registrationService.registerCourse(testStudents.get(1).getId(), tuesdayRequest);
+        } finally {
+            commitMonday.countDown();
+        }
+
+        // then: 월요일 신청이 락을 보유한 동안 화요일 신청이 완료되고, 두 신청 모두 같은 강사로 커밋됨
+        assertThat(tuesday).isNotNull();
+        assertThat(monday.get(30, TimeUnit.SECONDS)).isNotNull();
+        executorService.shutdown();
+
+        assertThat(registrationRepository.count()).isEqualTo(2);
+        List<Schedule> schedules = scheduleRepository.findAll();
+        assertThat(schedules).allSatisfy(schedule -> assertThat(schedule.getUser().getId()).isEqualTo(instructor.getId()));
+        assertThat(schedules)
+            .extracting(schedule -> schedule.getStartsAt().atZoneSameInstant(ZoneOffset.UTC).getDayOfWeek())
+            .containsOnly(DayOfWeek.MONDAY, DayOfWeek.TUESDAY);
+    }
 }
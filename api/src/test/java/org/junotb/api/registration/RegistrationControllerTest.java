@@ -52,6 +52,9 @@ class RegistrationControllerTest {
     @MockBean
     private RegistrationService registrationService;
 
+    @MockBean
+    private EnrollmentQueueService enrollmentQueueService;
+
     @MockBean
     private AuthenticationFilter authenticationFilter;
 
@@ -194,4 +197,31 @@ class RegistrationControllerTest {
             SecurityContextHolder.clearContext();
         }
     }
+
+    @Test
+    @DisplayName("enqueueCourseRegistration_whenValidRequest_thenReturn202WithTicket")
+    void enqueueCourseRegistration_whenValidRequest_thenReturn202WithTicket() throws Exception {
+        String studentId = UUID.randomUUID().toString();
+        EnrollmentTicket ticket = EnrollmentTicket.queued("ticket-1", studentId, 1L);
+
+        given(enrollmentQueueService.submit(anyString(), any(CourseRegistrationRequest.class)))
+            .willReturn(ticket);
+
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(new UsernamePasswordAuthenticationToken(studentId, null, null));
+        SecurityContextHolder.setContext(securityContext);
+
+        try {
+            mockMvc.perform(post("/api/registrations/course/tickets")
+                    .header("Authorization", "Bearer test-token")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(validRequest())))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.ticketId").value("ticket-1"))
+                .andExpect(jsonPath("$.courseId").value(1))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
 }
@@ -0,0 +1,202 @@
+package org.junotb.api.registration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junotb.api.config.PostgresTestcontainersConfig;
+import org.junotb.api.course.Course;
+import org.junotb.api.course.CourseRepository;
+import org.junotb.api.course.CourseStatus;
+import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleRepository;
+import org.junotb.api.schedule.ScheduleStatus;
+import org.junotb.api.user.User;
+import org.junotb.api.user.UserRepository;
+import org.junotb.api.user.UserRole;
+import org.junotb.api.user.UserStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * db-constraint 동시성 모드 통합 테스트 (PostgreSQL + Redis Testcontainers)
+ * 스키마와 제약 조건은 운영과 같이 Flyway 마이그레이션(db/migration + db/constraint)으로 만들고 JPA는 검증만 합니다.
+ * RegistrationConcurrencyTest와 같은 부하(동시 100건)에서 redisson 모드와 함께 정원이 지켜지는지 확인합니다.
+ */
+@Testcontainers
+@EnabledIfDockerAvailable
+@Import(PostgresTestcontainersConfig.class)
+@SpringBootTest(properties = {
+        "app.registration.concurrency-mode=db-constraint",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles({"test", "concurrency"})
+@DisplayName("RegistrationDbConstraintConcurrencyTest Integration Test")
+class RegistrationDbConstraintConcurrencyTest {
+
+    private static final String REDIS_IMAGE = "redis:7-alpine";
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse(REDIS_IMAGE))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "20");
+        registry.add("spring.data.redis.url", () ->
+                "redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private User instructor;
+    private Course course;
+    private List<User> testStudents;
+    private static final int CONCURRENT_REQUESTS = 100;
+
+    @BeforeEach
+    void setUp() {
+        // 기존 데이터 정리
+        registrationRepository.deleteAll();
+        scheduleRepository.deleteAll();
+        userRepository.deleteAll();
+        courseRepository.deleteAll();
+
+        instructor = userRepository.save(User.builder()
+            .id(UUID.randomUUID().toString())
+            .name("Instructor")
+            .email("instructor@test.com")
+            .emailVerified(true)
+            .image("")
+            .role(UserRole.TEACHER)
+            .status(UserStatus.ACTIVE)
+            .build());
+
+        course = courseRepository.save(Course.builder()
+            .title("Java Concurrency Test")
+            .description("Test course for concurrency")
+            .status(CourseStatus.ACTIVE)
+            .build());
+
+        testStudents = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            testStudents.add(userRepository.save(User.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Student " + i)
+                .email("student" + i + "@test.com")
+                .emailVerified(true)
+                .image("")
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build()));
+        }
+    }
+
+    @Test
+    @DisplayName("register_when100ConcurrentRequests_thenOnlyOneSucceeds - redisson, db-constraint 두 모드 모두 정원 유지")
+    void register_when100ConcurrentRequests_thenOnlyOneSucceedsInBothModes() throws InterruptedException {
+        // when & then: 두 모드 모두 1:1 정원을 지킴
+        runConcurrentRegister(RegistrationConcurrencyMode.REDISSON, 1);
+        runConcurrentRegister(RegistrationConcurrencyMode.DB_CONSTRAINT, 2);
+    }
+
+    @Test
+    @DisplayName("exclusionConstraint_whenOverlappingSchedulesForSameTeacher_thenOnlyOneInserted")
+    void exclusionConstraint_whenOverlappingSchedulesForSameTeacher_thenOnlyOneInserted() {
+        // given
+        OffsetDateTime startsAt = OffsetDateTime.now(ZoneOffset.UTC).plusDays(3).truncatedTo(ChronoUnit.HOURS);
+        scheduleRepository.save(Schedule.create(instructor, course, startsAt, startsAt.plusHours(1), ScheduleStatus.SCHEDULED));
+
+        // when & then: 30분 겹치는 SCHEDULED 수업은 거부
+        assertThatThrownBy(() -> scheduleRepository.save(Schedule.create(
+                instructor, course, startsAt.plusMinutes(30), startsAt.plusMinutes(90), ScheduleStatus.SCHEDULED)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // 가용성 검사와 같이 SCHEDULED 외 상태(취소·출석·결석)와 맞닿은 구간([) 범위)은 허용
+        scheduleRepository.save(Schedule.create(
+                instructor, course, startsAt.plusMinutes(30), startsAt.plusMinutes(90), ScheduleStatus.CANCELED));
+        scheduleRepository.save(Schedule.create(
+                instructor, course, startsAt.plusMinutes(30), startsAt.plusMinutes(90), ScheduleStatus.ATTENDED));
+        scheduleRepository.save(Schedule.create(
+                instructor, course, startsAt.plusMinutes(30), startsAt.plusMinutes(90), ScheduleStatus.ABSENT));
+        scheduleRepository.save(Schedule.create(
+                instructor, course, startsAt.plusHours(1), startsAt.plusHours(2), ScheduleStatus.SCHEDULED));
+
+        assertThat(scheduleRepository.count()).isEqualTo(5);
+    }
+
+    private void runConcurrentRegister(RegistrationConcurrencyMode mode, int dayOffset) throws InterruptedException {
+        ReflectionTestUtils.setField(registrationService, "concurrencyMode", mode);
+        OffsetDateTime startsAt = OffsetDateTime.now(ZoneOffset.UTC).plusDays(dayOffset).truncatedTo(ChronoUnit.HOURS);
+        Schedule schedule = scheduleRepository.save(
+                Schedule.create(instructor, course, startsAt, startsAt.plusHours(1), ScheduleStatus.SCHEDULED));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(CONCURRENT_REQUESTS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failureCount = new AtomicInteger(0);
+
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            final int index = i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    registrationService.register(schedule.getId(), testStudents.get(index).getId());
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 정원 초과 / 락 획득 실패 예상
+                    failureCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(registrationRepository.countByScheduleIdAndStatusRegistered(schedule.getId())).isEqualTo(1);
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(failureCount.get()).isEqualTo(CONCURRENT_REQUESTS - 1);
+    }
+}
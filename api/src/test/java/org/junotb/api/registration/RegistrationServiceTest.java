@@ -1,32 +1,40 @@
 package org.junotb.api.registration;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junotb.api.course.Course;
 import org.junotb.api.course.CourseRepository;
 import org.junotb.api.registration.dto.CourseRegistrationRequest;
+import org.junotb.api.schedule.BusyIntervalRow;
 import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleBulkWriter;
 import org.junotb.api.schedule.ScheduleRepository;
 import org.junotb.api.schedule.ScheduleStatus;
-import org.junotb.api.user.TeacherAvailabilityRepository;
+import org.junotb.api.schedule.TeacherCalendarIndex;
+import org.junotb.api.schedule.TeacherScheduleConflictRepository;
+import org.junotb.api.teacher.TeacherWeeklySlotIndex;
 import org.junotb.api.user.TeacherTimeOff;
 import org.junotb.api.user.TeacherTimeOffRepository;
 import org.junotb.api.user.TeacherTimeOffType;
-import org.springframework.data.jpa.domain.Specification;
 import org.junotb.api.user.User;
 import org.junotb.api.user.UserRepository;
 import org.junotb.api.user.UserRole;
 import org.junotb.api.user.UserStatus;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -37,10 +45,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -48,6 +59,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import org.mockito.ArgumentCaptor;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,11 +79,17 @@ class RegistrationServiceTest {
     private CourseRepository courseRepository;
 
     @Mock
-    private TeacherAvailabilityRepository teacherAvailabilityRepository;
+    private TeacherWeeklySlotIndex teacherWeeklySlotIndex;
 
     @Mock
     private TeacherTimeOffRepository teacherTimeOffRepository;
 
+    @Mock
+    private TeacherScheduleConflictRepository teacherScheduleConflictRepository;
+
+    @Mock
+    private ScheduleBulkWriter scheduleBulkWriter;
+
     @Mock
     private RedissonClient redissonClient;
 
@@ -81,9 +99,50 @@ class RegistrationServiceTest {
     @Mock
     private RLock lock;
 
-    @InjectMocks
     private RegistrationService registrationService;
 
+    @BeforeEach
+    void setUp() {
+        // 강사 캘린더 인덱스는 실제 구현을 사용하고 저장소만 Mock 처리
+        TeacherCalendarIndex teacherCalendarIndex = new TeacherCalendarIndex(scheduleRepository, teacherTimeOffRepository);
+        registrationService = new RegistrationService(
+            registrationRepository,
+            scheduleRepository,
+            userRepository,
+            courseRepository,
+            teacherWeeklySlotIndex,
+            teacherCalendarIndex,
+            teacherScheduleConflictRepository,
+            scheduleBulkWriter,
+            redissonClient,
+            transactionTemplate
+        );
+    }
+
+    private static BusyIntervalRow busy(String teacherId, OffsetDateTime startsAt, OffsetDateTime endsAt) {
+        return new BusyIntervalRow() {
+            @Override
+            public String getTeacherId() {
+                return teacherId;
+            }
+
+            @Override
+            public OffsetDateTime getStartsAt() {
+                return startsAt;
+            }
+
+            @Override
+            public OffsetDateTime getEndsAt() {
+                return endsAt;
+            }
+        };
+    }
+
+    /** ScheduleBulkWriter.insertAll 응답: 입력 순서대로 1부터 ID 부여 */
+    private static List<Long> scheduleIds(List<Schedule> schedules) {
+        return LongStream.rangeClosed(1, schedules.size()).boxed().toList();
+    }
+
     @Test
     @DisplayName("register_whenScheduleIsScheduled_thenSuccess")
     void register_whenScheduleIsScheduled_thenSuccess() throws Exception {
@@ -495,27 +554,22 @@ class RegistrationServiceTest {
 
         // Mock Redisson lock
         given(redissonClient.getLock(anyString())).willReturn(lock);
-        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
-        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(true);
         
         given(userRepository.findById(studentId)).willReturn(Optional.of(student));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(teacherAvailabilityRepository.findCandidates(
-                any(), any(), any(), anyLong(), any(), any(), any()
-        )).willReturn(List.of(teacherId));
-        given(scheduleRepository.findAll(any(Specification.class))).willReturn(List.of()); // 기존 스케줄 없음
-        given(teacherTimeOffRepository.findOverlappingByTeacherAndRange(
-                anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class)
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of()); // 기존 스케줄 없음
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
         )).willReturn(List.of()); // 휴무 없음
+        given(teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                eq(List.of(teacherId)), any(), anyInt()
+        )).willReturn(List.of(teacherId)); // 락 내부 재검증 통과
         given(userRepository.findById(teacherId)).willReturn(Optional.of(teacher));
-        given(scheduleRepository.saveAll(any())).willAnswer(invocation -> {
-            List<Schedule> schedules = invocation.getArgument(0);
-            for (int i = 0; i < schedules.size(); i++) {
-                Schedule s = schedules.get(i);
-                s.setId((long) (i + 1));
-            }
-            return schedules;
-        });
+        given(scheduleBulkWriter.insertAll(any())).willAnswer(invocation -> scheduleIds(invocation.getArgument(0)));
+        Schedule firstSchedule = Schedule.builder().id(1L).build();
+        given(scheduleRepository.getReferenceById(1L)).willReturn(firstSchedule);
         given(registrationRepository.save(any(Registration.class))).willReturn(expectedRegistration);
 
         // when
@@ -527,13 +581,14 @@ class RegistrationServiceTest {
         
         // 스케줄 개수 검증: 1개월(약 4주) * 주 2회(월/수) = 약 8개
         ArgumentCaptor<List<Schedule>> scheduleCaptor = ArgumentCaptor.forClass(List.class);
-        then(scheduleRepository).should().saveAll(scheduleCaptor.capture());
+        then(scheduleBulkWriter).should().insertAll(scheduleCaptor.capture());
         List<Schedule> savedSchedules = scheduleCaptor.getValue();
         // 1개월이면 약 4주, 주 2회이므로 8개 정도의 스케줄이 생성되어야 함
         // 정확한 개수는 시작 날짜에 따라 달라질 수 있지만, 최소 7개 이상은 되어야 함
         assertThat(savedSchedules.size()).isBetween(7, 9);
-        
-        then(registrationRepository).should().save(any(Registration.class));
+
+        // 첫 수업 등록은 생성된 첫 ID의 참조로 연결
+        then(registrationRepository).should().save(argThat((Registration registration) -> registration.getSchedule() == firstSchedule));
     }
 
     @Test
@@ -591,13 +646,11 @@ class RegistrationServiceTest {
 
         given(userRepository.findById(studentId)).willReturn(Optional.of(student));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(teacherAvailabilityRepository.findCandidates(
-                any(), any(), any(), anyLong(), any(), any(), any()
-        )).willReturn(List.of(teacherId));
-        given(scheduleRepository.findAll(any(Specification.class))).willReturn(List.of()); // 기존 스케줄 없음
-        given(teacherTimeOffRepository.findOverlappingByTeacherAndRange(
-                anyString(), any(), any()
-        )).willReturn(List.of(timeOff)); // 휴무 있음
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of()); // 기존 스케줄 없음
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
+        )).willReturn(List.of(busy(teacherId, timeOff.getStartDateTime(), timeOff.getEndDateTime()))); // 휴무 있음
 
         // when & then
         // findAvailableTeacher가 null을 반환하므로 락 획득 전에 예외 발생
@@ -605,7 +658,7 @@ class RegistrationServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("No available teacher found");
 
-        then(scheduleRepository).should(never()).saveAll(any());
+        then(scheduleBulkWriter).should(never()).insertAll(any());
         then(registrationRepository).should(never()).save(any(Registration.class));
         then(transactionTemplate).should(never()).execute(any(TransactionCallback.class));
     }
@@ -668,19 +721,17 @@ class RegistrationServiceTest {
 
         given(userRepository.findById(studentId)).willReturn(Optional.of(student));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(teacherAvailabilityRepository.findCandidates(
-                any(), any(), any(), anyLong(), any(), any(), any()
-        )).willReturn(List.of(teacherId));
-        given(scheduleRepository.findAll(any(Specification.class))).willReturn(List.of());
-        given(teacherTimeOffRepository.findOverlappingByTeacherAndRange(
-                anyString(), any(), any()
-        )).willReturn(List.of(timeOff));
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
+        )).willReturn(List.of(busy(teacherId, timeOff.getStartDateTime(), timeOff.getEndDateTime())));
 
         assertThatThrownBy(() -> registrationService.registerCourse(studentId, request))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("No available teacher found");
 
-        then(scheduleRepository).should(never()).saveAll(any());
+        then(scheduleBulkWriter).should(never()).insertAll(any());
         then(registrationRepository).should(never()).save(any(Registration.class));
     }
 
@@ -744,32 +795,26 @@ class RegistrationServiceTest {
                 .build();
 
         given(redissonClient.getLock(anyString())).willReturn(lock);
-        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
-        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(true);
         given(userRepository.findById(studentId)).willReturn(Optional.of(student));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(teacherAvailabilityRepository.findCandidates(
-                any(), any(), any(), anyLong(), any(), any(), any()
-        )).willReturn(List.of(teacherId));
-        given(scheduleRepository.findAll(any(Specification.class))).willReturn(List.of());
-        given(teacherTimeOffRepository.findOverlappingByTeacherAndRange(
-                anyString(), any(), any()
-        )).willReturn(List.of(timeOff));
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
+        )).willReturn(List.of(busy(teacherId, timeOff.getStartDateTime(), timeOff.getEndDateTime())));
+        given(teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                eq(List.of(teacherId)), any(), anyInt()
+        )).willReturn(List.of(teacherId)); // 락 내부 재검증 통과
         given(userRepository.findById(teacherId)).willReturn(Optional.of(teacher));
-        given(scheduleRepository.saveAll(any())).willAnswer(invocation -> {
-            List<Schedule> schedules = invocation.getArgument(0);
-            for (int i = 0; i < schedules.size(); i++) {
-                schedules.get(i).setId((long) (i + 1));
-            }
-            return schedules;
-        });
+        given(scheduleBulkWriter.insertAll(any())).willAnswer(invocation -> scheduleIds(invocation.getArgument(0)));
         given(registrationRepository.save(any(Registration.class))).willReturn(expectedRegistration);
 
         Registration result = registrationService.registerCourse(studentId, request);
 
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(RegistrationStatus.REGISTERED);
-        then(scheduleRepository).should().saveAll(any());
+        then(scheduleBulkWriter).should().insertAll(any());
         then(registrationRepository).should().save(any(Registration.class));
     }
 
@@ -844,53 +889,28 @@ class RegistrationServiceTest {
 
         // Mock Redisson lock
         given(redissonClient.getLock(anyString())).willReturn(lock);
-        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
-        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(true);
         
         given(userRepository.findById(studentId)).willReturn(Optional.of(student));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(teacherAvailabilityRepository.findCandidates(
-                any(), any(), any(), anyLong(), any(), any(), any()
-        )).willReturn(List.of(teacherAId, teacherBId)); // 두 강사 모두 후보
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherAId, teacherBId)); // 두 강사 모두 후보
         
-        // 호출 횟수를 추적하여 강사 A와 B를 구분
-        // findAvailableTeacher는 두 번 호출됨:
-        // 1. 락 획득 전: 후보 강사 리스트로 호출 (teacherAId, teacherBId)
-        // 2. 트랜잭션 내부: 선택된 강사만으로 재검증 (teacherBId)
-        java.util.concurrent.atomic.AtomicInteger scheduleCallCount = new java.util.concurrent.atomic.AtomicInteger(0);
-        
-        // 강사 A 조회 시 충돌 스케줄 반환, 강사 B 조회 시 빈 리스트 반환
-        given(scheduleRepository.findAll(any(Specification.class))).willAnswer(invocation -> {
-            int count = scheduleCallCount.getAndIncrement();
-            if (count == 0) {
-                // 첫 번째 호출: 강사 A (충돌 있음)
-                return List.of(conflictingSchedule);
-            } else if (count == 1) {
-                // 두 번째 호출: 강사 B (충돌 없음) - 락 획득 전
-                return List.of();
-            } else {
-                // 세 번째 호출: 강사 B 재검증 (트랜잭션 내부) - 충돌 없음
-                return List.of();
-            }
-        });
+        // 후보 전체를 한 번에 조회: 강사 A만 충돌 구간 보유, 강사 B는 비어 있음
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of(
+                busy(teacherAId, conflictingSchedule.getStartsAt(), conflictingSchedule.getEndsAt())
+        ));
         
         // 휴무는 모두 없음 (여러 번 호출될 수 있음)
-        given(teacherTimeOffRepository.findOverlappingByTeacherAndRange(
-                anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class)
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
         )).willReturn(List.of()); // 휴무 없음
         
         // 트랜잭션 내부에서 강사 B 조회
+        given(teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                eq(List.of(teacherBId)), any(), anyInt()
+        )).willReturn(List.of(teacherBId)); // 락 내부 재검증 통과
         given(userRepository.findById(teacherBId)).willReturn(Optional.of(teacherB));
-        given(scheduleRepository.saveAll(any())).willAnswer(invocation -> {
-            List<Schedule> schedules = invocation.getArgument(0);
-            for (int i = 0; i < schedules.size(); i++) {
-                Schedule s = schedules.get(i);
-                s.setId((long) (i + 1));
-                // 강사 B의 ID로 저장되는지 확인
-                assertThat(s.getUser().getId()).isEqualTo(teacherBId);
-            }
-            return schedules;
-        });
+        given(scheduleBulkWriter.insertAll(any())).willAnswer(invocation -> scheduleIds(invocation.getArgument(0)));
         given(registrationRepository.save(any(Registration.class))).willReturn(expectedRegistration);
 
         // when
@@ -899,10 +919,10 @@ class RegistrationServiceTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(RegistrationStatus.REGISTERED);
-        then(scheduleRepository).should().saveAll(any());
+        then(scheduleBulkWriter).should().insertAll(any());
         
         // 저장된 스케줄이 강사 B의 ID를 가지고 있는지 확인
-        then(scheduleRepository).should().saveAll(argThat(schedules -> {
+        then(scheduleBulkWriter).should().insertAll(argThat(schedules -> {
             List<Schedule> scheduleList = (List<Schedule>) schedules;
             return scheduleList.stream()
                     .allMatch(s -> s.getUser().getId().equals(teacherBId));
@@ -967,12 +987,12 @@ class RegistrationServiceTest {
 
         given(userRepository.findById(studentId)).willReturn(Optional.of(student));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(teacherAvailabilityRepository.findCandidates(
-                any(), any(), any(), anyLong(), any(), any(), any()
-        )).willReturn(List.of(teacherId));
-        given(scheduleRepository.findAll(any(Specification.class))).willReturn(List.of(conflictingSchedule)); // 기존 스케줄 있음
-        given(teacherTimeOffRepository.findOverlappingByTeacherAndRange(
-                anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class)
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of(
+                busy(teacherId, conflictingSchedule.getStartsAt(), conflictingSchedule.getEndsAt())
+        )); // 기존 스케줄 있음
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
         )).willReturn(List.of()); // 휴무 없음
 
         // when & then
@@ -980,7 +1000,7 @@ class RegistrationServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("No available teacher found");
 
-        then(scheduleRepository).should(never()).saveAll(any());
+        then(scheduleBulkWriter).should(never()).insertAll(any());
         then(registrationRepository).should(never()).save(any(Registration.class));
         then(transactionTemplate).should(never()).execute(any(TransactionCallback.class));
     }
@@ -1016,16 +1036,14 @@ class RegistrationServiceTest {
 
         // Mock Redisson lock - 락 획득 실패
         given(redissonClient.getLock(anyString())).willReturn(lock);
-        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false); // 락 획득 실패
+        given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(false); // 락 획득 실패
         
         given(userRepository.findById(studentId)).willReturn(Optional.of(student));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(teacherAvailabilityRepository.findCandidates(
-                any(), any(), any(), anyLong(), any(), any(), any()
-        )).willReturn(List.of(teacherId));
-        given(scheduleRepository.findAll(any(Specification.class))).willReturn(List.of()); // 기존 스케줄 없음
-        given(teacherTimeOffRepository.findOverlappingByTeacherAndRange(
-                anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class)
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of()); // 기존 스케줄 없음
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
         )).willReturn(List.of()); // 휴무 없음
 
         // when & then
@@ -1035,8 +1053,202 @@ class RegistrationServiceTest {
 
         // 트랜잭션이 실행되지 않아야 함
         then(transactionTemplate).should(never()).execute(any(TransactionCallback.class));
-        then(scheduleRepository).should(never()).saveAll(any());
+        then(scheduleBulkWriter).should(never()).insertAll(any());
+        then(registrationRepository).should(never()).save(any(Registration.class));
+    }
+
+    @Test
+    @DisplayName("registerCourse_Fail_Reverify_Conflict - 락 획득 후 단일 쿼리 재검증에서 충돌 발견 시 스케줄 미생성")
+    void registerCourse_Fail_Reverify_Conflict() throws Exception {
+        // given
+        String studentId = UUID.randomUUID().toString();
+        String teacherId = UUID.randomUUID().toString();
+        Long courseId = 1L;
+
+        User student = User.builder()
+                .id(studentId)
+                .name("Student")
+                .email("student@test.com")
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        Course course = Course.builder()
+                .id(courseId)
+                .title("Java Basics")
+                .build();
+
+        CourseRegistrationRequest request = new CourseRegistrationRequest(
+                courseId,
+                1,
+                List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+                LocalTime.of(14, 0),
+                60
+        );
+
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(userRepository.findById(studentId)).willReturn(Optional.of(student));
+        given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
+        )).willReturn(List.of());
+        // 인덱스 기준으로는 가용했지만, 그 사이 다른 요청이 먼저 수업을 확정한 상황
+        given(teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                eq(List.of(teacherId)), any(), anyInt()
+        )).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> registrationService.registerCourse(studentId, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No available teacher found after availability check");
+
+        then(scheduleBulkWriter).should(never()).insertAll(any());
         then(registrationRepository).should(never()).save(any(Registration.class));
+        then(lock).should().unlock();
+    }
+
+    @Test
+    @DisplayName("registerCourse_whenReverifyConflict_thenEvictAndTryNextTeacher - 낡은 인덱스로 고른 강사가 재검증에서 차 있으면 다음 강사로 신청")
+    @SuppressWarnings("unchecked")
+    void registerCourse_whenReverifyConflict_thenEvictAndTryNextTeacher() throws Exception {
+        // given
+        String studentId = UUID.randomUUID().toString();
+        String staleTeacherId = UUID.randomUUID().toString();
+        String nextTeacherId = UUID.randomUUID().toString();
+        Long courseId = 1L;
+
+        User student = User.builder()
+                .id(studentId)
+                .name("Student")
+                .email("student@test.com")
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        User nextTeacher = User.builder()
+                .id(nextTeacherId)
+                .name("Next Teacher")
+                .email("next@test.com")
+                .role(UserRole.TEACHER)
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        Course course = Course.builder()
+                .id(courseId)
+                .title("Java Basics")
+                .build();
+
+        CourseRegistrationRequest request = new CourseRegistrationRequest(
+                courseId,
+                1,
+                List.of(DayOfWeek.MONDAY),
+                LocalTime.of(14, 0),
+                60
+        );
+
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(userRepository.findById(studentId)).willReturn(Optional.of(student));
+        given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(staleTeacherId, nextTeacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
+        )).willReturn(List.of());
+        // 첫 번째 강사는 인덱스 적재 이후 다른 요청이 먼저 수업을 확정한 상황
+        given(teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                eq(List.of(staleTeacherId)), any(), anyInt()
+        )).willReturn(List.of());
+        given(teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                eq(List.of(nextTeacherId)), any(), anyInt()
+        )).willReturn(List.of(nextTeacherId));
+        given(userRepository.findById(nextTeacherId)).willReturn(Optional.of(nextTeacher));
+        given(scheduleBulkWriter.insertAll(any())).willAnswer(invocation -> scheduleIds(invocation.getArgument(0)));
+        given(registrationRepository.save(any(Registration.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Registration registration = registrationService.registerCourse(studentId, request);
+
+        // then: 첫 번째 강사의 락은 재검증 실패 즉시 해제, 스케줄은 다음 강사로 생성
+        assertThat(registration).isNotNull();
+        then(redissonClient).should().getLock(RegistrationService.teacherLockKey(staleTeacherId));
+        then(redissonClient).should().getLock(RegistrationService.teacherLockKey(nextTeacherId));
+        then(lock).should(times(2)).unlock();
+        ArgumentCaptor<List<Schedule>> schedulesCaptor = ArgumentCaptor.forClass(List.class);
+        then(scheduleBulkWriter).should().insertAll(schedulesCaptor.capture());
+        assertThat(schedulesCaptor.getValue()).allSatisfy(schedule -> assertThat(schedule.getUser().getId()).isEqualTo(nextTeacherId));
+    }
+
+    @Test
+    @DisplayName("registerCourse_whenInTransaction_thenLockReleasedAfterCompletion - 커밋 전에는 락을 유지")
+    void registerCourse_whenInTransaction_thenLockReleasedAfterCompletion() throws Exception {
+        // given
+        String studentId = UUID.randomUUID().toString();
+        String teacherId = UUID.randomUUID().toString();
+        Long courseId = 1L;
+
+        User student = User.builder()
+                .id(studentId)
+                .name("Student")
+                .email("student@test.com")
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        User teacher = User.builder()
+                .id(teacherId)
+                .name("Teacher")
+                .email("teacher@test.com")
+                .role(UserRole.TEACHER)
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        Course course = Course.builder()
+                .id(courseId)
+                .title("Java Basics")
+                .build();
+
+        CourseRegistrationRequest request = new CourseRegistrationRequest(
+                courseId,
+                1,
+                List.of(DayOfWeek.MONDAY),
+                LocalTime.of(14, 0),
+                60
+        );
+
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(userRepository.findById(studentId)).willReturn(Optional.of(student));
+        given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
+        )).willReturn(List.of());
+        given(teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                eq(List.of(teacherId)), any(), anyInt()
+        )).willReturn(List.of(teacherId));
+        given(userRepository.findById(teacherId)).willReturn(Optional.of(teacher));
+        given(scheduleBulkWriter.insertAll(any())).willAnswer(invocation -> scheduleIds(invocation.getArgument(0)));
+        given(registrationRepository.save(any(Registration.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            registrationService.registerCourse(studentId, request);
+
+            // then: 메서드 반환 시점(커밋 전)에는 락 유지, 트랜잭션 종료 후 해제
+            then(lock).should(never()).unlock();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            then(lock).should().unlock();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -1061,7 +1273,7 @@ class RegistrationServiceTest {
             .hasMessageContaining("Student not found");
 
         then(redissonClient).should(never()).getLock(anyString());
-        then(scheduleRepository).should(never()).saveAll(any());
+        then(scheduleBulkWriter).should(never()).insertAll(any());
     }
 
     @Test
@@ -1095,6 +1307,190 @@ class RegistrationServiceTest {
             .hasMessageContaining("Course not found");
 
         then(redissonClient).should(never()).getLock(anyString());
-        then(scheduleRepository).should(never()).saveAll(any());
+        then(scheduleBulkWriter).should(never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("slotLockKeys - 요청 요일·시간 구간별 키를 정렬된 순서로 생성")
+    void slotLockKeys_thenSortedBucketKeys() {
+        List<String> keys = RegistrationService.slotLockKeys(
+                "t1", List.of(DayOfWeek.WEDNESDAY, DayOfWeek.MONDAY), LocalTime.of(14, 10), 60);
+
+        // 14:10~15:10 → 28, 29, 30번 구간 (30분 단위)
+        assertThat(keys).containsExactly(
+                "lock:registration:teacher:t1:slot:1:0028",
+                "lock:registration:teacher:t1:slot:1:0029",
+                "lock:registration:teacher:t1:slot:1:0030",
+                "lock:registration:teacher:t1:slot:3:0028",
+                "lock:registration:teacher:t1:slot:3:0029",
+                "lock:registration:teacher:t1:slot:3:0030"
+        );
+    }
+
+    @Test
+    @DisplayName("slotLockKeys - 자정을 넘기는 수업은 다음 요일 구간까지 포함 (일요일 → 월요일)")
+    void slotLockKeys_whenCrossingMidnight_thenSpillsToNextDay() {
+        List<String> keys = RegistrationService.slotLockKeys(
+                "t1", List.of(DayOfWeek.SUNDAY), LocalTime.of(23, 30), 60);
+
+        assertThat(keys).containsExactly(
+                "lock:registration:teacher:t1:slot:1:0000",
+                "lock:registration:teacher:t1:slot:7:0047"
+        );
+    }
+
+    @Test
+    @DisplayName("registerCourse_SlotLocking - 슬롯 락 모드에서는 MultiLock으로 요청 슬롯만 잠금")
+    void registerCourse_SlotLocking_ThenUsesMultiLock() throws Exception {
+        // given
+        ReflectionTestUtils.setField(registrationService, "slotLocking", true);
+        String studentId = UUID.randomUUID().toString();
+        String teacherId = UUID.randomUUID().toString();
+        Long courseId = 1L;
+
+        User student = User.builder()
+                .id(studentId)
+                .name("Student")
+                .email("student@test.com")
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        Course course = Course.builder()
+                .id(courseId)
+                .title("Java Basics")
+                .build();
+
+        CourseRegistrationRequest request = new CourseRegistrationRequest(
+                courseId,
+                1,
+                List.of(DayOfWeek.MONDAY),
+                LocalTime.of(14, 0),
+                60
+        );
+
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(redissonClient.getMultiLock(any(RLock[].class))).willReturn(lock);
+        given(lock.tryLock(anyLong(), any(TimeUnit.class))).willReturn(false);
+        given(userRepository.findById(studentId)).willReturn(Optional.of(student));
+        given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
+        )).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> registrationService.registerCourse(studentId, request))
+                .isInstanceOf(org.junotb.api.common.exception.LockAcquisitionException.class);
+
+        // 14:00~15:00 → 월요일 28, 29번 구간 두 개만 잠금, 강사 전체 락은 사용하지 않음
+        then(redissonClient).should().getLock("lock:registration:teacher:" + teacherId + ":slot:1:0028");
+        then(redissonClient).should().getLock("lock:registration:teacher:" + teacherId + ":slot:1:0029");
+        then(redissonClient).should(never()).getLock("lock:registration:teacher:" + teacherId);
+        then(lock).should(never()).unlock();
+    }
+
+    @Test
+    @DisplayName("register_DbConstraint - 활성 등록 partial unique index 위반 시 정원 초과 예외로 변환, 락 미사용")
+    void register_DbConstraint_whenActiveRegistrationIndexViolated_thenScheduleFull() {
+        // given
+        ReflectionTestUtils.setField(registrationService, "concurrencyMode", RegistrationConcurrencyMode.DB_CONSTRAINT);
+        Long scheduleId = 1L;
+        String studentId = UUID.randomUUID().toString();
+
+        Schedule schedule = Schedule.builder()
+                .id(scheduleId)
+                .status(ScheduleStatus.SCHEDULED)
+                .build();
+        User student = User.builder()
+                .id(studentId)
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        given(transactionTemplate.execute(any(TransactionCallback.class))).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        given(scheduleRepository.findById(scheduleId)).willReturn(Optional.of(schedule));
+        given(userRepository.findById(studentId)).willReturn(Optional.of(student));
+        given(registrationRepository.existsByScheduleIdAndStudentIdAndStatus(scheduleId, studentId, RegistrationStatus.REGISTERED))
+                .willReturn(false);
+        given(registrationRepository.countByScheduleIdAndStatusRegistered(scheduleId)).willReturn(0L);
+        // 사전 검증은 통과했지만 동시 요청이 먼저 커밋하여 INSERT 시점에 제약 조건 위반
+        given(registrationRepository.save(any(Registration.class))).willThrow(constraintViolation(
+                "23505", RegistrationConstraintMigration.REGISTRATION_ACTIVE_UNIQUE_INDEX));
+
+        // when & then
+        assertThatThrownBy(() -> registrationService.register(scheduleId, studentId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Schedule is already full");
+
+        then(redissonClient).should(never()).getLock(anyString());
+    }
+
+    @Test
+    @DisplayName("registerCourse_DbConstraint - 강사 시간 exclusion constraint 위반 시 가용 강사 없음 예외로 변환, 락 미사용")
+    void registerCourse_DbConstraint_whenExclusionViolated_thenConflict() {
+        // given
+        ReflectionTestUtils.setField(registrationService, "concurrencyMode", RegistrationConcurrencyMode.DB_CONSTRAINT);
+        String studentId = UUID.randomUUID().toString();
+        String teacherId = UUID.randomUUID().toString();
+        Long courseId = 1L;
+
+        User student = User.builder()
+                .id(studentId)
+                .name("Student")
+                .email("student@test.com")
+                .role(UserRole.STUDENT)
+                .status(UserStatus.ACTIVE)
+                .build();
+        User teacher = User.builder()
+                .id(teacherId)
+                .role(UserRole.TEACHER)
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        Course course = Course.builder()
+                .id(courseId)
+                .title("Java Basics")
+                .build();
+
+        CourseRegistrationRequest request = new CourseRegistrationRequest(
+                courseId,
+                1,
+                List.of(DayOfWeek.MONDAY),
+                LocalTime.of(14, 0),
+                60
+        );
+
+        given(userRepository.findById(studentId)).willReturn(Optional.of(student));
+        given(userRepository.findById(teacherId)).willReturn(Optional.of(teacher));
+        given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of(teacherId));
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(
+                anyCollection(), any(), any()
+        )).willReturn(List.of());
+        given(teacherScheduleConflictRepository.findConflictFreeTeacherIds(
+                eq(List.of(teacherId)), any(), anyInt()
+        )).willReturn(List.of(teacherId));
+        given(scheduleBulkWriter.insertAll(any())).willThrow(constraintViolation(
+                "23P01", RegistrationConstraintMigration.SCHEDULE_TEACHER_TIME_EXCLUSION));
+
+        // when & then
+        assertThatThrownBy(() -> registrationService.registerCourse(studentId, request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No available teacher found after availability check");
+
+        then(redissonClient).should(never()).getLock(anyString());
+        then(redissonClient).should(never()).getMultiLock(any(RLock[].class));
+        then(registrationRepository).should(never()).save(any(Registration.class));
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String sqlState, String constraintName) {
+        SQLException cause = new SQLException("violates constraint \"" + constraintName + "\"", sqlState);
+        return new DataIntegrityViolationException("could not execute statement", cause);
     }
 }
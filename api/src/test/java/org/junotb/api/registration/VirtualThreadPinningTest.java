@@ -0,0 +1,122 @@
+package org.junotb.api.registration;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 pinning 점검: 수강 신청 락 경로(Redisson tryLock 경합)를 가상 스레드에서 실행하고
+ * JFR jdk.VirtualThreadPinned 이벤트 중 Redisson·애플리케이션 코드 스택이 없는지 확인합니다.
+ */
+@Testcontainers
+@EnabledIfDockerAvailable
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles({"test", "concurrency"})
+@DisplayName("VirtualThreadPinningTest Integration Test")
+class VirtualThreadPinningTest {
+
+    private static final String REDIS_IMAGE = "redis:7-alpine";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse(REDIS_IMAGE))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.url", () ->
+                "redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("registrationLock_whenContendedOnVirtualThreads_thenNoPinning")
+    void registrationLock_whenContendedOnVirtualThreads_thenNoPinning() throws Exception {
+        // given
+        String teacherId = UUID.randomUUID().toString();
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+        AtomicInteger acquiredCount = new AtomicInteger();
+        int requests = 50;
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> {
+                if (isFromApplicationOrRedisson(event)) {
+                    pinnedEvents.add(event);
+                }
+            });
+            recording.startAsync();
+
+            // when: 같은 강사 락을 가상 스레드 50개가 경합 (대기 중 park 발생)
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < requests; i++) {
+                    executor.submit(() -> {
+                        RLock lock = redissonClient.getLock(RegistrationService.teacherLockKey(teacherId));
+                        boolean isLocked = false;
+                        try {
+                            isLocked = lock.tryLock(30, 10, TimeUnit.SECONDS);
+                            if (isLocked) {
+                                acquiredCount.incrementAndGet();
+                                Thread.sleep(5);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            if (isLocked) {
+                                lock.unlock();
+                            }
+                        }
+                    });
+                }
+            }
+
+            recording.stop();
+        }
+
+        // then
+        assertThat(acquiredCount.get()).isEqualTo(requests);
+        assertThat(pinnedEvents)
+                .as("Redisson/application frames pinned a carrier thread: %s", pinnedEvents)
+                .isEmpty();
+    }
+
+    private static boolean isFromApplicationOrRedisson(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String typeName = frame.getMethod().getType().getName();
+            if (typeName.startsWith("org.redisson.") || typeName.startsWith("org.junotb.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
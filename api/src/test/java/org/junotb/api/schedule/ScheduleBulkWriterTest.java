@@ -0,0 +1,193 @@
+package org.junotb.api.schedule;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junotb.api.config.PostgresTestcontainersConfig;
+import org.junotb.api.course.Course;
+import org.junotb.api.course.CourseRepository;
+import org.junotb.api.course.CourseStatus;
+import org.junotb.api.user.User;
+import org.junotb.api.user.UserRepository;
+import org.junotb.api.user.UserRole;
+import org.junotb.api.user.UserStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
+
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ScheduleBulkWriter 통합 테스트 (PostgreSQL Testcontainers)
+ * 6개월·주 5회 수강 신청 규모(약 130건)로 saveAll(행 단위 INSERT)과 단일 INSERT의 실행 SQL 문 수를 비교합니다.
+ */
+@EnabledIfDockerAvailable
+@Import(PostgresTestcontainersConfig.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ScheduleBulkWriter Integration Test")
+class ScheduleBulkWriterTest {
+
+    @Autowired
+    private ScheduleBulkWriter scheduleBulkWriter;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @TestConfiguration
+    static class QueryCounterConfig {
+
+        @Bean
+        QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+    }
+
+    /** 측정 대상 스레드에서 실행된 SQL 문 수를 센다 (스케줄러 등 백그라운드 쿼리 제외) */
+    static class QueryCounter extends SimpleJdbcEventListener {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile Thread target;
+
+        void start() {
+            count.set(0);
+            target = Thread.currentThread();
+        }
+
+        int stop() {
+            target = null;
+            return count.get();
+        }
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            if (Thread.currentThread() == target) {
+                count.incrementAndGet();
+            }
+        }
+    }
+
+    private User teacher;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository.deleteAll();
+        userRepository.deleteAll();
+        courseRepository.deleteAll();
+
+        teacher = userRepository.save(User.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Test Teacher")
+                .email("teacher@test.com")
+                .emailVerified(true)
+                .image("")
+                .role(UserRole.TEACHER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        course = courseRepository.save(Course.builder()
+                .title("Test Course")
+                .description("Test Description")
+                .status(CourseStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("insertAll - 단일 INSERT로 저장하고 입력 순서대로 생성 ID 반환")
+    void insertAll_thenIdsReturnedInInputOrder() {
+        // given: IDENTITY 순서와 무관함을 보이기 위해 시작 일시 역순으로 입력
+        List<Schedule> schedules = new ArrayList<>(sixMonthsWeekdaySchedules(0));
+        Collections.reverse(schedules);
+
+        // when
+        List<Long> ids = transactionTemplate.execute(status -> scheduleBulkWriter.insertAll(schedules));
+
+        // then: i번째 ID는 i번째 입력 행, 입력 엔티티는 수정하지 않음
+        assertThat(ids).hasSize(schedules.size()).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(schedules).extracting(Schedule::getId).containsOnlyNulls();
+        Map<Long, Schedule> saved = scheduleRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(saved.get(ids.get(i)).getStartsAt().toInstant()).isEqualTo(schedules.get(i).getStartsAt().toInstant());
+        }
+        Schedule first = saved.get(ids.get(0));
+        assertThat(first.getStatus()).isEqualTo(ScheduleStatus.SCHEDULED);
+        assertThat(first.getVersion()).isZero();
+        assertThat(scheduleRepository.count()).isEqualTo(schedules.size());
+    }
+
+    @Test
+    @DisplayName("insertAll - 행 수와 무관하게 SQL 문 1회 실행 (saveAll은 행마다 INSERT)")
+    void insertAll_whenComparedWithSaveAll_thenSingleStatement() {
+        // given
+        List<Schedule> bulkSchedules = sixMonthsWeekdaySchedules(0);
+        List<Schedule> savedOneByOne = sixMonthsWeekdaySchedules(30);
+
+        // when
+        int bulkStatements = countStatements(() -> scheduleBulkWriter.insertAll(bulkSchedules));
+        int saveAllStatements = countStatements(() -> scheduleRepository.saveAll(savedOneByOne));
+
+        // then
+        assertThat(bulkStatements).isEqualTo(1);
+        assertThat(saveAllStatements).isGreaterThanOrEqualTo(savedOneByOne.size());
+    }
+
+    private int countStatements(Runnable writer) {
+        queryCounter.start();
+        transactionTemplate.executeWithoutResult(status -> writer.run());
+        return queryCounter.stop();
+    }
+
+    /**
+     * 6개월간 평일(월~금) 14:00 수업. 측정마다 겹치지 않도록 weekOffset 주만큼 이동
+     */
+    private List<Schedule> sixMonthsWeekdaySchedules(int weekOffset) {
+        OffsetDateTime base = OffsetDateTime.now(ZoneOffset.UTC)
+                .truncatedTo(ChronoUnit.DAYS)
+                .plusWeeks(weekOffset)
+                .withHour(14);
+        List<Schedule> schedules = new ArrayList<>();
+        for (OffsetDateTime day = base; day.isBefore(base.plusMonths(6)); day = day.plusDays(1)) {
+            DayOfWeek dayOfWeek = day.getDayOfWeek();
+            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            schedules.add(Schedule.create(teacher, course, day, day.plusHours(1), ScheduleStatus.SCHEDULED));
+        }
+        return schedules;
+    }
+}
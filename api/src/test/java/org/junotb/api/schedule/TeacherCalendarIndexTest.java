@@ -0,0 +1,78 @@
+package org.junotb.api.schedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junotb.api.user.TeacherTimeOffRepository;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeacherCalendarIndex Unit Test")
+class TeacherCalendarIndexTest {
+
+    private static final String TEACHER_ID = "teacher-1";
+    private static final List<LocalDateTime> CLASS_DATES = List.of(
+            LocalDateTime.of(2024, 1, 15, 10, 0),
+            LocalDateTime.of(2024, 1, 22, 10, 0)
+    );
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private TeacherTimeOffRepository teacherTimeOffRepository;
+
+    private TeacherCalendarIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TeacherCalendarIndex(scheduleRepository, teacherTimeOffRepository);
+        given(teacherTimeOffRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("findFreeTeachers_whenCached_thenNoReload - 적재한 캘린더는 다음 조회에서 재사용")
+    void findFreeTeachers_whenCached_thenNoReload() {
+        // given
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willReturn(List.of());
+
+        // when
+        index.findFreeTeachers(List.of(TEACHER_ID), CLASS_DATES, 60);
+        List<String> free = index.findFreeTeachers(List.of(TEACHER_ID), CLASS_DATES, 60);
+
+        // then
+        assertThat(free).containsExactly(TEACHER_ID);
+        then(scheduleRepository).should(times(1)).findBusyIntervalsByTeacherIds(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("findFreeTeachers_whenEvictedDuringLoad_thenNotCached - 적재 도중 무효화된 강사의 조회 결과는 캐시하지 않음")
+    void findFreeTeachers_whenEvictedDuringLoad_thenNotCached() {
+        // given: 수업 조회와 커밋 후 무효화 이벤트가 겹친 상황
+        given(scheduleRepository.findBusyIntervalsByTeacherIds(anyCollection(), any(), any())).willAnswer(invocation -> {
+            index.onTeacherCalendarChanged(new TeacherCalendarChangedEvent(TEACHER_ID));
+            return List.of();
+        }).willReturn(List.of());
+
+        // when
+        List<String> first = index.findFreeTeachers(List.of(TEACHER_ID), CLASS_DATES, 60);
+        index.findFreeTeachers(List.of(TEACHER_ID), CLASS_DATES, 60);
+        index.findFreeTeachers(List.of(TEACHER_ID), CLASS_DATES, 60);
+
+        // then: 첫 결과는 이번 요청에서만 사용되고, 다음 조회가 다시 적재한 결과부터 캐시됨
+        assertThat(first).containsExactly(TEACHER_ID);
+        then(scheduleRepository).should(times(2)).findBusyIntervalsByTeacherIds(anyCollection(), any(), any());
+    }
+}
@@ -0,0 +1,84 @@
+package org.junotb.api.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TeacherCalendar Unit Test")
+class TeacherCalendarTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    private static BusyIntervalRow busy(LocalDateTime startsAt, LocalDateTime endsAt) {
+        return new BusyIntervalRow() {
+            @Override
+            public String getTeacherId() {
+                return "teacher";
+            }
+
+            @Override
+            public OffsetDateTime getStartsAt() {
+                return startsAt.atOffset(ZoneOffset.UTC);
+            }
+
+            @Override
+            public OffsetDateTime getEndsAt() {
+                return endsAt.atOffset(ZoneOffset.UTC);
+            }
+        };
+    }
+
+    private static TeacherCalendar calendarOf(BusyIntervalRow... rows) {
+        return TeacherCalendar.of(
+                BASE.minusDays(1).atOffset(ZoneOffset.UTC),
+                BASE.plusMonths(1).atOffset(ZoneOffset.UTC),
+                List.of(rows)
+        );
+    }
+
+    @Test
+    @DisplayName("isFree - 바쁜 구간이 없으면 모든 수업 가능")
+    void isFree_whenNoBusyInterval_thenTrue() {
+        TeacherCalendar calendar = calendarOf();
+
+        assertThat(calendar.isFree(List.of(BASE, BASE.plusWeeks(1)), 60)).isTrue();
+    }
+
+    @Test
+    @DisplayName("isFree - 두 번째 주 수업이 휴무와 겹치면 불가")
+    void isFree_whenLaterClassOverlaps_thenFalse() {
+        TeacherCalendar calendar = calendarOf(busy(BASE.plusWeeks(1).plusMinutes(30), BASE.plusWeeks(1).plusHours(2)));
+
+        assertThat(calendar.isFree(List.of(BASE, BASE.plusWeeks(1), BASE.plusWeeks(2)), 60)).isFalse();
+    }
+
+    @Test
+    @DisplayName("isFree - 수업 종료 시각과 구간 시작 시각이 맞닿으면 겹치지 않음")
+    void isFree_whenAdjacent_thenTrue() {
+        TeacherCalendar calendar = calendarOf(
+                busy(BASE.minusHours(1), BASE),
+                busy(BASE.plusHours(1), BASE.plusHours(2))
+        );
+
+        assertThat(calendar.isFree(List.of(BASE), 60)).isTrue();
+    }
+
+    @Test
+    @DisplayName("of - 겹치는 구간은 하나로 병합")
+    void of_whenOverlappingIntervals_thenMerged() {
+        TeacherCalendar calendar = calendarOf(
+                busy(BASE.plusHours(2), BASE.plusHours(4)),
+                busy(BASE, BASE.plusHours(3)),
+                busy(BASE.plusDays(1), BASE.plusDays(1).plusHours(1))
+        );
+
+        assertThat(calendar.size()).isEqualTo(2);
+        assertThat(calendar.isFree(List.of(BASE.plusHours(3).plusMinutes(30)), 15)).isFalse();
+    }
+}
@@ -0,0 +1,131 @@
+package org.junotb.api.schedulefeedback;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AiCallBulkhead Unit Test")
+class AiCallBulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("execute_whenBurstExceedsLimit_thenInFlightCallsCappedAndQueueDepthExposed")
+    void execute_whenBurstExceedsLimit_thenInFlightCallsCappedAndQueueDepthExposed() throws Exception {
+        // given: 상한 2, 동시 호출 10건
+        AiCallBulkhead bulkhead = new AiCallBulkhead("gemini", 2, Duration.ofSeconds(10), meterRegistry);
+        int calls = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(calls);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(calls);
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < calls; i++) {
+            executorService.submit(() -> {
+                try {
+                    bulkhead.execute(() -> {
+                        maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        awaitQuietly(release);
+                        running.decrementAndGet();
+                        return "ok";
+                    });
+                } catch (IOException ignored) {
+                    // 이 테스트에서는 발생하지 않음
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        waitUntil(() -> bulkhead.waitingCalls() == calls - 2);
+        double waitingGauge = meterRegistry.get("ai.calls.waiting").tag("provider", "gemini").gauge().value();
+        double inFlightGauge = meterRegistry.get("ai.calls.in_flight").tag("provider", "gemini").gauge().value();
+        release.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(waitingGauge).isEqualTo(calls - 2);
+        assertThat(inFlightGauge).isEqualTo(2);
+        assertThat(maxConcurrent.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("ai.calls").tags("provider", "gemini", "outcome", "success").timer().count())
+            .isEqualTo(calls);
+    }
+
+    @Test
+    @DisplayName("execute_whenPermitNotAcquiredInTime_thenRejectWithIOException")
+    void execute_whenPermitNotAcquiredInTime_thenRejectWithIOException() throws Exception {
+        // given: 상한 1, 첫 호출이 permit 점유
+        AiCallBulkhead bulkhead = new AiCallBulkhead("speech", 1, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofPlatform().start(() -> {
+            try {
+                bulkhead.execute(() -> awaitQuietly(release));
+            } catch (IOException ignored) {
+                // 이 테스트에서는 발생하지 않음
+            }
+        });
+        waitUntil(() -> bulkhead.inFlightCalls() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> bulkhead.execute(() -> "late"))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("speech");
+        assertThat(meterRegistry.get("ai.calls.rejected").tag("provider", "speech").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        holder.join();
+    }
+
+    @Test
+    @DisplayName("execute_whenCallFails_thenRecordErrorAndReleasePermit")
+    void execute_whenCallFails_thenRecordErrorAndReleasePermit() throws Exception {
+        // given
+        AiCallBulkhead bulkhead = new AiCallBulkhead("gemini", 1, Duration.ofMillis(50), meterRegistry);
+
+        // when
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw new IOException("provider error");
+        })).isInstanceOf(IOException.class);
+
+        // then: permit 반환되어 다음 호출 성공
+        assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(meterRegistry.get("ai.calls").tags("provider", "gemini", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
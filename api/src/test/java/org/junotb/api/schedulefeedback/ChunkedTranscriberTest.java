@@ -0,0 +1,210 @@
+package org.junotb.api.schedulefeedback;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChunkedTranscriber Unit Test")
+class ChunkedTranscriberTest {
+
+    private static final int SAMPLE_RATE = 16000;
+    private static final int TOTAL_SECONDS = 600;
+    private static final long STUB_LATENCY_MILLIS = 100;
+
+    @Mock
+    private FfmpegRunner ffmpegRunner;
+
+    @TempDir
+    Path workDir;
+
+    private Path audioPath;
+    private ChunkedTranscriber parallelTranscriber;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        audioPath = writeFlacHeader(workDir.resolve("audio.flac"), TOTAL_SECONDS);
+
+        AudioSegmenter audioSegmenter = new AudioSegmenter(ffmpegRunner);
+        ReflectionTestUtils.setField(audioSegmenter, "segmentSeconds", 60L);
+        ReflectionTestUtils.setField(audioSegmenter, "overlapSeconds", 2L);
+        SpeechRecognizer speechRecognizer = new StubSpeechRecognizer(STUB_LATENCY_MILLIS);
+
+        parallelTranscriber = newTranscriber(audioSegmenter, speechRecognizer, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelTranscriber.stopWorkers();
+    }
+
+    @Test
+    @DisplayName("transcribe_whenSegmentsOverlap_thenEachWordAppearsOnceWithConsistentSpeakers")
+    void transcribe_whenSegmentsOverlap_thenEachWordAppearsOnceWithConsistentSpeakers() throws IOException {
+        // when: 10분 오디오 → 60초 구간 10개 (앞뒤 2초 겹침, 홀수 구간은 화자 번호가 뒤바뀌어 인식됨)
+        String vtt = parallelTranscriber.transcribe(audioPath);
+
+        // then: 겹침 구간 단어는 한 번만, 순서대로
+        List<String> words = Pattern.compile("word\\d+").matcher(vtt).results().map(r -> r.group()).toList();
+        assertThat(words).containsExactlyElementsOf(IntStream.range(0, TOTAL_SECONDS).mapToObj(i -> "word" + i).toList());
+
+        // then: 화자는 15초마다 교대 → cue 40개, 구간 경계에서 화자 번호 유지
+        String[] cues = vtt.split("\n\n");
+        assertThat(cues).hasSize(1 + TOTAL_SECONDS / 15);
+        assertThat(cues[1]).startsWith("00:00:00.000 --> 00:00:14.500\n[Speaker 1] word0 word1");
+        assertThat(cues[5]).startsWith("00:01:00.000 --> 00:01:14.500\n[Speaker 1] word60 ");
+        assertThat(cues[6]).startsWith("00:01:15.000 --> 00:01:29.500\n[Speaker 2] word75 ");
+        assertThat(workDir.resolve("segments")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("transcribe_whenParallel_thenSameVttWithSegmentsRecognizedConcurrently")
+    void transcribe_whenParallel_thenSameVttWithSegmentsRecognizedConcurrently() throws IOException {
+        // given: 병렬 쪽 인식기는 5건이 동시에 진행 중일 때까지 응답을 보류
+        AudioSegmenter audioSegmenter = new AudioSegmenter(ffmpegRunner);
+        ReflectionTestUtils.setField(audioSegmenter, "segmentSeconds", 60L);
+        ReflectionTestUtils.setField(audioSegmenter, "overlapSeconds", 2L);
+        ConcurrencyTrackingRecognizer sequentialRecognizer = new ConcurrencyTrackingRecognizer(1);
+        ConcurrencyTrackingRecognizer parallelRecognizer = new ConcurrencyTrackingRecognizer(5);
+        ChunkedTranscriber sequential = newTranscriber(audioSegmenter, sequentialRecognizer, 1);
+        ChunkedTranscriber parallel = newTranscriber(audioSegmenter, parallelRecognizer, 5);
+
+        try {
+            // when
+            String sequentialVtt = sequential.transcribe(audioPath);
+            String parallelVtt = parallel.transcribe(audioPath);
+
+            // then: 결과는 동일, 병렬도만큼 구간이 동시에 인식되고 그 이상은 넘지 않음
+            assertThat(parallelVtt).isEqualTo(sequentialVtt);
+            assertThat(sequentialRecognizer.peakInFlight()).isEqualTo(1);
+            assertThat(parallelRecognizer.peakInFlight()).isEqualTo(5);
+        } finally {
+            sequential.stopWorkers();
+            parallel.stopWorkers();
+        }
+    }
+
+    @Test
+    @DisplayName("alignSpeakers_whenOverlapWordsMatch_thenRemapToPreviousSpeakerTags")
+    void alignSpeakers_whenOverlapWordsMatch_thenRemapToPreviousSpeakerTags() {
+        // given
+        List<RecognizedWord> previous = List.of(
+            new RecognizedWord("hello", 1, 58_000, 58_400),
+            new RecognizedWord("there", 2, 59_000, 59_400)
+        );
+        List<RecognizedWord> current = List.of(
+            new RecognizedWord("Hello", 2, 58_100, 58_500),
+            new RecognizedWord("there.", 1, 59_100, 59_500),
+            new RecognizedWord("again", 1, 61_000, 61_400)
+        );
+
+        // when
+        List<RecognizedWord> aligned = ChunkedTranscriber.alignSpeakers(previous, current);
+
+        // then
+        assertThat(aligned).extracting(RecognizedWord::speakerTag).containsExactly(1, 2, 2);
+    }
+
+    @Test
+    @DisplayName("transcriptCacheKey_whenRecognizerOrSegmentingDiffers_thenDifferentVersionedKey")
+    void transcriptCacheKey_whenRecognizerOrSegmentingDiffers_thenDifferentVersionedKey() {
+        // given: 같은 오디오 해시, 인식기·구간 길이만 다름
+        String audioSha256 = "a".repeat(64);
+        AudioSegmenter longSegments = new AudioSegmenter(ffmpegRunner);
+        ReflectionTestUtils.setField(longSegments, "segmentSeconds", 240L);
+        ReflectionTestUtils.setField(longSegments, "overlapSeconds", 2L);
+        AudioSegmenter shortSegments = new AudioSegmenter(ffmpegRunner);
+        ReflectionTestUtils.setField(shortSegments, "segmentSeconds", 60L);
+        ReflectionTestUtils.setField(shortSegments, "overlapSeconds", 2L);
+        SpeechRecognizer stub = new StubSpeechRecognizer(0);
+
+        // when
+        String key = new ChunkedTranscriber(longSegments, stub).transcriptCacheKey(audioSha256);
+        String sameSettings = new ChunkedTranscriber(longSegments, new StubSpeechRecognizer(0)).transcriptCacheKey(audioSha256);
+        String otherSegmenting = new ChunkedTranscriber(shortSegments, stub).transcriptCacheKey(audioSha256);
+        String otherRecognizer = new ChunkedTranscriber(longSegments, new ConcurrencyTrackingRecognizer(1)).transcriptCacheKey(audioSha256);
+
+        // then
+        assertThat(key).startsWith(ChunkedTranscriber.TRANSCRIPT_CACHE_VERSION + ":").isEqualTo(sameSettings);
+        assertThat(otherSegmenting).isNotEqualTo(key);
+        assertThat(otherRecognizer).isNotEqualTo(key);
+    }
+
+    private ChunkedTranscriber newTranscriber(AudioSegmenter audioSegmenter, SpeechRecognizer speechRecognizer, int parallelism) {
+        ChunkedTranscriber transcriber = new ChunkedTranscriber(audioSegmenter, speechRecognizer);
+        ReflectionTestUtils.setField(transcriber, "parallelism", parallelism);
+        ReflectionTestUtils.setField(transcriber, "queueCapacity", 16);
+        transcriber.startWorkers();
+        return transcriber;
+    }
+
+    /**
+     * 동시에 진행 중인 인식 호출 수의 최댓값을 기록하는 인식기.
+     * 처음 awaitConcurrent건은 그만큼이 동시에 진행될 때까지 (최대 5초) 응답을 보류합니다.
+     */
+    private static final class ConcurrencyTrackingRecognizer implements SpeechRecognizer {
+
+        private final SpeechRecognizer delegate = new StubSpeechRecognizer(0);
+        private final CountDownLatch concurrentCalls;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+
+        private ConcurrencyTrackingRecognizer(int awaitConcurrent) {
+            this.concurrentCalls = new CountDownLatch(awaitConcurrent);
+        }
+
+        @Override
+        public List<RecognizedWord> recognize(AudioSegment segment) throws IOException {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                concurrentCalls.countDown();
+                concurrentCalls.await(5, TimeUnit.SECONDS);
+                return delegate.recognize(segment);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public String cacheKey() {
+            return "tracking:" + delegate.cacheKey();
+        }
+
+        int peakInFlight() {
+            return peakInFlight.get();
+        }
+    }
+
+    /** STREAMINFO만 담은 FLAC 헤더 (16kHz mono 16bit) */
+    private static Path writeFlacHeader(Path path, int seconds) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(42);
+        header.put(new byte[]{'f', 'L', 'a', 'C', (byte) 0x80, 0, 0, 34});
+        header.position(18);
+        header.putLong(((long) SAMPLE_RATE << 44) | (15L << 36) | ((long) SAMPLE_RATE * seconds));
+        Files.write(path, Arrays.copyOf(header.array(), 42));
+        return path;
+    }
+}
@@ -0,0 +1,78 @@
+package org.junotb.api.schedulefeedback;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.EnabledIfDockerAvailable;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@EnabledIfDockerAvailable
+@DisplayName("ProcessingResultCache Integration Test")
+class ProcessingResultCacheTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private RedissonClient redissonClient;
+    private ProcessingResultCache processingResultCache;
+
+    @BeforeEach
+    void setUp() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+        redissonClient.getKeys().flushall();
+
+        processingResultCache = new ProcessingResultCache(redissonClient);
+        ReflectionTestUtils.setField(processingResultCache, "enabled", true);
+        ReflectionTestUtils.setField(processingResultCache, "maxTranscripts", 2);
+        ReflectionTestUtils.setField(processingResultCache, "maxFeedbacks", 2);
+        ReflectionTestUtils.setField(processingResultCache, "ttlDays", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redissonClient.shutdown();
+    }
+
+    @Test
+    @DisplayName("putTranscript_whenMaxSizeExceeded_thenEvictLeastRecentlyUsed")
+    void putTranscript_whenMaxSizeExceeded_thenEvictLeastRecentlyUsed() {
+        // given: 최대 2개, a를 최근에 조회
+        processingResultCache.putTranscript("a", "WEBVTT a");
+        processingResultCache.putTranscript("b", "WEBVTT b");
+        assertThat(processingResultCache.findTranscript("a")).contains("WEBVTT a");
+
+        // when
+        processingResultCache.putTranscript("c", "WEBVTT c");
+
+        // then: 가장 오래 사용되지 않은 b 제거
+        assertThat(processingResultCache.findTranscript("a")).contains("WEBVTT a");
+        assertThat(processingResultCache.findTranscript("b")).isEmpty();
+        assertThat(processingResultCache.findTranscript("c")).contains("WEBVTT c");
+    }
+
+    @Test
+    @DisplayName("findFeedback_whenKeyDiffersByPromptVersion_thenMiss")
+    void findFeedback_whenKeyDiffersByPromptVersion_thenMiss() {
+        // given
+        String key = ContentHash.sha256("WEBVTT", "prompt-v1", "gemini-2.5-flash");
+        processingResultCache.putFeedback(key, "feedback");
+
+        // when & then
+        assertThat(processingResultCache.findFeedback(key)).contains("feedback");
+        assertThat(processingResultCache.findFeedback(ContentHash.sha256("WEBVTT", "prompt-v2", "gemini-2.5-flash"))).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package org.junotb.api.schedulefeedback;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junotb.api.registration.RegistrationRepository;
+import org.junotb.api.schedule.Schedule;
+import org.junotb.api.schedule.ScheduleRepository;
+import org.junotb.api.user.User;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleFeedbackService Unit Test")
+class ScheduleFeedbackServiceTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final Long FEEDBACK_ID = 10L;
+    private static final String TEACHER_ID = "teacher-1";
+    private static final long TOTAL_BYTES = 4;
+
+    @Mock
+    private ScheduleFeedbackRepository scheduleFeedbackRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    @Mock
+    private VideoProcessor videoProcessor;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ScheduleFeedbackService scheduleFeedbackService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        scheduleFeedbackService = new ScheduleFeedbackService(
+            scheduleFeedbackRepository, scheduleRepository, registrationRepository, videoProcessor, transactionTemplate);
+
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        ScheduleFeedback uploading = ScheduleFeedback.builder()
+            .id(FEEDBACK_ID)
+            .schedule(Schedule.builder().id(SCHEDULE_ID).user(User.builder().id(TEACHER_ID).build()).build())
+            .feedbackStatus(ScheduleFeedbackStatus.UPLOADING)
+            .build();
+        given(scheduleFeedbackRepository.findByScheduleId(SCHEDULE_ID)).willReturn(Optional.of(uploading));
+        given(videoProcessor.appendChunk(eq(FEEDBACK_ID), eq(0L), any(InputStream.class), anyLong()))
+            .willReturn(new VideoUploadProgress(TOTAL_BYTES, TOTAL_BYTES));
+    }
+
+    @Test
+    @DisplayName("appendVideoChunk_whenLastChunkTransitions_thenSubmitted")
+    void appendVideoChunk_whenLastChunkTransitions_thenSubmitted() throws IOException {
+        // given
+        given(scheduleFeedbackRepository.transition(
+            eq(FEEDBACK_ID), eq(ScheduleFeedbackStatus.UPLOADING), eq(ScheduleFeedbackStatus.UPLOADED), any()))
+            .willReturn(1);
+
+        // when
+        scheduleFeedbackService.appendVideoChunk(SCHEDULE_ID, TEACHER_ID, 0, new ByteArrayInputStream(new byte[4]), TOTAL_BYTES);
+
+        // then
+        then(videoProcessor).should().submit(FEEDBACK_ID, ScheduleFeedbackStatus.UPLOADED);
+    }
+
+    @Test
+    @DisplayName("appendVideoChunk_whenAlreadyMovedOn_thenNotResubmitted")
+    void appendVideoChunk_whenAlreadyMovedOn_thenNotResubmitted() throws IOException {
+        // given: 재전송된 마지막 청크 (다른 요청이 이미 UPLOADED로 전환)
+        given(scheduleFeedbackRepository.transition(
+            eq(FEEDBACK_ID), eq(ScheduleFeedbackStatus.UPLOADING), eq(ScheduleFeedbackStatus.UPLOADED), any()))
+            .willReturn(0);
+
+        // when
+        scheduleFeedbackService.appendVideoChunk(SCHEDULE_ID, TEACHER_ID, 0, new ByteArrayInputStream(new byte[4]), TOTAL_BYTES);
+
+        // then
+        then(videoProcessor).should(never()).submit(any(), any());
+    }
+}
@@ -0,0 +1,116 @@
+package org.junotb.api.schedulefeedback;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VideoProcessService Unit Test")
+class VideoProcessServiceTest {
+
+    @Mock
+    private FfmpegRunner ffmpegRunner;
+
+    @Mock
+    private ChunkedTranscriber chunkedTranscriber;
+
+    @Mock
+    private GeminiFeedbackClient geminiFeedbackClient;
+
+    @Mock
+    private ProcessingResultCache processingResultCache;
+
+    @TempDir
+    Path workDir;
+
+    private VideoProcessService videoProcessService;
+    private Path audioPath;
+    private String audioSha256;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        videoProcessService = new VideoProcessService(ffmpegRunner, chunkedTranscriber, geminiFeedbackClient, processingResultCache);
+        audioPath = Files.write(workDir.resolve("audio.flac"), new byte[]{'f', 'L', 'a', 'C', 1, 2, 3});
+        audioSha256 = ContentHash.sha256(audioPath);
+    }
+
+    @Test
+    @DisplayName("transcribeToVtt_whenSameAudioCached_thenSkipTranscription")
+    void transcribeToVtt_whenSameAudioCached_thenSkipTranscription() throws IOException {
+        // given: 자막 캐시 키는 오디오 해시와 인식기·구간 설정으로 만듦
+        String transcriptKey = "v1:transcript";
+        given(chunkedTranscriber.transcriptCacheKey(audioSha256)).willReturn(transcriptKey);
+        given(processingResultCache.findTranscript(transcriptKey)).willReturn(Optional.of("WEBVTT cached"));
+
+        // when
+        String vtt = videoProcessService.transcribeToVtt(audioPath);
+
+        // then
+        assertThat(vtt).isEqualTo("WEBVTT cached");
+        verify(chunkedTranscriber, never()).transcribe(any());
+    }
+
+    @Test
+    @DisplayName("transcribeToVtt_whenCacheMiss_thenTranscribeAndStoreByTranscriptKey")
+    void transcribeToVtt_whenCacheMiss_thenTranscribeAndStoreByTranscriptKey() throws IOException {
+        // given: 자막 캐시 키는 오디오 해시와 인식기·구간 설정으로 만듦
+        String transcriptKey = "v1:transcript";
+        given(chunkedTranscriber.transcriptCacheKey(audioSha256)).willReturn(transcriptKey);
+        given(processingResultCache.findTranscript(transcriptKey)).willReturn(Optional.empty());
+        given(chunkedTranscriber.transcribe(audioPath)).willReturn("WEBVTT new");
+
+        // when
+        String vtt = videoProcessService.transcribeToVtt(audioPath);
+
+        // then
+        assertThat(vtt).isEqualTo("WEBVTT new");
+        verify(processingResultCache).putTranscript(transcriptKey, "WEBVTT new");
+    }
+
+    @Test
+    @DisplayName("generateFeedback_whenSameVttPromptAndModelCached_thenSkipGemini")
+    void generateFeedback_whenSameVttPromptAndModelCached_thenSkipGemini() throws IOException {
+        // given
+        given(geminiFeedbackClient.feedbackCacheKey("WEBVTT")).willReturn("key");
+        given(processingResultCache.findFeedback("key")).willReturn(Optional.of("cached feedback"));
+
+        // when
+        String feedback = videoProcessService.generateFeedback("WEBVTT");
+
+        // then
+        assertThat(feedback).isEqualTo("cached feedback");
+        verify(geminiFeedbackClient, never()).generateFeedback(anyString());
+    }
+
+    @Test
+    @DisplayName("generateFeedback_whenGeminiReturnsFallback_thenDoNotCache")
+    void generateFeedback_whenGeminiReturnsFallback_thenDoNotCache() throws IOException {
+        // given
+        given(geminiFeedbackClient.feedbackCacheKey("WEBVTT")).willReturn("key");
+        given(processingResultCache.findFeedback("key")).willReturn(Optional.empty());
+        given(geminiFeedbackClient.generateFeedback("WEBVTT")).willReturn(GeminiFeedbackClient.FEEDBACK_FALLBACK);
+
+        // when
+        String feedback = videoProcessService.generateFeedback("WEBVTT");
+
+        // then
+        assertThat(feedback).isEqualTo(GeminiFeedbackClient.FEEDBACK_FALLBACK);
+        verify(processingResultCache, never()).putFeedback(anyString(), anyString());
+    }
+}
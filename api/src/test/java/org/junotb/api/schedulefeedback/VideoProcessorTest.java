@@ -0,0 +1,310 @@
+package org.junotb.api.schedulefeedback;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VideoProcessor Unit Test")
+class VideoProcessorTest {
+
+    private static final long FEEDBACK_ID = 1L;
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final String WORKER_ID = "worker-a";
+
+    @Mock
+    private VideoProcessService videoProcessService;
+
+    @Mock
+    private ScheduleFeedbackRepository scheduleFeedbackRepository;
+
+    @TempDir
+    Path storageDir;
+
+    private VideoProcessor videoProcessor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        videoProcessor = new VideoProcessor(videoProcessService, scheduleFeedbackRepository);
+        ReflectionTestUtils.setField(videoProcessor, "enabled", true);
+        ReflectionTestUtils.setField(videoProcessor, "storageDir", storageDir);
+        ReflectionTestUtils.setField(videoProcessor, "audioWorkers", 1);
+        ReflectionTestUtils.setField(videoProcessor, "sttWorkers", 1);
+        ReflectionTestUtils.setField(videoProcessor, "feedbackWorkers", 1);
+        ReflectionTestUtils.setField(videoProcessor, "queueCapacity", 10);
+        ReflectionTestUtils.setField(videoProcessor, "workerId", WORKER_ID);
+        ReflectionTestUtils.setField(videoProcessor, "leaseSeconds", 180L);
+        ReflectionTestUtils.setField(videoProcessor, "uploadIdleTtlSeconds", 3600L);
+        videoProcessor.startWorkers();
+    }
+
+    @AfterEach
+    void tearDown() {
+        videoProcessor.stopWorkers();
+    }
+
+    @Test
+    @DisplayName("submit_whenUploaded_thenRunsAllStagesAndCleansUpFiles")
+    void submit_whenUploaded_thenRunsAllStagesAndCleansUpFiles() throws Exception {
+        // given
+        videoProcessor.storeUpload(FEEDBACK_ID, new MockMultipartFile("file", "lesson.mp4", "video/mp4", new byte[]{1, 2, 3}));
+        willAnswer(invocation -> Files.write(invocation.<Path>getArgument(1), new byte[]{4}))
+            .given(videoProcessService).extractAudio(any(Path.class), any(Path.class));
+        given(videoProcessService.transcribeToVtt(any(Path.class))).willReturn("WEBVTT");
+        given(videoProcessService.generateFeedback("WEBVTT")).willReturn("feedback");
+        givenClaimSucceeds();
+        given(scheduleFeedbackRepository.transition(eq(FEEDBACK_ID), any(), any(), any(OffsetDateTime.class))).willReturn(1);
+        given(scheduleFeedbackRepository.completeTranscription(eq(FEEDBACK_ID), eq("WEBVTT"), any(OffsetDateTime.class))).willReturn(1);
+        given(scheduleFeedbackRepository.findById(FEEDBACK_ID)).willReturn(Optional.of(
+            ScheduleFeedback.builder().id(FEEDBACK_ID).vttContent("WEBVTT").feedbackStatus(ScheduleFeedbackStatus.PROCESSING).build()
+        ));
+
+        // when
+        videoProcessor.submit(FEEDBACK_ID, ScheduleFeedbackStatus.UPLOADED);
+
+        // then
+        verify(scheduleFeedbackRepository, timeout(TIMEOUT_MILLIS))
+            .completeFeedback(eq(FEEDBACK_ID), eq("feedback"), any(OffsetDateTime.class));
+        verify(scheduleFeedbackRepository).transition(eq(FEEDBACK_ID),
+            eq(ScheduleFeedbackStatus.UPLOADED), eq(ScheduleFeedbackStatus.AUDIO_EXTRACTED), any(OffsetDateTime.class));
+        verify(scheduleFeedbackRepository).transition(eq(FEEDBACK_ID),
+            eq(ScheduleFeedbackStatus.PENDING), eq(ScheduleFeedbackStatus.PROCESSING), any(OffsetDateTime.class));
+        verify(scheduleFeedbackRepository, never()).markFailed(any(), any());
+        assertThat(storageDir.resolve(String.valueOf(FEEDBACK_ID))).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("submit_whenTranscriptionFails_thenMarkFailedAndDeleteFiles")
+    void submit_whenTranscriptionFails_thenMarkFailedAndDeleteFiles() throws Exception {
+        // given
+        Path jobDir = Files.createDirectories(storageDir.resolve(String.valueOf(FEEDBACK_ID)));
+        Files.write(jobDir.resolve("audio.flac"), new byte[]{1});
+        willThrow(new IOException("STT error")).given(videoProcessService).transcribeToVtt(any(Path.class));
+        givenClaimSucceeds();
+
+        // when
+        videoProcessor.submit(FEEDBACK_ID, ScheduleFeedbackStatus.AUDIO_EXTRACTED);
+
+        // then
+        verify(scheduleFeedbackRepository, timeout(TIMEOUT_MILLIS)).markFailed(eq(FEEDBACK_ID), any(OffsetDateTime.class));
+        verify(scheduleFeedbackRepository, never()).completeTranscription(any(), any(), any());
+        assertThat(jobDir).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("submit_whenClaimedByAnotherWorker_thenNotExecuted")
+    void submit_whenClaimedByAnotherWorker_thenNotExecuted() throws Exception {
+        // given: 다른 노드가 유효한 점유를 가진 작업 (claim 0건)
+        given(scheduleFeedbackRepository.claim(eq(FEEDBACK_ID), eq(ScheduleFeedbackStatus.PENDING), eq(WORKER_ID), any(), any()))
+            .willReturn(0);
+
+        // when
+        videoProcessor.submit(FEEDBACK_ID, ScheduleFeedbackStatus.PENDING);
+
+        // then
+        verify(scheduleFeedbackRepository, never()).transition(any(), any(), any(), any());
+        verify(videoProcessService, never()).generateFeedback(any());
+    }
+
+    @Test
+    @DisplayName("recoverInProgressJobs_whenOwnJobFileMissing_thenMarkFailed")
+    void recoverInProgressJobs_whenOwnJobFileMissing_thenMarkFailed() throws Exception {
+        // given: 재시작 후 이 노드가 점유했던 UPLOADED 작업의 영상 파일이 유실됨
+        given(scheduleFeedbackRepository.findRecoverable(anyCollection(), eq(WORKER_ID), any(OffsetDateTime.class))).willReturn(List.of(
+            ScheduleFeedback.builder().id(FEEDBACK_ID).feedbackStatus(ScheduleFeedbackStatus.UPLOADED).workerId(WORKER_ID).build()
+        ));
+        given(scheduleFeedbackRepository.transition(eq(FEEDBACK_ID),
+            eq(ScheduleFeedbackStatus.UPLOADED), eq(ScheduleFeedbackStatus.FAILED), any(OffsetDateTime.class))).willReturn(1);
+
+        // when
+        videoProcessor.recoverInProgressJobs();
+
+        // then
+        verify(scheduleFeedbackRepository).transition(eq(FEEDBACK_ID),
+            eq(ScheduleFeedbackStatus.UPLOADED), eq(ScheduleFeedbackStatus.FAILED), any(OffsetDateTime.class));
+        verify(scheduleFeedbackRepository, never()).claim(any(), any(), any(), any(), any());
+        verify(videoProcessService, never()).extractAudio(any(), any());
+    }
+
+    @Test
+    @DisplayName("recoverInProgressJobs_whenFilesOnAnotherWorker_thenSkippedWithoutFailing")
+    void recoverInProgressJobs_whenFilesOnAnotherWorker_thenSkippedWithoutFailing() throws Exception {
+        // given: 다른 노드가 점유했던(만료) 작업, 파일은 그 노드에만 있음
+        given(scheduleFeedbackRepository.findRecoverable(anyCollection(), eq(WORKER_ID), any(OffsetDateTime.class))).willReturn(List.of(
+            ScheduleFeedback.builder().id(FEEDBACK_ID).feedbackStatus(ScheduleFeedbackStatus.UPLOADED)
+                .workerId("worker-b").leaseExpiresAt(OffsetDateTime.now().minusMinutes(10)).build(),
+            ScheduleFeedback.builder().id(FEEDBACK_ID + 1).feedbackStatus(ScheduleFeedbackStatus.AUDIO_EXTRACTED).build()
+        ));
+
+        // when
+        videoProcessor.recoverInProgressJobs();
+
+        // then
+        verify(scheduleFeedbackRepository, never()).claim(any(), any(), any(), any(), any());
+        verify(scheduleFeedbackRepository, never()).transition(any(), any(), any(), any());
+        verify(scheduleFeedbackRepository, never()).markFailed(any(), any());
+        assertThat(storageDir.resolve(String.valueOf(FEEDBACK_ID))).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("recoverInProgressJobs_whenLocalFilesExist_thenClaimedAndResumed")
+    void recoverInProgressJobs_whenLocalFilesExist_thenClaimedAndResumed() throws Exception {
+        // given: 이 노드에 오디오 파일이 남아 있는 AUDIO_EXTRACTED 작업
+        Path jobDir = Files.createDirectories(storageDir.resolve(String.valueOf(FEEDBACK_ID)));
+        Files.write(jobDir.resolve("audio.flac"), new byte[]{1});
+        given(scheduleFeedbackRepository.findRecoverable(anyCollection(), eq(WORKER_ID), any(OffsetDateTime.class))).willReturn(List.of(
+            ScheduleFeedback.builder().id(FEEDBACK_ID).feedbackStatus(ScheduleFeedbackStatus.AUDIO_EXTRACTED).build()
+        ));
+        givenClaimSucceeds();
+        given(videoProcessService.transcribeToVtt(any(Path.class))).willReturn("WEBVTT");
+
+        // when
+        videoProcessor.recoverInProgressJobs();
+
+        // then
+        verify(scheduleFeedbackRepository, timeout(TIMEOUT_MILLIS))
+            .completeTranscription(eq(FEEDBACK_ID), eq("WEBVTT"), any(OffsetDateTime.class));
+        verify(scheduleFeedbackRepository).claim(eq(FEEDBACK_ID), eq(ScheduleFeedbackStatus.AUDIO_EXTRACTED), eq(WORKER_ID), any(), any());
+    }
+
+    @Test
+    @DisplayName("appendChunk_whenResumedAtUploadedOffset_thenCompletesAsVideoFile")
+    void appendChunk_whenResumedAtUploadedOffset_thenCompletesAsVideoFile() throws Exception {
+        // given
+        byte[] video = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        videoProcessor.startUpload(FEEDBACK_ID, "lesson.mp4", video.length);
+
+        // when: 첫 청크는 4바이트 중 3바이트만 전송된 뒤 연결 종료
+        assertThatThrownBy(() -> videoProcessor.appendChunk(FEEDBACK_ID, 0,
+            new ByteArrayInputStream(Arrays.copyOfRange(video, 0, 3)), 4))
+            .isInstanceOf(IOException.class);
+        VideoUploadProgress resumed = videoProcessor.getUploadProgress(FEEDBACK_ID);
+        VideoUploadProgress completed = videoProcessor.appendChunk(FEEDBACK_ID, resumed.uploadedBytes(),
+            new ByteArrayInputStream(Arrays.copyOfRange(video, 3, video.length)), video.length - 3);
+
+        // then
+        assertThat(resumed.uploadedBytes()).isEqualTo(3);
+        assertThat(completed.isComplete()).isTrue();
+        assertThat(storageDir.resolve(FEEDBACK_ID + "/video.mp4")).hasBinaryContent(video);
+        assertThat(storageDir.resolve(FEEDBACK_ID + "/upload.part")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("appendChunk_whenOffsetMismatch_thenThrowIllegalStateException")
+    void appendChunk_whenOffsetMismatch_thenThrowIllegalStateException() throws Exception {
+        // given
+        videoProcessor.startUpload(FEEDBACK_ID, "lesson.mp4", 10);
+
+        // when & then
+        assertThatThrownBy(() -> videoProcessor.appendChunk(FEEDBACK_ID, 5, new ByteArrayInputStream(new byte[5]), 5))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("현재 위치: 0");
+    }
+
+    @Test
+    @DisplayName("cleanupStaleUploads_whenPartIdlePastTtl_thenFailedAndDeleted")
+    void cleanupStaleUploads_whenPartIdlePastTtl_thenFailedAndDeleted() throws Exception {
+        // given: 2시간 동안 청크가 오지 않은 업로드 + 방금 시작한 업로드
+        long staleId = FEEDBACK_ID;
+        long activeId = FEEDBACK_ID + 1;
+        videoProcessor.startUpload(staleId, "lesson.mp4", 10);
+        videoProcessor.startUpload(activeId, "lesson.mp4", 10);
+        Files.setLastModifiedTime(storageDir.resolve(staleId + "/upload.part"),
+            FileTime.from(Instant.now().minusSeconds(2 * 3600)));
+
+        // when
+        videoProcessor.cleanupStaleUploads();
+
+        // then
+        verify(scheduleFeedbackRepository).transition(eq(staleId),
+            eq(ScheduleFeedbackStatus.UPLOADING), eq(ScheduleFeedbackStatus.FAILED), any(OffsetDateTime.class));
+        verify(scheduleFeedbackRepository, never()).transition(eq(activeId), any(), any(), any());
+        assertThat(storageDir.resolve(String.valueOf(staleId))).doesNotExist();
+        assertThat(storageDir.resolve(activeId + "/upload.part")).exists();
+    }
+
+    @Test
+    @DisplayName("appendChunk_whenLargeChunk_thenHeapAllocationStaysBounded")
+    void appendChunk_whenLargeChunk_thenHeapAllocationStaysBounded() throws Exception {
+        // given: 64MB 청크 (요청 본문을 흉내 내는 스트림, 스트림 자체는 추가 할당 없음)
+        long totalBytes = 64L * 1024 * 1024;
+        videoProcessor.startUpload(FEEDBACK_ID, "lesson.mp4", totalBytes);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // when
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        VideoUploadProgress progress = videoProcessor.appendChunk(FEEDBACK_ID, 0, new ZeroInputStream(totalBytes), totalBytes);
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        // then: 본문 전체를 힙에 올리지 않음
+        assertThat(progress.isComplete()).isTrue();
+        assertThat(Files.size(storageDir.resolve(FEEDBACK_ID + "/video.mp4"))).isEqualTo(totalBytes);
+        assertThat(allocatedBytes).isLessThan(totalBytes / 16);
+    }
+
+    private void givenClaimSucceeds() {
+        given(scheduleFeedbackRepository.claim(eq(FEEDBACK_ID), any(), eq(WORKER_ID), any(), any())).willReturn(1);
+    }
+
+    /** 지정 크기만큼 0을 내보내는 스트림 */
+    private static final class ZeroInputStream extends InputStream {
+
+        private long remaining;
+
+        private ZeroInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + n, (byte) 0);
+            remaining -= n;
+            return n;
+        }
+    }
+}
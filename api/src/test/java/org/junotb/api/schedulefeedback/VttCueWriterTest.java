@@ -0,0 +1,63 @@
+package org.junotb.api.schedulefeedback;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VttCueWriter Unit Test")
+class VttCueWriterTest {
+
+    @Test
+    @DisplayName("toVtt_whenSpeakerChanges_thenSplitCuesWithMillisecondTimestamps")
+    void toVtt_whenSpeakerChanges_thenSplitCuesWithMillisecondTimestamps() {
+        // given
+        List<RecognizedWord> words = List.of(
+            new RecognizedWord("Hello", 1, 0, 400),
+            new RecognizedWord("there", 1, 450, 900),
+            new RecognizedWord("Hi", 2, 61_005, 61_250),
+            new RecognizedWord("again", 1, 3_725_042, 3_725_999)
+        );
+
+        // when
+        String vtt = VttCueWriter.toVtt(words);
+
+        // then
+        assertThat(vtt).isEqualTo("""
+            WEBVTT
+
+            00:00:00.000 --> 00:00:00.900
+            [Speaker 1] Hello there
+
+            00:01:01.005 --> 00:01:01.250
+            [Speaker 2] Hi
+
+            01:02:05.042 --> 01:02:05.999
+            [Speaker 1] again""");
+    }
+
+    @Test
+    @DisplayName("toVtt_whenNoWords_thenWriteEmptyResultCue")
+    void toVtt_whenNoWords_thenWriteEmptyResultCue() {
+        assertThat(VttCueWriter.toVtt(List.of())).isEqualTo(VttCueWriter.EMPTY_VTT);
+    }
+
+    @Test
+    @DisplayName("toVtt_whenCueTextExceedsBuffer_thenGrowBuffer")
+    void toVtt_whenCueTextExceedsBuffer_thenGrowBuffer() {
+        // given: 한 화자 1000단어 (초기 버퍼 256자 초과)
+        List<RecognizedWord> words = IntStream.range(0, 1000)
+            .mapToObj(i -> new RecognizedWord("word" + i, 1, i * 1000L, i * 1000L + 500))
+            .toList();
+
+        // when
+        String vtt = VttCueWriter.toVtt(words);
+
+        // then
+        assertThat(vtt).startsWith("WEBVTT\n\n00:00:00.000 --> 00:16:39.500\n[Speaker 1] word0 word1 ");
+        assertThat(vtt).endsWith(" word998 word999");
+    }
+}
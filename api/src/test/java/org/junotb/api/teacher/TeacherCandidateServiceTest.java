@@ -0,0 +1,128 @@
+package org.junotb.api.teacher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junotb.api.schedule.TeacherCalendarChangedEvent;
+import org.junotb.api.teacher.dto.TeacherCandidateResponse;
+import org.junotb.api.user.User;
+import org.junotb.api.user.UserRepository;
+import org.junotb.api.user.UserRole;
+import org.junotb.api.user.UserStatus;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeacherCandidateService Unit Test")
+class TeacherCandidateServiceTest {
+
+    private static final List<DayOfWeek> MON_WED = List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY);
+
+    @Mock
+    private TeacherWeeklySlotIndex teacherWeeklySlotIndex;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TeacherCandidateService teacherCandidateService;
+
+    @BeforeEach
+    void setUp() {
+        teacherCandidateService = new TeacherCandidateService(teacherWeeklySlotIndex, userRepository);
+    }
+
+    private static User teacher(String id) {
+        return User.builder()
+                .id(id)
+                .name("Teacher " + id)
+                .email(id + "@test.com")
+                .emailVerified(true)
+                .image("")
+                .role(UserRole.TEACHER)
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("findCandidates - 강사 200명도 사용자 조회는 findAllById 1회, 후보 순서 유지")
+    void findCandidates_when200Teachers_thenSingleBatchLoadInCandidateOrder() {
+        // given: 저장소는 순서를 보장하지 않음 (역순 반환)
+        List<String> teacherIds = IntStream.rangeClosed(1, 200).mapToObj(i -> "teacher-%03d".formatted(i)).toList();
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(teacherIds);
+        given(userRepository.findAllById(teacherIds)).willReturn(teacherIds.reversed().stream().map(TeacherCandidateServiceTest::teacher).toList());
+
+        // when
+        List<TeacherCandidateResponse> candidates = teacherCandidateService.findCandidates(MON_WED, "10:00", 60);
+
+        // then
+        assertThat(candidates).extracting(TeacherCandidateResponse::id).containsExactlyElementsOf(teacherIds);
+        assertThat(candidates.get(0).name()).isEqualTo("Teacher teacher-001");
+        then(userRepository).should(times(1)).findAllById(anyCollection());
+        then(userRepository).should(never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("findCandidates - 조회되지 않은 강사(탈퇴 등)는 제외")
+    void findCandidates_whenUserMissing_thenSkipped() {
+        // given
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of("teacher-a", "teacher-b"));
+        given(userRepository.findAllById(List.of("teacher-a", "teacher-b"))).willReturn(List.of(teacher("teacher-b")));
+
+        // when
+        List<TeacherCandidateResponse> candidates = teacherCandidateService.findCandidates(MON_WED, "10:00", 60);
+
+        // then
+        assertThat(candidates).extracting(TeacherCandidateResponse::id).containsExactly("teacher-b");
+    }
+
+    @Test
+    @DisplayName("findCandidates - 같은 조건(요일 순서 무관) 재조회는 캐시 사용")
+    void findCandidates_whenSameQuery_thenServedFromCache() {
+        // given
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of("teacher-a"));
+        given(userRepository.findAllById(List.of("teacher-a"))).willReturn(List.of(teacher("teacher-a")));
+
+        // when
+        teacherCandidateService.findCandidates(MON_WED, "10:00", 60);
+        List<TeacherCandidateResponse> cached = teacherCandidateService.findCandidates(MON_WED.reversed(), "10:00", 60);
+        teacherCandidateService.findCandidates(MON_WED, "10:00", 90);
+
+        // then
+        assertThat(cached).extracting(TeacherCandidateResponse::id).containsExactly("teacher-a");
+        then(teacherWeeklySlotIndex).should(times(1)).findCandidates(any(), any(), eq(60));
+        then(teacherWeeklySlotIndex).should(times(1)).findCandidates(any(), any(), eq(90));
+        then(userRepository).should(times(2)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("onTeacherCalendarChanged - 강사 일정 변경 시 캐시 무효화")
+    void onTeacherCalendarChanged_thenCacheInvalidated() {
+        // given
+        given(teacherWeeklySlotIndex.findCandidates(any(), any(), anyInt())).willReturn(List.of("teacher-a"), List.of());
+        given(userRepository.findAllById(List.of("teacher-a"))).willReturn(List.of(teacher("teacher-a")));
+        teacherCandidateService.findCandidates(MON_WED, "10:00", 60);
+
+        // when
+        teacherCandidateService.onTeacherCalendarChanged(new TeacherCalendarChangedEvent("teacher-a"));
+        List<TeacherCandidateResponse> candidates = teacherCandidateService.findCandidates(MON_WED, "10:00", 60);
+
+        // then
+        assertThat(candidates).isEmpty();
+        then(teacherWeeklySlotIndex).should(times(2)).findCandidates(any(), any(), anyInt());
+    }
+}
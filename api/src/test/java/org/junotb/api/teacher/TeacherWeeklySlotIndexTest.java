@@ -0,0 +1,173 @@
+package org.junotb.api.teacher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junotb.api.schedule.TeacherCalendarChangedEvent;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeacherWeeklySlotIndex Unit Test")
+class TeacherWeeklySlotIndexTest {
+
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+    private static final List<DayOfWeek> MON_WED = List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY);
+
+    @Mock
+    private TeacherWeeklySlotRepository teacherWeeklySlotRepository;
+
+    private TeacherWeeklySlotIndex teacherWeeklySlotIndex;
+
+    @BeforeEach
+    void setUp() {
+        teacherWeeklySlotIndex = new TeacherWeeklySlotIndex(teacherWeeklySlotRepository);
+    }
+
+    /** 강사별 월·수 09:00~12:00 가용 시간 */
+    private static List<WeeklySlotRow> mondayAndWednesday(String... teacherIds) {
+        return Arrays.stream(teacherIds)
+                .flatMap(teacherId -> Stream.of(
+                        new WeeklySlotRow(teacherId, DayOfWeek.MONDAY, LocalTime.of(9, 0), 180),
+                        new WeeklySlotRow(teacherId, DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), 180)
+                ))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("findCandidates - 가용 시간이 모든 요일을 커버하고 반복 수업과 겹치지 않는 강사만 ID 순으로 반환")
+    void findCandidates_whenLoaded_thenFiltersByAvailabilityAndBookings() {
+        // given: b는 수요일 10시 반복 수업, c는 월요일만 가용
+        List<WeeklySlotRow> availability = new ArrayList<>(mondayAndWednesday("teacher-b", "teacher-a"));
+        availability.add(new WeeklySlotRow("teacher-c", DayOfWeek.MONDAY, LocalTime.of(9, 0), 180));
+        given(teacherWeeklySlotRepository.findAllAvailability()).willReturn(availability);
+        given(teacherWeeklySlotRepository.findAllBookings(any(), any())).willReturn(List.of(
+                new WeeklySlotRow("teacher-b", DayOfWeek.WEDNESDAY, TEN, 60)
+        ));
+
+        // when
+        List<String> candidates = teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60);
+
+        // then
+        assertThat(candidates).containsExactly("teacher-a");
+    }
+
+    @Test
+    @DisplayName("findCandidates - TTL 안의 반복 조회는 DB를 다시 조회하지 않음")
+    void findCandidates_whenCalledTwice_thenLoadsOnce() {
+        // given
+        given(teacherWeeklySlotRepository.findAllAvailability()).willReturn(mondayAndWednesday("teacher-a"));
+        given(teacherWeeklySlotRepository.findAllBookings(any(), any())).willReturn(List.of());
+
+        // when
+        teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60);
+        List<String> candidates = teacherWeeklySlotIndex.findCandidates(MON_WED, LocalTime.of(11, 0), 60);
+
+        // then
+        assertThat(candidates).containsExactly("teacher-a");
+        then(teacherWeeklySlotRepository).should(times(1)).findAllAvailability();
+        then(teacherWeeklySlotRepository).should(times(1)).findAllBookings(any(), any());
+    }
+
+    @Test
+    @DisplayName("onTeacherCalendarChanged - 변경된 강사만 다음 조회 때 재적재")
+    void onTeacherCalendarChanged_whenTeacherBooked_thenOnlyThatTeacherReloaded() {
+        // given
+        given(teacherWeeklySlotRepository.findAllAvailability()).willReturn(mondayAndWednesday("teacher-a", "teacher-b"));
+        given(teacherWeeklySlotRepository.findAllBookings(any(), any())).willReturn(List.of());
+        assertThat(teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60)).containsExactly("teacher-a", "teacher-b");
+
+        given(teacherWeeklySlotRepository.findAvailabilityByTeacherIds(List.of("teacher-a")))
+                .willReturn(mondayAndWednesday("teacher-a"));
+        given(teacherWeeklySlotRepository.findBookingsByTeacherIds(eq(List.of("teacher-a")), any(), any()))
+                .willReturn(List.of(new WeeklySlotRow("teacher-a", DayOfWeek.MONDAY, TEN, 60)));
+
+        // when
+        teacherWeeklySlotIndex.onTeacherCalendarChanged(new TeacherCalendarChangedEvent("teacher-a"));
+        List<String> candidates = teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60);
+
+        // then
+        assertThat(candidates).containsExactly("teacher-b");
+        then(teacherWeeklySlotRepository).should(times(1)).findAllAvailability();
+    }
+
+    @Test
+    @DisplayName("onTeacherCalendarChanged - 가용 시간이 모두 삭제된 강사는 후보에서 제외")
+    void onTeacherCalendarChanged_whenAvailabilityRemoved_thenTeacherDropped() {
+        // given
+        given(teacherWeeklySlotRepository.findAllAvailability()).willReturn(mondayAndWednesday("teacher-a"));
+        given(teacherWeeklySlotRepository.findAllBookings(any(), any())).willReturn(List.of());
+        teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60);
+
+        given(teacherWeeklySlotRepository.findAvailabilityByTeacherIds(List.of("teacher-a"))).willReturn(List.of());
+        given(teacherWeeklySlotRepository.findBookingsByTeacherIds(eq(List.of("teacher-a")), any(), any())).willReturn(List.of());
+
+        // when
+        teacherWeeklySlotIndex.onTeacherCalendarChanged(new TeacherCalendarChangedEvent("teacher-a"));
+
+        // then
+        assertThat(teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findCandidates - 요청 요일이 없으면 전체 강사가 아닌 빈 목록")
+    void findCandidates_whenDaysEmpty_thenEmptyWithoutLoading() {
+        // when
+        List<String> candidates = teacherWeeklySlotIndex.findCandidates(List.of(), TEN, 60);
+
+        // then
+        assertThat(candidates).isEmpty();
+        then(teacherWeeklySlotRepository).should(never()).findAllAvailability();
+    }
+
+    @Test
+    @DisplayName("findCandidates - 다른 스레드가 재적재 중이면 대기하지 않고 이전 인덱스로 응답")
+    void findCandidates_whenRefreshInProgress_thenServesPreviousSlots() throws Exception {
+        // given: 최초 적재 후 teacher-a 재적재가 DB 조회에서 멈춰 있음
+        given(teacherWeeklySlotRepository.findAllAvailability()).willReturn(mondayAndWednesday("teacher-a", "teacher-b"));
+        given(teacherWeeklySlotRepository.findAllBookings(any(), any())).willReturn(List.of());
+        teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(teacherWeeklySlotRepository.findAvailabilityByTeacherIds(List.of("teacher-a"))).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return mondayAndWednesday("teacher-a");
+        });
+        given(teacherWeeklySlotRepository.findBookingsByTeacherIds(eq(List.of("teacher-a")), any(), any()))
+                .willReturn(List.of(new WeeklySlotRow("teacher-a", DayOfWeek.MONDAY, TEN, 60)));
+        teacherWeeklySlotIndex.onTeacherCalendarChanged(new TeacherCalendarChangedEvent("teacher-a"));
+        CompletableFuture<List<String>> refreshing = CompletableFuture.supplyAsync(
+                () -> teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        List<String> during = teacherWeeklySlotIndex.findCandidates(MON_WED, TEN, 60);
+        release.countDown();
+
+        // then
+        assertThat(during).containsExactly("teacher-a", "teacher-b");
+        assertThat(refreshing.get(5, TimeUnit.SECONDS)).containsExactly("teacher-b");
+        then(teacherWeeklySlotRepository).should(times(1)).findAvailabilityByTeacherIds(any());
+    }
+}
@@ -0,0 +1,85 @@
+package org.junotb.api.teacher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeeklySlots Unit Test")
+class WeeklySlotsTest {
+
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+
+    private static WeeklySlotRow row(DayOfWeek day, LocalTime startTime, int durationMinutes) {
+        return new WeeklySlotRow("teacher", day, startTime, durationMinutes);
+    }
+
+    @Test
+    @DisplayName("containsAll - 모든 요청 요일이 가용 시간 안이면 true")
+    void containsAll_whenEveryRequestedDayCovered_thenTrue() {
+        WeeklySlots available = WeeklySlots.ofAvailability(List.of(
+                row(DayOfWeek.MONDAY, LocalTime.of(9, 0), 180),
+                row(DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), 180)
+        ));
+
+        assertThat(available.containsAll(WeeklySlots.ofRequest(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), TEN, 60))).isTrue();
+        assertThat(available.containsAll(WeeklySlots.ofRequest(List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), TEN, 60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("containsAll - 맞닿은 가용 시간 두 건은 이어진 구간으로 커버")
+    void containsAll_whenAdjacentAvailabilityRows_thenCoveredTogether() {
+        WeeklySlots available = WeeklySlots.ofAvailability(List.of(
+                row(DayOfWeek.MONDAY, LocalTime.of(9, 0), 90),
+                row(DayOfWeek.MONDAY, LocalTime.of(10, 30), 90)
+        ));
+
+        assertThat(available.containsAll(WeeklySlots.ofRequest(List.of(DayOfWeek.MONDAY), TEN, 60))).isTrue();
+    }
+
+    @Test
+    @DisplayName("andNot - 예약 수업과 겹치는 요청은 제외, 끝과 시작이 맞닿으면 허용")
+    void andNot_whenBookingOverlaps_thenRequestNotContained() {
+        WeeklySlots available = WeeklySlots.ofAvailability(List.of(row(DayOfWeek.MONDAY, LocalTime.of(8, 0), 600)));
+        WeeklySlots free = available.andNot(WeeklySlots.ofBookings(List.of(row(DayOfWeek.MONDAY, LocalTime.of(10, 30), 60))));
+
+        assertThat(free.containsAll(WeeklySlots.ofRequest(List.of(DayOfWeek.MONDAY), TEN, 60))).isFalse();
+        assertThat(free.containsAll(WeeklySlots.ofRequest(List.of(DayOfWeek.MONDAY), LocalTime.of(9, 30), 60))).isTrue();
+        assertThat(free.containsAll(WeeklySlots.ofRequest(List.of(DayOfWeek.MONDAY), LocalTime.of(11, 30), 60))).isTrue();
+    }
+
+    @Test
+    @DisplayName("15분 경계가 아닌 시각 - 가용 시간은 안쪽, 예약·요청은 바깥쪽으로 반올림")
+    void of_whenUnalignedTimes_thenRoundedConservatively() {
+        WeeklySlots available = WeeklySlots.ofAvailability(List.of(row(DayOfWeek.MONDAY, LocalTime.of(9, 50), 80)));
+        WeeklySlots booked = WeeklySlots.ofBookings(List.of(row(DayOfWeek.MONDAY, LocalTime.of(11, 10), 10)));
+
+        // 가용 09:50~11:10 → 10:00~11:00 칸만
+        assertThat(available.containsAll(WeeklySlots.ofRequest(List.of(DayOfWeek.MONDAY), TEN, 60))).isTrue();
+        assertThat(available.containsAll(WeeklySlots.ofRequest(List.of(DayOfWeek.MONDAY), TEN, 65))).isFalse();
+        // 예약 11:10~11:20 → 11:00~11:30 칸 전체
+        assertThat(booked.equals(WeeklySlots.ofBookings(List.of(row(DayOfWeek.MONDAY, LocalTime.of(11, 0), 30))))).isTrue();
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 구간은 다음 요일(일요일 → 월요일)로 이어짐")
+    void ofRequest_whenPastMidnight_thenWrapsToNextDay() {
+        WeeklySlots request = WeeklySlots.ofRequest(List.of(DayOfWeek.SUNDAY), LocalTime.of(23, 30), 60);
+        WeeklySlots expected = WeeklySlots.ofBookings(List.of(
+                row(DayOfWeek.SUNDAY, LocalTime.of(23, 30), 30),
+                row(DayOfWeek.MONDAY, LocalTime.MIDNIGHT, 30)
+        ));
+
+        assertThat(request).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("isEmpty - 가용 시간 길이가 0 이하이면 빈 비트맵")
+    void ofAvailability_whenNonPositiveDuration_thenEmpty() {
+        assertThat(WeeklySlots.ofAvailability(List.of(row(DayOfWeek.MONDAY, TEN, 0), row(DayOfWeek.TUESDAY, TEN, -60))).isEmpty()).isTrue();
+    }
+}
@@ -1,7 +1,9 @@
 package org.junotb.api.user;
 
+import org.junotb.api.auth.SessionInvalidatedEvent;
 import org.junotb.api.common.exception.ResourceNotFoundException;
 import org.junotb.api.common.exception.DuplicateResourceException;
+import org.junotb.api.common.search.SearchTerm;
 import org.junotb.api.user.web.UserCreateRequest;
 import org.junotb.api.user.web.UserUpdateRequest;
 import org.junit.jupiter.api.DisplayName;
@@ -10,7 +12,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -24,6 +28,12 @@ class UserServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    UserSearchRepository userSearchRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     UserService userService;
 
@@ -48,4 +58,46 @@ class UserServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("User");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("역할 변경 시 해당 사용자의 세션 캐시 무효화 이벤트 발행")
+    void update_whenRoleChanged_thenPublishSessionInvalidation() {
+        User user = User.create("Alice", "alice@example.com", true, "", STUDENT, ACTIVE);
+        when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
+
+        userService.update("user-1", new UserUpdateRequest(null, null, TEACHER, null));
+
+        verify(eventPublisher).publishEvent(SessionInvalidatedEvent.ofUser("user-1"));
+    }
+
+    @Test
+    @DisplayName("이름만 수정하면 세션 캐시 무효화 없음")
+    void update_whenOnlyNameChanged_thenNoSessionInvalidation() {
+        User user = User.create("Alice", "alice@example.com", true, "", STUDENT, ACTIVE);
+        when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
+
+        userService.update("user-1", new UserUpdateRequest("Alicia", null, null, null));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("이름 검색 시 검색어를 정리하고 결과 수를 최대값으로 제한")
+    void search_trimsQueryAndClampsLimit() {
+        User alice = User.builder().id("user-1").name("Alice").build();
+        when(userSearchRepository.search(new SearchTerm("Ali", 100), TEACHER, null)).thenReturn(List.of(alice));
+
+        List<User> result = userService.search("  Ali ", TEACHER, null, 500);
+
+        assertThat(result).containsExactly(alice);
+    }
+
+    @Test
+    @DisplayName("이름 검색 시 검색어가 비어 있으면 예외 발생")
+    void search_fail_blankQuery() {
+        assertThatThrownBy(() -> userService.search(" ", null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(userSearchRepository);
+    }
+}